@@ -0,0 +1,161 @@
+package antlr.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH run (-rf csv) against the checked-in baseline and fails if a
+ * phase got slower or allocates more.
+ *
+ * Compared are the primary scores (time per operation, tokens per second) and
+ * gc.alloc.rate.norm (bytes per operation, from -prof gc). A row regresses if
+ * it is worse than the baseline by more than the threshold and by more than
+ * the two runs' combined error. Rows missing from either file are listed but
+ * do not fail the check.
+ *
+ * Usage: java -cp bench/bin antlr.bench.BaselineCheck [--threshold PERCENT] baseline.csv results.csv
+ */
+public class BaselineCheck {
+    public static void main(String[] args) throws IOException {
+        double threshold = 10;
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threshold")) {
+                threshold = Double.parseDouble(args[++i]);
+            } else {
+                files.add(args[i]);
+            }
+        }
+        if (files.size() != 2) {
+            System.err.println("Usage: antlr.bench.BaselineCheck [--threshold PERCENT] baseline.csv results.csv");
+            System.exit(2);
+        }
+        File baselineFile = new File(files.get(0));
+        if (!baselineFile.isFile()) {
+            System.err.println("No baseline at " + baselineFile + "; record one by copying a results file there.");
+            System.exit(2);
+        }
+
+        Map<String, Score> baseline = read(baselineFile);
+        Map<String, Score> results = read(new File(files.get(1)));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %8s%n", "benchmark", "baseline", "now", "change");
+        for (Map.Entry<String, Score> entry : results.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %8s  (new)%n", entry.getKey(), "-", now.value, "");
+                continue;
+            }
+            // Positive change is always "worse"
+            double change = (now.value - before.value) / before.value * 100;
+            if (now.higherIsBetter()) {
+                change = -change;
+            }
+            double noise = before.error + now.error;
+            boolean regressed = change > threshold && Math.abs(now.value - before.value) > noise;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+7.1f%%%s%n", entry.getKey(), before.value, now.value,
+                change, regressed ? "  REGRESSION" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!results.containsKey(key)) {
+                System.out.printf("%-70s  (not run)%n", key);
+            }
+        }
+
+        System.out.println(regressions + " regression(s) over " + threshold + "%");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    static class Score {
+        final double value;
+        final double error;
+        final String unit;
+
+        Score(double value, double error, String unit) {
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        // Rates (ops/s, tokens/s) go up when things get faster; per-op figures go down
+        boolean higherIsBetter() {
+            return !unit.endsWith("/op");
+        }
+    }
+
+    // Reads the rows worth comparing, keyed by benchmark, metric and parameters.
+    private static Map<String, Score> read(File file) throws IOException {
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        Map<String, Score> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+        List<String> header = splitCsv(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int score = header.indexOf("Score");
+        int error = header.indexOf("Score Error (99.9%)");
+        int unit = header.indexOf("Unit");
+
+        for (int i = 1; i < lines.size(); i++) {
+            List<String> row = splitCsv(lines.get(i));
+            if (row.size() != header.size()) {
+                continue;
+            }
+            // Secondary metrics are "name:\u00b7gc.alloc.rate.norm" (older JMH) or "name:gc.alloc.rate.norm"
+            String name = row.get(benchmark).replace("\u00b7", "");
+            if (name.contains(":gc.") && !name.endsWith(":gc.alloc.rate.norm")) {
+                continue; // Allocation rate per second, GC counts and times are too noisy to gate on
+            }
+
+            StringBuilder key = new StringBuilder(name);
+            char separator = ' ';
+            for (int c = 0; c < header.size(); c++) {
+                if (header.get(c).startsWith("Param: ") && !row.get(c).isEmpty()) {
+                    key.append(separator).append(header.get(c).substring(7)).append('=').append(row.get(c));
+                    separator = ',';
+                }
+            }
+            scores.put(key.toString(), new Score(number(row.get(score)), number(row.get(error)), row.get(unit)));
+        }
+        return scores;
+    }
+
+    private static double number(String text) {
+        try {
+            double value = Double.parseDouble(text.replace(',', '.'));
+            return Double.isNaN(value) ? 0 : value;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                quoted = !quoted;
+            } else if (ch == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(ch);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,91 @@
+package antlr.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cold-start benchmark for the persisted DFA cache (antlr.DfaCache).
+ *
+ * Every measurement is a fresh JVM running antlr.Main, which is what a CLI user
+ * pays. Each input is compiled N times without a cache and N times with
+ * --dfa-cache, and the median wall time of both is reported. The cache is first
+ * built by compiling tests/*.pas plus a large synthetic program once.
+ *
+ * Usage (classpath must contain the compiler classes and the ANTLR jar):
+ *   java -cp "bin;antlr-4.9.3-complete.jar;bench/bin" antlr.bench.ColdStartBenchmark [runs] [tests-dir]
+ */
+public class ColdStartBenchmark {
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        File testsDir = new File(args.length > 1 ? args[1] : "tests");
+
+        Path work = Files.createTempDirectory("coldstart");
+        Path synthetic = work.resolve("synthetic.pas");
+        Files.write(synthetic, new SyntheticProgram().statements(20000).depth(1).toSource().getBytes(StandardCharsets.UTF_8));
+        Path cache = work.resolve("delphi.dfa");
+
+        List<String> inputs = new ArrayList<>();
+        File[] tests = testsDir.listFiles((dir, name) -> name.endsWith(".pas"));
+        if (tests != null) {
+            Arrays.sort(tests);
+            for (File test : tests) {
+                inputs.add(test.getPath());
+            }
+        }
+        inputs.add(synthetic.toString());
+
+        // Warm-up run that writes the snapshot
+        List<String> warm = new ArrayList<>(Arrays.asList("--batch", "--out-dir", work.toString(),
+            "--save-dfa-cache", cache.toString()));
+        warm.addAll(inputs);
+        runMain(warm);
+
+        System.out.printf("%-40s %12s %12s %8s%n", "input", "cold (ms)", "cached (ms)", "speedup");
+        for (String input : inputs) {
+            long[] cold = new long[runs];
+            long[] cached = new long[runs];
+            for (int r = 0; r < runs; r++) {
+                cold[r] = runMain(Arrays.asList("--out-dir", work.toString(), input));
+                cached[r] = runMain(Arrays.asList("--out-dir", work.toString(), "--dfa-cache", cache.toString(), input));
+            }
+            double coldMs = median(cold) / 1e6;
+            double cachedMs = median(cached) / 1e6;
+            System.out.printf("%-40s %12.1f %12.1f %7.2fx%n", new File(input).getName(), coldMs, cachedMs,
+                coldMs / cachedMs);
+        }
+    }
+
+    // Runs antlr.Main in a new JVM and returns its wall time in nanoseconds.
+    private static long runMain(List<String> mainArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("antlr.Main");
+        command.addAll(mainArgs);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        int exit = process.waitFor();
+        long elapsed = System.nanoTime() - start;
+        if (exit != 0) {
+            throw new IllegalStateException("antlr.Main failed (" + exit + "): " + mainArgs);
+        }
+        return elapsed;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,90 @@
+package antlr.bench;
+
+/**
+ * Checks that one very long expression compiles, on a thread with the JVM's
+ * default stack size, in about linear time. Two shapes are tried, an additive
+ * chain (c := a + b - c + 4 - a ...) and a multiplicative one
+ * (c := a * b * c * 2 ...), each with a quarter, half and all of
+ * {@code --terms} operands (100,000 by default). The best of a few runs is kept
+ * and the growth exponent is fitted as in {@link ScalingHarness}. The exit
+ * code is 1 if a compile fails (a StackOverflowError means some phase still
+ * recurses once per operand) or an exponent is above the threshold.
+ *
+ * The parse tree of the largest program is kept alive for the whole compile;
+ * give the JVM a young generation that holds it (-Xmn1g), or with a small
+ * one the time of copying it to the old generation dominates the fit.
+ *
+ * Usage (classpath must contain the compiler classes and the ANTLR jar):
+ *   java -Xmn1g -cp "bin;antlr-4.9.3-complete.jar;bench/bin" antlr.bench.LongExpressionCheck
+ *        [--mode tree|streaming|ast] [--runs N] [--terms N] [--threshold SLOPE]
+ */
+public class LongExpressionCheck {
+    private static final long DEFAULT_STACK = 0;
+
+    public static void main(String[] args) throws Exception {
+        String mode = "tree";
+        int runs = 5;
+        int terms = 100000;
+        double threshold = 1.25;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode":
+                    mode = args[++i];
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--terms":
+                    terms = Integer.parseInt(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    System.err.println("Unknown option " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        boolean ok = check("sum", mode, runs, terms, threshold) & check("product", mode, runs, terms, threshold);
+        System.exit(ok ? 0 : 1);
+    }
+
+    private static boolean check(String shape, String mode, int runs, int terms, double threshold)
+            throws InterruptedException {
+        // Warm up the JIT at full size, not just on short expressions
+        ScalingHarness.measure(mode, program(shape, terms), runs, DEFAULT_STACK);
+
+        double[] lengths = new double[3];
+        double[] times = new double[3];
+        for (int i = 0; i < 3; i++) {
+            int length = terms >> (2 - i);
+            ScalingHarness.Point point = ScalingHarness.measure(mode, program(shape, length), runs, DEFAULT_STACK);
+            if (point.failure != null) {
+                System.out.printf("%-8s %8d terms: %s%n", shape, length, point.failure);
+                return false;
+            }
+            System.out.printf("%-8s %8d terms: %10.1f ms%n", shape, length, point.nanos / 1e6);
+            lengths[i] = length;
+            times[i] = point.nanos;
+        }
+
+        double slope = ScalingHarness.slope(lengths, times, 3);
+        boolean linear = slope <= threshold;
+        System.out.printf("%-8s growth exponent %.2f (threshold %.2f): %s%n", shape, slope, threshold,
+            linear ? "OK" : "SUPERLINEAR");
+        return linear;
+    }
+
+    // One assignment whose right-hand side has `terms` operands
+    private static String program(String shape, int terms) {
+        if (shape.equals("sum")) {
+            return new SyntheticProgram().statements(1).expressionLength(terms).toSource();
+        }
+        StringBuilder sb = new StringBuilder("PROGRAM Product;\n\nVAR\n  a, b, c: INTEGER;\n\nBEGIN\n  c := a");
+        for (int k = 1; k < terms; k++) {
+            sb.append(" * ").append("abc2".charAt(k % 4));
+        }
+        return sb.append(";\nEND.\n").toString();
+    }
+}
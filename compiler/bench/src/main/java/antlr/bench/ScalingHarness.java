@@ -0,0 +1,245 @@
+package antlr.bench;
+
+import antlr.DelphiCompiler;
+import antlr.LLVMGenerator;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds where compile time or memory stops growing linearly with the input.
+ *
+ * For each {@link SyntheticProgram} parameter, the parameter is doubled a few
+ * times while the others stay at a small base configuration. Every program is
+ * compiled in this JVM (after a warm-up compile) and the best wall time of a
+ * few runs and the peak heap above the pre-compile baseline are recorded. The
+ * growth exponent is the least-squares slope of log(cost) over log(parameter)
+ * across the three largest values: about 1 is linear, about 2 quadratic, and
+ * below 1 the base program's fixed cost still dominates. A slope above the
+ * threshold is flagged as SUPERLINEAR and makes the exit code 1.
+ *
+ * Compiles run on a thread with a large stack, so a recursion-depth problem is
+ * reported as a StackOverflowError for that point instead of ending the sweep.
+ *
+ * Usage (classpath must contain the compiler classes and the ANTLR jar):
+ *   java -cp "bin;antlr-4.9.3-complete.jar;bench/bin" antlr.bench.ScalingHarness
+ *        [--mode tree|streaming|ast] [--runs N] [--steps N] [--threshold SLOPE] [parameter...]
+ */
+public class ScalingHarness {
+    private static final Map<String, Sweep> SWEEPS = new LinkedHashMap<>();
+
+    static {
+        SWEEPS.put("statements", new Sweep(2000, 0, 10));
+        SWEEPS.put("depth", new Sweep(1, 500, 10));
+        SWEEPS.put("expressionLength", new Sweep(16, 100, 10));
+        SWEEPS.put("procedures", new Sweep(200, 500, 10));
+        SWEEPS.put("functions", new Sweep(200, 500, 10));
+        SWEEPS.put("callDepth", new Sweep(1, 2000, 256));
+        SWEEPS.put("classes", new Sweep(50, 500, 10));
+        SWEEPS.put("strings", new Sweep(500, 500, 10));
+    }
+
+    // A parameter's first value and the configuration it is swept in: small enough that it dominates.
+    private static class Sweep {
+        final int start;
+        final int statements;
+        final int functions;
+
+        Sweep(int start, int statements, int functions) {
+            this.start = start;
+            this.statements = statements;
+            this.functions = functions;
+        }
+
+        SyntheticProgram program(String parameter, int step) {
+            return new SyntheticProgram().statements(statements).procedures(10).functions(functions)
+                .set(parameter, start << step);
+        }
+    }
+
+    private static final long STACK_SIZE = 512L * 1024 * 1024;
+
+    // The exponent is fitted over the largest points only, where the base program's fixed cost has faded
+    private static final int FIT_POINTS = 3;
+
+    public static void main(String[] args) throws Exception {
+        String mode = "tree";
+        int runs = 3;
+        int steps = 5;
+        double threshold = 1.25;
+        List<String> parameters = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--mode":
+                    mode = args[++i];
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--steps":
+                    steps = Integer.parseInt(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                default:
+                    if (!SWEEPS.containsKey(args[i])) {
+                        System.err.println("Unknown parameter " + args[i] + "; expected one of " + SWEEPS.keySet());
+                        System.exit(2);
+                    }
+                    parameters.add(args[i]);
+            }
+        }
+        if (parameters.isEmpty()) {
+            parameters.addAll(SWEEPS.keySet());
+        }
+
+        PrintStream report = System.out;
+
+        // Warm up the parser's DFA and the JIT on a mid-sized program
+        measure(mode, new SyntheticProgram().statements(4000).depth(2).expressionLength(8).procedures(20)
+            .functions(20).strings(100).toSource(), 5);
+
+        int flagged = 0;
+        for (String parameter : parameters) {
+            Sweep sweep = SWEEPS.get(parameter);
+            report.printf("%n%s (mode %s)%n", parameter, mode);
+            report.printf("%12s %12s %12s %14s%n", "value", "source KB", "time ms", "peak heap MB");
+
+            double[] values = new double[steps];
+            double[] times = new double[steps];
+            double[] heaps = new double[steps];
+            int measured = 0;
+            for (int step = 0; step < steps; step++) {
+                int value = sweep.start << step;
+                String source = sweep.program(parameter, step).toSource();
+                Point point = measure(mode, source, runs);
+                if (point.failure != null) {
+                    report.printf("%12d %12.1f %12s %14s  %s%n", value, source.length() / 1024.0, "-", "-",
+                        point.failure);
+                    continue;
+                }
+                report.printf("%12d %12.1f %12.1f %14.1f%n", value, source.length() / 1024.0,
+                    point.nanos / 1e6, point.peakBytes / (1024.0 * 1024.0));
+                values[measured] = value;
+                times[measured] = point.nanos;
+                heaps[measured] = Math.max(1, point.peakBytes);
+                measured++;
+            }
+
+            if (measured < FIT_POINTS) {
+                report.println("  too few points to fit a growth exponent");
+                continue;
+            }
+            double timeSlope = slope(values, times, measured);
+            double heapSlope = slope(values, heaps, measured);
+            boolean superlinear = timeSlope > threshold || heapSlope > threshold;
+            if (superlinear) {
+                flagged++;
+            }
+            report.printf("  growth exponent: time %.2f, heap %.2f%s%n", timeSlope, heapSlope,
+                superlinear ? "  SUPERLINEAR" : "");
+        }
+
+        report.printf("%n%d parameter(s) with growth exponent above %.2f%n", flagged, threshold);
+        System.exit(flagged == 0 ? 0 : 1);
+    }
+
+    static class Point {
+        long nanos = Long.MAX_VALUE;
+        long peakBytes;
+        String failure;
+    }
+
+    static Point measure(String mode, String source, int runs) throws InterruptedException {
+        return measure(mode, source, runs, STACK_SIZE);
+    }
+
+    // Best wall time over `runs` compiles, and the largest peak heap growth seen. A stack size of 0 is the JVM default.
+    static Point measure(String mode, String source, int runs, long stackSize) throws InterruptedException {
+        Point point = new Point();
+        for (int r = 0; r < runs && point.failure == null; r++) {
+            Thread thread = new Thread(null, () -> {
+                long before = resetPeakHeap();
+                long start = System.nanoTime();
+                try {
+                    compile(mode, source);
+                } catch (StackOverflowError e) {
+                    point.failure = "StackOverflowError";
+                    return;
+                } catch (OutOfMemoryError e) {
+                    point.failure = "OutOfMemoryError";
+                    return;
+                } catch (RuntimeException e) {
+                    point.failure = String.valueOf(e.getMessage());
+                    return;
+                }
+                point.nanos = Math.min(point.nanos, System.nanoTime() - start);
+                point.peakBytes = Math.max(point.peakBytes, peakHeap() - before);
+            }, "compile", stackSize);
+            thread.start();
+            thread.join();
+        }
+        return point;
+    }
+
+    private static String compile(String mode, String source) {
+        switch (mode) {
+            case "streaming":
+                return DelphiCompiler.compileStreaming(CharStreams.fromString(source), null, false,
+                    LLVMGenerator::new).toIR();
+            case "ast":
+                return DelphiCompiler.compileAst(CharStreams.fromString(source), null, false,
+                    new LLVMGenerator()).toIR();
+            default:
+                return DelphiCompiler.compileToIR(source);
+        }
+    }
+
+    // Collects garbage, resets the heap pools' peak counters and returns the heap in use.
+    private static long resetPeakHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    // Sum of the heap pools' peaks. Pools peak at different moments, so this is an upper bound.
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    // Least-squares slope of log(y) over log(x) for the last FIT_POINTS of the first n points.
+    static double slope(double[] x, double[] y, int n) {
+        double[] lx = Arrays.stream(x, n - FIT_POINTS, n).map(Math::log).toArray();
+        double[] ly = Arrays.stream(y, n - FIT_POINTS, n).map(Math::log).toArray();
+        double meanX = Arrays.stream(lx).average().orElse(0);
+        double meanY = Arrays.stream(ly).average().orElse(0);
+        double num = 0;
+        double den = 0;
+        for (int i = 0; i < FIT_POINTS; i++) {
+            num += (lx[i] - meanX) * (ly[i] - meanY);
+            den += (lx[i] - meanX) * (lx[i] - meanX);
+        }
+        return den == 0 ? 0 : num / den;
+    }
+}
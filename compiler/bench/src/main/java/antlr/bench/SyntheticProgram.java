@@ -0,0 +1,258 @@
+package antlr.bench;
+
+/**
+ * Generates valid programs in the dialect the grammar accepts, for benchmarks
+ * and scaling tests that need inputs larger than tests/*.pas.
+ *
+ * The main program runs {@code statements} top-level statements. With a
+ * nesting depth of zero these are assignments, procedure and function calls
+ * and writeln; with a depth of n each one is a chain of n IF/WHILE/FOR
+ * statements around such a statement. Assignments have
+ * {@code expressionLength} operands.
+ *
+ * {@code procedures} procedures and {@code functions} functions are declared
+ * and called round-robin. Functions form call chains {@code callDepth} long:
+ * each one calls the function declared before it unless it starts a chain.
+ * {@code classes} classes are declared, each with a field and a method
+ * implementation (objects are not created; the code generator does not lower
+ * constructor calls). {@code strings} distinct string literals are printed at
+ * the end of the program.
+ */
+public class SyntheticProgram {
+    private int statements = 1000;
+    private int depth = 0;
+    private int expressionLength = 3;
+    private int procedures = 0;
+    private int functions = 0;
+    private int callDepth = 1;
+    private int classes = 0;
+    private int strings = 0;
+
+    public SyntheticProgram statements(int statements) {
+        this.statements = statements;
+        return this;
+    }
+
+    public SyntheticProgram depth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    public SyntheticProgram expressionLength(int expressionLength) {
+        this.expressionLength = Math.max(1, expressionLength);
+        return this;
+    }
+
+    public SyntheticProgram procedures(int procedures) {
+        this.procedures = procedures;
+        return this;
+    }
+
+    public SyntheticProgram functions(int functions) {
+        this.functions = functions;
+        return this;
+    }
+
+    public SyntheticProgram callDepth(int callDepth) {
+        this.callDepth = Math.max(1, callDepth);
+        return this;
+    }
+
+    public SyntheticProgram classes(int classes) {
+        this.classes = classes;
+        return this;
+    }
+
+    public SyntheticProgram strings(int strings) {
+        this.strings = strings;
+        return this;
+    }
+
+    /**
+     * Sets a parameter by name, as used on command lines: statements, depth,
+     * expressionLength, procedures, functions, callDepth, classes or strings.
+     */
+    public SyntheticProgram set(String name, int value) {
+        switch (name) {
+            case "statements":
+                return statements(value);
+            case "depth":
+                return depth(value);
+            case "expressionLength":
+                return expressionLength(value);
+            case "procedures":
+                return procedures(value);
+            case "functions":
+                return functions(value);
+            case "callDepth":
+                return callDepth(value);
+            case "classes":
+                return classes(value);
+            case "strings":
+                return strings(value);
+            default:
+                throw new IllegalArgumentException("Unknown parameter: " + name);
+        }
+    }
+
+    public String toSource() {
+        StringBuilder sb = new StringBuilder("PROGRAM Synthetic;\n\n");
+
+        if (classes > 0) {
+            sb.append("TYPE\n");
+            for (int k = 0; k < classes; k++) {
+                // classType ends with its own semicolon
+                sb.append("  TClass").append(k).append(" = CLASS\n    count").append(k)
+                    .append(": INTEGER;\n    PROCEDURE Bump;\n  END;;\n");
+            }
+            sb.append('\n');
+        }
+
+        sb.append("VAR\n  a, b, c: INTEGER;\n");
+        for (int level = 1; level <= depth; level++) {
+            sb.append("  i").append(level).append(": INTEGER;\n");
+        }
+        sb.append('\n');
+
+        for (int k = 0; k < classes; k++) {
+            sb.append("PROCEDURE TClass").append(k).append(".Bump;\nBEGIN\n  c := c + ").append(k % 7 + 1)
+                .append(";\nEND;\n\n");
+        }
+
+        for (int p = 0; p < procedures; p++) {
+            sb.append("PROCEDURE p").append(p).append(";\nBEGIN\n  c := c + ").append(p % 7 + 1)
+                .append(";\nEND;\n\n");
+        }
+
+        for (int f = 0; f < functions; f++) {
+            sb.append("FUNCTION f").append(f).append("(x: INTEGER): INTEGER;\nBEGIN\n  f").append(f).append(" := ");
+            if (f % callDepth == 0) {
+                sb.append("x + ").append(f % 7 + 1);
+            } else {
+                sb.append('f').append(f - 1).append("(x) + 1");
+            }
+            sb.append(";\nEND;\n\n");
+        }
+
+        sb.append("BEGIN\n  a := 1;\n  b := 2;\n  c := 0;\n");
+        for (int n = 0; n < statements; n++) {
+            statement(sb, n, depth, 1);
+        }
+        for (int s = 0; s < strings; s++) {
+            sb.append("  writeln('line ").append(s).append("');;\n");
+        }
+        sb.append("  writeln(c);;\nEND.\n");
+        return sb.toString();
+    }
+
+    // One statement nested `level` structured statements deep, terminated by a semicolon.
+    private void statement(StringBuilder sb, int n, int level, int indent) {
+        indent(sb, indent);
+        if (level == 0) {
+            switch (n % 4) {
+                case 1:
+                    if (procedures > 0) {
+                        // procedureStatement (calls and writeln) ends with its own semicolon
+                        sb.append('p').append(n % procedures).append(";;\n");
+                        return;
+                    }
+                    break;
+                case 2:
+                    if (functions > 0) {
+                        // Call the last function of a chain, so every call runs the whole chain
+                        int chain = n % ((functions + callDepth - 1) / callDepth);
+                        int callee = Math.min(functions - 1, chain * callDepth + callDepth - 1);
+                        sb.append("c := f").append(callee).append("(a);\n");
+                        return;
+                    }
+                    break;
+                case 3:
+                    sb.append("writeln(c);;\n");
+                    return;
+                default:
+            }
+            sb.append("c := ");
+            expression(sb, n);
+            sb.append(";\n");
+            return;
+        }
+
+        String loopVar = "i" + level;
+        switch ((n + level) % 3) {
+            case 0:
+                sb.append("IF c > ").append(n % 100).append(" THEN\n");
+                indent(sb, indent);
+                sb.append("BEGIN\n");
+                statement(sb, n, level - 1, indent + 1);
+                indent(sb, indent);
+                sb.append("END\n");
+                indent(sb, indent);
+                sb.append("ELSE\n");
+                indent(sb, indent + 1);
+                sb.append("c := c + 1;\n");
+                break;
+            case 1:
+                sb.append("WHILE a > 100 DO\n");
+                indent(sb, indent);
+                sb.append("BEGIN\n");
+                indent(sb, indent + 1);
+                sb.append("a := a - 1;\n");
+                statement(sb, n, level - 1, indent + 1);
+                indent(sb, indent);
+                sb.append("END;\n");
+                break;
+            default:
+                sb.append("FOR ").append(loopVar).append(" := 1 TO 2 DO\n");
+                indent(sb, indent);
+                sb.append("BEGIN\n");
+                statement(sb, n, level - 1, indent + 1);
+                indent(sb, indent);
+                sb.append("END;\n");
+        }
+    }
+
+    // a + b - c + 1 - a ..., expressionLength operands
+    private void expression(StringBuilder sb, int n) {
+        for (int k = 0; k < expressionLength; k++) {
+            if (k > 0) {
+                sb.append(k % 2 == 1 ? " + " : " - ");
+            }
+            switch ((n + k) % 4) {
+                case 0:
+                    sb.append('a');
+                    break;
+                case 1:
+                    sb.append('b');
+                    break;
+                case 2:
+                    sb.append('c');
+                    break;
+                default:
+                    sb.append(k % 9 + 1);
+            }
+        }
+    }
+
+    private static void indent(StringBuilder sb, int indent) {
+        for (int i = 0; i < indent; i++) {
+            sb.append("  ");
+        }
+    }
+
+    /**
+     * Writes a program to stdout.
+     * Usage: SyntheticProgram [name=value]...   e.g. statements=5000 depth=3 functions=50 callDepth=10
+     */
+    public static void main(String[] args) {
+        SyntheticProgram program = new SyntheticProgram();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                System.err.println("Expected name=value, got " + arg);
+                System.exit(2);
+            }
+            program.set(arg.substring(0, eq), Integer.parseInt(arg.substring(eq + 1)));
+        }
+        System.out.print(program.toSource());
+    }
+}
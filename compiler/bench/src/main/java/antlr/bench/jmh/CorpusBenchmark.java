@@ -0,0 +1,26 @@
+package antlr.bench.jmh;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The compiler phases on the checked-in test programs. The tests folder is
+ * taken from -Dbench.tests (default ../tests, i.e. run from bench/).
+ */
+@State(Scope.Benchmark)
+public class CorpusBenchmark extends PhaseBenchmark {
+    @Param({"test1.pas", "test2.pas", "test3.pas", "test4.pas", "test5.pas", "test6.pas", "test7.pas"})
+    public String file;
+
+    @Override
+    protected String source() throws IOException {
+        Path tests = Path.of(System.getProperty("bench.tests", "../tests"));
+        return new String(Files.readAllBytes(tests.resolve(file)), StandardCharsets.UTF_8);
+    }
+}
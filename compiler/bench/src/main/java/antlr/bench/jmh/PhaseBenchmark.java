@@ -0,0 +1,137 @@
+package antlr.bench.jmh;
+
+import antlr.DelphiCompiler;
+import antlr.DelphiVisitorImpl;
+import antlr.FastLexer;
+import antlr.LLVMGenerator;
+import antlr.delphiLexer;
+import antlr.delphiParser;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The four compiler phases, each measured on its own: every benchmark starts
+ * from the output of the previous phase, prepared once per trial.
+ *
+ * <ul>
+ *   <li>lex: delphiLexer over the whole source, reported in tokens/s</li>
+ *   <li>lexFast: the same with the hand-written FastLexer</li>
+ *   <li>parse: delphiParser.program() over the pre-lexed tokens, same SLL/LL
+ *       strategy as the compiler</li>
+ *   <li>lower: DelphiVisitorImpl over the pre-built parse tree</li>
+ *   <li>emit: LLVMGenerator.writeToFile of the lowered module</li>
+ * </ul>
+ *
+ * Subclasses choose the input and its @Params.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xss16m")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class PhaseBenchmark {
+    private String source;
+    private char[] chars;
+    private List<? extends Token> tokens;
+    private ParseTree tree;
+    private LLVMGenerator lowered;
+    private File output;
+
+    protected abstract String source() throws IOException;
+
+    @Setup(Level.Trial)
+    public void prepare() throws IOException {
+        source = source();
+        chars = source.toCharArray();
+        tokens = new delphiLexer(CharStreams.fromString(source)).getAllTokens();
+        tree = parse();
+        lowered = lower();
+        output = File.createTempFile("bench", ".ll");
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(output.toPath());
+    }
+
+    /** Tokens lexed in the current iteration; JMH reports it per second. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int lex(TokenCounter counter) {
+        delphiLexer lexer = new delphiLexer(CharStreams.fromString(source));
+        int count = 0;
+        while (lexer.nextToken().getType() != Token.EOF) {
+            count++;
+        }
+        counter.tokens += count;
+        return count;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int lexFast(TokenCounter counter) {
+        FastLexer lexer = new FastLexer(chars, chars.length, "bench", true);
+        int count = 0;
+        while (lexer.nextToken().getType() != Token.EOF) {
+            count++;
+        }
+        counter.tokens += count;
+        return count;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public ParseTree parse() {
+        CommonTokenStream stream = new CommonTokenStream(new ListTokenSource(tokens));
+        return DelphiCompiler.parseProgram(new delphiParser(stream), stream, null, false);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public LLVMGenerator lower() {
+        DelphiVisitorImpl visitor = new DelphiVisitorImpl(new LLVMGenerator());
+        visitor.visit(tree);
+        return visitor.getGenerator();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public long emit() throws IOException {
+        lowered.writeToFile(output.getPath());
+        return output.length();
+    }
+}
@@ -0,0 +1,27 @@
+package antlr.bench.jmh;
+
+import antlr.bench.SyntheticProgram;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The compiler phases on generated programs; see {@link SyntheticProgram}.
+ * Override the grid from the command line, e.g. -p statements=100000 -p depth=0.
+ */
+@State(Scope.Benchmark)
+public class SyntheticBenchmark extends PhaseBenchmark {
+    @Param({"1000", "10000"})
+    public int statements;
+
+    @Param({"0", "4"})
+    public int depth;
+
+    @Param({"10", "200"})
+    public int procedures;
+
+    @Override
+    protected String source() {
+        return new SyntheticProgram().statements(statements).depth(depth).procedures(procedures).toSource();
+    }
+}
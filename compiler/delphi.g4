@@ -52,7 +52,9 @@ programHeading
     | UNIT identifier SEMI
     ;
 
+// binding: where a use of the name was resolved to, set by Binder before lowering
 identifier
+    locals [Scope.Binding binding]
     : IDENT
     ;
 
@@ -146,12 +148,13 @@ procedureType
     ;
 
 //
+// An optional parent class in parentheses: TDog = CLASS(TAnimal) ... END;
 classDeclaration
-    : CLASS identifier classBody END SEMI
+    : CLASS identifier (LPAREN identifier RPAREN)? classBody END SEMI
     ;
 
 classType
-    : CLASS classBody END SEMI
+    : CLASS (LPAREN identifier RPAREN)? classBody END SEMI
     ;
 
 classBody
@@ -164,7 +167,7 @@ visibilitySection
 
 classMember
     : visibility? variableDeclaration SEMI
-    | visibility? procedureDeclaration
+    | visibility? procedureDeclaration SEMI?
     | visibility? methodImplementation SEMI  
     | constructorDecl SEMI
     | destructorDecl SEMI
@@ -358,8 +361,8 @@ procedureOrFunctionDeclaration
 //     ;
 
 procedureDeclaration
-    : PROCEDURE identifier (LPAREN formalParameterList? RPAREN)? SEMI block? SEMI?
-    | PROCEDURE identifier DOT identifier (LPAREN formalParameterList? RPAREN)? SEMI block? SEMI?
+    : PROCEDURE identifier (LPAREN formalParameterList? RPAREN)? SEMI block?
+    | PROCEDURE identifier DOT identifier (LPAREN formalParameterList? RPAREN)? SEMI block?
     ;
 
 
@@ -440,8 +443,11 @@ variable
     )*
     ;
 
+// Operand chains are flat lists, not right-recursive: a + b + c ... is one
+// simpleExpression with n terms, so parsing and lowering do not recurse per
+// operand, and the code generators fold the list left to right.
 expression
-    : simpleExpression (relationaloperator expression)?
+    : simpleExpression (relationaloperator simpleExpression)?
     ;
 
 relationaloperator
@@ -455,7 +461,7 @@ relationaloperator
     ;
 
 simpleExpression
-    : term (additiveoperator simpleExpression)?
+    : term (additiveoperator term)*
     | functionDesignator
     ;
 
@@ -466,7 +472,7 @@ additiveoperator
     ;
 
 term
-    : signedFactor (multiplicativeoperator term)?
+    : signedFactor (multiplicativeoperator signedFactor)*
     ;
 
 multiplicativeoperator
@@ -2,24 +2,15 @@ $antlrJar = "antlr-4.9.3-complete.jar"
 $binDir = "bin"
 $testDir = "tests"
 
-# Make sure output files go inside the tests folder
-$testFiles = Get-ChildItem -Path $testDir -Filter *.pas
+# Compile every test case in one JVM; batch mode writes testX.ll next to each testX.pas
+Write-Host "------------------------------"
+Write-Host "Processing $testDir\*.pas in batch mode..."
 
-foreach ($file in $testFiles) {
-    Write-Host "------------------------------"
-    Write-Host "Processing $($file.Name)..."
+java -cp "$binDir;$antlrJar" antlr.Main --batch --out-dir $testDir $testDir
 
-    # Run the interpreter on the test case
-    java -cp "$binDir;$antlrJar" antlr.Main "$($file.FullName)"
-
-    # Copy the output.ll file as testX.ll in the tests folder
-    if (Test-Path "output.ll") {
-        $llFileName = [System.IO.Path]::GetFileNameWithoutExtension($file.Name) + ".ll"
-        Copy-Item -Path "output.ll" -Destination "$testDir\$llFileName" -Force
-        Write-Host "✅ Saved LLVM IR as: $llFileName"
-    } else {
-        Write-Host "❌ Error: output.ll not found!"
-    }
+if ($LASTEXITCODE -ne 0) {
+    Write-Host "❌ Error: one or more test cases failed to compile (see summary above)"
+    exit $LASTEXITCODE
 }
 
 Write-Host "`n------------------------------"
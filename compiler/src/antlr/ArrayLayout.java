@@ -0,0 +1,49 @@
+package antlr;
+
+import antlr.Value.Type;
+
+/**
+ * How a static array exists at run time. {@code ARRAY[low..high] OF T} is the
+ * LLVM array {@code [n x T]}, n = high - low + 1, stored in place: in the
+ * alloca or global of its variable, or inside the struct of its instance for a
+ * field. Its elements are contiguous, and element i is at index i - low, which
+ * is a getelementptr and a load or store (see {@link LLVMGenerator#element}).
+ * An array of arrays holds the inner arrays in place as well, and so does an
+ * array with several indexes: {@code ARRAY[1..n, 1..m] OF T} is
+ * {@code ARRAY[1..n] OF ARRAY[1..m] OF T}, stored row by row, and
+ * {@code a[i, j]} is the same element as {@code a[i][j]}.
+ *
+ * Each array type in the source gets a layout of its own; a variable can be
+ * assigned another only if both were declared with the same type, as in
+ * Delphi.
+ */
+public final class ArrayLayout {
+    public final int low;
+    public final int high;
+    public final Type element;
+    public final Type type;
+
+    ArrayLayout(int low, int high, Type element) {
+        if (high < low) {
+            throw new RuntimeException("Array index range " + low + ".." + high + " is empty");
+        }
+        this.low = low;
+        this.high = high;
+        this.element = element;
+        this.type = new Type("[" + length() + " x " + element + "]");
+    }
+
+    public int length() {
+        return high - low + 1;
+    }
+
+    /** Whether every index from min to max is within the bounds. */
+    public boolean contains(long min, long max) {
+        return min >= low && max <= high;
+    }
+
+    @Override
+    public String toString() {
+        return "array[" + low + ".." + high + "] of " + element;
+    }
+}
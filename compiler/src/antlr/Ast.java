@@ -0,0 +1,238 @@
+package antlr;
+
+import java.util.Arrays;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Compact syntax tree built from a delphiParser parse tree. Nodes are indices
+ * into four parallel int arrays (kind, first child, next sibling, token index),
+ * so a node costs 16 bytes instead of a ParserRuleContext with its child list,
+ * and the tree is walked in allocation order. Tokens stay in the token stream;
+ * a node only records the index of its (first) token.
+ *
+ * Rules that just pass their only child's value on (expression without an
+ * operator, term without a factor operator, statement wrappers, ...) are left
+ * out, so an integer literal is three nodes instead of a chain of nine. Rules
+ * the code generator reacts to are always kept.
+ *
+ * Once built, the parse tree can be dropped; {@link #walk} replays the same
+ * enter/token/exit events the parser produced, minus the collapsed rules.
+ */
+public final class Ast {
+    /** Kind of token (leaf) nodes; rule nodes use their delphiParser.RULE_* index. */
+    public static final int TOKEN = -1;
+    public static final int NONE = -1;
+
+    /** Receives the events of {@link #walk}, in source order. */
+    public interface Listener {
+        void enterRule(int rule, int startToken);
+
+        void terminal(int tokenIndex);
+
+        void exitRule(int rule, int startToken, int stopToken);
+    }
+
+    // Rules whose only child can stand in for them
+    private static final boolean[] TRANSPARENT = new boolean[delphiParser.ruleNames.length];
+
+    static {
+        int[] transparent = {
+            delphiParser.RULE_expression,
+            delphiParser.RULE_simpleExpression,
+            delphiParser.RULE_term,
+            delphiParser.RULE_signedFactor,
+            delphiParser.RULE_factor,
+            delphiParser.RULE_unsignedConstant,
+            delphiParser.RULE_initialValue,
+            delphiParser.RULE_finalValue,
+            delphiParser.RULE_statement,
+            delphiParser.RULE_unlabelledStatement,
+            delphiParser.RULE_simpleStatement,
+            delphiParser.RULE_structuredStatement,
+            delphiParser.RULE_conditionalStatement,
+            delphiParser.RULE_repetetiveStatement,
+            delphiParser.RULE_procedureOrFunctionDeclaration,
+        };
+        for (int rule : transparent) {
+            TRANSPARENT[rule] = true;
+        }
+    }
+
+    private int[] kind;
+    private int[] firstChild;
+    private int[] nextSibling;
+    private int[] token;
+    private int size;
+
+    private Ast(int capacity) {
+        kind = new int[capacity];
+        firstChild = new int[capacity];
+        nextSibling = new int[capacity];
+        token = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int root() {
+        return size > 0 ? 0 : NONE;
+    }
+
+    public int kind(int node) {
+        return kind[node];
+    }
+
+    public int firstChild(int node) {
+        return firstChild[node];
+    }
+
+    public int nextSibling(int node) {
+        return nextSibling[node];
+    }
+
+    public int token(int node) {
+        return token[node];
+    }
+
+    /**
+     * Lowers a parse tree (iteratively, so deep expression chains do not overflow
+     * the stack). The EOF token is not kept.
+     */
+    public static Ast build(ParseTree root) {
+        Ast ast = new Ast(256);
+        int[] lastChild = new int[256];
+        // Trees still to be added, with the node each one goes under
+        ParseTree[] pending = new ParseTree[64];
+        int[] parents = new int[64];
+        int top = 0;
+        pending[top] = root;
+        parents[top++] = NONE;
+
+        while (top > 0) {
+            ParseTree tree = pending[--top];
+            pending[top] = null;
+            int parent = parents[top];
+            while (tree instanceof ParserRuleContext && tree.getChildCount() == 1
+                    && tree.getChild(0) instanceof ParserRuleContext
+                    && TRANSPARENT[((ParserRuleContext) tree).getRuleIndex()]) {
+                tree = tree.getChild(0);
+            }
+
+            int node;
+            if (tree instanceof TerminalNode) {
+                Token symbol = ((TerminalNode) tree).getSymbol();
+                if (symbol.getType() == Token.EOF) {
+                    continue;
+                }
+                node = ast.add(TOKEN, symbol.getTokenIndex());
+            } else {
+                ParserRuleContext ctx = (ParserRuleContext) tree;
+                node = ast.add(ctx.getRuleIndex(), ctx.start.getTokenIndex());
+                int children = ctx.getChildCount();
+                if (top + children > pending.length) {
+                    pending = Arrays.copyOf(pending, Math.max(pending.length * 2, top + children));
+                    parents = Arrays.copyOf(parents, pending.length);
+                }
+                for (int i = children - 1; i >= 0; i--) {
+                    pending[top] = ctx.getChild(i);
+                    parents[top++] = node;
+                }
+            }
+
+            if (lastChild.length < ast.kind.length) {
+                lastChild = Arrays.copyOf(lastChild, ast.kind.length);
+            }
+            lastChild[node] = NONE;
+            if (parent != NONE) {
+                if (ast.firstChild[parent] == NONE) {
+                    ast.firstChild[parent] = node;
+                } else {
+                    ast.nextSibling[lastChild[parent]] = node;
+                }
+                lastChild[parent] = node;
+            }
+        }
+        ast.trim();
+        return ast;
+    }
+
+    private int add(int nodeKind, int tokenIndex) {
+        if (size == kind.length) {
+            int capacity = size * 2;
+            kind = Arrays.copyOf(kind, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            token = Arrays.copyOf(token, capacity);
+        }
+        kind[size] = nodeKind;
+        firstChild[size] = NONE;
+        nextSibling[size] = NONE;
+        token[size] = tokenIndex;
+        return size++;
+    }
+
+    private void trim() {
+        kind = Arrays.copyOf(kind, size);
+        firstChild = Arrays.copyOf(firstChild, size);
+        nextSibling = Arrays.copyOf(nextSibling, size);
+        token = Arrays.copyOf(token, size);
+    }
+
+    /**
+     * Depth-first walk in source order. A rule's stop token is the last token
+     * under it, or the token before its start for a rule that matched nothing
+     * (as in ParserRuleContext).
+     */
+    public void walk(Listener listener) {
+        if (size == 0) {
+            return;
+        }
+        int[] open = new int[64];
+        int[] openLastToken = new int[64];
+        int depth = 0;
+        int lastToken = -1;
+        int node = 0;
+
+        while (true) {
+            boolean descend = false;
+            if (kind[node] == TOKEN) {
+                listener.terminal(token[node]);
+                lastToken = token[node];
+            } else {
+                listener.enterRule(kind[node], token[node]);
+                if (firstChild[node] != NONE) {
+                    if (depth == open.length) {
+                        open = Arrays.copyOf(open, depth * 2);
+                        openLastToken = Arrays.copyOf(openLastToken, depth * 2);
+                    }
+                    open[depth] = node;
+                    openLastToken[depth] = lastToken;
+                    depth++;
+                    node = firstChild[node];
+                    descend = true;
+                } else {
+                    listener.exitRule(kind[node], token[node], token[node] - 1);
+                }
+            }
+            if (descend) {
+                continue;
+            }
+
+            // Close every rule whose last child this was, then move to the next sibling
+            while (nextSibling[node] == NONE) {
+                if (depth == 0) {
+                    return;
+                }
+                node = open[--depth];
+                int stop = lastToken > openLastToken[depth] ? lastToken : token[node] - 1;
+                listener.exitRule(kind[node], token[node], stop);
+            }
+            node = nextSibling[node];
+        }
+    }
+}
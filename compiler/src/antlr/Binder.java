@@ -0,0 +1,324 @@
+package antlr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+
+/**
+ * Binding pass that DelphiVisitorImpl runs over the parse tree before lowering
+ * it. It opens and closes the same scopes the visitor will, defines the same
+ * names in the same order, and records on every identifier that the visitor
+ * looks up (variables, assignment targets, called procedures and functions,
+ * method receivers) the {@link Scope.Binding} it resolves to. The visitor's
+ * frames then have the same shape, so it reads the value by depth and slot
+ * instead of searching every level by name, and an undefined name is a
+ * binding rather than an exception.
+ *
+ * Method bodies, written in their class or after it, are bound inside the
+ * frame of their class ({@link ClassLayout#frame}), where self, the fields
+ * and the other methods are defined.
+ *
+ * It also finds the variables each routine needs from the routines it is
+ * nested in ({@link #captures}): the ones its body uses, and the ones the
+ * routines it calls or declares need from further out. Those live in the
+ * frame of another LLVM function, so the routine takes their addresses as
+ * extra arguments.
+ */
+class Binder extends delphiBaseVisitor<Void> {
+    /**
+     * A variable of an enclosing routine: the nesting level of the routine it
+     * belongs to (0 for a routine of the program, 1 for one declared in it,
+     * ...) and its name there.
+     */
+    static final class Capture {
+        final int level;
+        final Symbol name;
+
+        Capture(int level, Symbol name) {
+            this.level = level;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Capture && ((Capture) other).level == level && ((Capture) other).name == name;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(level, name);
+        }
+    }
+
+    // A routine being bound or bound; its name is defined to it, its variables to null
+    private static final class Routine {
+        final int level;
+        final Routine parent;
+        Scope frame;
+        boolean bound;
+        final Set<Capture> captures = new LinkedHashSet<>();
+        final Set<Routine> callees = new LinkedHashSet<>();
+
+        Routine(int level, Routine parent) {
+            this.level = level;
+            this.parent = parent;
+        }
+    }
+
+    private final SymbolTable symbols;
+    private final Map<Symbol, ClassLayout> classes;
+    private final Symbol self;
+    private Scope scope = new Scope(null);
+
+    // The routines around the current point, outermost first, and every routine by its declaration
+    private final List<Routine> open = new ArrayList<>();
+    private final List<Routine> routines = new ArrayList<>();
+    private final Map<ParserRuleContext, Routine> declarations = new HashMap<>();
+
+    Binder(SymbolTable symbols, Map<Symbol, ClassLayout> classes) {
+        this.symbols = symbols;
+        this.classes = classes;
+        this.self = symbols.intern("self");
+    }
+
+    private Symbol name(delphiParser.IdentifierContext id) {
+        return symbols.of(id.getStart());
+    }
+
+    /**
+     * The variables of enclosing routines that the routine declared by
+     * declaration needs, in the order they were first needed.
+     */
+    List<Capture> captures(ParserRuleContext declaration) {
+        Routine routine = declarations.get(declaration);
+        return routine == null || routine.captures.isEmpty() ? Collections.emptyList()
+            : new ArrayList<>(routine.captures);
+    }
+
+    private void bind(delphiParser.IdentifierContext id) {
+        Scope.Binding binding = scope.lookup(name(id));
+        id.binding = binding != null ? binding : Scope.Binding.UNDEFINED;
+        if (binding != null && binding.depth != Scope.Binding.GLOBAL && !open.isEmpty()) {
+            capture(name(id), binding);
+        }
+    }
+
+    // A use inside a routine of a name defined in a frame around it: a call, or a variable of an enclosing routine
+    private void capture(Symbol name, Scope.Binding binding) {
+        Scope frame = scope;
+        for (int i = 0; i < binding.depth; i++) {
+            frame = frame.getParent();
+        }
+        Object value = frame.get(binding.slot);
+        if (value instanceof Routine) {
+            open.get(open.size() - 1).callees.add((Routine) value);
+            return;
+        }
+        for (int level = 0; level < open.size() - 1; level++) {
+            if (open.get(level).frame == frame) {
+                for (int inner = level + 1; inner < open.size(); inner++) {
+                    open.get(inner).captures.add(new Capture(level, name));
+                }
+                return;
+            }
+        }
+    }
+
+    // The routine a declaration in this frame names: a new one, or the one its forward declaration made
+    private Routine declare(Symbol name, ParserRuleContext declaration) {
+        Object earlier = scope.get(name);
+        Routine routine = earlier instanceof Routine && !((Routine) earlier).bound ? (Routine) earlier
+            : new Routine(open.size(), open.isEmpty() ? null : open.get(open.size() - 1));
+        if (routine != earlier) {
+            routines.add(routine);
+        }
+        scope.define(name, routine);
+        declarations.put(declaration, routine);
+        return routine;
+    }
+
+    @Override
+    public Void visitProgram(delphiParser.ProgramContext ctx) {
+        visitChildren(ctx);
+        // A routine also needs what the routines it calls and the ones declared in it need from outside itself
+        for (boolean changed = true; changed; ) {
+            changed = false;
+            for (Routine routine : routines) {
+                for (Routine callee : routine.callees) {
+                    changed |= inherit(routine, callee);
+                }
+                if (routine.parent != null) {
+                    changed |= inherit(routine.parent, routine);
+                }
+            }
+        }
+        return null;
+    }
+
+    // Adds the captures of from that are outside routine to routine's; whether any were new
+    private static boolean inherit(Routine routine, Routine from) {
+        boolean changed = false;
+        for (Capture capture : new ArrayList<>(from.captures)) {
+            if (capture.level < routine.level) {
+                changed |= routine.captures.add(capture);
+            }
+        }
+        return changed;
+    }
+
+    private List<Symbol> parameters(delphiParser.FormalParameterListContext list) {
+        List<Symbol> parameters = new ArrayList<>();
+        if (list != null) {
+            for (delphiParser.FormalParameterSectionContext section : list.formalParameterSection()) {
+                if (section.parameterGroup() != null) {
+                    for (delphiParser.IdentifierContext id : section.parameterGroup().identifierList().identifier()) {
+                        parameters.add(name(id));
+                    }
+                }
+            }
+        }
+        return parameters;
+    }
+
+    // Same order as DelphiVisitorImpl.emitRoutine: the class frame of a method, a frame for the
+    // routine, its parameters, then the body
+    private void routine(Routine routine, ClassLayout owner, List<Symbol> parameters, delphiParser.BlockContext body) {
+        if (owner != null) {
+            scope = owner.frame(scope, self);
+        }
+        scope = new Scope(scope);
+        for (Symbol parameter : parameters) {
+            scope.define(parameter, null);
+        }
+        routine.frame = scope;
+        routine.bound = true;
+        open.add(routine);
+        visit(body);
+        open.remove(open.size() - 1);
+        scope = scope.getParent();
+        if (owner != null) {
+            scope = scope.getParent();
+        }
+    }
+
+    // Methods with their body in the class; the class's members are not names in this scope
+    private void methods(ClassLayout layout) {
+        if (layout != null) {
+            for (Procedure method : layout.methods()) {
+                if (method.getBlock() != null) {
+                    routine(method(method.getBlock()), layout, method.getParameters(), method.getBlock());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Void visitClassType(delphiParser.ClassTypeContext ctx) {
+        if (ctx.getParent() instanceof delphiParser.TypeDefinitionContext) {
+            methods(classes.get(name(((delphiParser.TypeDefinitionContext) ctx.getParent()).identifier())));
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitClassDeclaration(delphiParser.ClassDeclarationContext ctx) {
+        methods(classes.get(name(ctx.identifier(0))));
+        return null;
+    }
+
+    @Override
+    public Void visitVariableDeclaration(delphiParser.VariableDeclarationContext ctx) {
+        if (!(ctx.getParent() instanceof delphiParser.ClassMemberContext)
+                && ctx.identifierList() != null && ctx.type_() != null) {
+            for (delphiParser.IdentifierContext id : ctx.identifierList().identifier()) {
+                scope.define(name(id), null);
+            }
+        }
+        return visitChildren(ctx);
+    }
+
+    // A method is not a name in the frame it is declared in; it is known by its body
+    private Routine method(delphiParser.BlockContext body) {
+        Routine routine = new Routine(open.size(), open.isEmpty() ? null : open.get(open.size() - 1));
+        routines.add(routine);
+        declarations.put(body.getParent(), routine);
+        return routine;
+    }
+
+    @Override
+    public Void visitFunctionDeclaration(delphiParser.FunctionDeclarationContext ctx) {
+        Routine routine = declare(name(ctx.identifier()), ctx);
+        if (ctx.block() != null) {
+            routine(routine, null, parameters(ctx.formalParameterList()), ctx.block());
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitProcedureDeclaration(delphiParser.ProcedureDeclarationContext ctx) {
+        if (ctx.identifier().size() >= 2) {
+            ClassLayout layout = classes.get(name(ctx.identifier(0)));
+            if (layout != null && ctx.block() != null) {
+                routine(method(ctx.block()), layout, parameters(ctx.formalParameterList()), ctx.block());
+            }
+        } else if (ctx.identifier().size() == 1) {
+            Routine routine = declare(name(ctx.identifier(0)), ctx);
+            if (ctx.block() != null) {
+                routine(routine, null, parameters(ctx.formalParameterList()), ctx.block());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitForStatement(delphiParser.ForStatementContext ctx) {
+        visit(ctx.forList().initialValue());
+        visit(ctx.forList().finalValue());
+        scope.define(name(ctx.identifier()), null);
+        scope = new Scope(scope);
+        visit(ctx.statement());
+        scope = scope.getParent();
+        return null;
+    }
+
+    @Override
+    public Void visitCompoundStatement(delphiParser.CompoundStatementContext ctx) {
+        scope = new Scope(scope);
+        visitChildren(ctx);
+        scope = scope.getParent();
+        return null;
+    }
+
+    @Override
+    public Void visitVariable(delphiParser.VariableContext ctx) {
+        bind(ctx.identifier(0));
+        return visitChildren(ctx);
+    }
+
+    @Override
+    public Void visitAssignmentStatement(delphiParser.AssignmentStatementContext ctx) {
+        if (!ctx.identifier().isEmpty()) {
+            bind(ctx.identifier(0));
+        }
+        return visitChildren(ctx);
+    }
+
+    @Override
+    public Void visitProcedureStatement(delphiParser.ProcedureStatementContext ctx) {
+        bind(ctx.identifier(0));
+        return visitChildren(ctx);
+    }
+
+    @Override
+    public Void visitFunctionDesignator(delphiParser.FunctionDesignatorContext ctx) {
+        bind(ctx.identifier());
+        return visitChildren(ctx);
+    }
+}
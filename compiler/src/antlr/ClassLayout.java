@@ -0,0 +1,219 @@
+package antlr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import antlr.Value.Register;
+import antlr.Value.Type;
+
+/**
+ * How a class exists at run time. Every class is lowered to a named struct,
+ * {@code %class.<name> = type { i8**, ... }}: a pointer to the class's vtable,
+ * then one member per field in declaration order, so a field lives at a fixed
+ * index and reading or writing it is a getelementptr and a load or store. A
+ * subclass starts with the fields of its parent at the same indices, so an
+ * instance of it can be used wherever one of its parent is expected. A
+ * reference to an instance is a pointer to that struct ({@link #pointer});
+ * instances are allocated by {@link LLVMGenerator#allocate}.
+ *
+ * Each method is an LLVM function named {@code <class>.<method>} (or a
+ * numbered variant, if the module already has that name; see
+ * {@link LLVMGenerator#moduleName}) whose first argument is the instance,
+ * {@code %self}. Every method is virtual: a subclass
+ * method with the name of one of its parent's overrides it, and takes over its
+ * slot in the vtable, {@code @vtable.<name>}, an array of the functions an
+ * instance of the class runs for each method. See {@link Devirtualizer} for
+ * when a call does not need to go through it.
+ */
+public final class ClassLayout {
+    /** A field as a name in a method body resolves to it: a member of {@code %self}. */
+    public static final class Field {
+        public final ClassLayout owner;
+        public final Symbol name;
+        public final int index;
+        public final Type type;
+
+        Field(ClassLayout owner, Symbol name, int index, Type type) {
+            this.owner = owner;
+            this.name = name;
+            this.index = index;
+            this.type = type;
+        }
+    }
+
+    public final Symbol name;
+    public final Type pointer;
+    final String struct; // %class.<name>
+    final String vtable; // @vtable.<name>
+
+    private ClassLayout parent;
+    private final List<ClassLayout> subclasses = new ArrayList<>();
+    private final List<Field> fields = new ArrayList<>(); // the parent's first
+    private final Map<Symbol, Field> fieldsByName = new HashMap<>();
+    private final Map<Symbol, Procedure> methods = new LinkedHashMap<>(); // declared here, in declaration order
+    private final List<Procedure> slots = new ArrayList<>(); // what each vtable entry runs
+    private final Map<Symbol, Integer> slotsByName = new HashMap<>();
+    private Symbol destructor;
+
+    ClassLayout(Symbol name) {
+        this.name = name;
+        this.struct = "%class." + name.name;
+        this.vtable = "@vtable." + name.name;
+        this.pointer = new Type(struct + "*");
+    }
+
+    /** Makes this a subclass of parent; called before any member is added. */
+    void inherit(ClassLayout parent) {
+        this.parent = parent;
+        parent.subclasses.add(this);
+        fields.addAll(parent.fields);
+        fieldsByName.putAll(parent.fieldsByName);
+        slots.addAll(parent.slots);
+        slotsByName.putAll(parent.slotsByName);
+        destructor = parent.destructor;
+    }
+
+    public ClassLayout getParent() {
+        return parent;
+    }
+
+    /** The classes that name this one as their parent. */
+    public List<ClassLayout> subclasses() {
+        return Collections.unmodifiableList(subclasses);
+    }
+
+    /** Whether this is other or inherits from it. */
+    public boolean isA(ClassLayout other) {
+        for (ClassLayout layout = this; layout != null; layout = layout.parent) {
+            if (layout == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void addField(Symbol fieldName, Type type) {
+        if (fieldsByName.containsKey(fieldName)) {
+            throw new RuntimeException("Duplicate field '" + fieldName + "' in class " + name);
+        }
+        Field field = new Field(this, fieldName, 1 + fields.size(), type); // member 0 is the vtable
+        fields.add(field);
+        fieldsByName.put(fieldName, field);
+    }
+
+    void addMethod(Symbol methodName, Procedure method, boolean isDestructor) {
+        Integer slot = slotsByName.get(methodName);
+        if (slot == null) {
+            slotsByName.put(methodName, slots.size());
+            slots.add(method);
+        } else {
+            Procedure overridden = slots.get(slot);
+            if (!methods.containsKey(methodName) && (overridden.getResultType() != method.getResultType()
+                    || !overridden.getParameterTypes().equals(method.getParameterTypes()))) {
+                throw new RuntimeException("Method " + name + "." + methodName + " does not match "
+                    + overridden.getFunction() + ", which it overrides");
+            }
+            slots.set(slot, method);
+        }
+        methods.put(methodName, method);
+        if (isDestructor) {
+            destructor = methodName;
+        }
+    }
+
+    /** The field called fieldName, its own or inherited, or null if the class has none. */
+    public Field field(Symbol fieldName) {
+        return fieldsByName.get(fieldName);
+    }
+
+    /** What calling methodName on an instance of exactly this class runs, or null if it has no such method. */
+    public Procedure method(Symbol methodName) {
+        Integer slot = slotsByName.get(methodName);
+        return slot != null ? slots.get(slot) : null;
+    }
+
+    /** The method called methodName that this class itself declares, or null. */
+    public Procedure declaredMethod(Symbol methodName) {
+        return methods.get(methodName);
+    }
+
+    /** The methods this class declares, not the ones it inherits. */
+    public Iterable<Procedure> methods() {
+        return methods.values();
+    }
+
+    /** The vtable index of methodName; the same in every subclass. */
+    int slot(Symbol methodName) {
+        return slotsByName.get(methodName);
+    }
+
+    boolean hasVtable() {
+        return !slots.isEmpty();
+    }
+
+    /** The name of the destructor the class declares or inherits, or null. */
+    public Symbol getDestructor() {
+        return destructor;
+    }
+
+    // The instance a method was called on
+    Register self() {
+        return new Register("self", pointer);
+    }
+
+    /**
+     * The scope a method body is lowered in: self, then the fields, then the
+     * methods, inherited ones included, above {@code parent}. Binder and
+     * DelphiVisitorImpl both open method bodies with it, so their frames have
+     * the same shape.
+     */
+    Scope frame(Scope parent, Symbol self) {
+        Scope frame = new Scope(parent);
+        frame.define(self, self());
+        for (Field field : fields) {
+            frame.define(field.name, field);
+        }
+        for (Procedure method : slots) {
+            frame.define(method.getName(), method);
+        }
+        return frame;
+    }
+
+    // %class.<name> = type { i8**, ... }
+    String definition() {
+        StringBuilder sb = new StringBuilder(struct).append(" = type { i8**");
+        for (Field field : fields) {
+            sb.append(", ").append(field.type);
+        }
+        return sb.append(" }").toString();
+    }
+
+    String vtableType() {
+        return "[" + slots.size() + " x i8*]";
+    }
+
+    // @vtable.<name> = internal constant [n x i8*] [...]; a method with no body anywhere has a null entry
+    String vtableDefinition() {
+        StringBuilder sb = new StringBuilder(vtable).append(" = internal constant ").append(vtableType()).append(" [");
+        for (int i = 0; i < slots.size(); i++) {
+            Procedure method = slots.get(i);
+            sb.append(i > 0 ? ", i8* " : "i8* ");
+            if (method.isDefined()) {
+                sb.append("bitcast (").append(method.pointerType(method.getOwner().pointer)).append(" @")
+                    .append(method.getFunction()).append(" to i8*)");
+            } else {
+                sb.append("null");
+            }
+        }
+        return sb.append("]").toString();
+    }
+
+    @Override
+    public String toString() {
+        return "class " + name;
+    }
+}
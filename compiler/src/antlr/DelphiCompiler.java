@@ -0,0 +1,252 @@
+package antlr;
+
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.*;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the whole pipeline (lexer, parser, DelphiVisitorImpl) for one program.
+ * All state lives in the objects created here, so compile() is safe to call
+ * from many threads at once.
+ */
+public class DelphiCompiler {
+
+    public static LLVMGenerator compile(CharStream input, ANTLRErrorListener errorListener) {
+        return compile(input, errorListener, false);
+    }
+
+    /**
+     * @param failFast abort on the first syntax error instead of recovering and
+     *                 reporting every error
+     */
+    public static LLVMGenerator compile(CharStream input, ANTLRErrorListener errorListener, boolean failFast) {
+        return compile(input, errorListener, failFast, new LLVMGenerator());
+    }
+
+    /**
+     * Compiles into the given generator, e.g. one that streams to a file channel.
+     */
+    public static LLVMGenerator compile(CharStream input, ANTLRErrorListener errorListener, boolean failFast,
+                                        LLVMGenerator llvm) {
+        return compile(new delphiLexer(input), errorListener, failFast, llvm, PhaseTimer.NONE, Diagnostics.QUIET);
+    }
+
+    /**
+     * @param lexer a delphiLexer, or a FastLexer
+     * @param timer records the lex, parse and lower phases
+     * @param diag  receives warnings and tracing from code generation
+     */
+    public static LLVMGenerator compile(TokenSource lexer, ANTLRErrorListener errorListener, boolean failFast,
+                                        LLVMGenerator llvm, PhaseTimer timer, Diagnostics diag) {
+        // Lex, then create the parser
+        SymbolTable symbols = internIdentifiers(lexer, false);
+        CommonTokenStream tokens = lex(lexer, timer);
+        delphiParser parser = new delphiParser(tokens);
+
+        // Parse the program
+        timer.start("parse");
+        ParseTree tree = parseProgram(parser, tokens, errorListener, failFast);
+
+        // Use DelphiVisitorImpl to walk through the tree
+        timer.start("lower");
+        DelphiVisitorImpl visitor = new DelphiVisitorImpl(llvm, diag, symbols);
+        visitor.visit(tree);
+        timer.stop();
+        return visitor.getGenerator();
+    }
+
+    /**
+     * Single-pass compilation: no parse tree is built, a StreamingCodeGenerator
+     * lowers each rule while the parser is still consuming tokens. If the fast SLL
+     * pass has to be repeated in LL mode, the partial output is thrown away and
+     * {@code generators} is asked for a fresh generator.
+     */
+    public static LLVMGenerator compileStreaming(CharStream input, ANTLRErrorListener errorListener, boolean failFast,
+                                                 Supplier<LLVMGenerator> generators) {
+        return compileStreaming(new delphiLexer(input), errorListener, failFast, generators, PhaseTimer.NONE,
+            Diagnostics.QUIET);
+    }
+
+    /**
+     * @param lexer a delphiLexer, or a FastLexer
+     * @param timer records the lex phase and the combined parse+lower pass
+     * @param diag  receives warnings and tracing from code generation
+     */
+    public static LLVMGenerator compileStreaming(TokenSource lexer, ANTLRErrorListener errorListener, boolean failFast,
+                                                 Supplier<LLVMGenerator> generators, PhaseTimer timer,
+                                                 Diagnostics diag) {
+        SymbolTable symbols = internIdentifiers(lexer, false);
+        CommonTokenStream tokens = lex(lexer, timer);
+        delphiParser parser = new delphiParser(tokens);
+        parser.setBuildParseTree(false);
+
+        timer.start("parse+lower");
+
+        StreamingCodeGenerator[] codegen = {new StreamingCodeGenerator(generators.get(), parser, symbols, diag)};
+        parser.addParseListener(codegen[0]);
+        parseProgram(parser, tokens, errorListener, failFast, () -> {
+            parser.removeParseListeners();
+            codegen[0] = new StreamingCodeGenerator(generators.get(), parser, symbols, diag);
+            parser.addParseListener(codegen[0]);
+        });
+        timer.stop();
+        return codegen[0].getGenerator();
+    }
+
+    /**
+     * Bounded-memory variant of compileStreaming for very large sources. Tokens go
+     * through an UnbufferedTokenStream, which keeps only the lookahead the parser
+     * is still using, so nothing grows with the input except the module's globals
+     * (pair it with a MappedCharStream, or an UnbufferedCharStream if the file is
+     * not ASCII). Such a stream cannot be rewound for the LL retry of
+     * parseProgram, so there is a single SLL pass with normal error recovery; the
+     * rare program that only parses with full-context prediction is reported as
+     * a syntax error instead and compiles in the other modes. (Full LL for every
+     * decision would be correct but costs a full-context prediction on every
+     * assignment, which the grammar leaves ambiguous.)
+     */
+    public static LLVMGenerator compileUnbuffered(TokenSource lexer, ANTLRErrorListener errorListener,
+                                                  boolean failFast, LLVMGenerator llvm, PhaseTimer timer,
+                                                  Diagnostics diag) {
+        // With an UnbufferedCharStream the characters are gone by the time anybody asks for a token's text
+        SymbolTable symbols = internIdentifiers(lexer, lexer.getInputStream() instanceof UnbufferedCharStream);
+        UnbufferedTokenStream<Token> tokens = new UnbufferedTokenStream<>(lexer);
+        delphiParser parser = new delphiParser(tokens);
+        parser.setBuildParseTree(false);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        if (errorListener != null) {
+            parser.addErrorListener(errorListener);
+        }
+        parser.setErrorHandler(failFast ? new FailFastErrorStrategy() : new DefaultErrorStrategy());
+
+        timer.start("lex+parse+lower");
+        StreamingCodeGenerator codegen = new StreamingCodeGenerator(llvm, parser, symbols, diag);
+        parser.addParseListener(codegen);
+        parser.program();
+        timer.stop();
+        return codegen.getGenerator();
+    }
+
+    /**
+     * Parses into a full tree, lowers it to an {@link Ast}, drops the tree and
+     * generates code from the Ast. Nothing is generated if there were syntax errors.
+     */
+    public static LLVMGenerator compileAst(CharStream input, ANTLRErrorListener errorListener, boolean failFast,
+                                           LLVMGenerator llvm) {
+        return compileAst(new delphiLexer(input), errorListener, failFast, llvm, PhaseTimer.NONE, Diagnostics.QUIET);
+    }
+
+    /**
+     * @param lexer a delphiLexer, or a FastLexer
+     * @param timer records the lex, parse, ast and lower phases
+     * @param diag  receives warnings and tracing from code generation
+     */
+    public static LLVMGenerator compileAst(TokenSource lexer, ANTLRErrorListener errorListener, boolean failFast,
+                                           LLVMGenerator llvm, PhaseTimer timer, Diagnostics diag) {
+        SymbolTable symbols = internIdentifiers(lexer, false);
+        CommonTokenStream tokens = lex(lexer, timer);
+        delphiParser parser = new delphiParser(tokens);
+
+        timer.start("parse");
+        ParseTree tree = parseProgram(parser, tokens, errorListener, failFast);
+        timer.stop();
+        if (parser.getNumberOfSyntaxErrors() > 0) {
+            return llvm;
+        }
+        timer.start("ast");
+        Ast ast = Ast.build(tree);
+        tree = null; // Only the Ast and the tokens are needed from here on
+
+        timer.start("lower");
+        ast.walk(new StreamingCodeGenerator(llvm, tokens, symbols, diag));
+        timer.stop();
+        return llvm;
+    }
+
+    /**
+     * Makes the lexer intern every identifier as it is lexed (see SymbolTokenFactory),
+     * into a table the code generator then looks names up in.
+     */
+    private static SymbolTable internIdentifiers(TokenSource lexer, boolean copyText) {
+        SymbolTable symbols = new SymbolTable();
+        lexer.setTokenFactory(new SymbolTokenFactory(symbols, copyText));
+        return symbols;
+    }
+
+    // Lexes the whole input up front, so lexing can be timed apart from parsing.
+    private static CommonTokenStream lex(TokenSource lexer, PhaseTimer timer) {
+        timer.start("lex");
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+        timer.stop();
+        return tokens;
+    }
+
+    public static String compileToIR(String source) {
+        return compile(CharStreams.fromString(source), null).toIR();
+    }
+
+    /**
+     * Two-stage parse. The fast SLL prediction mode with a bail-out error strategy
+     * handles almost every valid program; only if it fails (a real syntax error, or
+     * one of the rare inputs that need full context) is the input rewound and parsed
+     * again in full LL mode with normal error reporting.
+     */
+    public static delphiParser.ProgramContext parseProgram(delphiParser parser, CommonTokenStream tokens,
+                                                           ANTLRErrorListener errorListener, boolean failFast) {
+        return parseProgram(parser, tokens, errorListener, failFast, () -> { });
+    }
+
+    /**
+     * @param beforeRetry runs after the parser is rewound and before the LL pass,
+     *                    e.g. to replace parse listeners that saw the failed pass
+     */
+    static delphiParser.ProgramContext parseProgram(delphiParser parser, CommonTokenStream tokens,
+                                                    ANTLRErrorListener errorListener, boolean failFast,
+                                                    Runnable beforeRetry) {
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        try {
+            return parser.program();
+        } catch (ParseCancellationException sllFailed) {
+            tokens.seek(0);
+            parser.reset();
+            beforeRetry.run();
+        }
+
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        if (errorListener != null) {
+            parser.addErrorListener(errorListener);
+        }
+        parser.setErrorHandler(failFast ? new FailFastErrorStrategy() : new DefaultErrorStrategy());
+        return parser.program();
+    }
+
+    /**
+     * Reports the first syntax error through the error listeners and then aborts
+     * the parse with a ParseCancellationException.
+     */
+    static class FailFastErrorStrategy extends DefaultErrorStrategy {
+        @Override
+        public void recover(Parser recognizer, RecognitionException e) {
+            throw new ParseCancellationException("Aborted on first syntax error", e);
+        }
+
+        @Override
+        public Token recoverInline(Parser recognizer) throws RecognitionException {
+            InputMismatchException e = new InputMismatchException(recognizer);
+            reportError(recognizer, e);
+            throw new ParseCancellationException("Aborted on first syntax error", e);
+        }
+
+        // No single-token deletion/insertion while synchronizing; let the next match fail.
+        @Override
+        public void sync(Parser recognizer) {
+        }
+    }
+}
@@ -2,22 +2,39 @@ package antlr;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+
+import antlr.Diagnostics.Level;
+import antlr.Value.Address;
+import antlr.Value.Constant;
+import antlr.Value.OuterSlot;
+import antlr.Value.Register;
+import antlr.Value.Slot;
+import antlr.Value.Type;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.RuleNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 /**
  * DelphiVisitorImpl traverses the AST generated from the extended Delphi grammar.
- * It echoes the parsed constructs (classes, variables, assignments, procedure calls, etc.)
- * to demonstrate the language features such as classes, object instantiation, and encapsulation.
+ * It traces the parsed constructs (classes, variables, assignments, procedure calls, etc.)
+ * to its Diagnostics at DEBUG/TRACE level; nothing is printed unless those levels are enabled.
  */
 
 public class DelphiVisitorImpl extends delphiBaseVisitor<Object> {
-    private final Scanner scanner;
+    private Scanner scanner;
+    private final LLVMGenerator llvm;
+    private final Diagnostics diag;
     Map<String, delphiParser.FunctionDeclarationContext> functionDeclarations = new HashMap<>();
 
     private Deque<String> breakLabelStack = new ArrayDeque<>();
@@ -27,17 +44,60 @@ public class DelphiVisitorImpl extends delphiBaseVisitor<Object> {
     public class BreakException extends RuntimeException {}
 
 
-     Instance currentSelf = null;
+    // Every class in the program, collected before lowering starts; see collectClasses
+    private final Map<Symbol, ClassLayout> classes = new HashMap<>();
+    private final Map<Type, ClassLayout> classesByType = new HashMap<>();
 
-     public Instance getCurrentSelf() {
-        return currentSelf;
-    }
-    
-    public void setCurrentSelf(Instance self) {
-        this.currentSelf = self;
+    // Every array type made so far, and the ones given a name in a TYPE part
+    private final Map<Type, ArrayLayout> arraysByType = new HashMap<>();
+    private final Map<Symbol, ArrayLayout> arrayTypes = new HashMap<>();
+
+    // The routine whose body is being lowered; inside it, its name is its result variable
+    private Procedure currentRoutine;
+
+    // Which method calls go straight to a function instead of through a vtable
+    private final Devirtualizer devirtualizer = new Devirtualizer();
+
+    // A local variable holding an instance whose class is known exactly: it was assigned
+    // a new instance of it earlier in the same basic block
+    private static final class KnownClass {
+        final ClassLayout layout;
+        final int block;
+
+        KnownClass(ClassLayout layout, int block) {
+            this.layout = layout;
+            this.block = block;
+        }
     }
 
-private final Map<String, List<String>> classFields = new HashMap<>();
+    private final Map<Slot, KnownClass> knownClasses = new HashMap<>();
+
+    // Which array indexes need a range check
+    private final RangeChecks rangeChecks;
+
+    // Which FOR nests run their loops in another order, and the rows of arrays computed before their innermost loop
+    private final LoopNests loopNests;
+    private final Map<delphiParser.VariableContext, Slot> hoistedRows = new HashMap<>();
+
+    // Which instances live in the frame of the routine being lowered instead of on the heap
+    private EscapeAnalysis escapeAnalysis;
+    private EscapeAnalysis.Result escapes = EscapeAnalysis.Result.NONE;
+
+    // Identifiers mentioned inside procedure/function bodies; program variables in here become globals.
+    private final Set<Symbol> routineIdentifiers = new HashSet<>();
+
+    // Which variables of enclosing routines each routine needs, and the frames of the routines
+    // being lowered, outermost first, where those are found
+    private Binder binder;
+    private final List<Scope> routineFrames = new ArrayList<>();
+
+    // Identifiers are looked up as interned Symbols; these are the names the visitor itself asks for
+    private final SymbolTable symbols;
+    private final Symbol self;
+    private final Symbol writeln;
+    private final Symbol readln;
+    private final Symbol create;
+    private final Symbol free;
 
  
     private Scope currentScope = new Scope(null); // p2
@@ -46,16 +106,9 @@ private final Map<String, List<String>> classFields = new HashMap<>();
    
     
     public void pushScope() {
-        // Create a new scope with the current scope as its parent.
-        Scope newScope = new Scope(currentScope);
-        // If the current scope has a binding for "self", copy it into the new scope.
-        try {
-            Object selfVal = currentScope.resolve("self");
-            newScope.define("self", selfVal);
-        } catch (RuntimeException e) {
-            // "self" is not defined in the current scope; nothing to copy.
-        }
-        currentScope = newScope;
+        // Create a new scope with the current scope as its parent. "self" needs no
+        // copy: it is found in the method's frame like any other outer name.
+        currentScope = new Scope(currentScope);
     }
     
     
@@ -77,8 +130,44 @@ private final Map<String, List<String>> classFields = new HashMap<>();
 
 
     public DelphiVisitorImpl() {
-        // Initialize the scanner for input operations (e.g., readln)
-        this.scanner = new Scanner(System.in);
+        this(new LLVMGenerator());
+    }
+
+    public DelphiVisitorImpl(LLVMGenerator llvm) {
+        this(llvm, Diagnostics.QUIET);
+    }
+
+    public DelphiVisitorImpl(LLVMGenerator llvm, Diagnostics diag) {
+        this(llvm, diag, new SymbolTable());
+    }
+
+    /**
+     * @param symbols the table the lexer interned identifiers into (see
+     *                SymbolTokenFactory); other tokens are interned on first use
+     */
+    public DelphiVisitorImpl(LLVMGenerator llvm, Diagnostics diag, SymbolTable symbols) {
+        this.llvm = llvm;
+        this.diag = diag;
+        this.symbols = symbols;
+        this.self = symbols.intern("self");
+        this.writeln = symbols.intern("writeln");
+        this.readln = symbols.intern("readln");
+        this.create = symbols.intern("create");
+        this.free = symbols.intern("free");
+        this.rangeChecks = new RangeChecks(symbols);
+        this.loopNests = new LoopNests(symbols);
+    }
+
+    public LLVMGenerator getGenerator() {
+        return llvm;
+    }
+
+    // Created on first readln so compiling never touches System.in.
+    private Scanner scanner() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+        return scanner;
     }
 
     // --- Program and Class Declarations ---
@@ -95,54 +184,595 @@ private final Map<String, List<String>> classFields = new HashMap<>();
 
         //3
 
-        LLVMGenerator.startProgram();           // Begin LLVM IR program
+        collectRoutineIdentifiers(ctx, false);  // Which program variables do routines touch?
+        collectClasses(ctx.block());            // Lay out every class, so any declaration can use it
+        binder = new Binder(symbols, classes);
+        binder.visit(ctx);                      // Resolve every identifier use once
+        escapeAnalysis = new EscapeAnalysis(symbols, classes, diag, ctx);
+        escapes = escapeAnalysis.analyze(ctx.block(), routineIdentifiers);
+        llvm.startProgram();           // Begin LLVM IR program
         Object result = visitChildren(ctx);     // Visit rest of the program
-        LLVMGenerator.endProgram();             // Close function and add return
-        LLVMGenerator.writeToFile("output.ll"); // Save IR to file
+        llvm.endProgram();             // Close function and add return
+        devirtualizer.report(diag);
+        escapeAnalysis.report(diag);
+        rangeChecks.report(diag);
+        loopNests.report(diag);
         return result;
     }
 
     /**
      * Visit a class type declaration.
-     * Prints the class name and its member declarations (variables and procedures).
+     * The class was laid out by collectClasses; this defines its struct and
+     * lowers the methods whose bodies are written inside the class.
      * @param ctx The ClassTypeContext.
      * @return null
      */
     @Override
     public Object visitClassType(delphiParser.ClassTypeContext ctx) {
-        String className = "UnnamedClass";
+        declareClass(classes.get(className(ctx)));
+        return null;
+    }
+
+    @Override
+    public Object visitClassDeclaration(delphiParser.ClassDeclarationContext ctx) {
+        declareClass(classes.get(name(ctx.identifier(0))));
+        return null;
+    }
+
+    private void declareClass(ClassLayout layout) {
+        diag.debug("Class declared: {}", layout.name);
+        llvm.defineClass(layout);
+        for (Procedure method : layout.methods()) {
+            if (method.getBlock() != null) {
+                emitRoutine(method, method.getParameters(), method.getBlock());
+            }
+        }
+    }
+
+    private Symbol className(delphiParser.ClassTypeContext ctx) {
         if (ctx.getParent() instanceof delphiParser.TypeDefinitionContext) {
-            delphiParser.TypeDefinitionContext typeDef = (delphiParser.TypeDefinitionContext) ctx.getParent();
-            className = typeDef.identifier().getText().toLowerCase(); // Normalize to lowercase
-            System.out.println("Class declared: " + className);
+            return name(((delphiParser.TypeDefinitionContext) ctx.getParent()).identifier());
         }
-    
-        List<String> fields = new ArrayList<>();
-    
-        if (ctx.classBody() != null) {
-            for (delphiParser.ClassMemberContext member : ctx.classBody().classMember()) {
-                if (member.variableDeclaration() != null) {
-                    String varList = member.variableDeclaration().identifierList().getText();
-                    System.out.println("  Variable: " + varList + " of type " + member.variableDeclaration().type_().getText());
-    
-                    for (String var : varList.split(",")) {
-                        fields.add(var.trim().toLowerCase()); // Normalize to lowercase
+        return symbols.intern("UnnamedClass");
+    }
+
+    /**
+     * Lays out every class declared in block or in the routines nested in it.
+     * All of them are named first, so fields, parameters and results can have
+     * any class as their type, and a class can inherit from any other,
+     * wherever it is declared. A parent is laid out before its subclasses.
+     * Named array types are made in between, so their elements can be
+     * instances of any class and fields can be arrays.
+     */
+    private void collectClasses(delphiParser.BlockContext block) {
+        Map<ClassLayout, ParserRuleContext> declarations = new LinkedHashMap<>();
+        List<delphiParser.TypeDefinitionContext> arrays = new ArrayList<>();
+        collectClasses(block, declarations, arrays);
+        for (delphiParser.TypeDefinitionContext definition : arrays) {
+            Symbol typeName = name(definition.identifier());
+            if (classes.containsKey(typeName) || arrayTypes.containsKey(typeName)) {
+                throw new RuntimeException("Duplicate type: " + typeName);
+            }
+            arrayTypes.put(typeName, arrayOf(definition.type_().structuredType().unpackedStructuredType().arrayType()));
+        }
+        Set<ClassLayout> done = new HashSet<>();
+        for (ClassLayout layout : declarations.keySet()) {
+            layOut(layout, declarations, done, new HashSet<>());
+        }
+        llvm.nameClasses(declarations.keySet());
+    }
+
+    private void collectClasses(delphiParser.BlockContext block, Map<ClassLayout, ParserRuleContext> declarations,
+                                List<delphiParser.TypeDefinitionContext> arrays) {
+        for (ParseTree part : block.children) {
+            if (part instanceof delphiParser.TypeDefinitionPartContext) {
+                for (delphiParser.TypeDefinitionContext definition : ((delphiParser.TypeDefinitionPartContext) part).typeDefinition()) {
+                    if (definition.classType() != null) {
+                        declarations.put(newClass(name(definition.identifier())), definition.classType());
+                    } else if (definition.type_() != null && definition.type_().structuredType() != null
+                            && definition.type_().structuredType().unpackedStructuredType().arrayType() != null) {
+                        arrays.add(definition);
                     }
-                } else if (member.procedureDeclaration() != null &&
-                           !member.procedureDeclaration().identifier().isEmpty()) {
-                    if (member.procedureDeclaration().identifier().size() >= 2) {
-                        System.out.println("  Procedure: " +
-                            member.procedureDeclaration().identifier(0).getText() + "." +
-                            member.procedureDeclaration().identifier(1).getText());
-                    } else {
-                        System.out.println("  Procedure: " + member.procedureDeclaration().getText());
+                }
+            } else if (part instanceof delphiParser.ClassDeclarationContext) {
+                delphiParser.ClassDeclarationContext declaration = (delphiParser.ClassDeclarationContext) part;
+                declarations.put(newClass(name(declaration.identifier(0))), declaration);
+            } else if (part instanceof delphiParser.ProcedureAndFunctionDeclarationPartContext) {
+                delphiParser.ProcedureOrFunctionDeclarationContext routine =
+                    ((delphiParser.ProcedureAndFunctionDeclarationPartContext) part).procedureOrFunctionDeclaration();
+                delphiParser.BlockContext body = routine.procedureDeclaration() != null
+                    ? routine.procedureDeclaration().block() : routine.functionDeclaration().block();
+                if (body != null) {
+                    collectClasses(body, declarations, arrays);
+                }
+            }
+        }
+    }
+
+    // Members of layout's parent, then its own; visiting marks the classes whose parents are being laid out
+    private void layOut(ClassLayout layout, Map<ClassLayout, ParserRuleContext> declarations, Set<ClassLayout> done,
+                        Set<ClassLayout> visiting) {
+        if (done.contains(layout)) {
+            return;
+        }
+        if (!visiting.add(layout)) {
+            throw new RuntimeException("Class " + layout.name + " inherits from itself");
+        }
+        ParserRuleContext declaration = declarations.get(layout);
+        delphiParser.IdentifierContext parentName;
+        delphiParser.ClassBodyContext body;
+        if (declaration instanceof delphiParser.ClassTypeContext) {
+            parentName = ((delphiParser.ClassTypeContext) declaration).identifier();
+            body = ((delphiParser.ClassTypeContext) declaration).classBody();
+        } else {
+            delphiParser.ClassDeclarationContext classDeclaration = (delphiParser.ClassDeclarationContext) declaration;
+            parentName = classDeclaration.identifier().size() > 1 ? classDeclaration.identifier(1) : null;
+            body = classDeclaration.classBody();
+        }
+        if (parentName != null) {
+            ClassLayout parent = classes.get(name(parentName));
+            if (parent == null) {
+                throw new RuntimeException("Undefined class: " + name(parentName));
+            }
+            layOut(parent, declarations, done, visiting);
+            layout.inherit(parent);
+        }
+        collectMembers(layout, body);
+        done.add(layout);
+    }
+
+    private ClassLayout newClass(Symbol className) {
+        if (classes.containsKey(className)) {
+            throw new RuntimeException("Duplicate class: " + className);
+        }
+        ClassLayout layout = new ClassLayout(className);
+        classes.put(className, layout);
+        classesByType.put(layout.pointer, layout);
+        return layout;
+    }
+
+    // Fields and methods of a class body, wherever they are nested in visibility sections
+    private void collectMembers(ClassLayout layout, ParseTree node) {
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ParseTree member = node.getChild(i);
+            if (member instanceof delphiParser.VariableDeclarationContext) {
+                delphiParser.VariableDeclarationContext fields = (delphiParser.VariableDeclarationContext) member;
+                Type type = typeOf(fields.type_());
+                for (delphiParser.IdentifierContext field : fields.identifierList().identifier()) {
+                    layout.addField(name(field), type);
+                }
+            } else if (member instanceof delphiParser.ProcedureDeclarationContext) {
+                delphiParser.ProcedureDeclarationContext procedure = (delphiParser.ProcedureDeclarationContext) member;
+                addMethod(layout, procedure.identifier(procedure.identifier().size() - 1),
+                    procedure.formalParameterList(), Type.VOID, procedure.block(), false);
+            } else if (member instanceof delphiParser.FunctionDeclarationContext) {
+                delphiParser.FunctionDeclarationContext function = (delphiParser.FunctionDeclarationContext) member;
+                addMethod(layout, function.identifier(), function.formalParameterList(),
+                    typeOf(function.resultType().typeIdentifier()), function.block(), false);
+            } else if (member instanceof delphiParser.MethodImplementationContext) {
+                delphiParser.MethodImplementationContext method = (delphiParser.MethodImplementationContext) member;
+                addMethod(layout, method.identifier(), method.formalParameterList(),
+                    method.typeIdentifier() != null ? typeOf(method.typeIdentifier()) : Type.VOID, method.block(), false);
+            } else if (member instanceof delphiParser.ConstructorDeclContext) {
+                delphiParser.ConstructorDeclContext constructor = (delphiParser.ConstructorDeclContext) member;
+                addMethod(layout, constructor.identifier(), constructor.formalParameterList(), Type.VOID, null, false);
+            } else if (member instanceof delphiParser.ConstructorImplementationContext) {
+                delphiParser.ConstructorImplementationContext constructor = (delphiParser.ConstructorImplementationContext) member;
+                addMethod(layout, constructor.identifier(constructor.identifier().size() - 1),
+                    constructor.formalParameterList(), Type.VOID, constructor.block(), false);
+            } else if (member instanceof delphiParser.DestructorDeclContext) {
+                addMethod(layout, ((delphiParser.DestructorDeclContext) member).identifier(), null, Type.VOID, null, true);
+            } else if (member instanceof delphiParser.DestructorImplementationContext) {
+                delphiParser.DestructorImplementationContext destructor = (delphiParser.DestructorImplementationContext) member;
+                addMethod(layout, destructor.identifier(destructor.identifier().size() - 1), null, Type.VOID,
+                    destructor.block(), true);
+            } else if (member instanceof delphiParser.ClassMemberContext
+                    && ((delphiParser.ClassMemberContext) member).PROCEDURE() != null) {
+                addMethod(layout, ((delphiParser.ClassMemberContext) member).identifier(), null, Type.VOID, null, false);
+            } else if (member instanceof delphiParser.ClassMemberContext
+                    || member instanceof delphiParser.MethodDeclContext
+                    || member instanceof delphiParser.VisibilitySectionContext) {
+                collectMembers(layout, member);
+            }
+        }
+    }
+
+    // A method declared without a body is replaced by its definition, if the class has one
+    private void addMethod(ClassLayout layout, delphiParser.IdentifierContext id,
+                           delphiParser.FormalParameterListContext list, Type resultType,
+                           delphiParser.BlockContext body, boolean isDestructor) {
+        Symbol methodName = name(id);
+        Procedure declared = layout.declaredMethod(methodName);
+        if (declared != null && (body == null || declared.getBlock() != null)) {
+            if (body != null) {
+                throw new RuntimeException("Method " + layout.name + "." + methodName + " is defined twice");
+            }
+            return;
+        }
+        layout.addMethod(methodName, new Procedure(methodName, formalParameters(list), parameterTypes(list),
+            resultType, body, layout), isDestructor);
+    }
+
+    // A class reference for the name of a class, the array type of a named array type, INTEGER for anything else
+    private Type typeOf(delphiParser.TypeIdentifierContext type) {
+        if (type != null && type.identifier() != null) {
+            ClassLayout layout = classes.get(name(type.identifier()));
+            if (layout != null) {
+                return layout.pointer;
+            }
+            ArrayLayout array = arrayTypes.get(name(type.identifier()));
+            if (array != null) {
+                return array.type;
+            }
+        }
+        return Type.I32;
+    }
+
+    private Type typeOf(delphiParser.Type_Context type) {
+        if (type != null && type.structuredType() != null
+                && type.structuredType().unpackedStructuredType().arrayType() != null) {
+            return arrayOf(type.structuredType().unpackedStructuredType().arrayType()).type;
+        }
+        return type != null && type.simpleType() != null ? typeOf(type.simpleType().typeIdentifier()) : Type.I32;
+    }
+
+    // A new array type: ARRAY[low..high, ...] OF the component type, with integer literals as the bounds;
+    // each index but the first makes an array of the arrays the indexes after it make
+    private ArrayLayout arrayOf(delphiParser.ArrayTypeContext array) {
+        List<delphiParser.IndexTypeContext> indexes = array.typeList().indexType();
+        Type element = typeOf(array.componentType().type_());
+        ArrayLayout layout = null;
+        for (int i = indexes.size() - 1; i >= 0; i--) {
+            delphiParser.SubrangeTypeContext range = indexes.get(i).simpleType().subrangeType();
+            if (range == null) {
+                throw new RuntimeException("The index of an array must be a range of integers: " + array.getText());
+            }
+            layout = new ArrayLayout(bound(range.constant(0)), bound(range.constant(1)), element);
+            arraysByType.put(layout.type, layout);
+            element = layout.type;
+        }
+        return layout;
+    }
+
+    private static int bound(delphiParser.ConstantContext constant) {
+        if (constant.unsignedNumber() == null || constant.unsignedNumber().unsignedInteger() == null) {
+            throw new RuntimeException("Array bounds must be integer literals: " + constant.getText());
+        }
+        int value = Integer.parseInt(constant.unsignedNumber().getText());
+        return constant.sign() != null && constant.sign().MINUS() != null ? -value : value;
+    }
+
+    private void collectRoutineIdentifiers(ParseTree node, boolean inRoutine) {
+        if (node instanceof TerminalNode) {
+            if (inRoutine && ((TerminalNode) node).getSymbol().getType() == delphiParser.IDENT) {
+                routineIdentifiers.add(symbols.of(((TerminalNode) node).getSymbol()));
+            }
+            return;
+        }
+        boolean routine = inRoutine
+            || node instanceof delphiParser.ProcedureDeclarationContext
+            || node instanceof delphiParser.FunctionDeclarationContext
+            || node instanceof delphiParser.MethodImplementationContext
+            || node instanceof delphiParser.ConstructorImplementationContext
+            || node instanceof delphiParser.DestructorImplementationContext;
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectRoutineIdentifiers(node.getChild(i), routine);
+        }
+    }
+
+    // Interned name of an identifier. It is a single token, folded when it was lexed.
+    private Symbol name(delphiParser.IdentifierContext id) {
+        return symbols.of(id.getStart());
+    }
+
+    /**
+     * What an identifier use refers to, or null if nothing by that name is in
+     * scope. Uses the Binder saw are read by depth and slot; the rest (class
+     * method bodies) are looked up by name.
+     */
+    private Object lookup(delphiParser.IdentifierContext id) {
+        return id.binding != null ? currentScope.get(id.binding) : currentScope.find(name(id));
+    }
+
+    // The slot of a variable use. Names the scope does not hold a slot for (a function's
+    // result, FOR counters of closed blocks) are the generator's to resolve.
+    private Slot variable(delphiParser.IdentifierContext id) {
+        Object value = lookup(id);
+        if (value instanceof Slot) {
+            return (Slot) value;
+        }
+        if (value instanceof ClassLayout.Field) {
+            Value instance = (Value) currentScope.find(self); // A field of self, inside a method
+            return llvm.field(instance, classesByType.get(instance.type), (ClassLayout.Field) value);
+        }
+        if (value instanceof Procedure && value != currentRoutine && ((Procedure) value).getOwner() == null) {
+            // e.g. the result of an enclosing function, which lives in that function's frame
+            throw new RuntimeException("'" + name(id) + "' is a routine, not a variable, in "
+                + (currentRoutine != null ? currentRoutine.getName() : "the main program"));
+        }
+        return llvm.slot(name(id));
+    }
+
+    // What a name used as a value is: the slot of a variable, self itself, or (in a
+    // method) the result of calling a function method of its class without arguments
+    private Object reference(delphiParser.IdentifierContext id) {
+        Object value = lookup(id);
+        if (value instanceof Register) {
+            return value;
+        }
+        if (value instanceof Procedure && value != currentRoutine && ((Procedure) value).getOwner() != null
+                && ((Procedure) value).getFunctionName() != null) {
+            return call(name(id), (Procedure) value, null, null, null);
+        }
+        return variable(id);
+    }
+
+    // The class of the instance in a variable, if it is known exactly (see knownClasses); else null
+    private ClassLayout exactClass(Object variable) {
+        KnownClass known = variable instanceof Slot ? knownClasses.get(variable) : null;
+        return known != null && known.block == llvm.block() ? known.layout : null;
+    }
+
+    // The class of the instance object refers to
+    private ClassLayout classOf(Value object, ParseTree receiver) {
+        ClassLayout layout = classesByType.get(object.type);
+        if (layout == null) {
+            throw new RuntimeException("Variable " + receiver.getText() + " is not an object instance.");
+        }
+        return layout;
+    }
+
+    /**
+     * A member of an instance used as a value: the slot of a field, or the
+     * result of a function method that takes no arguments.
+     * @param exact the class of object, if it is known exactly
+     */
+    private Object member(Value object, ClassLayout exact, ParseTree receiver, delphiParser.IdentifierContext id) {
+        ClassLayout layout = classOf(object, receiver);
+        Symbol memberName = name(id);
+        ClassLayout.Field field = layout.field(memberName);
+        if (field != null) {
+            return llvm.field(object, layout, field);
+        }
+        Procedure method = layout.method(memberName);
+        if (method != null && method.getFunctionName() != null) {
+            return call(memberName, method, object, exact, null);
+        }
+        throw new RuntimeException("Class " + layout.name + " has no field '" + memberName + "'");
+    }
+
+    // value as a value of type to: itself, or an instance as one of a parent class; null if it is not one
+    private Value convert(Value value, Type to) {
+        if (value.type == to) {
+            return value;
+        }
+        if (value.type == Type.I1 && to == Type.I32) {
+            return llvm.widen(value, to); // A comparison stored as a BOOLEAN, or passed for one
+        }
+        ClassLayout from = classesByType.get(value.type);
+        ClassLayout target = classesByType.get(to);
+        return from != null && target != null && from.isA(target) ? llvm.cast(value, to) : null;
+    }
+
+    private List<Symbol> formalParameters(delphiParser.FormalParameterListContext list) {
+        List<Symbol> parameters = new ArrayList<>();
+        if (list != null) {
+            for (delphiParser.FormalParameterSectionContext section : list.formalParameterSection()) {
+                if (section.parameterGroup() != null) {
+                    for (delphiParser.IdentifierContext idCtx : section.parameterGroup().identifierList().identifier()) {
+                        parameters.add(name(idCtx));
                     }
                 }
             }
         }
-    
-        classFields.put(className, fields); // Save fields for this class
-        return visitChildren(ctx);
+        return parameters;
+    }
+
+    // The types of formalParameters(list), in the same order
+    private List<Type> parameterTypes(delphiParser.FormalParameterListContext list) {
+        List<Type> types = new ArrayList<>();
+        if (list != null) {
+            for (delphiParser.FormalParameterSectionContext section : list.formalParameterSection()) {
+                if (section.parameterGroup() != null) {
+                    Type type = typeOf(section.parameterGroup().typeIdentifier());
+                    for (int i = 0; i < section.parameterGroup().identifierList().identifier().size(); i++) {
+                        types.add(type);
+                    }
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Lower a procedure, function or method body once into its own LLVM function.
+     * Parameters arrive as arguments and are spilled to locals; a function
+     * returns whatever was last assigned to the variable named after it. A
+     * method also takes the instance, %self, and its body sees the fields and
+     * methods of its class (see ClassLayout.frame). A nested routine takes
+     * the addresses of the variables of enclosing routines it needs after its
+     * parameters, and its body reads and writes them there.
+     * @param parameters the names the body uses for routine's parameters
+     */
+    private void emitRoutine(Procedure routine, List<Symbol> parameters, delphiParser.BlockContext body) {
+        ClassLayout owner = routine.getOwner();
+        List<Type> types = routine.getParameterTypes();
+        if (parameters.size() != types.size()) {
+            throw new RuntimeException("'" + routine.getFunction() + "' is declared with " + types.size()
+                + " parameters but defined with " + parameters.size());
+        }
+        List<Binder.Capture> captures = routine.getCaptures();
+        if (owner != null && !binder.captures(body.getParent()).isEmpty()) {
+            throw new RuntimeException("Method " + routine.getFunction() + " uses '"
+                + binder.captures(body.getParent()).get(0).name + "' of the routine its class is declared in");
+        }
+        List<OuterSlot> outer = new ArrayList<>();
+        for (Binder.Capture capture : captures) {
+            outer.add(new OuterSlot(outerName(capture, captures), captured(capture).type));
+        }
+        StringBuilder header = new StringBuilder();
+        header.append("define ").append(routine.getResultType()).append(" @").append(routine.getFunction()).append("(");
+        if (owner != null) {
+            header.append(owner.pointer).append(" %self");
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0 || owner != null) header.append(", ");
+            header.append(types.get(i)).append(" %").append(parameters.get(i).name).append(".arg");
+        }
+        for (OuterSlot slot : outer) {
+            if (header.charAt(header.length() - 1) != '(') header.append(", ");
+            header.append(slot.type).append("* %").append(slot.name);
+        }
+        header.append(")");
+
+        llvm.beginFunction(header.toString());
+        routine.markDefined();
+        Procedure enclosing = currentRoutine;
+        currentRoutine = routine;
+        EscapeAnalysis.Result enclosingEscapes = escapes;
+        escapes = escapeAnalysis.analyze(body, Collections.emptySet());
+        if (owner != null) {
+            currentScope = owner.frame(currentScope, self);
+        }
+        // Until the body is lowered, the variables it needs from enclosing routines are the ones passed in
+        Object[] enclosingSlots = new Object[captures.size()];
+        for (int i = 0; i < captures.size(); i++) {
+            Binder.Capture capture = captures.get(i);
+            enclosingSlots[i] = routineFrames.get(capture.level).get(capture.name);
+            routineFrames.get(capture.level).define(capture.name, outer.get(i));
+        }
+        pushScope();
+        routineFrames.add(currentScope);
+        for (int i = 0; i < parameters.size(); i++) {
+            Symbol param = parameters.get(i);
+            Slot slot = llvm.declareVariable(param, types.get(i));
+            currentScope.define(param, slot);
+            llvm.store(new Register(param.name + ".arg", types.get(i)), slot);
+        }
+        Slot result = null;
+        if (routine.getFunctionName() != null) {
+            // The result slot is LLVM-only; the scope keeps resolving the name to the Procedure for recursion.
+            result = llvm.declareVariable(routine.getFunctionName(), routine.getResultType());
+            if (routine.getResultType() == Type.I32) {
+                llvm.store(Constant.ZERO, result); // A class reference starts out undefined, as in Delphi
+            }
+        }
+
+        visit(body);
+
+        routineFrames.remove(routineFrames.size() - 1);
+        popScope();
+        for (int i = 0; i < captures.size(); i++) {
+            routineFrames.get(captures.get(i).level).define(captures.get(i).name, enclosingSlots[i]);
+        }
+        if (owner != null) {
+            popScope();
+        }
+        currentRoutine = enclosing;
+        escapes = enclosingEscapes;
+        llvm.endFunction(result != null ? llvm.load(result) : null);
+    }
+
+    // The LLVM function of a routine: the one its forward declaration in this frame got, or a new one
+    private String functionName(Procedure routine) {
+        Object forward = currentScope.get(routine.getName());
+        return forward instanceof Procedure && !((Procedure) forward).isDefined()
+            ? ((Procedure) forward).getFunction() : llvm.moduleName(routine.getFunction());
+    }
+
+    // The variable capture names where the routine that needs it is lowered or called
+    private Slot captured(Binder.Capture capture) {
+        Object value = routineFrames.get(capture.level).get(capture.name);
+        if (!(value instanceof Slot)) {
+            throw new RuntimeException("'" + capture.name + "' of an enclosing routine is not a variable");
+        }
+        return (Slot) value;
+    }
+
+    // %x.ref for the address of x, with the level of its routine if another capture has the same name
+    private static String outerName(Binder.Capture capture, List<Binder.Capture> captures) {
+        for (Binder.Capture other : captures) {
+            if (other != capture && other.name == capture.name) {
+                return capture.name.name + ".ref" + capture.level;
+            }
+        }
+        return capture.name.name + ".ref";
+    }
+
+    // Turn a visitor result into an operand, loading it if it is a variable.
+    private Value asValue(Object result) {
+        if (result instanceof Slot) {
+            return llvm.load((Slot) result);
+        }
+        if (result instanceof Value) {
+            return (Value) result;
+        }
+        throw new RuntimeException("Not an integer value: " + result);
+    }
+
+    // The i1 a branch tests; an integer counts as true when it is not zero.
+    private Value condition(Object result) {
+        Value value = asValue(result);
+        return value.type == Type.I1 ? value : llvm.icmp("ne", value, Constant.ZERO);
+    }
+
+    private List<Value> callArguments(delphiParser.ParameterListContext params) {
+        List<Value> args = new ArrayList<>();
+        if (params != null) {
+            for (delphiParser.ActualParameterContext paramCtx : params.actualParameter()) {
+                args.add(asValue(visit(paramCtx.expression())));
+            }
+        }
+        return args;
+    }
+
+    private void checkArity(Symbol name, Procedure proc, List<Value> args) {
+        if (args.size() != proc.getParameters().size()) {
+            throw new RuntimeException("'" + name + "' expects " + proc.getParameters().size()
+                + " arguments but got " + args.size());
+        }
+        for (int i = 0; i < args.size(); i++) {
+            Type expected = proc.getParameterTypes().get(i);
+            Value arg = convert(args.get(i), expected);
+            if (arg == null) {
+                throw new RuntimeException("Argument " + (i + 1) + " of '" + name + "' is " + args.get(i).type
+                    + " but should be " + expected);
+            }
+            args.set(i, arg);
+        }
+    }
+
+    /**
+     * Calls a routine, or a method on receiver (self when a method calls another
+     * method of its class). A method call goes through the vtable of the
+     * receiver unless the Devirtualizer knows which function it runs.
+     * Returns the result, or null for a procedure.
+     * @param exact the class of receiver, if it is known exactly
+     */
+    private Register call(Symbol name, Procedure proc, Value receiver, ClassLayout exact,
+                          delphiParser.ParameterListContext params) {
+        List<Value> args = callArguments(params);
+        checkArity(name, proc, args);
+        if (proc.getOwner() == null) {
+            for (Binder.Capture capture : proc.getCaptures()) {
+                args.add(new Address(captured(capture)));
+            }
+            return llvm.call(proc.getResultType(), proc.getFunction(), args);
+        }
+        if (receiver == null) {
+            receiver = (Value) currentScope.find(self);
+        }
+        ClassLayout layout = classesByType.get(receiver.type);
+        Procedure target = devirtualizer.target(exact != null ? exact : layout, exact != null, name);
+        if (target != null) {
+            diag.log(Level.DEBUG, "Direct call of {} on {}", target.getFunction(), receiver.type);
+            Type owner = target.getOwner().pointer;
+            args.add(0, receiver.type == owner ? receiver : llvm.cast(receiver, owner));
+            return llvm.call(target.getResultType(), target.getFunction(), args);
+        }
+        args.add(0, receiver);
+        Register function = llvm.vtableEntry(receiver, layout, layout.slot(name), proc.pointerType(receiver.type));
+        return llvm.call(proc.getResultType(), function, args);
     }
     
 
@@ -191,24 +821,23 @@ private final Map<String, List<String>> classFields = new HashMap<>();
     //p2 for
     @Override
     public Object visitFunctionDeclaration(delphiParser.FunctionDeclarationContext ctx) {
-        List<String> parameters = new ArrayList<>();
-        if (ctx.formalParameterList() != null) {
-            for (delphiParser.FormalParameterSectionContext section : ctx.formalParameterList().formalParameterSection()) {
-                if (section.parameterGroup() != null) {
-                    for (delphiParser.IdentifierContext idCtx : section.parameterGroup().identifierList().identifier()) {
-                        parameters.add(idCtx.getText().toLowerCase());
-                    }
-                }
-            }
-        }
+        List<Symbol> parameters = formalParameters(ctx.formalParameterList());
     
-        String funcName = ctx.identifier().getText().toLowerCase();
+        Symbol funcName = name(ctx.identifier());
         delphiParser.BlockContext body = ctx.block();
     
-        Procedure func = new Procedure(parameters, body, funcName);
+        Procedure func = new Procedure(funcName, parameters, parameterTypes(ctx.formalParameterList()),
+            typeOf(ctx.resultType().typeIdentifier()), body, null);
+        func.setCaptures(binder.captures(ctx));
+        func.setFunction(functionName(func));
         currentScope.define(funcName, func);
     
-        System.out.println("Function Declaration stored: " + funcName + " with parameters: " + parameters);
+        diag.log(Level.DEBUG, "Function Declaration stored: {} with parameters: {}", funcName, parameters);
+
+        // Defined before its body is lowered so recursive calls resolve.
+        if (body != null) {
+            emitRoutine(func, parameters, body);
+        }
         return null;
     }
 
@@ -272,51 +901,59 @@ private final Map<String, List<String>> classFields = new HashMap<>();
 
 @Override
 public Object visitForStatement(delphiParser.ForStatementContext ctx) {
-    String loopVar = ctx.identifier().getText().toLowerCase();
+    LoopNests.Nest nest = loopNests.analyze(ctx, currentScope::find);
+    if (nest != null && (nest.interchanged() || llvm.tileSize() > 1 || !nest.rows.isEmpty())) {
+        lowerNest(nest);
+        return null;
+    }
+
+    Symbol loopVar = name(ctx.identifier());
     Object startVal = visit(ctx.forList().initialValue());
     Object endVal = visit(ctx.forList().finalValue());
 
-    LLVMGenerator.declareVariable(loopVar);
-    LLVMGenerator.store(startVal.toString(), loopVar);
-    currentScope.define(loopVar, startVal);
+    Slot counter = llvm.ensureVariable(loopVar);
+    llvm.store(asValue(startVal), counter);
+    currentScope.define(loopVar, counter);
 
-    String condLabel = LLVMGenerator.nextLabel("cond");
-    String bodyLabel = LLVMGenerator.nextLabel("body");
-    String incrLabel = LLVMGenerator.nextLabel("incr");
-    String endLabel = LLVMGenerator.nextLabel("end");
+    String condLabel = llvm.nextLabel("cond");
+    String bodyLabel = llvm.nextLabel("body");
+    String incrLabel = llvm.nextLabel("incr");
+    String endLabel = llvm.nextLabel("end");
 
     // Push labels for break and continue
     breakLabelStack.push(endLabel);
     continueLabelStack.push(incrLabel);
 
-    LLVMGenerator.br(condLabel);
+    llvm.br(condLabel);
 
-    LLVMGenerator.label(condLabel);
-    String loaded = LLVMGenerator.load(loopVar);
-    String cond = LLVMGenerator.icmp("sle", loaded, endVal.toString());
-    LLVMGenerator.brCond(cond, bodyLabel, endLabel);
+    llvm.label(condLabel);
+    Register loaded = llvm.load(counter);
+    Register cond = llvm.icmp("sle", loaded, asValue(endVal));
+    llvm.brCond(cond, bodyLabel, endLabel);
 
-    LLVMGenerator.label(bodyLabel);
+    llvm.label(bodyLabel);
+    rangeChecks.enter(loopVar, counter, startVal, endVal, ctx.statement(), currentScope);
     pushScope();
     try {
         visit(ctx.statement());  // may contain break/continue
     } catch (ContinueException ce) {
-        LLVMGenerator.br(incrLabel);
+        llvm.br(incrLabel);
     } catch (BreakException be) {
-        LLVMGenerator.br(endLabel);
+        llvm.br(endLabel);
     } finally {
         popScope();
+        rangeChecks.exit(counter);
     }
 
-    LLVMGenerator.br(incrLabel);
+    llvm.br(incrLabel);
 
-    LLVMGenerator.label(incrLabel);
-    String reloaded = LLVMGenerator.load(loopVar);
-    String incremented = LLVMGenerator.add(reloaded, "1");
-    LLVMGenerator.store(incremented, loopVar);
-    LLVMGenerator.br(condLabel);
+    llvm.label(incrLabel);
+    Register reloaded = llvm.load(counter);
+    Register incremented = llvm.add(reloaded, Constant.ONE);
+    llvm.store(incremented, counter);
+    llvm.br(condLabel);
 
-    LLVMGenerator.label(endLabel);
+    llvm.label(endLabel);
 
     // Pop labels after loop
     breakLabelStack.pop();
@@ -325,32 +962,194 @@ public Object visitForStatement(delphiParser.ForStatementContext ctx) {
     return null;
 }
 
+/**
+ * Lowers a nest of FOR loops that LoopNests found can run in any order: in
+ * the order it chose, and with --tile in tiles, a loop over the tiles of each
+ * counter around a loop over each counter within its tile. The bounds are
+ * computed once, before the loops; the body can change neither them nor the
+ * counters, and leaves no loop early, so no BREAK or CONTINUE label is needed.
+ */
+private void lowerNest(LoopNests.Nest nest) {
+    int depth = nest.loops.size();
+    Slot[] counters = new Slot[depth];
+    Value[] starts = new Value[depth];
+    Value[] ends = new Value[depth];
+    Slot[] tiles = llvm.tileSize() > 1 ? new Slot[depth] : null;
+    int scopes = 0;
+    try {
+        // Each bound where it was written, in the scopes the loops and BEGIN ... END blocks around it make
+        for (int k = 0; k < depth; k++) {
+            delphiParser.ForStatementContext loop = nest.loops.get(k);
+            Symbol loopVar = name(loop.identifier());
+            Object startVal = visit(loop.forList().initialValue());
+            Object endVal = visit(loop.forList().finalValue());
+            starts[k] = asValue(startVal);
+            ends[k] = asValue(endVal);
+            counters[k] = llvm.ensureVariable(loopVar);
+            currentScope.define(loopVar, counters[k]);
+            rangeChecks.enter(loopVar, counters[k], startVal, endVal, nest.body, currentScope);
+            if (tiles != null) {
+                tiles[k] = llvm.declareVariable(symbols.intern(loopVar.name + ".tile"));
+            }
+            pushScope();
+            scopes++;
+            if (k < depth - 1 && nest.wrapped[k]) {
+                pushScope();
+                scopes++;
+            }
+        }
+        if (tiles != null) {
+            loopNests.tiled();
+        }
+        tileLoops(nest, 0, counters, tiles, starts, ends);
+    } finally {
+        for (; scopes > 0; scopes--) {
+            popScope();
+        }
+        for (Slot counter : counters) {
+            if (counter != null) {
+                rangeChecks.exit(counter);
+            }
+        }
+        hoistedRows.clear();
+    }
+}
 
+// The loops over the tiles of each counter from position level of the order of nest on, then the loops within them
+private void tileLoops(LoopNests.Nest nest, int level, Slot[] counters, Slot[] tiles, Value[] starts, Value[] ends) {
+    if (tiles == null || level == counters.length) {
+        elementLoops(nest, 0, counters, tiles, starts, ends);
+        return;
+    }
+    int k = nest.order[level];
+    countedLoop(tiles[k], starts[k], ends[k], llvm.tileSize(),
+        () -> tileLoops(nest, level + 1, counters, tiles, starts, ends));
+}
 
-//constructor call p2
-@Override
-public Object visitConstructorCall(delphiParser.ConstructorCallContext ctx) {
-    System.out.println(">>> visitConstructorCall triggered for: " + ctx.getText());
+// The loops over each counter, within its tile if tiles is not null, from position level of the order of nest on
+private void elementLoops(LoopNests.Nest nest, int level, Slot[] counters, Slot[] tiles, Value[] starts, Value[] ends) {
+    if (level == counters.length) {
+        visit(nest.body);
+        return;
+    }
+    int k = nest.order[level];
+    Value start = starts[k];
+    Value end = ends[k];
+    if (tiles != null) {
+        start = llvm.load(tiles[k]);
+        Register last = llvm.add(start, new Constant(llvm.tileSize() - 1));
+        end = llvm.select(llvm.icmp("slt", last, ends[k]), last, ends[k]);
+    }
+    if (level == counters.length - 1) {
+        hoistRows(nest);
+    }
+    countedLoop(counters[k], start, end, 1, () -> elementLoops(nest, level + 1, counters, tiles, starts, ends));
+}
+
+// FOR counter := start TO end, counting by step, around the code body emits
+private void countedLoop(Slot counter, Value start, Value end, int step, Runnable body) {
+    llvm.store(start, counter);
 
-    String className = ctx.getText().split("\\.")[0].toLowerCase(); // Get "person" from "Person.Create"
-    System.out.println("Constructor Call detected for class: " + className);
+    String condLabel = llvm.nextLabel("cond");
+    String bodyLabel = llvm.nextLabel("body");
+    String incrLabel = llvm.nextLabel("incr");
+    String endLabel = llvm.nextLabel("end");
 
-    // Print current fields stored for the class
-    System.out.println("Fields in classFields for " + className + ": " + classFields.get(className));
+    llvm.br(condLabel);
+
+    llvm.label(condLabel);
+    Register cond = llvm.icmp("sle", llvm.load(counter), end);
+    llvm.brCond(cond, bodyLabel, endLabel);
+
+    llvm.label(bodyLabel);
+    body.run();
+    llvm.br(incrLabel);
+
+    llvm.label(incrLabel);
+    llvm.store(llvm.add(llvm.load(counter), new Constant(step)), counter);
+    llvm.br(condLabel);
+
+    llvm.label(endLabel);
+}
 
-    Instance newInstance = new Instance(className);
+/**
+ * Computes the rows LoopNests found in the body of nest, the addresses of
+ * a[i] in a[i, j], before its innermost loop, so that each iteration only
+ * indexes the row (see visitVariable). With range checks on, a row is
+ * hoisted only when its indexes need no check: a failing check must still
+ * happen where the body would have made it, if at all.
+ */
+private void hoistRows(LoopNests.Nest nest) {
+    // c[i, j] := c[i, j] + ... needs the row c[i] once: it is computed for the first access of its group, and since
+    // the body declares nothing, the same names in the others mean the same
+    for (List<delphiParser.VariableContext> group : nest.rows) {
+        delphiParser.VariableContext access = group.get(0);
+        List<delphiParser.ExpressionContext> indexes = access.expression();
+        // The scopes of the BEGIN ... END blocks between the body and the access, for the names in its indexes
+        int blocks = 0;
+        for (ParseTree node = access; node != nest.body; node = node.getParent()) {
+            if (node instanceof delphiParser.CompoundStatementContext) {
+                pushScope();
+                blocks++;
+            }
+        }
+        try {
+            Object row = reference(access.identifier(0));
+            if (rowInRange(row, indexes)) {
+                ParseTree receiver = access.identifier(0);
+                for (int i = 0; i < indexes.size() - 1; i++) {
+                    row = element(row, receiver, indexes.get(i));
+                    receiver = indexes.get(i);
+                }
+                for (delphiParser.VariableContext same : group) {
+                    hoistedRows.put(same, (Slot) row);
+                }
+            }
+        } finally {
+            for (; blocks > 0; blocks--) {
+                popScope();
+            }
+        }
+    }
+}
 
-    if (classFields.containsKey(className)) {
-        for (String field : classFields.get(className)) {
-            System.out.println("Initializing field: " + field);
-            newInstance.setField(field, null); // Default value is null
+// Whether array is an array of arrays as deep as indexes, each but the last of which needs no range check
+private boolean rowInRange(Object array, List<delphiParser.ExpressionContext> indexes) {
+    ArrayLayout layout = array instanceof Slot ? arraysByType.get(((Slot) array).type) : null;
+    for (int i = 0; i < indexes.size() - 1; i++) {
+        if (layout == null || (llvm.checksRanges() && !rangeChecks.inRange(layout, indexes.get(i), this::lookup))) {
+            return false;
         }
-    } else {
-        System.out.println(" No classFields found for: " + className);
+        layout = arraysByType.get(layout.element);
+    }
+    return layout != null;
+}
+
+
+
+//constructor call p2
+@Override
+public Object visitConstructorCall(delphiParser.ConstructorCallContext ctx) {
+    Symbol className = name(ctx.identifier()); // "person" from "Person.CREATE()"
+    diag.trace("Constructor Call detected for class: {}", className);
+
+    ClassLayout layout = classes.get(className);
+    if (layout == null) {
+        throw new RuntimeException("Undefined class: " + className);
+    }
+
+    // Zeroed memory, then the class's own Create, if it has one
+    Register instance = escapes.onStack(ctx) ? llvm.allocateOnStack(layout) : llvm.allocate(layout);
+    Procedure constructor = layout.method(create);
+    if (constructor != null) {
+        call(create, constructor, instance, layout, ctx.parameterList());
+    } else if (ctx.parameterList() != null) {
+        throw new RuntimeException("'" + create + "' expects 0 arguments but got "
+            + ctx.parameterList().actualParameter().size());
     }
 
-    System.out.println("New instance created: " + newInstance);
-    return newInstance;
+    diag.trace("New instance created: {}", instance);
+    return instance;
 }
 
 
@@ -363,9 +1162,9 @@ public Object visitConstructorCall(delphiParser.ConstructorCallContext ctx) {
     @Override
     public Object visitConstructorDecl(delphiParser.ConstructorDeclContext ctx) {
         if (ctx.identifier() != null) {
-            System.out.println("Constructor Declaration: " + ctx.identifier().getText());
+            diag.log(Level.DEBUG, () -> "Constructor Declaration: " + ctx.identifier().getText());
         } else {
-            System.out.println("Constructor declaration found, but ID is missing.");
+            diag.log(Level.WARN, "Constructor declaration found, but ID is missing.");
         }
         return visitChildren(ctx);
     }
@@ -378,9 +1177,9 @@ public Object visitConstructorCall(delphiParser.ConstructorCallContext ctx) {
     @Override
     public Object visitDestructorDecl(delphiParser.DestructorDeclContext ctx) {
         if (ctx.identifier() != null) {
-            System.out.println("Destructor Declaration: " + ctx.identifier().getText());
+            diag.log(Level.DEBUG, () -> "Destructor Declaration: " + ctx.identifier().getText());
         } else {
-            System.out.println("Destructor declaration found, but ID is missing.");
+            diag.log(Level.WARN, "Destructor declaration found, but ID is missing.");
         }
         return visitChildren(ctx);
     }
@@ -396,8 +1195,7 @@ public Object visitString(delphiParser.StringContext ctx) {
 
 @Override
 public Object visitUnsignedInteger(delphiParser.UnsignedIntegerContext ctx) {
-    // return Integer.parseInt(ctx.getText());  -3
-    return ctx.getText();
+    return new Constant(Integer.parseInt(ctx.getStart().getText()));
 }
 
 
@@ -405,10 +1203,12 @@ public Object visitUnsignedInteger(delphiParser.UnsignedIntegerContext ctx) {
 @Override
 public Object visitUnsignedNumber(delphiParser.UnsignedNumberContext ctx) {
     // If the text contains a decimal point, parse it as a double.
-    if (ctx.getText().contains(".")) {
-        return Double.parseDouble(ctx.getText());
+    // Either alternative is a single token
+    String text = ctx.getStart().getText();
+    if (ctx.unsignedReal() != null) {
+        return Double.parseDouble(text);
     } else { // Otherwise, parse it as an integer.
-        return Integer.parseInt(ctx.getText());
+        return new Constant(Integer.parseInt(text));
     }
 }
 
@@ -427,17 +1227,21 @@ public Object visitUnsignedNumber(delphiParser.UnsignedNumberContext ctx) {
         // Avoid duplicate printing for variables declared inside a class.
         if (!(ctx.getParent() instanceof delphiParser.ClassMemberContext)) {
             if (ctx.identifierList() != null && ctx.type_() != null) {
-                String varList = ctx.identifierList().getText();
-                // Split and trim identifiers; then define each in the symbol table.
-                for (String var : varList.split(",")) {
-                    var = var.trim().toLowerCase();
-                    currentScope.define(var, 0); // Or your default value based on type.
-                    LLVMGenerator.declareVariable(var); // Allocate space in LLVM IR -3
+                // Define each identifier in the symbol table.
+                Type type = typeOf(ctx.type_()); // INTEGER, or a reference to an instance of a class
+                for (delphiParser.IdentifierContext id : ctx.identifierList().identifier()) {
+                    Symbol var = name(id);
+                    Slot slot;
+                    if (llvm.inMainProgram() && routineIdentifiers.contains(var)) {
+                        slot = llvm.declareGlobal(var, type); // Shared with procedures/functions
+                    } else {
+                        slot = llvm.declareVariable(var, type); // Allocate space in LLVM IR -3
+                    }
+                    currentScope.define(var, slot); // Uses bound to it read the slot from the scope
 
                 }
-                System.out.println("Variable(s) declared: " 
-                        + ctx.identifierList().getText() 
-                        + " of type " + ctx.type_().getText());
+                diag.log(Level.DEBUG, () -> "Variable(s) declared: " + ctx.identifierList().getText()
+                    + " of type " + ctx.type_().getText());
             }
         }
         return visitChildren(ctx);
@@ -498,46 +1302,91 @@ public Object visitUnsignedNumber(delphiParser.UnsignedNumberContext ctx) {
 
     @Override
 public Object visitSimpleExpression(delphiParser.SimpleExpressionContext ctx) {
-    Object leftObj = visit(ctx.term());
-
-    if (ctx.additiveoperator() != null) {
-        Object rightObj = visit(ctx.simpleExpression());
-        String op = ctx.additiveoperator().getText();
-
-        String left = leftObj.toString();
-        String right = rightObj.toString();
+    List<delphiParser.TermContext> terms = ctx.term();
+    if (terms.isEmpty()) {
+        return visitChildren(ctx); // functionDesignator
+    }
+    List<delphiParser.AdditiveoperatorContext> ops = ctx.additiveoperator();
+
+    // a - b + c is (a - b) + c: fold the operands left to right, no recursion per operand
+    Object result = visit(terms.get(0));
+    for (int i = 0; i < ops.size(); i++) {
+        Object rightObj = visit(terms.get(i + 1));
+        // Variables are loaded; registers and constants are used as they are
+        Value left = asValue(result);
+        Value right = asValue(rightObj);
+        result = llvm.binary(additiveOpcode(ops.get(i).getStart()), left, right);
+    }
+    return result;
+}
 
-        // ✅ Check if left is a variable (e.g., %x) and not a temp like %t3
-        if (left.startsWith("%") && !left.startsWith("%t")) {
-            left = LLVMGenerator.load(left.substring(1)); // remove '%' and load
+    @Override
+    public Object visitTerm(delphiParser.TermContext ctx) {
+        List<delphiParser.SignedFactorContext> factors = ctx.signedFactor();
+        List<delphiParser.MultiplicativeoperatorContext> ops = ctx.multiplicativeoperator();
+
+        Object result = visit(factors.get(0));
+        for (int i = 0; i < ops.size(); i++) {
+            Object rightObj = visit(factors.get(i + 1));
+            Value left = asValue(result);
+            Value right = asValue(rightObj);
+            result = llvm.binary(multiplicativeOpcode(ops.get(i).getStart()), left, right);
         }
+        return result;
+    }
 
-        if (right.startsWith("%") && !right.startsWith("%t")) {
-            right = LLVMGenerator.load(right.substring(1)); // same here
+    @Override
+    public Object visitSignedFactor(delphiParser.SignedFactorContext ctx) {
+        Object value = visit(ctx.factor());
+        if (ctx.MINUS() == null) {
+            return value;
         }
+        if (value instanceof Constant) {
+            return new Constant(-((Constant) value).value);
+        }
+        return llvm.binary("sub", Constant.ZERO, asValue(value));
+    }
 
-        String result = LLVMGenerator.nextTemp();
-
-        switch (op) {
-            case "+":
-                LLVMGenerator.emit(result + " = add i32 " + left + ", " + right);
-                break;
-            case "-":
-                LLVMGenerator.emit(result + " = sub i32 " + left + ", " + right);
-                break;
-            case "or":
-            case "OR":
-                LLVMGenerator.emit(result + " = or i32 " + left + ", " + right);
-                break;
+    static String additiveOpcode(Token op) {
+        switch (op.getType()) {
+            case delphiParser.PLUS:
+                return "add";
+            case delphiParser.MINUS:
+                return "sub";
+            case delphiParser.OR:
+                return "or";
             default:
-                throw new RuntimeException("Unsupported additive operator: " + op);
+                throw new RuntimeException("Unsupported additive operator: " + op.getText());
         }
+    }
 
-        return result;
+    // icmp predicate of a relational operator
+    static String relationalPredicate(Token op) {
+        return switch (op.getType()) {
+            case delphiParser.EQUAL -> "eq";
+            case delphiParser.NOT_EQUAL -> "ne";
+            case delphiParser.LT -> "slt";
+            case delphiParser.LE -> "sle";
+            case delphiParser.GT -> "sgt";
+            case delphiParser.GE -> "sge";
+            default -> throw new RuntimeException("Unsupported operator: " + op.getText());
+        };
     }
 
-    return leftObj;
-}
+    static String multiplicativeOpcode(Token op) {
+        switch (op.getType()) {
+            case delphiParser.STAR:
+                return "mul";
+            case delphiParser.DIV:
+                return "sdiv";
+            case delphiParser.MOD:
+                return "srem";
+            case delphiParser.AND:
+                return "and";
+            default:
+                throw new RuntimeException("Unsupported multiplicative operator: " + op.getText());
+        }
+    }
 
 
     
@@ -581,24 +1430,43 @@ public Object visitAssignmentStatement(delphiParser.AssignmentStatementContext c
 
 
 
-    String varName = ctx.identifier(0).getText().toLowerCase();
-    Object exprResult = visit(ctx.expression());
+    Value value;
+    if (ctx.constructorCall() != null) {
+        value = (Value) visit(ctx.constructorCall()); // The new instance
+    } else {
+        Object exprResult = visit(ctx.expression());
 
-    if (exprResult == null) {
-        throw new RuntimeException("Right-hand side of assignment returned null for: " + ctx.expression().getText());
-    }
+        if (exprResult == null) {
+            throw new RuntimeException("Right-hand side of assignment returned null for: " + ctx.expression().getText());
+        }
 
-    String value = exprResult.toString(); // Should be LLVM register like %tX or constant
+        value = asValue(exprResult); // Register or constant
+    }
 
-    if (value.startsWith("%") && !value.matches("%t\\d+")) {
-        // This means it's a variable like %x, not a temp like %t1
-        value = LLVMGenerator.load(value.substring(1));
+    // The target's address is taken after the value is computed, right before the store
+    Object target;
+    if (ctx.variable() != null) {
+        target = visit(ctx.variable());                       // p.next.value := ...
+    } else if (ctx.identifier().size() == 2) {
+        Object instance = reference(ctx.identifier(0));
+        target = member(asValue(instance), exactClass(instance), ctx.identifier(0), ctx.identifier(1)); // p.x := ...
+    } else {
+        target = variable(ctx.identifier(0));
     }
-    
-    if (!LLVMGenerator.isTemp(value) && value.startsWith("%")) {
-        value = LLVMGenerator.load(value.substring(1));
+    if (!(target instanceof Slot)) {
+        throw new RuntimeException("Cannot assign to " + ctx.getChild(0).getText());
+    }
+    Slot slot = (Slot) target;
+    Value stored = convert(value, slot.type);
+    if (stored == null) {
+        throw new RuntimeException("Cannot assign " + value.type + " to " + slot.type + " in " + ctx.getText());
+    }
+    llvm.store(stored, slot);
+    if (ctx.constructorCall() != null) {
+        knownClasses.put(slot, new KnownClass(classes.get(name(ctx.constructorCall().identifier())), llvm.block()));
+    } else {
+        knownClasses.remove(slot);
     }
-        LLVMGenerator.store(value, varName);
     
     return null;
 
@@ -701,81 +1569,17 @@ public Object visitAssignmentStatement(delphiParser.AssignmentStatementContext c
 
     @Override
     public Object visitExpression(delphiParser.ExpressionContext ctx) {
-        //  Check if the expression is a function call like: add(a, b)
-        if (ctx.simpleExpression() != null && ctx.simpleExpression().getChildCount() >= 3) {
-            ParseTree first = ctx.simpleExpression().getChild(0);
-            ParseTree second = ctx.simpleExpression().getChild(1);
-            ParseTree third = ctx.simpleExpression().getChild(2);
-    
-            if (first != null && second.getText().equals("(")) {
-                String funcName = first.getText().toLowerCase();
-    
-                // Look up the function definition
-                Object resolved = currentScope.resolve(funcName);
-                if (!(resolved instanceof Procedure)) {
-                    throw new RuntimeException("Function '" + funcName + "' not found.");
-                }
-                Procedure func = (Procedure) resolved;
-    
-                // Extract arguments
-                List<Object> args = new ArrayList<>();
-                for (int i = 2; i < ctx.simpleExpression().getChildCount() - 1; i += 2) { // skips "(" and ")"
-                    Object arg = visit(ctx.simpleExpression().getChild(i));
-                    args.add(arg);
-                }
-    
-                // Set up new scope and define parameters
-                Scope funcScope = new Scope(currentScope);
-                for (int i = 0; i < args.size(); i++) {
-                    String paramName = func.getParameters().get(i);
-                    Object argValue = args.get(i);
-                    funcScope.define(paramName, argValue);
-                    LLVMGenerator.declareVariable(paramName);
-                    LLVMGenerator.store(argValue.toString(), paramName);
-                }
-    
-                // Call the function
-                Scope prevScope = currentScope;
-                currentScope = funcScope;
-                func.call(args, funcScope, this);
-                currentScope = prevScope;
-    
-                // Load and return the result (stored in variable named after the function)
-                return LLVMGenerator.load(funcName);
-            }
-        }
-    
         //  Handle comparisons (already implemented)
         if (ctx.relationaloperator() != null) {
-            String left = visit(ctx.simpleExpression()).toString();
-            String right = visit(ctx.expression()).toString();
-            String op = ctx.relationaloperator().getText();
-    
-            if (left.startsWith("%") && !left.startsWith("%t")) {
-                left = LLVMGenerator.load(left.substring(1));
-            }
-            if (right.startsWith("%") && !right.startsWith("%t")) {
-                right = LLVMGenerator.load(right.substring(1));
-            }
-    
-            String llvmOp = switch (op) {
-                case "=" -> "eq";
-                case "<>" -> "ne";
-                case "<" -> "slt";
-                case "<=" -> "sle";
-                case ">" -> "sgt";
-                case ">=" -> "sge";
-                default -> throw new RuntimeException("Unsupported operator: " + op);
-            };
+            Value left = asValue(visit(ctx.simpleExpression(0)));
+            Value right = asValue(visit(ctx.simpleExpression(1)));
+            String llvmOp = relationalPredicate(ctx.relationaloperator().getStart());
     
-            String result = LLVMGenerator.nextTemp();
-            LLVMGenerator.emit(result + " = icmp " + llvmOp + " i32 " + left + ", " + right);
-            LLVMGenerator.setLastCondition(result);
-            return result;
+            return llvm.icmp(llvmOp, left, right);
         }
     
         //  Fallback
-        return visit(ctx.simpleExpression());
+        return visit(ctx.simpleExpression(0));
     }
     
 
@@ -821,53 +1625,42 @@ public Object visitAssignmentStatement(delphiParser.AssignmentStatementContext c
 
     @Override
     public Object visitProcedureDeclaration(delphiParser.ProcedureDeclarationContext ctx) {
-        List<String> parameters = new ArrayList<>();
-        if (ctx.formalParameterList() != null) {
-            for (delphiParser.FormalParameterSectionContext section : ctx.formalParameterList().formalParameterSection()) {
-                if (section.parameterGroup() != null) {
-                    for (delphiParser.IdentifierContext idCtx : section.parameterGroup().identifierList().identifier()) {
-                        parameters.add(idCtx.getText().toLowerCase());
-                    }
-                }
-            }
-        }
+        List<Symbol> parameters = formalParameters(ctx.formalParameterList());
     
         delphiParser.BlockContext body = ctx.block();
-        Procedure proc = new Procedure(parameters, body);
-    
         if (ctx.identifier().size() >= 2) {
-            // Class method
-            String className = ctx.identifier().get(0).getText().toLowerCase();
-            String methodName = ctx.identifier().get(1).getText().toLowerCase();
-            String fullKey = className + "." + methodName;
-            currentScope.define(fullKey, proc);
-            System.out.println("Class Method Declaration stored: " + fullKey + " with parameters: " + parameters);
+            // Class method, declared in its class
+            Symbol className = name(ctx.identifier(0));
+            Symbol methodName = name(ctx.identifier(1));
+            ClassLayout layout = classes.get(className);
+            if (layout == null) {
+                throw new RuntimeException("Undefined class: " + className);
+            }
+            Procedure method = layout.declaredMethod(methodName);
+            if (method == null) {
+                throw new RuntimeException("Undefined symbol: " + className + "." + methodName);
+            }
+            diag.log(Level.DEBUG, "Class Method Declaration stored: {} with parameters: {}", method.getFunction(),
+                parameters);
+            if (body != null) {
+                emitRoutine(method, parameters, body);
+            }
         } else if (ctx.identifier().size() == 1) {
             // Global procedure
-            String procName = ctx.identifier().get(0).getText().toLowerCase();
+            Symbol procName = name(ctx.identifier(0));
+            Procedure proc = new Procedure(procName, parameters, parameterTypes(ctx.formalParameterList()),
+                Type.VOID, body, null);
+            proc.setCaptures(binder.captures(ctx));
+            proc.setFunction(functionName(proc));
             currentScope.define(procName, proc);
-            System.out.println("Procedure Declaration stored: " + procName + " with parameters: " + parameters);
-    
-            // ✅ Use a custom buffer to emit code cleanly
-            StringBuilder procCode = new StringBuilder();
-            LLVMGenerator.pushCustomBuffer(procCode);
-    
-            LLVMGenerator.emit("define void @" + procName + "() {");
-            LLVMGenerator.emit("entry:");
-    
-            pushScope();
-            visit(body);
-            popScope();
-    
-            LLVMGenerator.emit("ret void");
-            LLVMGenerator.emit("}");
-    
-            LLVMGenerator.popCustomBuffer(); // pops the buffer you just filled
-    
-            // ✅ Store this code in the top-level procedure section
-            LLVMGenerator.emitProcedure(procCode.toString());
+            diag.log(Level.DEBUG, "Procedure Declaration stored: {} with parameters: {}", procName, parameters);
+
+            // A forward declaration has no body to lower.
+            if (body != null) {
+                emitRoutine(proc, parameters, body);
+            }
         } else {
-            System.out.println("Procedure Declaration could not be parsed properly: " + ctx.getText());
+            diag.log(Level.WARN, () -> "Procedure Declaration could not be parsed properly: " + ctx.getText());
         }
     
         return null;
@@ -949,29 +1742,33 @@ public Object visitAssignmentStatement(delphiParser.AssignmentStatementContext c
 
   @Override
 public Void visitWhileStatement(delphiParser.WhileStatementContext ctx) {
-    String loopLabel = LLVMGenerator.nextLabel("loop");
-    String bodyLabel = LLVMGenerator.nextLabel("body");
-    String endLabel = LLVMGenerator.nextLabel("end");
+    String loopLabel = llvm.nextLabel("loop");
+    String bodyLabel = llvm.nextLabel("body");
+    String endLabel = llvm.nextLabel("end");
 
     // Jump to loop condition
-    LLVMGenerator.emit("br label %" + loopLabel);
-    LLVMGenerator.emit(loopLabel + ":");
+    llvm.br(loopLabel);
+    llvm.label(loopLabel);
 
     // Evaluate condition expression (e.g., x < 5)
     Object conditionResult = visit(ctx.expression());  // emits icmp inside visitExpression()
-    String condTemp = conditionResult.toString();      // e.g., %t5
+    Value condTemp = condition(conditionResult);       // e.g., %t5
 
-    LLVMGenerator.emit("br i1 " + condTemp + ", label %" + bodyLabel + ", label %" + endLabel);
+    llvm.brCond(condTemp, bodyLabel, endLabel);
 
     // Loop body
-    LLVMGenerator.emit(bodyLabel + ":");
+    llvm.label(bodyLabel);
+    breakLabelStack.push(endLabel);
+    continueLabelStack.push(loopLabel);
     visit(ctx.statement());
+    breakLabelStack.pop();
+    continueLabelStack.pop();
 
     // Go back to loop condition
-    LLVMGenerator.emit("br label %" + loopLabel);
+    llvm.br(loopLabel);
 
     // Loop exit label
-    LLVMGenerator.emit(endLabel + ":");
+    llvm.label(endLabel);
 
     return null;
 }
@@ -1001,83 +1798,72 @@ public Void visitProcedureStatement(delphiParser.ProcedureStatementContext ctx)
     if (ctx.identifier() != null && !ctx.identifier().isEmpty()) {
         // Handle unqualified procedure calls
         if (ctx.identifier().size() == 1) {
-            String procName = ctx.identifier().get(0).getText().toLowerCase();
+            Symbol procName = name(ctx.identifier(0));
 
-            if ("writeln".equals(procName)) {
-                System.out.println(">>> visitProcedureStatement detected writeln");
+            if (procName == writeln) {
 
                 if (ctx.parameterList() != null) {
                     for (delphiParser.ActualParameterContext paramCtx : ctx.parameterList().actualParameter()) {
-                        String raw = paramCtx.getText();
+                        Token first = paramCtx.getStart();
 
-                        if (raw.startsWith("'") && raw.endsWith("'")) {
+                        if (first == paramCtx.getStop() && first.getType() == delphiParser.STRING_LITERAL) {
                             // String literal
+                            String raw = first.getText();
                             String unquoted = raw.substring(1, raw.length() - 1);
-                            String strLabel = LLVMGenerator.defineStringConstant(unquoted);
-                            LLVMGenerator.printString(strLabel, unquoted.length() + 1);
-                            System.out.println("LLVM emitted string print for: " + strLabel);
+                            String strLabel = llvm.defineStringConstant(unquoted);
+                            llvm.printString(strLabel, unquoted.length() + 1);
+                            diag.trace("LLVM emitted string print for: {}", strLabel);
                         } else {
-                            // Variable name
-                            String varName = raw.toLowerCase();
-                            String loaded = LLVMGenerator.load(varName);
-                            LLVMGenerator.print(loaded);
-                            System.out.println("LLVM emitted int print for: " + loaded);
+                            // Integer expression, usually a variable
+                            Value value = asValue(visit(paramCtx.expression()));
+                            llvm.print(value);
+                            diag.trace("LLVM emitted int print for: {}", value);
                         }
                     }
                 }
 
-            } else if ("readln".equals(procName)) {
+            } else if (procName == readln) {
                 System.out.print("Enter a number: ");
-                int input = this.scanner.nextInt();
-                System.out.println("You entered: " + input);
+                int input = scanner().nextInt();
+                diag.trace("You entered: {}", input);
             } else {
-                // User-defined procedure
-                try {
-                    Procedure proc = (Procedure) currentScope.resolve(procName);
-                    List<Object> args = new ArrayList<>();
-                    if (ctx.parameterList() != null) {
-                        for (delphiParser.ActualParameterContext paramCtx : ctx.parameterList().actualParameter()) {
-                            args.add(visit(paramCtx));
-                        }
-                    }
-                    proc.call(args, currentScope, this);
-                    System.out.println("Procedure Call: " + procName);
-                    LLVMGenerator.emit("call void @" + procName + "()");
-                } catch (Exception e) {
-                    System.out.println("Procedure Call Error: Procedure '" + procName + "' not found.");
+                // User-defined procedure (or a function called for its side effects)
+                Object resolved = lookup(ctx.identifier(0));
+                if (!(resolved instanceof Procedure)) {
+                    diag.warn("Procedure Call Error: Procedure '{}' not found.", procName);
+                    return null;
                 }
+                call(procName, (Procedure) resolved, null, null, ctx.parameterList());
+                diag.trace("Procedure Call: {}", procName);
             }
 
         } else if (ctx.identifier().size() >= 2) {
-            // Qualified method call (e.g., obj.method)
-            String objectName = ctx.identifier().get(0).getText().trim().toLowerCase();
-            String methodName = ctx.identifier().get(1).getText().trim().toLowerCase();
-
-            Object obj = currentScope.resolve(objectName);
-            if (!(obj instanceof Instance)) {
-                throw new RuntimeException("Variable " + objectName + " is not an object instance.");
+            // Qualified method call (e.g., obj.method): a call of <class>.<method> with the instance first
+            Symbol methodName = name(ctx.identifier(1));
+            Object receiver = reference(ctx.identifier(0));
+            ClassLayout exact = exactClass(receiver);
+            Value instance = asValue(receiver);
+            ClassLayout layout = classOf(instance, ctx.identifier(0));
+
+            Procedure method = layout.method(methodName);
+            if (method == null && methodName != free) {
+                throw new RuntimeException("Undefined symbol: " + layout.name + "." + methodName);
+            }
+            if (method != null && methodName != layout.getDestructor()) {
+                call(methodName, method, instance, exact, ctx.parameterList());
+            } else {
+                // Free, or the destructor: run the destructor if there is one, then give the memory back.
+                // An instance on the stack has no memory to give back, and then an empty destructor is skipped.
+                boolean onStack = escapes.onStack(name(ctx.identifier(0)));
+                Symbol destructor = layout.getDestructor();
+                if (destructor != null && !(onStack && escapeAnalysis.destroysNothing(layout))) {
+                    call(destructor, layout.method(destructor), instance, exact,
+                        methodName == destructor ? ctx.parameterList() : null);
+                }
+                if (!onStack) {
+                    llvm.release(instance);
+                }
             }
-            Instance instance = (Instance) obj;
-
-            String className = instance.getClassName();
-            String methodKey = className + "." + methodName;
-
-            Procedure methodProc = (Procedure) currentScope.resolve(methodKey);
-
-            List<Object> args = new ArrayList<>();
-            Scope methodScope = new Scope(currentScope);
-            methodScope.define("self", instance);
-
-            Instance prevSelf = currentSelf;
-            Scope prevScope = getCurrentScope();
-
-            currentSelf = instance;
-            setCurrentScope(methodScope);
-
-            methodProc.call(args, methodScope, this);
-
-            setCurrentScope(prevScope);
-            currentSelf = prevSelf;
         }
     }
     return null;
@@ -1108,7 +1894,7 @@ public Void visitProcedureStatement(delphiParser.ProcedureStatementContext ctx)
     //                 }
     //             } else if ("readln".equalsIgnoreCase(procName)) {
     //                 System.out.print("Enter a number: ");
-    //                 int input = this.scanner.nextInt();
+    //                 int input = scanner().nextInt();
     //                 System.out.println("You entered: " + input);
     //             } else {
     //                 System.out.println("Procedure Call: " + procName);
@@ -1195,8 +1981,64 @@ public Void visitProcedureStatement(delphiParser.ProcedureStatementContext ctx)
 
 @Override
 public Object visitVariable(delphiParser.VariableContext ctx) {
-    String varName = ctx.getText().toLowerCase();
-    return "%" + varName;  // Return the LLVM pointer name, e.g., %x
+    // A name, then fields of instances (p.next.value) and elements of arrays (a[i]); p^ and @x have no lowering yet
+    if (ctx.AT() != null) {
+        throw new RuntimeException("Unsupported variable access: " + ctx.getText());
+    }
+    // A row computed before the innermost loop of a nest stands for the name and every index but the last
+    Slot row = hoistedRows.get(ctx);
+    int hoisted = row != null ? ctx.expression().size() - 1 : 0;
+    Object result = row != null ? row : reference(ctx.identifier(0));
+    ParseTree receiver = ctx.identifier(0);
+    for (int i = 1; i < ctx.getChildCount(); i++) {
+        int selector = ((TerminalNode) ctx.getChild(i)).getSymbol().getType();
+        if (selector == delphiParser.DOT) {
+            delphiParser.IdentifierContext id = (delphiParser.IdentifierContext) ctx.getChild(++i);
+            ClassLayout exact = i == 2 ? exactClass(result) : null;
+            result = member(asValue(result), exact, receiver, id);
+            receiver = id;
+        } else if (selector == delphiParser.LBRACK || selector == delphiParser.LBRACK2) {
+            for (i++; ctx.getChild(i) instanceof delphiParser.ExpressionContext; i += 2) { // then a COMMA or RBRACK
+                if (hoisted > 0) {
+                    hoisted--;
+                } else {
+                    result = element(result, receiver, (delphiParser.ExpressionContext) ctx.getChild(i));
+                }
+                receiver = ctx.getChild(i);
+            }
+            i--;
+        } else {
+            throw new RuntimeException("Unsupported variable access: " + ctx.getText());
+        }
+    }
+    return result;  // Loaded by whoever needs the value
+}
+
+/**
+ * The slot of the element of the array in slot array that index selects.
+ * A constant index is checked here; any other is checked when the program
+ * runs, unless range checks are off or RangeChecks knows it is in range.
+ */
+private Slot element(Object array, ParseTree receiver, delphiParser.ExpressionContext index) {
+    ArrayLayout layout = array instanceof Slot ? arraysByType.get(((Slot) array).type) : null;
+    if (layout == null) {
+        throw new RuntimeException("Variable " + receiver.getText() + " is not an array.");
+    }
+    Value value = asValue(visit(index));
+    if (value.type != Type.I32) {
+        throw new RuntimeException("Array index " + index.getText() + " is not an integer");
+    }
+    boolean check = false;
+    if (value instanceof Constant) {
+        int constant = ((Constant) value).value;
+        if (!layout.contains(constant, constant)) {
+            throw new RuntimeException("Index " + constant + " is out of the bounds " + layout.low + ".."
+                + layout.high + " of " + receiver.getText());
+        }
+    } else if (llvm.checksRanges()) {
+        check = rangeChecks.needed(layout, index, this::lookup);
+    }
+    return llvm.element((Slot) array, layout, value, check, index.getStart().getLine());
 }
 
 
@@ -1231,34 +2073,33 @@ public Object visitVariable(delphiParser.VariableContext ctx) {
 
 @Override
 public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
-    String thenLabel = LLVMGenerator.nextLabel("then");
-    String elseLabel = (ctx.statement().size() > 1) ? LLVMGenerator.nextLabel("else") : null;
-    String endLabel = LLVMGenerator.nextLabel("endif");
+    // One number for all three labels, and an else block even when it is empty,
+    // so the labels can be named before it is known whether an ELSE follows.
+    int id = llvm.nextLabelId();
+    String thenLabel = "then" + id;
+    String elseLabel = "else" + id;
+    String endLabel = "endif" + id;
 
     // Generate the condition code
-    String cond = visit(ctx.expression()).toString(); // %tX (should be i1)
+    Value cond = condition(visit(ctx.expression())); // %tX (i1)
 
     // Emit conditional branch
-    if (elseLabel != null) {
-        LLVMGenerator.brCond(cond, thenLabel, elseLabel);
-    } else {
-        LLVMGenerator.brCond(cond, thenLabel, endLabel);
-    }
+    llvm.brCond(cond, thenLabel, elseLabel);
 
     // THEN block
-    LLVMGenerator.label(thenLabel);
+    llvm.label(thenLabel);
     visit(ctx.statement(0));
-    LLVMGenerator.br(endLabel);
+    llvm.br(endLabel);
 
-    // ELSE block (only if it exists)
-    if (elseLabel != null) {
-        LLVMGenerator.label(elseLabel);
+    // ELSE block (empty when there is no ELSE)
+    llvm.label(elseLabel);
+    if (ctx.statement().size() > 1) {
         visit(ctx.statement(1));
-        LLVMGenerator.br(endLabel);
     }
+    llvm.br(endLabel);
 
     // This ensures the target label is **always defined**
-    LLVMGenerator.label(endLabel);
+    llvm.label(endLabel);
 
     return null;
 }
@@ -1282,7 +2123,6 @@ public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
      */
     @Override
     public Void visitCompoundStatement(delphiParser.CompoundStatementContext ctx) {
-        System.out.println("Entering compound statement...");
           pushScope(); // Create a new scope for the block.
             visitChildren(ctx);
             popScope();  // Exit the block.
@@ -1306,7 +2146,7 @@ public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
         if (breakLabelStack.isEmpty()) {
             throw new RuntimeException("BREAK used outside of a loop");
         }
-        LLVMGenerator.br(breakLabelStack.peek());
+        llvm.br(breakLabelStack.peek());
         return null;
     }
     
@@ -1315,7 +2155,7 @@ public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
         if (continueLabelStack.isEmpty()) {
             throw new RuntimeException("CONTINUE used outside of a loop");
         }
-        LLVMGenerator.br(continueLabelStack.peek());
+        llvm.br(continueLabelStack.peek());
         return null;
     }
 
@@ -1325,6 +2165,9 @@ public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
         if (ctx.functionDesignator() != null) {
             return visitFunctionDesignator(ctx.functionDesignator());
         }
+        if (ctx.LPAREN() != null) {
+            return visit(ctx.expression()); // ( expression ): the last child is the RPAREN
+        }
         return visitChildren(ctx);  // <-- add this as fallback
     }
     
@@ -1334,56 +2177,15 @@ public Void visitIfStatement(delphiParser.IfStatementContext ctx) {
 
     @Override
     public Object visitFunctionDesignator(delphiParser.FunctionDesignatorContext ctx) {
-        String funcName = ctx.identifier().getText().toLowerCase();
-        List<Object> args = new ArrayList<>();
-    
-        // Collect arguments
-        if (ctx.parameterList() != null) {
-            for (delphiParser.ActualParameterContext paramCtx : ctx.parameterList().actualParameter()) {
-                args.add(visit(paramCtx));
-            }
-        }
-    
+        Symbol funcName = name(ctx.identifier());
+
         // Lookup function definition
-        Object resolved = currentScope.resolve(funcName);
-        if (!(resolved instanceof Procedure)) {
+        Object resolved = lookup(ctx.identifier());
+        if (!(resolved instanceof Procedure) || ((Procedure) resolved).getFunctionName() == null) {
             throw new RuntimeException("Function '" + funcName + "' is not defined.");
         }
-        Procedure func = (Procedure) resolved;
-    
-        // Create new scope for the function call
-        Scope funcScope = new Scope(currentScope);
-        List<String> paramNames = func.getParameters();
-        if (args.size() != paramNames.size()) {
-            throw new RuntimeException("Function '" + funcName + "' expects " + paramNames.size() + " arguments but got " + args.size());
-        }
-    
-        // Declare function result variable before using it
-        LLVMGenerator.declareVariable(funcName); //  Declare before storing/loading result
-    
-        // Inject parameters into function scope
-        for (int i = 0; i < args.size(); i++) {
-            String paramName = paramNames.get(i);
-            Object argValue = args.get(i);
-            funcScope.define(paramName, argValue);
-            LLVMGenerator.declareVariable(paramName);
-    
-            String argValStr = argValue.toString();
-            if (argValStr.startsWith("%") && !argValStr.startsWith("%t")) {
-                argValStr = LLVMGenerator.load(argValStr.substring(1));
-            }
-            LLVMGenerator.store(argValStr, paramName);
-        }
-    
-        // Call the function
-        Scope prevScope = currentScope;
-        currentScope = funcScope;
-        func.call(args, funcScope, this);
-        currentScope = prevScope;
-    
-        // Load and return result
-        String resultTemp = LLVMGenerator.load(funcName);
-        return resultTemp;
+        // Arguments are evaluated in the caller; the body was lowered once at its declaration.
+        return call(funcName, (Procedure) resolved, null, null, ctx.parameterList());
     }
     
 
@@ -0,0 +1,60 @@
+package antlr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import antlr.Diagnostics.Level;
+
+/**
+ * Decides, for each method call, whether it can call the method's function
+ * directly instead of loading it from the receiver's vtable, and counts how
+ * often it could. Every method is virtual (see {@link ClassLayout}), so a call
+ * on a TAnimal may run an override of a subclass; the call is direct when
+ * <ul>
+ * <li>the class of the receiver is known exactly, e.g. it was made by a
+ *     constructor call, or</li>
+ * <li>no subclass of the receiver's class overrides the method anywhere in
+ *     the program. Every class is laid out before lowering starts, so the
+ *     hierarchy is known whole.</li>
+ * </ul>
+ * LLVM can inline a direct call; one through a vtable it cannot.
+ */
+final class Devirtualizer {
+    // The one function a method can run on an instance of a class or its subclasses, by class and method
+    private final Map<ClassLayout, Map<Symbol, Procedure>> unique = new HashMap<>();
+    private int calls;
+    private int direct;
+
+    /**
+     * What a call of method on an instance of receiver runs, when that is
+     * known: exactly receiver if exact, else receiver or any subclass of it.
+     * Null means the call has to go through the vtable.
+     */
+    Procedure target(ClassLayout receiver, boolean exact, Symbol method) {
+        calls++;
+        Procedure target = exact ? receiver.method(method)
+            : unique.computeIfAbsent(receiver, layout -> new HashMap<>())
+                .computeIfAbsent(method, name -> implementation(receiver, name));
+        if (target != null) {
+            direct++;
+        }
+        return target;
+    }
+
+    // The function every class in layout's subtree runs for method, or null if they do not all run the same one
+    private static Procedure implementation(ClassLayout layout, Symbol method) {
+        Procedure target = layout.method(method);
+        for (ClassLayout subclass : layout.subclasses()) {
+            if (implementation(subclass, method) != target) {
+                return null;
+            }
+        }
+        return target;
+    }
+
+    void report(Diagnostics diag) {
+        if (calls > 0) {
+            diag.log(Level.INFO, "Devirtualized {} of {} method call sites", direct, calls);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package antlr;
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Saves and restores the prediction DFAs that delphiParser and delphiLexer build
+ * up while they run. ANTLR starts every JVM with empty DFAs and fills them through
+ * the slow ATN simulation, so a short CLI run pays that cost for every decision it
+ * meets. Snapshotting the DFAs after compiling a representative corpus and loading
+ * them at startup lets a fresh process parse at warm-parser speed.
+ *
+ * The file is tied to the grammar: it records a hash of both serialized ATNs and
+ * is ignored after the grammar has been regenerated. States that can't be rebuilt
+ * exactly (full-context conflict states, lexer states with custom actions) are left
+ * out; ANTLR recomputes them on demand as usual.
+ *
+ * The DFAs are static and shared by all parser instances, so load before compiling.
+ */
+public class DfaCache {
+    private static final int MAGIC = 0x44464143; // "DFAC"
+    private static final int VERSION = 1;
+
+    private static final ATN PARSER_ATN = delphiParser._ATN;
+    private static final ATN LEXER_ATN = delphiLexer._ATN;
+
+    public static void save(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(file))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(delphiParser._serializedATN.hashCode());
+            out.writeInt(delphiLexer._serializedATN.hashCode());
+            writeDfas(out, delphiParser._decisionToDFA, false);
+            writeDfas(out, delphiLexer._decisionToDFA, true);
+        }
+    }
+
+    /**
+     * Installs the DFAs stored in file.
+     * @return false if the file was written for a different grammar
+     */
+    public static boolean load(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION
+                    || in.readInt() != delphiParser._serializedATN.hashCode()
+                    || in.readInt() != delphiLexer._serializedATN.hashCode()) {
+                return false;
+            }
+            DFA[] parserDfas = readDfas(in, PARSER_ATN, false);
+            DFA[] lexerDfas = readDfas(in, LEXER_ATN, true);
+            System.arraycopy(parserDfas, 0, delphiParser._decisionToDFA, 0, parserDfas.length);
+            System.arraycopy(lexerDfas, 0, delphiLexer._decisionToDFA, 0, lexerDfas.length);
+            return true;
+        }
+    }
+
+    // --- Writing ---
+
+    private static void writeDfas(DataOutputStream out, DFA[] dfas, boolean lexer) throws IOException {
+        // Every DFA state that can be rebuilt, per decision, in a fixed order.
+        List<List<DFAState>> statesPerDfa = new ArrayList<>();
+        Map<PredictionContext, Integer> contextIds = new IdentityHashMap<>();
+        List<PredictionContext> contexts = new ArrayList<>();
+        for (DFA dfa : dfas) {
+            List<DFAState> states = new ArrayList<>();
+            for (DFAState state : dfa.states.values()) {
+                if (isPersistable(state, lexer)) {
+                    states.add(state);
+                    for (ATNConfig config : state.configs) {
+                        numberContexts(config.context, contextIds, contexts);
+                    }
+                }
+            }
+            statesPerDfa.add(states);
+        }
+
+        // Prediction contexts form a DAG; parents are always written before children.
+        out.writeInt(contexts.size());
+        for (PredictionContext context : contexts) {
+            if (context == PredictionContext.EMPTY) {
+                out.writeByte(0);
+                continue;
+            }
+            out.writeByte(context instanceof ArrayPredictionContext ? 2 : 1);
+            out.writeInt(context.size());
+            for (int i = 0; i < context.size(); i++) {
+                PredictionContext parent = context.getParent(i);
+                out.writeInt(parent == null ? -1 : contextIds.get(parent));
+                out.writeInt(context.getReturnState(i));
+            }
+        }
+
+        out.writeInt(dfas.length);
+        for (int d = 0; d < dfas.length; d++) {
+            DFA dfa = dfas[d];
+            List<DFAState> states = statesPerDfa.get(d);
+            Map<DFAState, Integer> index = new IdentityHashMap<>();
+            for (DFAState state : states) {
+                index.put(state, index.size());
+            }
+
+            out.writeInt(states.size());
+            for (DFAState state : states) {
+                writeState(out, state, contextIds, lexer);
+            }
+            for (DFAState state : states) {
+                writeEdges(out, state.edges, index);
+            }
+
+            // Precedence DFAs keep a synthetic start state whose edges are indexed by precedence.
+            out.writeBoolean(dfa.isPrecedenceDfa());
+            if (dfa.isPrecedenceDfa()) {
+                writeEdges(out, dfa.s0 != null ? dfa.s0.edges : null, index);
+            } else {
+                Integer s0 = dfa.s0 != null ? index.get(dfa.s0) : null;
+                out.writeInt(s0 != null ? s0 : -1);
+            }
+        }
+    }
+
+    private static boolean isPersistable(DFAState state, boolean lexer) {
+        if (state.configs == null || state.requiresFullContext || state.predicates != null
+                || state.configs.hasSemanticContext) {
+            return false;
+        }
+        if (lexer) {
+            if (!hasIndexedActions(state.lexerActionExecutor)) {
+                return false;
+            }
+            for (ATNConfig config : state.configs) {
+                if (!hasIndexedActions(((LexerATNConfig) config).getLexerActionExecutor())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasIndexedActions(LexerActionExecutor executor) {
+        if (executor != null) {
+            for (LexerAction action : executor.getLexerActions()) {
+                if (actionIndex(action) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void numberContexts(PredictionContext context, Map<PredictionContext, Integer> ids,
+                                       List<PredictionContext> order) {
+        if (context == null || ids.containsKey(context)) {
+            return;
+        }
+        for (int i = 0; i < context.size(); i++) {
+            numberContexts(context.getParent(i), ids, order);
+        }
+        ids.put(context, order.size());
+        order.add(context);
+    }
+
+    private static void writeState(DataOutputStream out, DFAState state, Map<PredictionContext, Integer> contextIds,
+                                   boolean lexer) throws IOException {
+        out.writeBoolean(state.isAcceptState);
+        out.writeInt(state.prediction);
+        LexerAction[] actions = state.lexerActionExecutor != null
+            ? state.lexerActionExecutor.getLexerActions() : new LexerAction[0];
+        out.writeInt(actions.length);
+        for (LexerAction action : actions) {
+            out.writeInt(actionIndex(action));
+        }
+
+        ATNConfigSet configs = state.configs;
+        out.writeBoolean(configs.fullCtx);
+        out.writeInt(configs.uniqueAlt);
+        out.writeBoolean(configs.dipsIntoOuterContext);
+        out.writeInt(configs.size());
+        for (ATNConfig config : configs) {
+            out.writeInt(config.state.stateNumber);
+            out.writeInt(config.alt);
+            out.writeInt(contextIds.get(config.context));
+            out.writeInt(config.reachesIntoOuterContext);
+            if (lexer) {
+                LexerATNConfig lexerConfig = (LexerATNConfig) config;
+                out.writeBoolean(lexerConfig.hasPassedThroughNonGreedyDecision());
+                LexerActionExecutor executor = lexerConfig.getLexerActionExecutor();
+                LexerAction[] configActions = executor != null ? executor.getLexerActions() : new LexerAction[0];
+                out.writeInt(executor != null ? configActions.length : -1);
+                for (LexerAction action : configActions) {
+                    out.writeInt(actionIndex(action));
+                }
+            }
+        }
+    }
+
+    private static void writeEdges(DataOutputStream out, DFAState[] edges, Map<DFAState, Integer> index)
+            throws IOException {
+        if (edges == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(edges.length);
+        int count = 0;
+        for (DFAState target : edges) {
+            if (target != null && index.containsKey(target)) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (int i = 0; i < edges.length; i++) {
+            Integer target = edges[i] != null ? index.get(edges[i]) : null;
+            if (target != null) {
+                out.writeInt(i);
+                out.writeInt(target);
+            }
+        }
+    }
+
+    // Position of the action in the lexer ATN's action table, or -1 for position-dependent wrappers.
+    private static int actionIndex(LexerAction action) {
+        LexerAction[] table = LEXER_ATN.lexerActions;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i].equals(action)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // --- Reading ---
+
+    private static DFA[] readDfas(DataInputStream in, ATN atn, boolean lexer) throws IOException {
+        int contextCount = in.readInt();
+        PredictionContext[] contexts = new PredictionContext[contextCount];
+        for (int c = 0; c < contextCount; c++) {
+            int kind = in.readByte();
+            if (kind == 0) {
+                contexts[c] = PredictionContext.EMPTY;
+                continue;
+            }
+            int size = in.readInt();
+            PredictionContext[] parents = new PredictionContext[size];
+            int[] returnStates = new int[size];
+            for (int i = 0; i < size; i++) {
+                int parent = in.readInt();
+                parents[i] = parent < 0 ? null : contexts[parent];
+                returnStates[i] = in.readInt();
+            }
+            contexts[c] = kind == 2
+                ? new ArrayPredictionContext(parents, returnStates)
+                : SingletonPredictionContext.create(parents[0], returnStates[0]);
+        }
+
+        DecisionState nonGreedy = lexer ? findNonGreedyDecision(atn) : null;
+        int dfaCount = in.readInt();
+        DFA[] dfas = new DFA[dfaCount];
+        for (int d = 0; d < dfaCount; d++) {
+            DFA dfa = new DFA(atn.getDecisionState(d), d); // same construction as the generated recognizers
+            int stateCount = in.readInt();
+            DFAState[] states = new DFAState[stateCount];
+            for (int s = 0; s < stateCount; s++) {
+                states[s] = readState(in, atn, contexts, lexer, nonGreedy);
+                states[s].stateNumber = s;
+            }
+            for (int s = 0; s < stateCount; s++) {
+                states[s].edges = readEdges(in, states);
+                dfa.states.put(states[s], states[s]);
+            }
+
+            boolean precedence = in.readBoolean();
+            if (precedence) {
+                DFAState[] edges = readEdges(in, states);
+                if (dfa.isPrecedenceDfa() && edges != null) {
+                    dfa.s0.edges = edges;
+                }
+            } else {
+                int s0 = in.readInt();
+                dfa.s0 = s0 >= 0 ? states[s0] : null;
+            }
+            dfas[d] = dfa;
+        }
+        return dfas;
+    }
+
+    private static DFAState readState(DataInputStream in, ATN atn, PredictionContext[] contexts, boolean lexer,
+                                      DecisionState nonGreedy) throws IOException {
+        boolean accept = in.readBoolean();
+        int prediction = in.readInt();
+        LexerActionExecutor stateExecutor = readExecutor(in, in.readInt());
+
+        boolean fullCtx = in.readBoolean();
+        int uniqueAlt = in.readInt();
+        boolean dipsIntoOuterContext = in.readBoolean();
+        ATNConfigSet configs = lexer ? new OrderedATNConfigSet() : new ATNConfigSet(fullCtx);
+        int configCount = in.readInt();
+        for (int i = 0; i < configCount; i++) {
+            ATNState atnState = atn.states.get(in.readInt());
+            int alt = in.readInt();
+            PredictionContext context = contexts[in.readInt()];
+            int reachesIntoOuterContext = in.readInt();
+            ATNConfig config;
+            if (lexer) {
+                boolean passedNonGreedy = in.readBoolean();
+                LexerActionExecutor executor = readExecutor(in, in.readInt());
+                LexerATNConfig lexerConfig = new LexerATNConfig(atnState, alt, context, executor);
+                if (passedNonGreedy) {
+                    // The flag is only set by the copy constructor when entering a non-greedy decision.
+                    lexerConfig = new LexerATNConfig(new LexerATNConfig(lexerConfig, nonGreedy), atnState);
+                }
+                config = lexerConfig;
+            } else {
+                config = new ATNConfig(atnState, alt, context);
+            }
+            config.reachesIntoOuterContext = reachesIntoOuterContext;
+            configs.add(config);
+        }
+        configs.uniqueAlt = uniqueAlt;
+        configs.dipsIntoOuterContext = dipsIntoOuterContext;
+        configs.setReadonly(true);
+
+        DFAState state = new DFAState(configs);
+        state.isAcceptState = accept;
+        state.prediction = prediction;
+        state.lexerActionExecutor = stateExecutor;
+        return state;
+    }
+
+    private static LexerActionExecutor readExecutor(DataInputStream in, int count) throws IOException {
+        if (count < 0) {
+            return null;
+        }
+        LexerAction[] actions = new LexerAction[count];
+        for (int i = 0; i < count; i++) {
+            actions[i] = LEXER_ATN.lexerActions[in.readInt()];
+        }
+        return count == 0 ? null : new LexerActionExecutor(actions);
+    }
+
+    private static DFAState[] readEdges(DataInputStream in, DFAState[] states) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        DFAState[] edges = new DFAState[length];
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            int symbol = in.readInt();
+            edges[symbol] = states[in.readInt()];
+        }
+        return edges;
+    }
+
+    private static DecisionState findNonGreedyDecision(ATN atn) {
+        for (ATNState state : atn.states) {
+            if (state instanceof DecisionState && ((DecisionState) state).nonGreedy) {
+                return (DecisionState) state;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package antlr;
+
+import java.util.function.Supplier;
+
+/**
+ * Where the compiler's warnings and tracing go. Messages have a level and are
+ * only built if that level is enabled: pattern arguments are substituted for
+ * "{}" lazily, and anything expensive to compute (getText() of a subtree, ...)
+ * is passed as a Supplier or guarded with {@link #isEnabled}. With the level
+ * off a call is one virtual call and a compare, and {@link #QUIET} drops
+ * everything.
+ *
+ * The command line prints WARN and ERROR to stderr by default; see Main's
+ * --log-level and --trace-file. Library callers get {@link #QUIET} unless
+ * they pass a sink.
+ */
+public interface Diagnostics {
+    enum Level { ERROR, WARN, INFO, DEBUG, TRACE }
+
+    Diagnostics QUIET = new Diagnostics() {
+        @Override
+        public boolean isEnabled(Level level) {
+            return false;
+        }
+
+        @Override
+        public void write(Level level, String message) {
+        }
+    };
+
+    boolean isEnabled(Level level);
+
+    /** Records a finished message of an enabled level; the log methods check the level first. */
+    void write(Level level, String message);
+
+    default void log(Level level, String message) {
+        if (isEnabled(level)) {
+            write(level, message);
+        }
+    }
+
+    default void log(Level level, String pattern, Object arg) {
+        if (isEnabled(level)) {
+            write(level, format(pattern, arg));
+        }
+    }
+
+    default void log(Level level, String pattern, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            write(level, format(pattern, arg1, arg2));
+        }
+    }
+
+    default void log(Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            write(level, message.get());
+        }
+    }
+
+    default void warn(String pattern, Object arg) {
+        log(Level.WARN, pattern, arg);
+    }
+
+    default void debug(String pattern, Object arg) {
+        log(Level.DEBUG, pattern, arg);
+    }
+
+    default void trace(String pattern, Object arg) {
+        log(Level.TRACE, pattern, arg);
+    }
+
+    /** Sends every message to both sinks, each applying its own level. */
+    static Diagnostics both(Diagnostics first, Diagnostics second) {
+        return new Diagnostics() {
+            @Override
+            public boolean isEnabled(Level level) {
+                return first.isEnabled(level) || second.isEnabled(level);
+            }
+
+            @Override
+            public void write(Level level, String message) {
+                first.log(level, message);
+                second.log(level, message);
+            }
+        };
+    }
+
+    // Replaces each "{}" in pattern with the next argument.
+    private static String format(String pattern, Object... args) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        int from = 0;
+        for (Object arg : args) {
+            int at = pattern.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            sb.append(pattern, from, at).append(arg);
+            from = at + 2;
+        }
+        return sb.append(pattern, from, pattern.length()).toString();
+    }
+}
@@ -0,0 +1,346 @@
+package antlr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import antlr.Diagnostics.Level;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Finds the class instances a routine makes that never outlive it, so they
+ * can live in its stack frame instead of on the heap. Run on each routine,
+ * and on the main program, just before it is lowered: code is generated in
+ * one pass, so the analysis reads the routine's parse tree rather than its IR.
+ *
+ * An instance made by {@code v := C.CREATE()} does not escape when v is a
+ * local variable that no nested routine sees, every assignment to v makes a
+ * new instance, and v is only used to reach a field or call a method whose
+ * body, and every override of it, uses self the same way: v is never copied,
+ * passed, returned or stored anywhere. Such an instance is unreachable once
+ * v is assigned again or the routine returns, so {@link LLVMGenerator#allocateOnStack}
+ * puts it in an alloca in the entry block; freeing it gives nothing back to
+ * the heap, and a destructor that does nothing is not called at all.
+ *
+ * Anything the analysis does not recognise as one of those uses counts as an
+ * escape, and so does a method without a body or one that calls itself.
+ */
+final class EscapeAnalysis {
+    /** The instances of one routine that are allocated on the stack. */
+    static final class Result {
+        static final Result NONE = new Result(new HashSet<>(), new HashSet<>());
+
+        private final Set<delphiParser.ConstructorCallContext> sites;
+        private final Set<Symbol> variables;
+
+        private Result(Set<delphiParser.ConstructorCallContext> sites, Set<Symbol> variables) {
+            this.sites = sites;
+            this.variables = variables;
+        }
+
+        /** Whether the instance this constructor call makes goes on the stack. */
+        boolean onStack(delphiParser.ConstructorCallContext site) {
+            return sites.contains(site);
+        }
+
+        /** Whether every instance variable holds is on the stack. */
+        boolean onStack(Symbol variable) {
+            return variables.contains(variable);
+        }
+    }
+
+    private final SymbolTable symbols;
+    private final Map<Symbol, ClassLayout> classes;
+    private final Diagnostics diag;
+    private final Symbol self;
+    private final Symbol create;
+    private final Symbol free;
+
+    // Bodies of methods written after their class, as PROCEDURE Class.Method
+    private final Map<Procedure, delphiParser.BlockContext> bodies = new HashMap<>();
+    // Whether a method lets self escape; null while it is being analysed
+    private final Map<Procedure, Boolean> selfEscapes = new HashMap<>();
+
+    private int instances;
+    private int onStack;
+
+    EscapeAnalysis(SymbolTable symbols, Map<Symbol, ClassLayout> classes, Diagnostics diag,
+                   delphiParser.ProgramContext program) {
+        this.symbols = symbols;
+        this.classes = classes;
+        this.diag = diag;
+        this.self = symbols.intern("self");
+        this.create = symbols.intern("create");
+        this.free = symbols.intern("free");
+        collectBodies(program);
+    }
+
+    private Symbol name(delphiParser.IdentifierContext id) {
+        return symbols.of(id.getStart());
+    }
+
+    private void collectBodies(ParseTree node) {
+        if (node instanceof delphiParser.ProcedureDeclarationContext) {
+            delphiParser.ProcedureDeclarationContext declaration = (delphiParser.ProcedureDeclarationContext) node;
+            ClassLayout layout = declaration.identifier().size() >= 2 ? classes.get(name(declaration.identifier(0))) : null;
+            Procedure method = layout != null ? layout.declaredMethod(name(declaration.identifier(1))) : null;
+            if (method != null && declaration.block() != null) {
+                bodies.put(method, declaration.block());
+            }
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectBodies(node.getChild(i));
+        }
+    }
+
+    private delphiParser.BlockContext body(Procedure method) {
+        return method.getBlock() != null ? method.getBlock() : bodies.get(method);
+    }
+
+    /**
+     * Analyses the statements of a routine or of the main program.
+     * @param shared names of variables that live outside the routine's frame
+     */
+    Result analyze(delphiParser.BlockContext block, Set<Symbol> shared) {
+        Map<Symbol, ClassLayout> candidates = new LinkedHashMap<>();
+        Set<Symbol> seen = new HashSet<>(shared);
+        delphiParser.CompoundStatementContext statements = null;
+        for (ParseTree part : block.children) {
+            if (part instanceof delphiParser.VariableDeclarationPartContext) {
+                for (delphiParser.VariableDeclarationContext declaration
+                        : ((delphiParser.VariableDeclarationPartContext) part).variableDeclaration()) {
+                    ClassLayout layout = classOf(declaration.type_());
+                    for (delphiParser.IdentifierContext id : declaration.identifierList().identifier()) {
+                        if (layout != null) {
+                            candidates.put(name(id), layout);
+                        }
+                    }
+                }
+            } else if (part instanceof delphiParser.CompoundStatementContext) {
+                statements = (delphiParser.CompoundStatementContext) part;
+            } else {
+                names(part, seen); // Nested routines and class bodies
+            }
+        }
+        candidates.keySet().removeAll(seen);
+        if (statements == null) {
+            return Result.NONE;
+        }
+
+        Map<Symbol, List<delphiParser.ConstructorCallContext>> sites = new HashMap<>();
+        List<delphiParser.ConstructorCallContext> all = new ArrayList<>();
+        uses(statements, candidates, sites, all);
+        Set<delphiParser.ConstructorCallContext> stack = new HashSet<>();
+        for (Symbol variable : candidates.keySet()) {
+            List<delphiParser.ConstructorCallContext> made = sites.get(variable);
+            if (made != null) {
+                stack.addAll(made);
+            }
+        }
+        instances += all.size();
+        onStack += stack.size();
+        for (delphiParser.ConstructorCallContext site : all) {
+            if (stack.contains(site)) {
+                diag.log(Level.DEBUG, "Instance of {} at line {} does not escape; allocated on the stack",
+                    name(site.identifier()), site.getStart().getLine());
+            }
+        }
+        return new Result(stack, new HashSet<>(candidates.keySet()));
+    }
+
+    // Every identifier named in node
+    private void names(ParseTree node, Set<Symbol> names) {
+        if (node instanceof TerminalNode) {
+            Token token = ((TerminalNode) node).getSymbol();
+            if (token.getType() == delphiParser.IDENT) {
+                names.add(symbols.of(token));
+            }
+            return;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            names(node.getChild(i), names);
+        }
+    }
+
+    private ClassLayout classOf(delphiParser.Type_Context type) {
+        if (type == null || type.simpleType() == null || type.simpleType().typeIdentifier() == null
+                || type.simpleType().typeIdentifier().identifier() == null) {
+            return null;
+        }
+        return classes.get(name(type.simpleType().typeIdentifier().identifier()));
+    }
+
+    // Drops from candidates every variable used in node in a way that may let its instance escape
+    private void uses(ParseTree node, Map<Symbol, ClassLayout> candidates,
+                      Map<Symbol, List<delphiParser.ConstructorCallContext>> sites,
+                      List<delphiParser.ConstructorCallContext> all) {
+        if (node instanceof delphiParser.ConstructorCallContext) {
+            all.add((delphiParser.ConstructorCallContext) node);
+        } else if (node instanceof delphiParser.IdentifierContext) {
+            Symbol variable = name((delphiParser.IdentifierContext) node);
+            ClassLayout layout = candidates.get(variable);
+            if (layout != null && !use((delphiParser.IdentifierContext) node, variable, layout, sites)) {
+                candidates.remove(variable);
+            }
+            return;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            uses(node.getChild(i), candidates, sites, all);
+        }
+    }
+
+    /**
+     * Whether id, a use of an instance of layout held in variable, keeps it
+     * from escaping: a field access, a call of a method that does not let self
+     * escape, Free, or (when sites is not null) an assignment of a new instance.
+     */
+    private boolean use(delphiParser.IdentifierContext id, Symbol variable, ClassLayout layout,
+                        Map<Symbol, List<delphiParser.ConstructorCallContext>> sites) {
+        ParserRuleContext parent = id.getParent();
+        if (parent instanceof delphiParser.VariableContext) {
+            delphiParser.VariableContext access = (delphiParser.VariableContext) parent;
+            int n = access.identifier().size();
+            if (access.identifier(0) != id || n < 2 || access.getChildCount() != 2 * n - 1) {
+                return false;
+            }
+            Symbol member = name(access.identifier(1));
+            return layout.field(member) != null || (layout.method(member) != null && calls(layout, member));
+        }
+        if (parent instanceof delphiParser.AssignmentStatementContext) {
+            delphiParser.AssignmentStatementContext assignment = (delphiParser.AssignmentStatementContext) parent;
+            if (assignment.identifier(0) != id) {
+                return false;
+            }
+            if (assignment.identifier().size() == 2) {
+                return layout.field(name(assignment.identifier(1))) != null;
+            }
+            delphiParser.ConstructorCallContext site = assignment.constructorCall();
+            if (site == null || sites == null) {
+                return false;
+            }
+            ClassLayout made = classes.get(name(site.identifier()));
+            if (made == null || !made.isA(layout) || mentions(site, variable)
+                    || (made.method(create) != null && selfEscapes(made.method(create)))) {
+                return false;
+            }
+            sites.computeIfAbsent(variable, v -> new ArrayList<>()).add(site);
+            return true;
+        }
+        if (parent instanceof delphiParser.ProcedureStatementContext) {
+            delphiParser.ProcedureStatementContext call = (delphiParser.ProcedureStatementContext) parent;
+            if (call.identifier(0) != id || call.identifier().size() < 2) {
+                return false;
+            }
+            Symbol method = name(call.identifier(1));
+            if (method == free || method == layout.getDestructor()) {
+                return layout.getDestructor() == null || calls(layout, layout.getDestructor());
+            }
+            return layout.method(method) != null && calls(layout, method);
+        }
+        return false;
+    }
+
+    // Whether node names variable; a constructor's arguments are evaluated after the instance is zeroed
+    private boolean mentions(ParseTree node, Symbol variable) {
+        Set<Symbol> names = new HashSet<>();
+        names(node, names);
+        return names.contains(variable);
+    }
+
+    // Whether calling method on an instance of layout, or of any subclass, keeps self from escaping
+    private boolean calls(ClassLayout layout, Symbol method) {
+        Procedure target = layout.method(method);
+        if (target == null || selfEscapes(target)) {
+            return false;
+        }
+        for (ClassLayout subclass : layout.subclasses()) {
+            if (!calls(subclass, method)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean selfEscapes(Procedure method) {
+        if (selfEscapes.containsKey(method)) {
+            Boolean known = selfEscapes.get(method);
+            return known == null || known; // A method that calls itself is not looked into
+        }
+        delphiParser.BlockContext body = body(method);
+        if (body == null) {
+            return true;
+        }
+        selfEscapes.put(method, null);
+        boolean escapes = !selfUses(body, method);
+        selfEscapes.put(method, escapes);
+        return escapes;
+    }
+
+    // Whether every use of self in node, explicit or as the receiver of a call of another method, is one of use's
+    private boolean selfUses(ParseTree node, Procedure method) {
+        if (node instanceof delphiParser.IdentifierContext) {
+            delphiParser.IdentifierContext id = (delphiParser.IdentifierContext) node;
+            Symbol name = name(id);
+            ClassLayout owner = method.getOwner();
+            if (name == self) {
+                return use(id, self, owner, null);
+            }
+            if (owner.method(name) != null && isCall(id, name == method.getName())) {
+                return calls(owner, name);
+            }
+            return true;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (!selfUses(node.getChild(i), method)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Whether id, the name of a method, calls it on self; in a function its own name alone is its result
+    private static boolean isCall(delphiParser.IdentifierContext id, boolean ownName) {
+        ParserRuleContext parent = id.getParent();
+        if (parent instanceof delphiParser.ProcedureStatementContext) {
+            return ((delphiParser.ProcedureStatementContext) parent).identifier(0) == id
+                && ((delphiParser.ProcedureStatementContext) parent).identifier().size() == 1;
+        }
+        if (parent instanceof delphiParser.FunctionDesignatorContext) {
+            return true;
+        }
+        return parent instanceof delphiParser.VariableContext && !ownName
+            && ((delphiParser.VariableContext) parent).identifier(0) == id;
+    }
+
+    /** Whether freeing an instance of layout on the stack has nothing to do: every destructor it may run is empty. */
+    boolean destroysNothing(ClassLayout layout) {
+        Symbol destructor = layout.getDestructor();
+        if (destructor == null) {
+            return true;
+        }
+        delphiParser.BlockContext body = body(layout.method(destructor));
+        if (body == null || body.compoundStatement() == null
+                || !body.compoundStatement().statements().getText().replace(";", "").isEmpty()) {
+            return false;
+        }
+        for (ClassLayout subclass : layout.subclasses()) {
+            if (!destroysNothing(subclass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void report(Diagnostics diag) {
+        if (instances > 0) {
+            diag.log(Level.INFO, "Allocated {} of {} instances on the stack", onStack, instances);
+        }
+    }
+}
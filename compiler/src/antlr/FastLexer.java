@@ -0,0 +1,474 @@
+package antlr;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CodePointBuffer;
+import org.antlr.v4.runtime.CodePointCharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.Pair;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A hand-written replacement for delphiLexer. It produces the same token types
+ * (delphiLexer.tokens) with the same start/stop indexes and line/column
+ * positions, but scans a char[] directly instead of running the lexer ATN.
+ *
+ * Keywords are recognised with a perfect hash: while an identifier is scanned
+ * its case-folded characters are hashed, the hash picks the only keyword that
+ * can match, and one char-by-char compare decides. No String is made for a
+ * token; its text is read from the input when somebody asks for it.
+ *
+ * By default reserved words (and the exponent marker of a real number) are
+ * matched in any case, as Pascal does. The grammar's other keywords are words
+ * Delphi does not reserve, directives such as CREATE and PUBLIC and standard
+ * identifiers such as INTEGER and TRUE; they are matched in upper case only,
+ * as delphiLexer does, so {@code CONSTRUCTOR Create} still declares an
+ * identifier. With caseInsensitive off it accepts exactly what delphiLexer
+ * accepts, which is what LexerCheck compares against. Indexes count
+ * UTF-16 chars, so they agree with delphiLexer's code point indexes as long as
+ * the source has no characters outside the BMP.
+ */
+public final class FastLexer implements TokenSource {
+    private static final int HASH_BITS = 8;
+    private static final char[][] KEYWORDS = new char[1 << HASH_BITS][];
+    private static final int[] KEYWORD_TYPES = new int[1 << HASH_BITS];
+    private static final boolean[] KEYWORD_RESERVED = new boolean[1 << HASH_BITS];
+    // Keywords of the grammar that Delphi does not reserve: matched in the case delphiLexer matches them in
+    private static final Set<String> NOT_RESERVED = new HashSet<>(Arrays.asList(
+        "CREATE", "PUBLIC", "PRIVATE", "BREAK", "CONTINUE", "BOOLEAN", "CHAR", "CHR", "INTEGER", "REAL",
+        "TRUE", "FALSE"));
+    private static final boolean[] EXACT_CASE;
+    private static final int KEYWORD_MULTIPLIER;
+    private static final int MIN_KEYWORD;
+    private static final int MAX_KEYWORD;
+
+    static {
+        // Every all-letter literal of the grammar is a keyword
+        List<String> words = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        Vocabulary vocabulary = delphiLexer.VOCABULARY;
+        EXACT_CASE = new boolean[vocabulary.getMaxTokenType() + 1];
+        for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+            String literal = vocabulary.getLiteralName(type);
+            if (literal != null && literal.matches("'[A-Z]+'")) {
+                words.add(literal.substring(1, literal.length() - 1));
+                types.add(type);
+                EXACT_CASE[type] = NOT_RESERVED.contains(words.get(words.size() - 1));
+            }
+        }
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (String word : words) {
+            min = Math.min(min, word.length());
+            max = Math.max(max, word.length());
+        }
+        MIN_KEYWORD = min;
+        MAX_KEYWORD = max;
+
+        // Search for a multiplier that sends every keyword to its own slot
+        int multiplier = 0;
+        search:
+        for (int i = 1; i < 1 << 20; i++) {
+            int candidate = i * 0x9E3779B9 | 1;
+            boolean[] used = new boolean[1 << HASH_BITS];
+            for (String word : words) {
+                int slot = slot(hash(word), candidate);
+                if (used[slot]) {
+                    continue search;
+                }
+                used[slot] = true;
+            }
+            multiplier = candidate;
+            break;
+        }
+        if (multiplier == 0) {
+            throw new IllegalStateException("No perfect hash for " + words.size() + " keywords");
+        }
+        KEYWORD_MULTIPLIER = multiplier;
+        for (int i = 0; i < words.size(); i++) {
+            int slot = slot(hash(words.get(i)), multiplier);
+            KEYWORDS[slot] = words.get(i).toCharArray();
+            KEYWORD_TYPES[slot] = types.get(i);
+            KEYWORD_RESERVED[slot] = !EXACT_CASE[types.get(i)];
+        }
+    }
+
+    /** Whether tokens of type are keywords matched in upper case only, even when case is ignored. */
+    static boolean exactCase(int type) {
+        return type >= 0 && type < EXACT_CASE.length && EXACT_CASE[type];
+    }
+
+    private final char[] chars;
+    private final int length;
+    private final boolean caseInsensitive;
+    private final CharStream input;
+    private final Pair<TokenSource, CharStream> source;
+    private final List<ANTLRErrorListener> listeners = new ArrayList<>();
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+
+    private int pos;
+    private int line = 1;
+    private int column;
+    // Unclosed comments are not searched for again: no "*)" / "}" at or after these
+    private int noCommentClose = Integer.MAX_VALUE;
+    private int noBraceClose = Integer.MAX_VALUE;
+
+    public FastLexer(String source) {
+        this(source.toCharArray(), source.length(), IntStream.UNKNOWN_SOURCE_NAME, true);
+    }
+
+    /**
+     * @param chars           the source; only the first {@code length} chars are read, and
+     *                        the array must not change while tokens are in use
+     * @param caseInsensitive match reserved words in any case; false lexes exactly like delphiLexer
+     */
+    public FastLexer(char[] chars, int length, String sourceName, boolean caseInsensitive) {
+        this.chars = chars;
+        this.length = length;
+        this.caseInsensitive = caseInsensitive;
+        // Tokens read their text from here lazily; it wraps the same array, no copy
+        this.input = CodePointCharStream.fromBuffer(
+            CodePointBuffer.withChars(CharBuffer.wrap(chars, 0, length)), sourceName);
+        this.source = new Pair<>(this, input);
+        listeners.add(ConsoleErrorListener.INSTANCE);
+    }
+
+    /** Decodes a UTF-8 file straight into the lexer's buffer. */
+    public static FastLexer fromPath(Path path, boolean caseInsensitive) throws IOException {
+        CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+        return new FastLexer(decoded.array(), decoded.limit(), path.toString(), caseInsensitive);
+    }
+
+    public void addErrorListener(ANTLRErrorListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeErrorListeners() {
+        listeners.clear();
+    }
+
+    @Override
+    public Token nextToken() {
+        while (pos < length) {
+            char c = chars[pos];
+            switch (c) {
+                case '\n':
+                    pos++;
+                    line++;
+                    column = 0;
+                    continue;
+                case ' ':
+                case '\t':
+                case '\r':
+                    pos++;
+                    column++;
+                    continue;
+                case '+':
+                    return symbol(delphiLexer.PLUS, 1);
+                case '-':
+                    return symbol(delphiLexer.MINUS, 1);
+                case '*':
+                    return symbol(delphiLexer.STAR, 1);
+                case '/':
+                    return symbol(delphiLexer.SLASH, 1);
+                case ',':
+                    return symbol(delphiLexer.COMMA, 1);
+                case ';':
+                    return symbol(delphiLexer.SEMI, 1);
+                case '=':
+                    return symbol(delphiLexer.EQUAL, 1);
+                case ')':
+                    return symbol(delphiLexer.RPAREN, 1);
+                case '[':
+                    return symbol(delphiLexer.LBRACK, 1);
+                case ']':
+                    return symbol(delphiLexer.RBRACK, 1);
+                case '^':
+                    return symbol(delphiLexer.POINTER, 1);
+                case '@':
+                    return symbol(delphiLexer.AT, 1);
+                case '}':
+                    return symbol(delphiLexer.RCURLY, 1);
+                case ':':
+                    return next('=') ? symbol(delphiLexer.ASSIGN, 2) : symbol(delphiLexer.COLON, 1);
+                case '<':
+                    return next('=') ? symbol(delphiLexer.LE, 2)
+                        : next('>') ? symbol(delphiLexer.NOT_EQUAL, 2) : symbol(delphiLexer.LT, 1);
+                case '>':
+                    return next('=') ? symbol(delphiLexer.GE, 2) : symbol(delphiLexer.GT, 1);
+                case '.':
+                    return next('.') ? symbol(delphiLexer.DOTDOT, 2)
+                        : next(')') ? symbol(delphiLexer.RBRACK2, 2) : symbol(delphiLexer.DOT, 1);
+                case '(':
+                    if (next('*')) {
+                        int close = commentClose(pos + 2);
+                        if (close >= 0) {
+                            advance(close + 2);
+                            continue;
+                        }
+                    }
+                    return next('.') ? symbol(delphiLexer.LBRACK2, 2) : symbol(delphiLexer.LPAREN, 1);
+                case '{':
+                    int close = braceClose(pos + 1);
+                    if (close >= 0) {
+                        advance(close + 1);
+                        continue;
+                    }
+                    return symbol(delphiLexer.LCURLY, 1);
+                case '\'':
+                    Token literal = stringLiteral();
+                    if (literal != null) {
+                        return literal;
+                    }
+                    continue;
+                default:
+                    if (isLetter(c)) {
+                        return identifier();
+                    } else if (c >= '0' && c <= '9') {
+                        return number();
+                    }
+                    error(pos, pos + 1);
+                    advance(pos + 1);
+            }
+        }
+        return factory.create(source, Token.EOF, null, Token.DEFAULT_CHANNEL, pos, pos - 1, line, column);
+    }
+
+    private boolean next(char c) {
+        return pos + 1 < length && chars[pos + 1] == c;
+    }
+
+    private Token symbol(int type, int width) {
+        Token token = factory.create(source, type, null, Token.DEFAULT_CHANNEL, pos, pos + width - 1, line, column);
+        pos += width;
+        column += width;
+        return token;
+    }
+
+    // A token that ends before end, on the line it started on
+    private Token token(int type, int end) {
+        Token token = factory.create(source, type, null, Token.DEFAULT_CHANNEL, pos, end - 1, line, column);
+        column += end - pos;
+        pos = end;
+        return token;
+    }
+
+    // Skips to end, counting the lines in between
+    private void advance(int end) {
+        for (; pos < end; pos++) {
+            if (chars[pos] == '\n') {
+                line++;
+                column = 0;
+            } else {
+                column++;
+            }
+        }
+    }
+
+    private Token identifier() {
+        int end = pos;
+        int hash = 0;
+        for (char c; end < length && isIdentifierPart(c = chars[end]); end++) {
+            hash = hash * 31 + (c & 0xDF);
+        }
+        int type = keyword(end - pos, hash);
+        if (type == delphiLexer.IDENT && factory instanceof SymbolTokenFactory) {
+            // Interned from the array, so the identifier is never copied into a String
+            Token token = ((SymbolTokenFactory) factory).identifier(source, chars, pos, end - 1, line, column);
+            column += end - pos;
+            pos = end;
+            return token;
+        }
+        return token(type, end);
+    }
+
+    // The keyword type of the identifier at pos, or IDENT
+    private int keyword(int length, int hash) {
+        if (length < MIN_KEYWORD || length > MAX_KEYWORD) {
+            return delphiLexer.IDENT;
+        }
+        int slot = slot(hash, KEYWORD_MULTIPLIER);
+        char[] keyword = KEYWORDS[slot];
+        if (keyword == null || keyword.length != length) {
+            return delphiLexer.IDENT;
+        }
+        boolean fold = caseInsensitive && KEYWORD_RESERVED[slot];
+        for (int i = 0; i < length; i++) {
+            char c = chars[pos + i];
+            if (c != keyword[i] && !(fold && (c & 0xDF) == keyword[i])) {
+                return delphiLexer.IDENT;
+            }
+        }
+        return KEYWORD_TYPES[slot];
+    }
+
+    // NUM_INT is digits; NUM_REAL adds a fraction, an exponent or both
+    private Token number() {
+        int end = digits(pos);
+        int type = delphiLexer.NUM_INT;
+        if (end + 1 < length && chars[end] == '.' && isDigit(chars[end + 1])) {
+            end = digits(end + 1);
+            type = delphiLexer.NUM_REAL;
+        }
+        if (end < length && (chars[end] == 'E' || caseInsensitive && chars[end] == 'e')) {
+            int p = end + 1;
+            if (p < length && (chars[p] == '+' || chars[p] == '-')) {
+                p++;
+            }
+            if (p < length && isDigit(chars[p])) {
+                end = digits(p);
+                type = delphiLexer.NUM_REAL;
+            }
+        }
+        return token(type, end);
+    }
+
+    private int digits(int p) {
+        while (p < length && isDigit(chars[p])) {
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * A quoted string with '' for a quote. Like delphiLexer, an unclosed literal
+     * falls back to the longest prefix that was a complete literal, and with none
+     * the rest of the input is reported as an error; then null is returned.
+     */
+    private Token stringLiteral() {
+        int end = -1;
+        int p = pos + 1;
+        while (p < length) {
+            if (chars[p] != '\'') {
+                p++;
+            } else {
+                end = p + 1;
+                if (p + 1 < length && chars[p + 1] == '\'') {
+                    p += 2;
+                } else {
+                    break;
+                }
+            }
+        }
+        if (end < 0) {
+            error(pos, length);
+            advance(length);
+            return null;
+        }
+        int startLine = line;
+        int startColumn = column;
+        int start = pos;
+        advance(end);
+        return factory.create(source, delphiLexer.STRING_LITERAL, null, Token.DEFAULT_CHANNEL, start, end - 1,
+            startLine, startColumn);
+    }
+
+    // Index of the "*)" closing a comment at or after from, or -1
+    private int commentClose(int from) {
+        if (from < noCommentClose) {
+            for (int p = from; p + 1 < length; p++) {
+                if (chars[p] == '*' && chars[p + 1] == ')') {
+                    return p;
+                }
+            }
+            noCommentClose = from;
+        }
+        return -1;
+    }
+
+    private int braceClose(int from) {
+        if (from < noBraceClose) {
+            for (int p = from; p < length; p++) {
+                if (chars[p] == '}') {
+                    return p;
+                }
+            }
+            noBraceClose = from;
+        }
+        return -1;
+    }
+
+    // Reported the way delphiLexer reports a token recognition error
+    private void error(int start, int end) {
+        StringBuilder text = new StringBuilder("token recognition error at: '");
+        for (int p = start; p < end; p++) {
+            char c = chars[p];
+            text.append(c == '\n' ? "\\n" : c == '\r' ? "\\r" : c == '\t' ? "\\t" : String.valueOf(c));
+        }
+        String message = text.append('\'').toString();
+        for (ANTLRErrorListener listener : listeners) {
+            listener.syntaxError(null, null, line, column, message, null);
+        }
+    }
+
+    private static int hash(String word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            hash = hash * 31 + (word.charAt(i) & 0xDF);
+        }
+        return hash;
+    }
+
+    private static int slot(int hash, int multiplier) {
+        return (hash * multiplier) >>> (32 - HASH_BITS);
+    }
+
+    private static boolean isLetter(char c) {
+        return (c | 0x20) >= 'a' && (c | 0x20) <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isLetter(c) || isDigit(c) || c == '_';
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return column;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+}
@@ -1,217 +1,784 @@
 package antlr;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Deque;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import antlr.Value.AddressSlot;
+import antlr.Value.Constant;
+import antlr.Value.Global;
+import antlr.Value.Register;
+import antlr.Value.Slot;
+import antlr.Value.StackSlot;
+import antlr.Value.Type;
 
+
+/**
+ * Builds one LLVM module. Every compilation owns its own generator, so several
+ * programs can be compiled concurrently in the same JVM.
+ *
+ * The module is laid out as a fixed header (printf declaration and format string),
+ * the functions in the order they were finished, and a trailer with the globals and
+ * string constants. LLVM does not require globals to precede their uses, so a
+ * generator created with a FileChannel writes every function out as soon as it is
+ * finished and keeps only the functions still open (at most the nesting depth) in
+ * memory.
+ *
+ * Operands are {@link Value}s: loads and stores take the {@link Slot} of a
+ * variable (see {@link #slot}), and every instruction that produces a value
+ * returns its {@link Register}. Variables are named by interned {@link Symbol}s.
+ *
+ * Classes are named struct types (see {@link ClassLayout}), defined in the
+ * trailer with the globals and their vtables. Instances live on the C heap:
+ * {@link #allocate} gets zeroed memory from calloc, as Delphi clears a new
+ * instance, and points it at its vtable; {@link #release} gives it back to free.
+ *
+ * Arrays are stored in place (see {@link ArrayLayout}). Unless range checks are
+ * turned off, an index is tested before its element is addressed; the branch
+ * taken when it is out of range goes to a block of its own at the end of the
+ * function, which calls the cold, noreturn {@code @range.error}, so the code
+ * that runs stays straight.
+ */
 public class LLVMGenerator {
-    private static Set<String> declaredVariables = new HashSet<>();
+    private static final String HEADER = "declare i32 @printf(i8*, ...)\n"
+        + "@print.str = constant [4 x i8] c\"%d\\0A\\00\"\n";
+
+    private static final String HEAP = "declare i8* @calloc(i64, i64)\n"
+        + "declare void @free(i8*)\n";
+
+    // Module-level names of the runtime, whether or not the program ends up using them
+    private static final List<String> RUNTIME_NAMES = Arrays.asList("main", "printf", "print.str", "calloc", "free",
+        "exit", "range.error", "range.error.str");
+
+    private static final Type BYTES = new Type("i8*");
+    private static final Type VTABLE = new Type("i8**");
+
+    // Delphi stops with runtime error 201 when a range check fails
+    private static final String RANGE_ERROR = "@range.error.str = constant [30 x i8] c\"Range check error at line %d\\0A\\00\"\n"
+        + "define internal void @range.error(i32 %line) cold noreturn {\n"
+        + "entry:\n"
+        + "call i32 (i8*, ...) @printf(i8* getelementptr ([30 x i8], [30 x i8]* @range.error.str, i32 0, i32 0), i32 %line)\n"
+        + "call void @exit(i32 201)\n"
+        + "unreachable\n"
+        + "}\n"
+        + "declare void @exit(i32) noreturn\n";
+
+    /**
+     * Code of one LLVM function under construction. Allocas are collected apart
+     * from the body so that they all end up at the top of the entry block, where
+     * mem2reg can promote them, no matter where the declaration was visited.
+     */
+    private static class FunctionState {
+        final StringBuilder allocas = new StringBuilder();
+        final StringBuilder body = new StringBuilder();
+        final StringBuilder cold = new StringBuilder(); // Blocks that only run when a range check fails
+        final Map<Symbol, StackSlot> slots = new HashMap<>();
+        String header;
+        boolean terminated = false;
+
+        FunctionState(String header) {
+            this.header = header;
+        }
+
+        // Clears the state so its buffers can be reused for the next function.
+        void reset(String header) {
+            allocas.setLength(0);
+            body.setLength(0);
+            cold.setLength(0);
+            slots.clear();
+            this.header = header;
+            terminated = false;
+        }
+    }
+
+    // Sorted by name when the trailer is written, so it does not depend on the order globals were discovered in
+    private Map<Symbol, Global> globalVariables = new HashMap<>();
+
+    // Every module-level name given out so far; see moduleName
+    private final Set<String> moduleNames = new HashSet<>(RUNTIME_NAMES);
+
+
+    private int tempCount = 1;
 
-  
-    private static int tempCount = 1;
+    private int block = 0; // Basic blocks started so far, across all functions
 
-    private static int labelCount = 0;
-    private static String lastCond = "";
+    private int stringCount = 0;
 
-    private static int stringCount = 0;
+    private StringBuilder globalDefs = new StringBuilder();  // For global strings
+    private final StringBuilder typeDefs = new StringBuilder(); // Class structs
+    private final List<ClassLayout> classes = new ArrayList<>(); // Their vtables are written with the globals
+    private boolean usesHeap = false;
+    private boolean rangeChecks = true;
+    private boolean usesRangeError = false;
+    private int tileSize = 0;
 
-    private static StringBuilder procedures = new StringBuilder();
+    private Deque<FunctionState> functionStack = new ArrayDeque<>();
+    private Deque<FunctionState> spareStates = new ArrayDeque<>();
+    private FunctionState current = null;
 
-    private static StringBuilder globalDefs = new StringBuilder();  // For global strings, etc.
+    // Where finished functions go: an in-memory module, or straight to a channel
+    private final StringBuilder module;
+    private final FileChannel out;
+    private ByteBuffer outBytes;
+    private CharBuffer outChars;
+    private CharsetEncoder encoder;
 
-    private static StringBuilder globalCode = new StringBuilder();
-    private static StringBuilder mainCode = new StringBuilder();
-    private static Deque<StringBuilder> bufferStack = new ArrayDeque<>();
-    private static StringBuilder code = mainCode;
+    // Instructions emitted after a terminator are built here and thrown away
+    private final StringBuilder discarded = new StringBuilder();
 
+    /** Keeps the whole module in memory; see {@link #writeTo} and {@link #toIR}. */
+    public LLVMGenerator() {
+        this.module = new StringBuilder();
+        this.out = null;
+    }
 
-    public static void pushCustomBuffer(StringBuilder buffer) {
-        bufferStack.push(code);
-        code = buffer;
+    /**
+     * Streams the module to {@code out}: each function is written when it is finished
+     * and the globals when the program ends. The caller owns (and closes) the channel.
+     */
+    public LLVMGenerator(FileChannel out) {
+        this.module = null;
+        this.out = out;
+        this.outBytes = ByteBuffer.allocate(1 << 16);
+        this.outChars = CharBuffer.allocate(1 << 13);
+        this.encoder = StandardCharsets.UTF_8.newEncoder();
+        write(HEADER);
     }
-    
-    public static void popCustomBuffer() {
-        code = bufferStack.pop();
+
+    public StackSlot declareVariable(Symbol varName) {
+        return declareVariable(varName, Type.I32);
     }
 
-    public static void emitGlobal(String line) {
-        globalCode.append(line);
+    public StackSlot declareVariable(Symbol varName, Type type) {
+        StackSlot slot = current.slots.get(varName);
+        if (slot == null) {
+            slot = new StackSlot(localName(varName.name), type);
+            current.allocas.append('%').append(slot.name).append(" = alloca ").append(type).append('\n');
+            current.slots.put(varName, slot);
+        }
+        return slot;
     }
-   
-    public static void emitProcedure(String line) {
-        procedures.append(line).append("\n");  // used for greet, etc.
+
+    // Program-level variable that routines can see: lives in a module global, not in main's frame.
+    public Global declareGlobal(Symbol varName) {
+        return declareGlobal(varName, Type.I32);
     }
-    
-    public static boolean isTemp(String s) {
-        return s.matches("%t\\d+");
+
+    public Global declareGlobal(Symbol varName, Type type) {
+        return globalVariables.computeIfAbsent(varName, name -> new Global(moduleName(name.name), type));
     }
-    
 
-    public static void declareVariable(String varName) {
-        if (!declaredVariables.contains(varName)) {
-            code.append("%" + varName + " = alloca i32\n");
-            declaredVariables.add(varName);
+    /**
+     * A module-level name, for a routine or a global, that nothing in the module
+     * has yet: name itself, or name.1, name.2, ... when the runtime (a routine
+     * called main or printf), an earlier routine (one of the same name nested in
+     * another routine) or a global already has it. A Delphi identifier has no
+     * dot and a method is named class.method, so the numbered names cannot be
+     * taken by anything named later.
+     */
+    public String moduleName(String name) {
+        if (moduleNames.add(name)) {
+            return name;
         }
-    }    
-    
-    public static String defineStringConstant(String value) {
+        for (int i = 1; ; i++) {
+            String numbered = name + "." + i;
+            if (moduleNames.add(numbered)) {
+                return numbered;
+            }
+        }
+    }
+
+    /**
+     * Names the vtables and then the methods of classes, before any code that
+     * calls a method is generated; a method named like a vtable or a runtime
+     * function (class range, method error) gets another name.
+     */
+    public void nameClasses(Iterable<ClassLayout> layouts) {
+        for (ClassLayout layout : layouts) {
+            moduleNames.add(layout.vtable.substring(1)); // without its @
+        }
+        for (ClassLayout layout : layouts) {
+            for (Procedure method : layout.methods()) {
+                method.setFunction(moduleName(method.getFunction()));
+            }
+        }
+    }
+
+    // Emits the struct type of a class with the globals, and its vtable once every method is lowered.
+    public void defineClass(ClassLayout layout) {
+        typeDefs.append(layout.definition()).append('\n');
+        classes.add(layout);
+    }
+
+    // The address of a field of the instance object, of class layout or a subclass, points to.
+    public AddressSlot field(Value object, ClassLayout layout, ClassLayout.Field field) {
+        AddressSlot slot = new AddressSlot(tempCount++, field.type);
+        StringBuilder sb = slot.appendTo(line()).append(" = getelementptr inbounds ").append(layout.struct)
+            .append(", ").append(object.type).append(' ');
+        object.appendTo(sb).append(", i32 0, i32 ").append(field.index).append('\n');
+        return slot;
+    }
+
+    /**
+     * The function in vtable entry {@code slot} of the instance object points
+     * to, an instance of layout or a subclass, as a pointer of type pointerType.
+     */
+    public Register vtableEntry(Value object, ClassLayout layout, int slot, String pointerType) {
+        Register vptr = nextTemp(VTABLE);
+        StringBuilder sb = vptr.appendTo(line()).append(" = getelementptr inbounds ").append(layout.struct)
+            .append(", ").append(object.type).append(' ');
+        object.appendTo(sb).append(", i32 0, i32 0\n");
+        Register vtable = nextTemp(VTABLE);
+        vptr.appendTo(vtable.appendTo(line()).append(" = load i8**, i8*** ")).append('\n');
+        Register entry = nextTemp(BYTES);
+        vtable.appendTo(entry.appendTo(line()).append(" = getelementptr inbounds i8*, i8** ")).append(", i32 ")
+            .append(slot).append('\n');
+        Register function = nextTemp(BYTES);
+        entry.appendTo(function.appendTo(line()).append(" = load i8*, i8** ")).append('\n');
+        return cast(function, new Type(pointerType));
+    }
+
+    /** Whether indexes are checked against the bounds of their array; on unless turned off. */
+    public boolean checksRanges() {
+        return rangeChecks;
+    }
+
+    public void setRangeChecks(boolean rangeChecks) {
+        this.rangeChecks = rangeChecks;
+    }
+
+    /** How many iterations of each loop a tile of a loop nest runs; below 2, nests are not tiled. */
+    public int tileSize() {
+        return tileSize;
+    }
+
+    public void setTileSize(int tileSize) {
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * The address of element index of the array in slot array. When check is
+     * set, an index outside the bounds stops the program with a message naming
+     * line.
+     */
+    public AddressSlot element(Slot array, ArrayLayout layout, Value index, boolean check, int line) {
+        Value offset = index;
+        if (layout.low != 0) {
+            offset = index instanceof Constant ? new Constant(((Constant) index).value - layout.low)
+                : binary("sub", index, new Constant(layout.low));
+        }
+        if (check) {
+            checkRange(offset, layout.length(), line);
+        }
+        AddressSlot slot = new AddressSlot(tempCount++, layout.element);
+        StringBuilder sb = slot.appendTo(line()).append(" = getelementptr inbounds ").append(layout.type)
+            .append(", ").append(layout.type).append("* ");
+        offset.appendTo(array.appendTo(sb).append(", i32 0, i32 ")).append('\n');
+        return slot;
+    }
+
+    // Continues in a new block if 0 <= offset < length, else fails in a cold block at the end of the function
+    private void checkRange(Value offset, int length, int line) {
+        usesRangeError = true;
+        int id = nextLabelId();
+        String inRange = "inrange" + id;
+        String fail = "range.fail" + id;
+        brCond(icmp("ult", offset, new Constant(length)), inRange, fail);
+        current.cold.append(fail).append(":\ncall void @range.error(i32 ").append(line).append(")\nunreachable\n");
+        label(inRange);
+    }
+
+    /** A new, zeroed instance of a class on the heap, pointing at the class's vtable. */
+    public Register allocate(ClassLayout layout) {
+        usesHeap = true;
+        Register memory = nextTemp(BYTES);
+        // sizeof is the address of the second element of an array at null
+        memory.appendTo(line()).append(" = call i8* @calloc(i64 1, i64 ptrtoint (").append(layout.pointer)
+            .append(" getelementptr (").append(layout.struct).append(", ").append(layout.pointer)
+            .append(" null, i32 1) to i64))\n");
+        Register instance = cast(memory, layout.pointer);
+        setVtable(instance, layout);
+        return instance;
+    }
+
+    /**
+     * A new, zeroed instance of a class in the current function's frame, for
+     * one that does not outlive the call (see {@link EscapeAnalysis}). Its
+     * alloca is in the entry block; each time the code runs it is cleared again.
+     */
+    public Register allocateOnStack(ClassLayout layout) {
+        Register instance = nextTemp(layout.pointer);
+        instance.appendTo(current.allocas).append(" = alloca ").append(layout.struct).append('\n');
+        StringBuilder sb = line().append("store ").append(layout.struct).append(" zeroinitializer, ")
+            .append(layout.pointer).append(' ');
+        instance.appendTo(sb).append('\n');
+        setVtable(instance, layout);
+        return instance;
+    }
+
+    private void setVtable(Register instance, ClassLayout layout) {
+        if (layout.hasVtable()) {
+            Register vptr = nextTemp(VTABLE);
+            StringBuilder sb = vptr.appendTo(line()).append(" = getelementptr inbounds ").append(layout.struct)
+                .append(", ").append(layout.pointer).append(' ');
+            instance.appendTo(sb).append(", i32 0, i32 0\n");
+            String type = layout.vtableType();
+            sb = line().append("store i8** getelementptr inbounds (").append(type).append(", ").append(type)
+                .append("* ").append(layout.vtable).append(", i32 0, i32 0), i8*** ");
+            vptr.appendTo(sb).append('\n');
+        }
+    }
+
+    /** Frees an instance made by {@link #allocate}. */
+    public void release(Value object) {
+        usesHeap = true;
+        Register memory = cast(object, BYTES);
+        memory.appendTo(line().append("call void @free(i8* ")).append(")\n");
+    }
+
+    // A pointer as another pointer type, e.g. an instance as one of its parent class
+    public Register cast(Value value, Type type) {
+        Register result = nextTemp(type);
+        StringBuilder sb = result.appendTo(line()).append(" = bitcast ").append(value.type).append(' ');
+        value.appendTo(sb).append(" to ").append(type).append('\n');
+        return result;
+    }
+
+    // Declares varName only when neither the current function nor the module already has it (FOR counters).
+    public Slot ensureVariable(Symbol varName) {
+        if (!current.slots.containsKey(varName) && !globalVariables.containsKey(varName)) {
+            return declareVariable(varName);
+        }
+        return slot(varName);
+    }
+
+    // Locals shadow globals; anything else is assumed to be a local of the current function.
+    public Slot slot(Symbol varName) {
+        StackSlot local = current.slots.get(varName);
+        if (local != null) {
+            return local;
+        }
+        Global global = globalVariables.get(varName);
+        if (global != null) {
+            return global;
+        }
+        return new StackSlot(localName(varName.name), Type.I32);
+    }
+
+    // A local named like a temporary (t7) gets its own name, so it cannot clash with %t7.
+    private static String localName(String varName) {
+        if (varName.length() < 2 || varName.charAt(0) != 't') {
+            return varName;
+        }
+        for (int i = 1; i < varName.length(); i++) {
+            char c = varName.charAt(i);
+            if (c < '0' || c > '9') {
+                return varName;
+            }
+        }
+        return varName + ".addr";
+    }
+
+    public boolean inMainProgram() {
+        return functionStack.isEmpty();
+    }
+
+    /**
+     * Opens a new function definition. Code emitted until {@link #endFunction} goes into
+     * the function body, and variable declarations are local to it.
+     * @param header e.g. "define i32 @add(i32 %x.arg, i32 %y.arg)"
+     */
+    public void beginFunction(String header) {
+        block++;
+        functionStack.push(current);
+        current = newFunctionState(header);
+    }
+
+    /** Closes the innermost function, returning result, or nothing when result is null. */
+    public void endFunction(Value result) {
+        if (result == null) {
+            emit("ret void");
+        } else {
+            ret(result);
+        }
+        finishFunction(current, true);
+        current = functionStack.pop();
+        block++;
+    }
+
+    private FunctionState newFunctionState(String header) {
+        FunctionState state = spareStates.poll();
+        if (state == null) {
+            return new FunctionState(header);
+        }
+        state.reset(header);
+        return state;
+    }
+
+    // Hands a complete function to the module and recycles its buffers.
+    private void finishFunction(FunctionState state, boolean blankLine) {
+        write(state.header);
+        write(" {\nentry:\n");
+        write(state.allocas);
+        write(state.body);
+        write(state.cold);
+        write(blankLine ? "}\n\n" : "}\n");
+        spareStates.push(state);
+    }
+
+    // Returns the call's result, or null for a void call.
+    public Register call(Type retType, String name, List<Value> args) {
+        return call(retType, null, name, args);
+    }
+
+    // A call through a function pointer, such as a vtable entry
+    public Register call(Type retType, Value function, List<Value> args) {
+        return call(retType, function, null, args);
+    }
+
+    private Register call(Type retType, Value function, String name, List<Value> args) {
+        Register result = retType == Type.VOID ? null : nextTemp(retType);
+        StringBuilder sb = line();
+        if (result != null) {
+            result.appendTo(sb).append(" = ");
+        }
+        sb.append("call ").append(retType).append(' ');
+        if (function != null) {
+            function.appendTo(sb);
+        } else {
+            sb.append('@').append(name);
+        }
+        sb.append('(');
+        for (int i = 0; i < args.size(); i++) {
+            if (i > 0) sb.append(", ");
+            Value arg = args.get(i);
+            arg.appendTo(sb.append(arg.type).append(' '));
+        }
+        sb.append(")\n");
+        return result;
+    }
+
+    public String defineStringConstant(String value) {
         String name = "@.str" + stringCount++;
         int len = value.length() + 1;
         String escaped = value.replace("\"", "\\22").replace("\n", "\\0A") + "\\00";
         globalDefs.append(name + " = constant [" + len + " x i8] c\"" + escaped + "\"\n");
         return name;
     }
-    
-    
 
-    public static void printString(String strLiteralName, int len) {
-        emit("call i32 (i8*, ...) @printf(i8* getelementptr ([" + len + " x i8], [" + len + " x i8]* " + strLiteralName + ", i32 0, i32 0))");
+
+
+    public void printString(String strLiteralName, int len) {
+        line().append("call i32 (i8*, ...) @printf(i8* getelementptr ([").append(len).append(" x i8], [")
+            .append(len).append(" x i8]* ").append(strLiteralName).append(", i32 0, i32 0))\n");
     }
-    
 
-    public static void startProgram() {
 
-        mainCode.append("define i32 @main() {\n");
-        mainCode.append("entry:\n");
-        code = mainCode;
+    public void startProgram() {
+        current = newFunctionState("define i32 @main()");
     }
-    
-    
-    public static void endProgram() {
-        mainCode.append("ret i32 0\n}\n");
+
+
+    // main is the last function; the globals trailer follows it.
+    public void endProgram() {
+        emit("ret i32 0");
+        finishFunction(current, false);
+        current = null;
+        if (!globalVariables.isEmpty() || globalDefs.length() > 0 || typeDefs.length() > 0 || usesHeap
+                || usesRangeError) {
+            write("\n");
+        }
+        write(typeDefs);
+        for (ClassLayout layout : classes) {
+            if (layout.hasVtable()) {
+                write(layout.vtableDefinition());
+                write("\n");
+            }
+        }
+        List<Global> globals = new ArrayList<>(globalVariables.values());
+        globals.sort(Comparator.comparing(global -> global.name));
+        for (Global global : globals) {
+            write("@");
+            write(global.name);
+            write(" = internal global ");
+            write(global.type.toString());
+            write(" ");
+            write(global.type.zero());
+            write("\n");
+        }
+        write(globalDefs);
+        if (usesHeap) {
+            write(HEAP);
+        }
+        if (usesRangeError) {
+            write(RANGE_ERROR);
+        }
+        if (out != null) {
+            flush();
+        }
     }
 
-    public static String add(int a, int b) {
-        String result = "%t" + tempCount++;
-        code.append(result + " = add i32 " + a + ", " + b + "\n");
-        return result;
+    public void store(Value from, Slot to) {
+        from = widen(from, to.type);
+        StringBuilder sb = from.appendTo(line().append("store ").append(from.type).append(' '));
+        to.appendTo(sb.append(", ").append(to.type).append("* ")).append('\n');
     }
 
-    public static void store(String from, String to) {
-        code.append("store i32 " + from + ", i32* %" + to + "\n");
+    // The in-memory module as UTF-8, like the channel the streaming constructor writes to.
+    public void writeToFile(String filename) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(Paths.get(filename), StandardCharsets.UTF_8)) {
+            writeTo(writer);
+        }
     }
 
-    public static void printLoaded(String varName) {
-        String tmp = "%t" + tempCount++;
-        code.append(tmp + " = load i32, i32* %" + varName + "\n");
-        code.append("call i32 (i8*, ...) @printf(i8* getelementptr " +
-            "([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 " + tmp + ")\n");
+    public void writeTo(Writer writer) throws IOException {
+        if (module == null) {
+            throw new IllegalStateException("The module was streamed to its output channel");
+        }
+        writer.write(HEADER);
+        writer.append(module);
     }
 
-    public static void writeToFile(String filename) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
-            // Emit declarations and global strings at the top
-            writer.write("declare i32 @printf(i8*, ...)\n");
-            writer.write("@print.str = constant [4 x i8] c\"%d\\0A\\00\"\n");
-            writer.write(globalDefs.toString());
-    
-            // Emit user-defined procedures (like greet, add)
-            writer.write(procedures.toString());
-    
-            // WRITE MAIN CODE DIRECTLY (already has full main function)
-            writer.write(mainCode.toString());
-    
+    // The whole module as text, e.g. for comparing outputs in memory.
+    public String toIR() {
+        StringWriter out = new StringWriter();
+        try {
+            writeTo(out);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new UncheckedIOException(e);
         }
+        return out.toString();
     }
-    
-    
-    
-    
-    
-    
 
-    
 
 
+    private Register nextTemp(Type type) {
+        return new Register(tempCount++, type);
+    }
 
-  public static String nextTemp() {
-    return "%t" + tempCount++;
-}
 
-    
 
-    public static String load(String varName) {
-        String temp = nextTemp();
-        code.append(temp + " = load i32, i32* %" + varName + "\n");
+    public Register load(Slot slot) {
+        Register temp = nextTemp(slot.type);
+        StringBuilder sb = temp.appendTo(line()).append(" = load ").append(slot.type).append(", ").append(slot.type).append("* ");
+        slot.appendTo(sb).append('\n');
         return temp;
     }
-    
-    public static void print(String value) {
-        code.append("call i32 (i8*, ...) @printf(i8* getelementptr " +
-            "([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 " + value + ")\n");
+
+    public void print(Value value) {
+        if (value.type == Type.I1) {
+            value = widen(value, Type.I32);
+        }
+        StringBuilder sb = line().append("call i32 (i8*, ...) @printf(i8* getelementptr ")
+            .append("([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), ").append(value.type).append(' ');
+        value.appendTo(sb).append(")\n");
     }
 
-    public static String newLabel() {
-        return "L" + tempCount++;
+
+    // Starts a new basic block; falls through with an explicit br when the previous one is still open.
+    public void label(String label) {
+        if (!current.terminated) {
+            emit("br label %" + label);
+        }
+        current.body.append(label).append(":\n");
+        current.terminated = false;
+        block++;
     }
 
-    public static String newLabel(String base) {
-        return base + labelCount++;
+    /** Identifies the basic block code is being emitted into; it changes at every label and function. */
+    public int block() {
+        return block;
     }
-    
-    
-    public static void label(String label) {
-        code.append(label).append(":\n");
+
+    public void br(String label) {
+        line().append("br label %").append(label).append('\n');
+        current.terminated = true;
     }
-    
-    public static void br(String label) {
-        code.append("br label %").append(label).append("\n");
+
+    public void brCond(Value cond, String trueLabel, String falseLabel) {
+        cond.appendTo(line().append("br ").append(cond.type).append(' ')).append(", label %").append(trueLabel)
+            .append(", label %").append(falseLabel).append('\n');
+        current.terminated = true;
     }
-    
-    public static void brCond(String cond, String trueLabel, String falseLabel) {
-        code.append("br i1 ").append(cond).append(", label %").append(trueLabel)
-            .append(", label %").append(falseLabel).append("\n");
+
+    public void ret(Value result) {
+        result.appendTo(line().append("ret ").append(result.type).append(' ')).append('\n');
+        current.terminated = true;
     }
-    
-    public static String icmp(String op, String left, String right) {
-        String temp = nextTemp();
-        code.append(temp + " = icmp " + op + " i32 " + left + ", " + right + "\n");
-        return temp;
+
+    public Register icmp(String op, Value left, Value right) {
+        if (left.type != right.type) {
+            checkIntegers(op, left, right);
+            left = widen(left, Type.I32);
+            right = widen(right, Type.I32);
+        }
+        return instruction(nextTemp(Type.I1), "icmp ", op, left, right);
+    }
+
+    public Register add(Value a, Value b) {
+        return binary("add", a, b);
+    }
+
+    // cond ? a : b, for a and b of the same type
+    public Register select(Value cond, Value a, Value b) {
+        Register result = nextTemp(a.type);
+        StringBuilder sb = result.appendTo(line()).append(" = select i1 ");
+        b.appendTo(a.appendTo(cond.appendTo(sb).append(", ").append(a.type).append(' ')).append(", ")
+            .append(b.type).append(' ')).append('\n');
+        return result;
+    }
+
+    // Integer arithmetic: op is an LLVM opcode such as add, sub or or. and, or and xor of two
+    // comparisons stay i1; any other comparison operand becomes the 0 or 1 of an integer.
+    public Register binary(String op, Value left, Value right) {
+        checkIntegers(op, left, right);
+        boolean logical = op.equals("and") || op.equals("or") || op.equals("xor");
+        Type type = logical && left.type == Type.I1 && right.type == Type.I1 ? Type.I1 : Type.I32;
+        left = widen(left, type);
+        right = widen(right, type);
+        return instruction(nextTemp(type), "", op, left, right);
+    }
+
+    private static void checkIntegers(String op, Value left, Value right) {
+        if (!isInteger(left.type) || !isInteger(right.type)) {
+            throw new RuntimeException("Operands of " + op + " must be integers or booleans, not "
+                + left.type + " and " + right.type);
+        }
+    }
+
+    private static boolean isInteger(Type type) {
+        return type == Type.I32 || type == Type.I1;
+    }
+
+    /**
+     * value as an operand of type to. A comparison (i1) is zero-extended to the 0
+     * or 1 an INTEGER or BOOLEAN variable holds; any other mismatch is a compile
+     * error.
+     */
+    public Value widen(Value value, Type to) {
+        if (value.type == to) {
+            return value;
+        }
+        if (value.type != Type.I1 || to != Type.I32) {
+            throw new RuntimeException("Expected a value of type " + to + " but got " + value.type + " " + value);
+        }
+        Register result = nextTemp(Type.I32);
+        value.appendTo(result.appendTo(line()).append(" = zext i1 ")).append(" to i32\n");
+        return result;
     }
 
-    public static String add(String a, String b) {
-        String result = nextTemp();
-        code.append(result + " = add i32 " + a + ", " + b + "\n");
+    // result = [instruction ]op <type of left> left, right
+    private Register instruction(Register result, String instruction, String op, Value left, Value right) {
+        StringBuilder sb = result.appendTo(line()).append(" = ").append(instruction).append(op).append(' ')
+            .append(left.type).append(' ');
+        right.appendTo(left.appendTo(sb).append(", ")).append('\n');
         return result;
     }
 
-    
-    public static void branch(String label) {
-        code.append("br label %" + label + "\n");
+
+    /**
+     * Appends one instruction to the current basic block. Anything emitted after a
+     * terminator (e.g. the br that follows a BREAK) is unreachable and is dropped,
+     * which keeps every block well-formed.
+     */
+    public void emit(String line) {
+        if (current.terminated) {
+            return;
+        }
+        current.body.append(line).append("\n");
+        if (line.startsWith("br ") || line.startsWith("ret ") || line.equals("unreachable")) {
+            current.terminated = true;
+        }
     }
-    
-    public static void conditionalBranch(String condVar, String trueLabel, String falseLabel) {
-        code.append("br i1 " + condVar + ", label %" + trueLabel + ", label %" + falseLabel + "\n");
+
+    // Buffer the next instruction is appended to, so callers never build an intermediate String.
+    private StringBuilder line() {
+        if (current.terminated) {
+            discarded.setLength(0);
+            return discarded;
+        }
+        return current.body;
     }
-    
-    // Set the last comparison result (used in while/if)
-    public static void setLastCondition(String name) {
-        lastCond = name;
+
+    // Appends finished module text to the in-memory module or the output buffer.
+    private void write(CharSequence text) {
+        if (module != null) {
+            module.append(text);
+            return;
+        }
+        int length = text.length();
+        for (int start = 0; start < length; ) {
+            int n = Math.min(outChars.remaining(), length - start);
+            if (text instanceof StringBuilder) {
+                ((StringBuilder) text).getChars(start, start + n, outChars.array(), outChars.position());
+                outChars.position(outChars.position() + n);
+            } else {
+                outChars.put(text.toString(), start, start + n);
+            }
+            start += n;
+            if (!outChars.hasRemaining()) {
+                encodeChars(false);
+            }
+        }
     }
-    
-    public static String lastCondition() {
-        return lastCond;
+
+    private void encodeChars(boolean endOfInput) {
+        outChars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(outChars, outBytes, endOfInput);
+            if (result.isOverflow()) {
+                drainBytes();
+            } else {
+                break;
+            }
+        }
+        outChars.compact(); // keeps half of a surrogate pair for the next round
     }
-    
-    
-    public static void emit(String line) {
-        code.append(line).append("\n");
+
+    private void drainBytes() {
+        outBytes.flip();
+        try {
+            while (outBytes.hasRemaining()) {
+                out.write(outBytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        outBytes.clear();
     }
-     
-    public static String nextLabel() {
-        return "L" + (labelCount++);
+
+    private void flush() {
+        encodeChars(true);
+        drainBytes();
     }
-    
-    public static String nextLabel(String base) {
+
+    public String nextLabel(String base) {
         return base + (tempCount++);
     }
-    
-    
+
+    // A number shared by the labels of one statement (then/else/endif).
+    public int nextLabelId() {
+        return tempCount++;
+    }
+
+
 }
@@ -0,0 +1,233 @@
+package antlr;
+
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.Token;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Differential check of FastLexer against the generated delphiLexer. Every
+ * input is lexed by both and the token streams (type, text, start/stop index,
+ * line, column, through EOF) and the reported recognition errors must agree:
+ *
+ * <ul>
+ *   <li>exact: FastLexer in its delphiLexer-compatible, case-sensitive mode on
+ *       the input as it is</li>
+ *   <li>folded: FastLexer in case-insensitive mode on a copy with the case of
+ *       every letter scrambled, against delphiLexer on the upper-cased input;
+ *       text is compared ignoring case, and a keyword Delphi does not reserve
+ *       (CREATE, INTEGER) is expected as an IDENT unless it was scrambled into
+ *       upper case</li>
+ *   <li>any case: for the given files, FastLexer in case-insensitive mode, as
+ *       --fast-lexer runs it, on the input as it is; a program delphiLexer
+ *       lexes must lex the same</li>
+ * </ul>
+ *
+ * Inputs are the given .pas files plus random programs glued from tokens and
+ * near-tokens (unclosed comments and strings, "1.", "1E+", stray characters).
+ *
+ * Usage: java -cp "bin;antlr-4.9.3-complete.jar" antlr.LexerCheck [--fuzz N] [--seed S] [dir-or-files...]
+ * Defaults to the tests folder and 2000 random inputs.
+ */
+public class LexerCheck {
+    private static final String[] FRAGMENTS = {
+        "BEGIN", "END", "PROGRAM", "VAR", "INTEGER", "IF", "THEN", "ELSE", "WHILE", "DO", "FOR", "TO", "DOWNTO",
+        "IMPLEMENTATION", "TRUE", "FALSE", "DIV", "MOD", "Begin", "begin", "BEGINx", "BEGIN_", "x", "t1", "a_b",
+        "Z9", "IMPLEMENTATIONS", "CREATE", "Create", "create", "Integer", "True", "0", "42", "007", "1.5", "1.", "1..5", "1.)", "1E5", "1E+5", "1E-", "1E", "1e5",
+        "2.5E-3", "3.25E", "'s'", "'it''s'", "''", "''''", "'", "'abc", "'a''", "(*c*)", "(**)", "(*)", "(*",
+        "(* a\n b *)", "{c}", "{}", "{", "}", "{ x\n}", "+", "-", "*", "/", ":=", ":", ",", ";", "=", "<>", "<",
+        "<=", ">=", ">", "(", ")", "[", "]", "(.", ".)", "^", "@", ".", "..", "#", "_", "!", "\"", "\u00e4", "\f",
+        "$", "~", "&", "?", "%", "|", "\\",
+    };
+    private static final String[] SEPARATORS = {"", " ", " ", "\n", "\r\n", "\t", "  "};
+
+    public static void main(String[] args) throws Exception {
+        int fuzz = 2000;
+        long seed = 1;
+        List<File> files = new ArrayList<>();
+        boolean named = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fuzz":
+                    fuzz = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    named = true;
+                    addSources(new File(args[i]), files);
+            }
+        }
+        if (!named) {
+            addSources(new File("tests"), files);
+        }
+
+        PrintStream report = System.err;
+        Random random = new Random(seed);
+        int inputs = 0;
+        int tokens = 0;
+        int mismatches = 0;
+        for (File file : files) {
+            String source = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            int[] result = check(file.getPath(), source, random, report);
+            result[1] += compare(file.getPath() + " (any case)", antlrTokens(source),
+                fastTokens(source.toCharArray(), true), false, report);
+            inputs++;
+            tokens += result[0];
+            mismatches += result[1];
+        }
+        for (int i = 0; i < fuzz; i++) {
+            String source = randomProgram(random);
+            int[] result = check("fuzz #" + i + " (seed " + seed + ")", source, random, report);
+            inputs++;
+            tokens += result[0];
+            mismatches += result[1];
+        }
+
+        report.printf("%d inputs, %d tokens, %d mismatches%n", inputs, tokens, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns {tokens compared, mismatches}
+    private static int[] check(String name, String source, Random random, PrintStream report) {
+        List<String> expected = antlrTokens(source);
+        List<String> actual = fastTokens(source.toCharArray(), false);
+        int mismatches = compare(name + " (exact)", expected, actual, false, report);
+
+        char[] scrambled = source.toCharArray();
+        char[] upper = source.toCharArray();
+        for (int i = 0; i < scrambled.length; i++) {
+            char c = scrambled[i];
+            if ((c | 0x20) >= 'a' && (c | 0x20) <= 'z') {
+                scrambled[i] = random.nextBoolean() ? (char) (c & 0xDF) : (char) (c | 0x20);
+                upper[i] = (char) (c & 0xDF);
+            }
+        }
+        mismatches += compare(name + " (folded)", antlrTokens(new String(upper), scrambled), fastTokens(scrambled, true),
+            true, report);
+        return new int[] {expected.size(), mismatches};
+    }
+
+    private static int compare(String name, List<String> expected, List<String> actual, boolean ignoreCase,
+                               PrintStream report) {
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            String want = i < expected.size() ? expected.get(i) : "<missing>";
+            String got = i < actual.size() ? actual.get(i) : "<missing>";
+            if (ignoreCase ? !want.equalsIgnoreCase(got) : !want.equals(got)) {
+                report.println("MISMATCH: " + name + " at token " + i + ": delphiLexer " + want + ", FastLexer " + got);
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static List<String> antlrTokens(String source) {
+        return antlrTokens(source, null);
+    }
+
+    /**
+     * @param cased the input in the case FastLexer sees it, if source is its
+     *              upper-cased copy: an upper-case-only keyword not in upper case there is an IDENT
+     */
+    private static List<String> antlrTokens(String source, char[] cased) {
+        delphiLexer lexer = new delphiLexer(CharStreams.fromString(source));
+        List<String> tokens = new ArrayList<>();
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new Recorder(tokens));
+        Token token;
+        do {
+            token = lexer.nextToken();
+            if (cased != null && FastLexer.exactCase(token.getType()) && !sameCase(source, cased, token)) {
+                ((CommonToken) token).setType(delphiLexer.IDENT);
+            }
+            tokens.add(describe(token));
+        } while (token.getType() != Token.EOF);
+        return tokens;
+    }
+
+    private static List<String> fastTokens(char[] source, boolean caseInsensitive) {
+        FastLexer lexer = new FastLexer(source, source.length, "<unknown>", caseInsensitive);
+        List<String> tokens = new ArrayList<>();
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(new Recorder(tokens));
+        Token token;
+        do {
+            token = lexer.nextToken();
+            tokens.add(describe(token));
+        } while (token.getType() != Token.EOF);
+        return tokens;
+    }
+
+    private static boolean sameCase(String source, char[] cased, Token token) {
+        for (int i = token.getStartIndex(); i <= token.getStopIndex(); i++) {
+            if (source.charAt(i) != cased[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String describe(Token token) {
+        String type = token.getType() == Token.EOF ? "EOF" : delphiLexer.VOCABULARY.getSymbolicName(token.getType());
+        return String.format("%s %s [%d..%d] %d:%d", type, escape(token.getText()), token.getStartIndex(),
+            token.getStopIndex(), token.getLine(), token.getCharPositionInLine());
+    }
+
+    private static String escape(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t")
+            .replace("\f", "\\f") + "\"";
+    }
+
+    private static String randomProgram(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 1 + random.nextInt(40);
+        for (int i = 0; i < length; i++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static void addSources(File path, List<File> files) {
+        if (path.isDirectory()) {
+            File[] children = path.listFiles();
+            if (children != null) {
+                Arrays.sort(children);
+                for (File child : children) {
+                    addSources(child, files);
+                }
+            }
+        } else if (path.getName().endsWith(".pas")) {
+            files.add(path);
+        }
+    }
+
+    // Errors go into the token list, so they are compared in order with the tokens
+    private static final class Recorder extends BaseErrorListener {
+        private final List<String> tokens;
+
+        Recorder(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
+                                String msg, RecognitionException e) {
+            tokens.add("error " + line + ":" + charPositionInLine + " " + escape(msg));
+        }
+    }
+}
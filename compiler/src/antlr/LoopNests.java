@@ -0,0 +1,532 @@
+package antlr;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import antlr.Diagnostics.Level;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Finds perfect nests of FOR loops whose loops can run in any order, and
+ * picks the order that walks their arrays in memory order. An array is stored
+ * row-major ({@link ArrayLayout}), so in {@code c[i, j]} consecutive values of
+ * j are adjacent and consecutive values of i are a whole row apart; the loop
+ * over the counter that indexes the last dimension should be the innermost.
+ * For
+ * <pre>
+ * FOR i := 1 TO n DO
+ *   FOR j := 1 TO n DO
+ *     FOR k := 1 TO n DO
+ *       c[i, j] := c[i, j] + a[i, k] * b[k, j]
+ * </pre>
+ * that is i, k, j: b and c are then read along their rows.
+ *
+ * A nest is reordered only when that cannot change what it computes: the
+ * bounds of each loop do not depend on the others, and its body only assigns
+ * array elements and variables, calls nothing and does not leave the loops
+ * early. Every array it assigns is always indexed the same way, by every
+ * counter, so no two iterations touch the same element; or the array element
+ * or variable is a sum the body only adds to ({@code s := s + a[i, j]}),
+ * which comes out the same in any order. The same conditions make it legal
+ * to tile the nest (see {@link DelphiVisitorImpl}).
+ *
+ * It also lists the array accesses whose row, everything but the last index,
+ * does not change in the innermost loop, so the row's address can be computed
+ * once before that loop instead of in every iteration.
+ */
+final class LoopNests {
+    /** A nest of FOR loops and the order to run them in. */
+    static final class Nest {
+        /** The loops as written, outermost first; each but the last has the next as its whole body. */
+        final List<delphiParser.ForStatementContext> loops;
+        /** Whether the body of each loop is a BEGIN ... END around the next one. */
+        final boolean[] wrapped;
+        /** Indexes into loops, outermost first, in the order to run them. */
+        final int[] order;
+        /** The body of the innermost loop. */
+        final delphiParser.StatementContext body;
+        /**
+         * Accesses in body whose indexes but the last are the same in every
+         * iteration of the innermost loop, grouped by row: the accesses in a
+         * group name the same array with the same indexes but the last.
+         */
+        final List<List<delphiParser.VariableContext>> rows;
+
+        Nest(List<delphiParser.ForStatementContext> loops, boolean[] wrapped, int[] order,
+             delphiParser.StatementContext body, List<List<delphiParser.VariableContext>> rows) {
+            this.loops = loops;
+            this.wrapped = wrapped;
+            this.order = order;
+            this.body = body;
+            this.rows = rows;
+        }
+
+        boolean interchanged() {
+            for (int i = 0; i < order.length; i++) {
+                if (order[i] != i) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // A use of a variable or array in the body: its name and its indexes, if any
+    private static final class Access {
+        final Symbol name;
+        final ParserRuleContext node;
+        final List<delphiParser.ExpressionContext> indexes;
+        final boolean write;
+
+        Access(Symbol name, ParserRuleContext node, List<delphiParser.ExpressionContext> indexes, boolean write) {
+            this.name = name;
+            this.node = node;
+            this.indexes = indexes;
+            this.write = write;
+        }
+    }
+
+    private final SymbolTable symbols;
+    // Loops already lowered as part of a nest found from an enclosing loop
+    private final Set<delphiParser.ForStatementContext> covered = new HashSet<>();
+    private int nests;
+    private int interchanged;
+    private int tiled;
+
+    LoopNests(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * The nest of two or more loops that starts at loop, if its loops can be
+     * reordered; else null.
+     * @param find what a name means where loop is
+     */
+    Nest analyze(delphiParser.ForStatementContext loop, Function<Symbol, Object> find) {
+        if (covered.contains(loop)) {
+            return null;
+        }
+        List<delphiParser.ForStatementContext> loops = new ArrayList<>();
+        List<Boolean> wrapped = new ArrayList<>();
+        for (delphiParser.ForStatementContext level = loop; level != null; ) {
+            loops.add(level);
+            delphiParser.StatementContext body = level.statement();
+            delphiParser.CompoundStatementContext block = compound(body);
+            delphiParser.StatementContext inner = block != null ? only(block) : body;
+            level = inner != null ? forStatement(inner) : null;
+            if (level != null) {
+                wrapped.add(block != null);
+            }
+        }
+        if (loops.size() < 2) {
+            return null;
+        }
+        delphiParser.StatementContext body = loops.get(loops.size() - 1).statement();
+        Nest nest = analyze(loops, wrapped, body, find);
+        if (nest != null) {
+            covered.addAll(loops);
+            nests++;
+            if (nest.interchanged()) {
+                interchanged++;
+            }
+        }
+        return nest;
+    }
+
+    private Nest analyze(List<delphiParser.ForStatementContext> loops, List<Boolean> wrapped,
+                         delphiParser.StatementContext body, Function<Symbol, Object> find) {
+        List<Symbol> counters = new ArrayList<>();
+        for (delphiParser.ForStatementContext loop : loops) {
+            Symbol counter = symbols.of(loop.identifier().getStart());
+            if (loop.forList().DOWNTO() != null || counters.contains(counter)) {
+                return null;
+            }
+            counters.add(counter);
+        }
+        List<Access> accesses = new ArrayList<>();
+        if (!straight(body, find, accesses)) {
+            return null;
+        }
+
+        // What the body assigns: no counter, nothing a bound reads, and each array element or variable
+        // either only where every counter makes it a different one, or as a sum
+        Map<Symbol, List<Access>> byName = new HashMap<>();
+        for (Access access : accesses) {
+            byName.computeIfAbsent(access.name, name -> new ArrayList<>()).add(access);
+        }
+        Set<Symbol> written = new HashSet<>();
+        for (Access access : accesses) {
+            if (access.write) {
+                written.add(access.name);
+            }
+        }
+        for (Symbol name : written) {
+            if (counters.contains(name) || !independent(byName.get(name), counters)) {
+                return null;
+            }
+        }
+        for (delphiParser.ForStatementContext loop : loops) {
+            if (!invariant(loop.forList().initialValue(), counters, written, find)
+                    || !invariant(loop.forList().finalValue(), counters, written, find)) {
+                return null;
+            }
+        }
+
+        int[] order = order(counters, accesses);
+        Symbol innermost = counters.get(order[order.length - 1]);
+        List<List<delphiParser.VariableContext>> rows = new ArrayList<>();
+        for (Access access : accesses) {
+            if (access.node instanceof delphiParser.VariableContext && access.indexes.size() >= 2
+                    && rowInvariant(access.indexes, innermost, written)) {
+                row(rows, (delphiParser.VariableContext) access.node).add((delphiParser.VariableContext) access.node);
+            }
+        }
+        boolean[] wraps = new boolean[wrapped.size()];
+        for (int i = 0; i < wraps.length; i++) {
+            wraps[i] = wrapped.get(i);
+        }
+        return new Nest(Collections.unmodifiableList(loops), wraps, order, body, rows);
+    }
+
+    // The BEGIN ... END a statement is, or null
+    private static delphiParser.CompoundStatementContext compound(delphiParser.StatementContext statement) {
+        delphiParser.UnlabelledStatementContext unlabelled = statement.unlabelledStatement();
+        if (unlabelled == null || unlabelled.structuredStatement() == null) {
+            return null;
+        }
+        return unlabelled.structuredStatement().compoundStatement();
+    }
+
+    // The group of rows access belongs to, added if it is the first access of its row
+    private List<delphiParser.VariableContext> row(List<List<delphiParser.VariableContext>> rows,
+                                                   delphiParser.VariableContext access) {
+        List<delphiParser.ExpressionContext> indexes = access.expression();
+        for (List<delphiParser.VariableContext> row : rows) {
+            delphiParser.VariableContext first = row.get(0);
+            if (symbols.of(first.getStart()) == symbols.of(access.getStart())
+                    && same(first.expression().subList(0, indexes.size() - 1), indexes.subList(0, indexes.size() - 1))) {
+                return row;
+            }
+        }
+        List<delphiParser.VariableContext> row = new ArrayList<>();
+        rows.add(row);
+        return row;
+    }
+
+    // The one statement in block that is not empty, or null
+    private static delphiParser.StatementContext only(delphiParser.CompoundStatementContext block) {
+        delphiParser.StatementContext only = null;
+        for (delphiParser.StatementContext statement : block.statements().statement()) {
+            if (!empty(statement)) {
+                if (only != null) {
+                    return null;
+                }
+                only = statement;
+            }
+        }
+        return only;
+    }
+
+    private static boolean empty(delphiParser.StatementContext statement) {
+        delphiParser.UnlabelledStatementContext unlabelled = statement.unlabelledStatement();
+        return statement.label() == null && unlabelled != null && unlabelled.simpleStatement() != null
+            && unlabelled.simpleStatement().emptyStatement_() != null;
+    }
+
+    private static delphiParser.ForStatementContext forStatement(delphiParser.StatementContext statement) {
+        delphiParser.UnlabelledStatementContext unlabelled = statement.unlabelledStatement();
+        if (unlabelled == null || unlabelled.structuredStatement() == null
+                || unlabelled.structuredStatement().repetetiveStatement() == null) {
+            return null;
+        }
+        return unlabelled.structuredStatement().repetetiveStatement().forStatement();
+    }
+
+    /**
+     * Whether node is only assignments, IFs and BEGIN ... END blocks that call
+     * nothing and reach no field, adding the variables and arrays it uses to
+     * accesses.
+     */
+    private boolean straight(ParseTree node, Function<Symbol, Object> find, List<Access> accesses) {
+        if (node instanceof TerminalNode) {
+            Token token = ((TerminalNode) node).getSymbol();
+            switch (token.getType()) {
+                case delphiParser.DOT:
+                case delphiParser.AT:
+                case delphiParser.POINTER:
+                    return false;
+                case delphiParser.IDENT:
+                    return !(find.apply(symbols.of(token)) instanceof Procedure);
+                default:
+                    return true;
+            }
+        }
+        if (node instanceof delphiParser.ProcedureStatementContext
+                || node instanceof delphiParser.FunctionDesignatorContext
+                || node instanceof delphiParser.ConstructorCallContext
+                || node instanceof delphiParser.RepetetiveStatementContext
+                || node instanceof delphiParser.CaseStatementContext
+                || node instanceof delphiParser.WithStatementContext
+                || node instanceof delphiParser.BreakStatementContext
+                || node instanceof delphiParser.ContinueStatementContext
+                || node instanceof delphiParser.GotoStatementContext
+                || node instanceof delphiParser.LabelContext) {
+            return false;
+        }
+        if (node instanceof delphiParser.VariableContext) {
+            delphiParser.VariableContext variable = (delphiParser.VariableContext) node;
+            boolean write = variable.getParent() instanceof delphiParser.AssignmentStatementContext
+                && ((delphiParser.AssignmentStatementContext) variable.getParent()).variable() == variable;
+            accesses.add(new Access(symbols.of(variable.getStart()), variable, variable.expression(), write));
+        } else if (node instanceof delphiParser.AssignmentStatementContext
+                && ((delphiParser.AssignmentStatementContext) node).variable() == null) {
+            delphiParser.AssignmentStatementContext assignment = (delphiParser.AssignmentStatementContext) node;
+            if (assignment.identifier().size() != 1) {
+                return false;
+            }
+            accesses.add(new Access(symbols.of(assignment.getStart()), assignment, Collections.emptyList(), true));
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (!straight(node.getChild(i), find, accesses)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether running the iterations in another order leaves what the
+     * accesses of one assigned variable or array compute the same: all index
+     * it alike, and either the indexes differ in every iteration or the only
+     * assignment adds to the element it assigns.
+     */
+    private boolean independent(List<Access> accesses, List<Symbol> counters) {
+        List<delphiParser.ExpressionContext> indexes = accesses.get(0).indexes;
+        for (Access access : accesses) {
+            if (!same(access.indexes, indexes)) {
+                return false;
+            }
+        }
+        Set<Symbol> distinct = new HashSet<>();
+        for (delphiParser.ExpressionContext index : accesses.get(0).indexes) {
+            Symbol counter = shifted(index, counters);
+            if (counter != null) {
+                distinct.add(counter);
+            }
+        }
+        if (distinct.containsAll(counters)) {
+            return true;
+        }
+        // A sum: x := x + ..., with x nowhere else
+        if (accesses.size() != 2 || !accesses.get(0).write) {
+            return false;
+        }
+        ParserRuleContext target = accesses.get(0).node;
+        delphiParser.AssignmentStatementContext assignment = target instanceof delphiParser.AssignmentStatementContext
+            ? (delphiParser.AssignmentStatementContext) target : (delphiParser.AssignmentStatementContext) target.getParent();
+        delphiParser.ExpressionContext value = assignment.expression();
+        if (value == null || value.simpleExpression().size() != 1 || value.simpleExpression(0).term().size() < 2) {
+            return false;
+        }
+        delphiParser.SimpleExpressionContext sum = value.simpleExpression(0);
+        for (delphiParser.AdditiveoperatorContext operator : sum.additiveoperator()) {
+            if (operator.OR() != null) {
+                return false;
+            }
+        }
+        delphiParser.TermContext first = sum.term(0);
+        ParserRuleContext read = accesses.get(1).node;
+        return first.signedFactor().size() == 1 && first.signedFactor(0).PLUS() == null
+            && first.signedFactor(0).MINUS() == null && first.signedFactor(0).factor().variable() == read;
+    }
+
+    /**
+     * The counter index is, plus terms that name no counter, if it is one: two
+     * iterations with different values of that counter then give different
+     * values of index. Else null.
+     */
+    private Symbol shifted(delphiParser.ExpressionContext index, List<Symbol> counters) {
+        if (index.simpleExpression().size() != 1 || index.simpleExpression(0).functionDesignator() != null) {
+            return null;
+        }
+        delphiParser.SimpleExpressionContext sum = index.simpleExpression(0);
+        Symbol found = null;
+        for (int i = 0; i < sum.term().size(); i++) {
+            if (i > 0 && sum.additiveoperator(i - 1).OR() != null) {
+                return null;
+            }
+            delphiParser.TermContext term = sum.term(i);
+            Set<Symbol> names = new HashSet<>();
+            names(term, names);
+            names.retainAll(counters);
+            if (names.isEmpty()) {
+                continue;
+            }
+            delphiParser.SignedFactorContext factor = term.signedFactor().size() == 1 ? term.signedFactor(0) : null;
+            if (found != null || factor == null || factor.PLUS() != null || factor.MINUS() != null
+                    || (i > 0 && sum.additiveoperator(i - 1).MINUS() != null)
+                    || factor.factor().variable() == null || factor.factor().variable().getChildCount() != 1) {
+                return null;
+            }
+            found = names.iterator().next();
+        }
+        return found;
+    }
+
+    // Whether a bound is the same for every iteration of the nest: it names no counter and nothing the body assigns
+    private boolean invariant(ParseTree bound, List<Symbol> counters, Set<Symbol> written, Function<Symbol, Object> find) {
+        if (!straight(bound, find, new ArrayList<>()) || !ahead(bound)) {
+            return false;
+        }
+        Set<Symbol> names = new HashSet<>();
+        names(bound, names);
+        return Collections.disjoint(names, counters) && Collections.disjoint(names, written);
+    }
+
+    // Whether the indexes but the last are the same in every iteration of the loop over innermost
+    private boolean rowInvariant(List<delphiParser.ExpressionContext> indexes, Symbol innermost, Set<Symbol> written) {
+        for (int i = 0; i < indexes.size() - 1; i++) {
+            Set<Symbol> names = new HashSet<>();
+            names(indexes.get(i), names);
+            if (names.contains(innermost) || !Collections.disjoint(names, written) || !ahead(indexes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The loops, by position in counters, outermost first: a loop whose
+     * counter indexes earlier dimensions, which are further apart in memory,
+     * runs further out. Loops that are as good as each other keep their order.
+     */
+    private int[] order(List<Symbol> counters, List<Access> accesses) {
+        long[] cost = new long[counters.size()];
+        for (Access access : accesses) {
+            int dimensions = access.indexes.size();
+            for (int d = 0; d < dimensions; d++) {
+                Set<Symbol> names = new HashSet<>();
+                names(access.indexes.get(d), names);
+                for (int c = 0; c < counters.size(); c++) {
+                    if (names.contains(counters.get(c))) {
+                        cost[c] += dimensions - 1 - d; // Dimensions after d: how far apart its elements are
+                    }
+                }
+            }
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int c = 0; c < counters.size(); c++) {
+            order.add(c);
+        }
+        order.sort((a, b) -> Long.compare(cost[b], cost[a])); // Stable: ties keep the order as written
+        int[] result = new int[order.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = order.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Whether expression can be computed before the loops that would compute
+     * it, even if they run no iteration: it reads no array element and cannot
+     * divide by zero.
+     */
+    private static boolean ahead(ParseTree expression) {
+        return !contains(expression, delphiParser.LBRACK) && !contains(expression, delphiParser.LBRACK2)
+            && !contains(expression, delphiParser.DIV) && !contains(expression, delphiParser.MOD)
+            && !contains(expression, delphiParser.SLASH);
+    }
+
+    private boolean same(List<delphiParser.ExpressionContext> a, List<delphiParser.ExpressionContext> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!same(a.get(i), b.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Whether a and b are the same rules over the same tokens; identifiers are compared as Symbols, so in any case
+    private boolean same(ParseTree a, ParseTree b) {
+        if (a instanceof TerminalNode || b instanceof TerminalNode) {
+            if (!(a instanceof TerminalNode) || !(b instanceof TerminalNode)) {
+                return false;
+            }
+            Token x = ((TerminalNode) a).getSymbol();
+            Token y = ((TerminalNode) b).getSymbol();
+            if (x.getType() != y.getType()) {
+                return false;
+            }
+            switch (x.getType()) {
+                case delphiParser.IDENT:
+                    return symbols.of(x) == symbols.of(y);
+                case delphiParser.NUM_INT:
+                case delphiParser.NUM_REAL:
+                case delphiParser.STRING_LITERAL:
+                    return x.getStopIndex() - x.getStartIndex() == y.getStopIndex() - y.getStartIndex()
+                        && x.getText().equals(y.getText());
+                default:
+                    return true; // Keywords and operators: the type says it all
+            }
+        }
+        if (a.getClass() != b.getClass() || a.getChildCount() != b.getChildCount()) {
+            return false;
+        }
+        for (int i = 0; i < a.getChildCount(); i++) {
+            if (!same(a.getChild(i), b.getChild(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void names(ParseTree node, Set<Symbol> names) {
+        if (node instanceof TerminalNode) {
+            Token token = ((TerminalNode) node).getSymbol();
+            if (token.getType() == delphiParser.IDENT) {
+                names.add(symbols.of(token));
+            }
+            return;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            names(node.getChild(i), names);
+        }
+    }
+
+    private static boolean contains(ParseTree node, int tokenType) {
+        if (node instanceof TerminalNode) {
+            return ((TerminalNode) node).getSymbol().getType() == tokenType;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (contains(node.getChild(i), tokenType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void tiled() {
+        tiled++;
+    }
+
+    void report(Diagnostics diag) {
+        if (nests > 0) {
+            diag.log(Level.INFO, "Interchanged {} of {} loop nests", interchanged, nests);
+        }
+        if (tiled > 0) {
+            diag.log(Level.INFO, "Tiled {} loop nests", tiled);
+        }
+    }
+}
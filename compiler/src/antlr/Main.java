@@ -1,61 +1,525 @@
 package antlr;
 
 import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.tree.*;
-
-import antlr.delphiLexer;
-import antlr.delphiParser;
 
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class Main {
+    private static final String USAGE =
+        "Usage: java -cp \"bin;antlr-4.9.3-complete.jar\" antlr.Main <filename.pas>\n"
+        + "       java -cp \"bin;antlr-4.9.3-complete.jar\" antlr.Main [--batch] [--jobs N] [--out-dir DIR] <file-or-dir>...\n"
+        + "Options: --fail-fast             stop at the first syntax error\n"
+        + "         --streaming             generate code while parsing, without building a parse tree\n"
+        + "         --ast                   generate code from a compact AST; the parse tree is dropped after parsing\n"
+        + "         --unbuffered            like --streaming, without keeping tokens either: bounded memory on huge sources\n"
+        + "         --fast-lexer            lex with the hand-written FastLexer, which takes keywords in any case\n"
+        + "         --no-range-checks       do not check array indexes against the bounds when the program runs\n"
+        + "         --tile N                run nests of FOR loops over arrays in tiles of N iterations per loop\n"
+        + "         --dfa-cache FILE        load pre-warmed parser/lexer DFAs from FILE if it exists\n"
+        + "         --save-dfa-cache FILE   save the warmed DFAs to FILE after compiling\n"
+        + "         --time-phases[=json]    report wall time, CPU time, allocation and retained heap per phase\n"
+        + "         --log-level LEVEL       print diagnostics down to LEVEL (error, warn, info, debug, trace); default warn\n"
+        + "         --trace-file FILE       also write every diagnostic, down to trace, to FILE as JSON lines";
+
     public static void main(String[] args) {
+        // Ensure a file name is provided as an argument
+        if (args.length == 0) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        List<String> rest = new ArrayList<>(Arrays.asList(args));
+        boolean failFast = rest.remove("--fail-fast");
+        Mode mode = rest.remove("--streaming") ? Mode.STREAMING : rest.remove("--ast") ? Mode.AST
+            : rest.remove("--unbuffered") ? Mode.UNBUFFERED : Mode.TREE;
+        boolean fastLexer = rest.remove("--fast-lexer");
+        String tile = takeOption(rest, "--tile");
+        Codegen codegen;
+        try {
+            codegen = new Codegen(!rest.remove("--no-range-checks"), tile != null ? Integer.parseInt(tile) : 0);
+        } catch (NumberFormatException e) {
+            System.err.println("Not a tile size: " + tile + "\n" + USAGE);
+            System.exit(2);
+            return;
+        }
+        String dfaCache = takeOption(rest, "--dfa-cache");
+        String saveDfaCache = takeOption(rest, "--save-dfa-cache");
+        Report report = rest.remove("--time-phases") ? Report.TEXT
+            : rest.remove("--time-phases=json") ? Report.JSON : rest.remove("--time-phases=text") ? Report.TEXT
+            : Report.NONE;
+        String logLevel = takeOption(rest, "--log-level");
+        String traceFile = takeOption(rest, "--trace-file");
+
+        Logging logging;
+        try {
+            logging = new Logging(logLevel != null ? Diagnostics.Level.valueOf(logLevel.toUpperCase()) : Diagnostics.Level.WARN,
+                traceFile);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log level: " + logLevel + "\n" + USAGE);
+            System.exit(2);
+            return;
+        } catch (IOException e) {
+            System.err.println("Could not open trace file " + traceFile + ": " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        if (dfaCache != null) {
+            loadDfaCache(new File(dfaCache));
+        }
+
+        // One plain file keeps the original behaviour: compile it to output.ll
+        int status;
+        if (rest.size() == 1 && !rest.get(0).startsWith("--") && !new File(rest.get(0)).isDirectory()) {
+            status = compileSingle(rest.get(0), failFast, fastLexer, codegen, mode, report, logging);
+        } else {
+            status = runBatch(rest, failFast, fastLexer, codegen, mode, report, logging);
+        }
+        logging.close();
+
+        if (saveDfaCache != null) {
+            try {
+                DfaCache.save(new File(saveDfaCache));
+            } catch (IOException e) {
+                System.err.println("Could not save DFA cache " + saveDfaCache + ": " + e.getMessage());
+            }
+        }
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    // Removes "name value" from args and returns the value, or null if the option is absent.
+    private static String takeOption(List<String> args, String name) {
+        int i = args.indexOf(name);
+        if (i < 0 || i + 1 >= args.size()) {
+            return null;
+        }
+        String value = args.remove(i + 1);
+        args.remove(i);
+        return value;
+    }
+
+    private static void loadDfaCache(File file) {
+        if (!file.isFile()) {
+            return; // Nothing saved yet; run cold
+        }
+        try {
+            if (!DfaCache.load(file)) {
+                System.err.println("Ignoring DFA cache " + file + ": it was built for a different grammar");
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring DFA cache " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Compiles one file to output.ll in the working directory. Like a file in batch
+     * mode, a syntax or compile error leaves no output.ll behind and returns 1.
+     */
+    private static int compileSingle(String filePath, boolean failFast, boolean fastLexer, Codegen codegen,
+                                     Mode mode, Report report, Logging logging) {
+        Path target = Paths.get("output.ll");
+        ErrorListener errors = new ErrorListener();
+        PhaseTimer timer = report.timer(filePath);
+        Diagnostics diag = logging.forSource(filePath);
+        boolean ok;
         try {
-            // Ensure a file name is provided as an argument
-            if (args.length == 0) {
-                System.err.println("Usage: java -cp \"bin;antlr-4.9.3-complete.jar\" antlr.Main <filename.pas>");
+            // Open the provided file for the lexer
+            timer.start("read");
+            try (SourceFile source = open(Paths.get(filePath), fastLexer, mode)) {
+                timer.stop();
+
+                // Lex, parse and lower straight into output.ll; syntax errors are reported through ErrorListener
+                try (FileChannel out = openOutput(target)) {
+                    compile(source.lexer, errors, failFast, codegen, mode, out, timer, diag);
+                }
+            }
+            ok = errors.getErrorCount() == 0;
+        } catch (Exception | Error e) {
+            // --fail-fast aborts on a syntax error ErrorListener has already printed
+            if (errors.getErrorCount() == 0) {
+                System.err.println("Error: " + (e.getMessage() != null ? e.getMessage() : e.toString()));
+            }
+            ok = false;
+        }
+        report.print(timer);
+        if (!ok) {
+            target.toFile().delete(); // Don't leave a partially streamed module behind
+            diag.log(Diagnostics.Level.ERROR, "Compilation failed; no output.ll written");
+            return 1;
+        }
+
+        // Final message (no parse tree dump is printed)
+        diag.log(Diagnostics.Level.INFO, "Parsing completed successfully!");
+        return 0;
+    }
+
+    /**
+     * Batch mode: compiles every .pas file named on the command line (directories are
+     * searched recursively) on a bounded work-stealing pool, writing name.ll next to
+     * each source or into --out-dir. Prints per-file wall time and returns a non-zero
+     * exit code if any file failed to lex, parse or lower.
+     */
+    static int runBatch(List<String> args, boolean failFast, boolean fastLexer, Codegen codegen, Mode mode,
+                        Report report, Logging logging) {
+        int jobs = Runtime.getRuntime().availableProcessors();
+        File outDir = null;
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < args.size(); i++) {
+            String option = args.get(i);
+            if ((option.equals("--jobs") || option.equals("--out-dir")) && i + 1 >= args.size()) {
+                System.err.println("Missing value for " + option + "\n" + USAGE);
+                return 2;
+            }
+            switch (option) {
+                case "--batch":
+                    break;
+                case "--jobs":
+                    try {
+                        jobs = Integer.parseInt(args.get(++i));
+                    } catch (NumberFormatException e) {
+                        System.err.println("Not a number of jobs: " + args.get(i) + "\n" + USAGE);
+                        return 2;
+                    }
+                    break;
+                case "--out-dir":
+                    outDir = new File(args.get(++i));
+                    break;
+                default:
+                    if (args.get(i).startsWith("--")) {
+                        System.err.println("Unknown option: " + args.get(i) + "\n" + USAGE);
+                        return 2;
+                    }
+                    collectSources(new File(args.get(i)), files);
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("No .pas files found.\n" + USAGE);
+            return 2;
+        }
+        if (outDir != null) {
+            outDir.mkdirs();
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, jobs));
+        List<ForkJoinTask<BatchResult>> tasks = new ArrayList<>();
+        for (File file : files) {
+            final File target = outputFile(file, outDir);
+            tasks.add(pool.submit(() -> compileFile(file, target, failFast, fastLexer, codegen, mode, report, logging)));
+        }
+
+        int failures = 0;
+        StringBuilder summary = new StringBuilder();
+        for (ForkJoinTask<BatchResult> task : tasks) {
+            BatchResult result = task.join();
+            if (!result.ok) {
+                failures++;
+            }
+            summary.append(String.format("%-6s %8.1f ms  %s%s%n", result.ok ? "OK" : "FAILED",
+                result.nanos / 1e6, result.source, result.ok ? "" : "  (" + result.message + ")"));
+            summary.append(report.format(result.timer));
+        }
+        pool.shutdown();
+
+        System.err.print(summary);
+        System.err.printf("%d files, %d failed, %.1f ms total on %d threads%n",
+            files.size(), failures, (System.nanoTime() - start) / 1e6, pool.getParallelism());
+        return failures == 0 ? 0 : 1;
+    }
+
+    private static BatchResult compileFile(File source, File target, boolean failFast, boolean fastLexer,
+                                           Codegen codegen, Mode mode, Report report, Logging logging) {
+        long start = System.nanoTime();
+        ErrorListener errors = new ErrorListener(source.getPath());
+        PhaseTimer timer = report.timer(source.getPath());
+        BatchResult result;
+        try {
+            timer.start("read");
+            try (SourceFile input = open(source.toPath(), fastLexer, mode);
+                 FileChannel out = openOutput(target.toPath())) {
+                timer.stop();
+                compile(input.lexer, errors, failFast, codegen, mode, out, timer, logging.forSource(source.getPath()));
+            }
+            if (errors.getErrorCount() > 0) {
+                result = new BatchResult(source, false, errors.getErrorCount() + " syntax error(s)", System.nanoTime() - start);
+            } else {
+                result = new BatchResult(source, true, null, System.nanoTime() - start);
+            }
+        } catch (Exception | Error e) {
+            // An Error too (a StackOverflowError from one deeply nested file) fails this file, not the batch
+            System.err.println(source + ": Error: " + e);
+            String message = e.getMessage() != null ? e.getMessage() : e.toString();
+            result = new BatchResult(source, false, message, System.nanoTime() - start);
+        }
+        result.timer = timer;
+        if (!result.ok) {
+            target.delete(); // Don't leave a partially streamed module behind
+        }
+        return result;
+    }
+
+    private static void compile(TokenSource lexer, ErrorListener errors, boolean failFast, Codegen codegen,
+                                Mode mode, FileChannel out, PhaseTimer timer, Diagnostics diag) throws IOException {
+        if (timer.isEnabled()) {
+            compileTimed(lexer, errors, failFast, codegen, mode, out, timer, diag);
+            return;
+        }
+        switch (mode) {
+            case STREAMING:
+                // A rerun in LL mode starts the file over
+                DelphiCompiler.compileStreaming(lexer, errors, failFast, () -> {
+                    try {
+                        out.truncate(0);
+                        out.position(0);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return generator(new LLVMGenerator(out), codegen);
+                }, PhaseTimer.NONE, diag);
+                break;
+            case AST:
+                DelphiCompiler.compileAst(lexer, errors, failFast, generator(new LLVMGenerator(out), codegen),
+                    PhaseTimer.NONE, diag);
+                break;
+            case UNBUFFERED:
+                DelphiCompiler.compileUnbuffered(lexer, errors, failFast, generator(new LLVMGenerator(out), codegen),
+                    PhaseTimer.NONE, diag);
+                break;
+            default:
+                DelphiCompiler.compile(lexer, errors, failFast, generator(new LLVMGenerator(out), codegen),
+                    PhaseTimer.NONE, diag);
+        }
+    }
+
+    /**
+     * Like compile(), but the module is kept in memory and written out as a phase of
+     * its own, so that lowering and I/O are timed separately.
+     */
+    private static void compileTimed(TokenSource lexer, ErrorListener errors, boolean failFast, Codegen codegen,
+                                     Mode mode, FileChannel out, PhaseTimer timer, Diagnostics diag) throws IOException {
+        LLVMGenerator llvm;
+        switch (mode) {
+            case STREAMING:
+                llvm = DelphiCompiler.compileStreaming(lexer, errors, failFast,
+                    () -> generator(new LLVMGenerator(), codegen), timer, diag);
+                break;
+            case AST:
+                llvm = DelphiCompiler.compileAst(lexer, errors, failFast, generator(new LLVMGenerator(), codegen),
+                    timer, diag);
+                break;
+            case UNBUFFERED:
+                llvm = DelphiCompiler.compileUnbuffered(lexer, errors, failFast,
+                    generator(new LLVMGenerator(), codegen), timer, diag);
+                break;
+            default:
+                llvm = DelphiCompiler.compile(lexer, errors, failFast, generator(new LLVMGenerator(), codegen),
+                    timer, diag);
+        }
+        timer.start("write");
+        Writer writer = Channels.newWriter(out, StandardCharsets.UTF_8);
+        llvm.writeTo(writer);
+        writer.flush();
+        timer.stop();
+    }
+
+    private static LLVMGenerator generator(LLVMGenerator llvm, Codegen codegen) {
+        llvm.setRangeChecks(codegen.rangeChecks);
+        llvm.setTileSize(codegen.tileSize);
+        return llvm;
+    }
+
+    /**
+     * Opens a source file for lexing. An ASCII file is memory-mapped and lexed in
+     * place; anything else is decoded into memory once, or read incrementally
+     * with --unbuffered. FastLexer always works on the decoded chars.
+     */
+    private static SourceFile open(Path path, boolean fastLexer, Mode mode) throws IOException {
+        if (fastLexer) {
+            return new SourceFile(FastLexer.fromPath(path, true), null);
+        }
+        CharStream mapped = MappedCharStream.map(path);
+        if (mapped != null) {
+            return new SourceFile(new delphiLexer(mapped), null);
+        }
+        if (mode == Mode.UNBUFFERED) {
+            InputStream in = Files.newInputStream(path);
+            UnbufferedCharStream chars = new UnbufferedCharStream(in, 4096, StandardCharsets.UTF_8);
+            chars.name = path.toString();
+            return new SourceFile(new delphiLexer(chars), in);
+        }
+        return new SourceFile(new delphiLexer(CharStreams.fromPath(path, StandardCharsets.UTF_8)), null);
+    }
+
+    private static FileChannel openOutput(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static File outputFile(File source, File outDir) {
+        String name = source.getName();
+        name = name.substring(0, name.length() - ".pas".length()) + ".ll";
+        return outDir != null ? new File(outDir, name) : new File(source.getParentFile(), name);
+    }
+
+    private static void collectSources(File path, List<File> files) {
+        if (path.isDirectory()) {
+            File[] children = path.listFiles();
+            if (children == null) {
                 return;
             }
+            Arrays.sort(children);
+            for (File child : children) {
+                collectSources(child, files);
+            }
+        } else if (path.getName().endsWith(".pas")) {
+            files.add(path);
+        } else if (!path.exists()) {
+            System.err.println("No such file: " + path);
+        }
+    }
 
-            // Read the provided file
-            String filePath = args[0];
-            String delphiCode = new String(Files.readAllBytes(Paths.get(filePath)), StandardCharsets.UTF_8);
+    // Which code generator lowers the program
+    enum Mode { TREE, STREAMING, AST, UNBUFFERED }
 
-            // Create an ANTLR input stream
-            CharStream input = CharStreams.fromString(delphiCode);
+    // A lexer over an opened source file, and the stream it reads from if that has to be closed
+    private static final class SourceFile implements Closeable {
+        final TokenSource lexer;
+        private final Closeable stream;
 
-            // Create a lexer and parser
-            delphiLexer lexer = new delphiLexer(input);
-            CommonTokenStream tokens = new CommonTokenStream(lexer);
-            delphiParser parser = new delphiParser(tokens);
+        SourceFile(TokenSource lexer, Closeable stream) {
+            this.lexer = lexer;
+            this.stream = stream;
+        }
 
-            // Set up error listener to catch syntax errors
-            parser.removeErrorListeners();
-            parser.addErrorListener(new ErrorListener());
+        @Override
+        public void close() throws IOException {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
 
-            // Parse the program
-            ParseTree tree = parser.program();
+    // How the generator lowers what it can lower more than one way: --no-range-checks and --tile
+    static final class Codegen {
+        final boolean rangeChecks;
+        final int tileSize;
 
-            // Use DelphiVisitorImpl to walk through the tree
-            DelphiVisitorImpl visitor = new DelphiVisitorImpl();
-            visitor.visit(tree);
+        Codegen(boolean rangeChecks, int tileSize) {
+            this.rangeChecks = rangeChecks;
+            this.tileSize = tileSize;
+        }
+    }
 
-            // Final message (no parse tree dump is printed)
-            System.out.println("\nParsing completed successfully!");
-        } catch (Exception e) {
-            System.err.println("Error: " + e.getMessage());
-            e.printStackTrace();
+    // Where diagnostics go: stderr down to --log-level, plus every level to --trace-file as JSON lines
+    static final class Logging {
+        private final StreamDiagnostics console;
+        private final StreamDiagnostics traceFile;
+        private final PrintStream traceOut;
+
+        Logging(Diagnostics.Level level, String traceFile) throws IOException {
+            this.console = new StreamDiagnostics(System.err, level, false, null);
+            if (traceFile != null) {
+                traceOut = new PrintStream(new BufferedOutputStream(new FileOutputStream(traceFile)), false,
+                    StandardCharsets.UTF_8);
+                this.traceFile = new StreamDiagnostics(traceOut, Diagnostics.Level.TRACE, true, null);
+            } else {
+                traceOut = null;
+                this.traceFile = null;
+            }
+        }
+
+        Diagnostics forSource(String source) {
+            Diagnostics diag = console.forSource(source);
+            return traceFile == null ? diag : Diagnostics.both(diag, traceFile.forSource(source));
+        }
+
+        void close() {
+            if (traceOut != null) {
+                traceOut.close();
+            }
+        }
+    }
+
+    // What --time-phases prints, to stderr
+    enum Report {
+        NONE, TEXT, JSON;
+
+        PhaseTimer timer(String source) {
+            return this == NONE ? PhaseTimer.NONE : new PhaseTimer(source);
+        }
+
+        String format(PhaseTimer timer) {
+            if (this == NONE || timer == null) {
+                return "";
+            }
+            return (this == JSON ? timer.toJson() : timer.toText()) + System.lineSeparator();
+        }
+
+        void print(PhaseTimer timer) {
+            System.err.print(format(timer));
+        }
+    }
+
+    static class BatchResult {
+        final File source;
+        final boolean ok;
+        final String message;
+        final long nanos;
+        PhaseTimer timer;
+
+        BatchResult(File source, boolean ok, String message, long nanos) {
+            this.source = source;
+            this.ok = ok;
+            this.message = message;
+            this.nanos = nanos;
         }
     }
 
     // Custom Error Listener for better debugging
     static class ErrorListener extends BaseErrorListener {
+        private final String fileName;
+        private int errorCount = 0;
+
+        ErrorListener() {
+            this(null);
+        }
+
+        ErrorListener(String fileName) {
+            this.fileName = fileName;
+        }
+
+        int getErrorCount() {
+            return errorCount;
+        }
+
         @Override
         public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol,
                                 int line, int charPositionInLine, String msg, RecognitionException e) {
-            System.err.println("Syntax Error at line " + line + ":" + charPositionInLine + " -> " + msg);
+            errorCount++;
+            String where = fileName != null ? fileName + ": " : "";
+            System.err.println(where + "Syntax Error at line " + line + ":" + charPositionInLine + " -> " + msg);
         }
     }
 }
@@ -0,0 +1,135 @@
+package antlr;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A CharStream over a memory-mapped ASCII file: each byte is one character, so
+ * the lexer reads the page cache directly and the source is never copied onto
+ * the heap. Token text is decoded from the mapping when it is asked for.
+ *
+ * Only ASCII can be read this way, because CharStream indexes are code points;
+ * {@link #map} returns null for anything else and the caller decodes the file
+ * as usual.
+ */
+public final class MappedCharStream implements CharStream {
+    private final ByteBuffer bytes;
+    private final int size;
+    private final String name;
+    private int index;
+
+    private MappedCharStream(ByteBuffer bytes, String name) {
+        this.bytes = bytes;
+        this.size = bytes.limit();
+        this.name = name;
+    }
+
+    /**
+     * Maps the file, or returns null if it is not plain ASCII or too large for
+     * int indexes. The mapping stays valid after this returns and is released
+     * when the stream is garbage collected.
+     */
+    public static MappedCharStream map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                return null;
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return isAscii(bytes) ? new MappedCharStream(bytes, path.toString()) : null;
+        }
+    }
+
+    private static boolean isAscii(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        int i = 0;
+        for (; i + 8 <= limit; i += 8) {
+            if ((bytes.getLong(i) & 0x8080808080808080L) != 0) {
+                return false;
+            }
+        }
+        for (; i < limit; i++) {
+            if (bytes.get(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        if (length <= 0) {
+            return "";
+        }
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (char) bytes.get(start + i);
+        }
+        return new String(text);
+    }
+
+    @Override
+    public void consume() {
+        if (index >= size) {
+            throw new IllegalStateException("cannot consume EOF");
+        }
+        index++;
+    }
+
+    @Override
+    public int LA(int i) {
+        int offset;
+        if (i > 0) {
+            offset = index + i - 1;
+        } else if (i < 0) {
+            offset = index + i;
+        } else {
+            return 0; // Undefined
+        }
+        return offset < 0 || offset >= size ? IntStream.EOF : bytes.get(offset);
+    }
+
+    // The whole file stays addressable, so marks are free
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return index;
+    }
+
+    @Override
+    public void seek(int index) {
+        this.index = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return getText(Interval.of(0, size - 1));
+    }
+}
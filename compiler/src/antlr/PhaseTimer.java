@@ -0,0 +1,131 @@
+package antlr;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-phase cost of one compilation, for --time-phases. For every phase it
+ * records wall time, CPU time and bytes allocated by the compiling thread, and
+ * the heap still in use after a full GC once the phase is over (what the
+ * phase's results keep alive).
+ *
+ * CPU time and allocation are per thread, so they are exact in batch mode too.
+ * Retained heap is process-wide; run batch mode with --jobs 1 to attribute it
+ * to a single file. {@link #NONE} records nothing and costs nothing.
+ */
+public final class PhaseTimer {
+    public static final PhaseTimer NONE = new PhaseTimer(null);
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String source;
+    private final List<Phase> phases = new ArrayList<>();
+    private Phase current;
+
+    public PhaseTimer(String source) {
+        this.source = source;
+    }
+
+    public boolean isEnabled() {
+        return this != NONE;
+    }
+
+    public void start(String phase) {
+        if (this == NONE) {
+            return;
+        }
+        stop();
+        current = new Phase(phase);
+        current.cpuNanos = cpuTime();
+        current.allocatedBytes = allocatedBytes();
+        current.wallNanos = System.nanoTime();
+    }
+
+    public void stop() {
+        if (this == NONE || current == null) {
+            return;
+        }
+        current.wallNanos = System.nanoTime() - current.wallNanos;
+        current.cpuNanos = cpuTime() - current.cpuNanos;
+        current.allocatedBytes = allocatedBytes() - current.allocatedBytes;
+        current.retainedBytes = retainedHeap();
+        phases.add(current);
+        current = null;
+    }
+
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(source).append('\n');
+        sb.append(String.format("  %-12s %10s %10s %12s %12s%n", "phase", "wall ms", "cpu ms", "alloc KB", "retained KB"));
+        long wall = 0;
+        long cpu = 0;
+        long allocated = 0;
+        for (Phase phase : phases) {
+            sb.append(String.format("  %-12s %10.2f %10.2f %12.1f %12.1f%n", phase.name, phase.wallNanos / 1e6,
+                phase.cpuNanos / 1e6, phase.allocatedBytes / 1024.0, phase.retainedBytes / 1024.0));
+            wall += phase.wallNanos;
+            cpu += phase.cpuNanos;
+            allocated += phase.allocatedBytes;
+        }
+        sb.append(String.format("  %-12s %10.2f %10.2f %12.1f%n", "total", wall / 1e6, cpu / 1e6, allocated / 1024.0));
+        return sb.toString();
+    }
+
+    // One JSON object per compilation, on one line
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\"source\":\"");
+        for (char c : String.valueOf(source).toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        sb.append("\",\"phases\":[");
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            sb.append(i > 0 ? "," : "")
+                .append("{\"phase\":\"").append(phase.name)
+                .append("\",\"wallNanos\":").append(phase.wallNanos)
+                .append(",\"cpuNanos\":").append(phase.cpuNanos)
+                .append(",\"allocatedBytes\":").append(phase.allocatedBytes)
+                .append(",\"retainedBytes\":").append(phase.retainedBytes)
+                .append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0; // Not available on this JVM
+    }
+
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static final class Phase {
+        public final String name;
+        public long wallNanos;
+        public long cpuNanos;
+        public long allocatedBytes;
+        public long retainedBytes;
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+}
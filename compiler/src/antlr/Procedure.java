@@ -1,119 +1,124 @@
 package antlr;
 
+import java.util.Collections;
 import java.util.List;
 
-import antlr.Scope;
-import antlr.Instance;
-import antlr.DelphiVisitorImpl;
+import antlr.Value.Type;
 
 
+/**
+ * A declared procedure, function or method: what a call needs to know about
+ * it. Each one is lowered once into its own LLVM function (see
+ * {@link #getFunction}); a method's function takes the instance as an extra
+ * first argument.
+ */
 public class Procedure {
-    private final List<String> parameters;
+    private final Symbol name;
+    private final List<Symbol> parameters;
+    private final List<Type> parameterTypes;
+    private final Type resultType;
     private final delphiParser.BlockContext block;
-    private final String functionName;
+    private final Symbol functionName;
+    private final ClassLayout owner;
+    private String function;
+    private List<Binder.Capture> captures = Collections.emptyList();
+    private boolean defined;
 
-    public Procedure(List<String> parameters, delphiParser.BlockContext block) {
+    public Procedure(List<Symbol> parameters, delphiParser.BlockContext block) {
         this(parameters, block, null);  // default functionName is null
     }
 
     // Constructor for functions
-    public Procedure(List<String> parameters, delphiParser.BlockContext block, String functionName) {
+    public Procedure(List<Symbol> parameters, delphiParser.BlockContext block, Symbol functionName) {
+        this(functionName, parameters, Collections.nCopies(parameters.size(), Type.I32),
+            functionName != null ? Type.I32 : Type.VOID, block, null);
+    }
+
+    /**
+     * @param resultType VOID for a procedure
+     * @param owner      the class this is a method of, or null
+     */
+    public Procedure(Symbol name, List<Symbol> parameters, List<Type> parameterTypes, Type resultType,
+                     delphiParser.BlockContext block, ClassLayout owner) {
+        this.name = name;
         this.parameters = parameters;
+        this.parameterTypes = parameterTypes;
+        this.resultType = resultType;
         this.block = block;
-        this.functionName = functionName;
-    }
-
-    // public Procedure(List<String> parameters, delphiParser.BlockContext block) {
-    //     this.parameters = parameters;
-    //     this.block = block;
-    // }
-
-    // public Object call(List<Object> arguments, Scope callerScope, DelphiVisitorImpl visitor) {
-    //     Scope localScope = new Scope(callerScope);
-    
-    //     for (int i = 0; i < parameters.size(); i++) {
-    //         localScope.define(parameters.get(i), arguments.get(i));
-    //     }
-    
-    //     // Correct way to fetch self for method body
-    //     Object maybeSelf = localScope.resolve("self");
-    //     Instance oldSelf = visitor.getCurrentSelf();
-    
-    //     if (maybeSelf instanceof Instance) {
-    //         visitor.setCurrentSelf((Instance) maybeSelf);
-    //     }
-    
-    //     visitor.setCurrentScope(localScope);
-    //     Object result = block.accept(visitor);
-    //     visitor.setCurrentScope(callerScope);
-    //     visitor.setCurrentSelf(oldSelf);
-    
-    //     return result;
-    // }
-
-    public List<String> getParameters() {
+        this.functionName = resultType != Type.VOID ? name : null;
+        this.owner = owner;
+        this.function = name == null ? null : owner == null ? name.name : owner.name.name + "." + name.name;
+    }
+
+    public Symbol getName() {
+        return name;
+    }
+
+    public List<Symbol> getParameters() {
         return parameters;
     }
 
+    public List<Type> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public Type getResultType() {
+        return resultType;
+    }
+
     public delphiParser.BlockContext getBlock() {
         return block;
     }
 
-    public String getFunctionName() {
+    public Symbol getFunctionName() {
         return functionName; // ✅ Added getter
     }
 
-    // public Object call(List<Object> args, Scope callerScope, DelphiVisitorImpl visitor) {
-    //     Scope procScope = new Scope(callerScope);
-    
-    //     for (int i = 0; i < parameters.size(); i++) {
-    //         procScope.define(parameters.get(i), args.get(i));
-    //     }
-    
-    //     // Define function name as a return variable
-    //     String returnVarName = this.getFunctionName(); // you'll need to track this
-    //     if (returnVarName != null) {
-    //         procScope.define(returnVarName, null); // default
-    //     }
-    
-    //     visitor.pushScope();
-    //     visitor.setCurrentScope(procScope);
-    //     visitor.visit(block);
-    //     visitor.setCurrentScope(procScope.getParent());
-    //     visitor.popScope();
-    
-    //     return returnVarName != null ? procScope.resolve(returnVarName) : null;
-    // }
-    
-    public Object call(List<Object> args, Scope outerScope, DelphiVisitorImpl visitor) {
-        Scope functionScope = new Scope(outerScope);
-    
-        // Bind parameters
-        for (int i = 0; i < parameters.size(); i++) {
-            functionScope.define(parameters.get(i), args.get(i));
-        }
-    
-        // Define a variable for the function name to hold return value
-        if (functionName != null && !functionName.isEmpty()) {
-            functionScope.define(functionName, null);
+    public ClassLayout getOwner() {
+        return owner;
+    }
+
+    /**
+     * The variables of enclosing routines the body uses, directly or through
+     * the routines it calls; the function takes their addresses after its
+     * parameters.
+     */
+    public List<Binder.Capture> getCaptures() {
+        return captures;
+    }
+
+    void setCaptures(List<Binder.Capture> captures) {
+        this.captures = captures;
+    }
+
+    // Name of the LLVM function: the routine's own, or <class>.<method> for a method, unless
+    // the module already had that name (see LLVMGenerator#moduleName)
+    public String getFunction() {
+        return function;
+    }
+
+    void setFunction(String function) {
+        this.function = function;
+    }
+
+    /** Whether the body has been lowered, so that {@link #getFunction} exists in the module. */
+    public boolean isDefined() {
+        return defined;
+    }
+
+    void markDefined() {
+        defined = true;
+    }
+
+    // The LLVM type of a pointer to the function, e.g. i32 (%class.x*, i32)*, with self of type self
+    String pointerType(Type self) {
+        StringBuilder sb = new StringBuilder().append(resultType).append(" (");
+        if (owner != null) {
+            sb.append(self);
         }
-    
-        // Save old scope
-        Scope previousScope = visitor.getCurrentScope();
-        visitor.setCurrentScope(functionScope);
-    
-        // Visit the block (function body)
-        visitor.visit(block);
-    
-        // Restore old scope
-        visitor.setCurrentScope(previousScope);
-    
-        // Return the value stored in the function name variable
-        if (functionName != null && !functionName.isEmpty()) {
-            return functionScope.resolve(functionName);
-        } else {
-            return null;
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            sb.append(i > 0 || owner != null ? ", " : "").append(parameterTypes.get(i));
         }
+        return sb.append(")*").toString();
     }
-    
 }
@@ -0,0 +1,150 @@
+package antlr;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import antlr.Diagnostics.Level;
+import antlr.Value.Constant;
+import antlr.Value.Global;
+import antlr.Value.Slot;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Decides which array indexes need a range check, and counts how many do not.
+ * A constant index is checked when it is compiled. Of the others, those whose
+ * values are known to be within the bounds need none: sums and differences of
+ * integer literals and counters of enclosing FOR loops, while the loop runs
+ * from one constant to another and its body cannot assign the counter. In
+ * {@code FOR i := 1 TO 10 DO a[i] := a[i - 1]}, with a declared
+ * {@code ARRAY[0..10]}, neither index is checked.
+ */
+final class RangeChecks {
+    // What each FOR counter being lowered runs through, as {first, last}, if that is known
+    private final Map<Slot, long[]> counters = new HashMap<>();
+    private final SymbolTable symbols;
+    private int checks;
+    private int eliminated;
+
+    RangeChecks(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * Called before the body of a FOR loop over counter is lowered: records
+     * that the counter runs from start to end, if the bounds were lowered to
+     * constants and body, lowered in scope, cannot assign it. {@link #exit}
+     * forgets it again.
+     */
+    void enter(Symbol name, Slot counter, Object start, Object end, ParseTree body, Scope scope) {
+        if (start instanceof Constant && end instanceof Constant && !assigns(body, name, counter instanceof Global, scope)) {
+            counters.put(counter, new long[] {((Constant) start).value, ((Constant) end).value});
+        }
+    }
+
+    void exit(Slot counter) {
+        counters.remove(counter);
+    }
+
+    /**
+     * Whether node may assign the counter name: an assignment to it or a FOR
+     * loop over it, or, for a global that routines can see, a call of a routine
+     * or method.
+     */
+    private boolean assigns(ParseTree node, Symbol name, boolean global, Scope scope) {
+        if (node instanceof TerminalNode) {
+            TerminalNode terminal = (TerminalNode) node;
+            int type = terminal.getSymbol().getType();
+            return global && (type == delphiParser.DOT
+                || (type == delphiParser.IDENT && scope.find(symbols.of(terminal.getSymbol())) instanceof Procedure));
+        }
+        if (node instanceof delphiParser.AssignmentStatementContext) {
+            delphiParser.AssignmentStatementContext assignment = (delphiParser.AssignmentStatementContext) node;
+            delphiParser.VariableContext target = assignment.variable();
+            if (target != null ? target.getChildCount() == 1 && symbols.of(target.getStart()) == name
+                    : assignment.identifier().size() == 1 && symbols.of(assignment.getStart()) == name) {
+                return true;
+            }
+        } else if (node instanceof delphiParser.ForStatementContext
+                && symbols.of(((delphiParser.ForStatementContext) node).identifier().getStart()) == name) {
+            return true;
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (assigns(node.getChild(i), name, global, scope)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether index, a non-constant index into array, has to be checked.
+     * @param lookup what an identifier where index is used refers to
+     */
+    boolean needed(ArrayLayout array, delphiParser.ExpressionContext index,
+                   Function<delphiParser.IdentifierContext, Object> lookup) {
+        checks++;
+        if (inRange(array, index, lookup)) {
+            eliminated++;
+            return false;
+        }
+        return true;
+    }
+
+    /** Whether index is known to be within the bounds of array; unlike {@link #needed}, counts nothing. */
+    boolean inRange(ArrayLayout array, delphiParser.ExpressionContext index,
+                    Function<delphiParser.IdentifierContext, Object> lookup) {
+        long[] range = range(index, lookup);
+        return range != null && array.contains(range[0], range[1]);
+    }
+
+    // The values index can take, as {min, max}, if it only adds and subtracts literals and known counters; else null
+    private long[] range(delphiParser.ExpressionContext index, Function<delphiParser.IdentifierContext, Object> lookup) {
+        if (index.simpleExpression().size() != 1 || index.simpleExpression(0).functionDesignator() != null) {
+            return null;
+        }
+        delphiParser.SimpleExpressionContext sum = index.simpleExpression(0);
+        long min = 0;
+        long max = 0;
+        for (int i = 0; i < sum.term().size(); i++) {
+            long[] term = range(sum.term(i), lookup);
+            if (term == null) {
+                return null;
+            }
+            if (i > 0 && sum.additiveoperator(i - 1).MINUS() != null) {
+                min -= term[1];
+                max -= term[0];
+            } else if (i > 0 && sum.additiveoperator(i - 1).PLUS() == null) {
+                return null; // OR
+            } else {
+                min += term[0];
+                max += term[1];
+            }
+        }
+        return new long[] {min, max};
+    }
+
+    private long[] range(delphiParser.TermContext term, Function<delphiParser.IdentifierContext, Object> lookup) {
+        if (term.signedFactor().size() != 1 || term.signedFactor(0).PLUS() != null || term.signedFactor(0).MINUS() != null) {
+            return null;
+        }
+        delphiParser.FactorContext factor = term.signedFactor(0).factor();
+        if (factor.unsignedConstant() != null && factor.unsignedConstant().unsignedNumber() != null
+                && factor.unsignedConstant().unsignedNumber().unsignedInteger() != null) {
+            long value = Long.parseLong(factor.getText());
+            return new long[] {value, value};
+        }
+        if (factor.variable() != null && factor.variable().getChildCount() == 1) {
+            Object counter = lookup.apply(factor.variable().identifier(0));
+            return counter instanceof Slot ? counters.get(counter) : null;
+        }
+        return null;
+    }
+
+    void report(Diagnostics diag) {
+        if (checks > 0) {
+            diag.log(Level.INFO, "Eliminated {} of {} array range checks", eliminated, checks);
+        }
+    }
+}
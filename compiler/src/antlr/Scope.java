@@ -1,52 +1,194 @@
 package antlr;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+/**
+ * One frame of lexical scope. Names are interned Symbols and each name gets a
+ * slot, in the order the names were defined, so a name that was resolved once
+ * (see {@link Binder}) is read back by {@link #get(Binding)} without looking at
+ * any names: a walk of {@code depth} parents and an array access, or straight to
+ * the root frame for program-level names.
+ */
 public class Scope {
-    private Map<String, Object> symbols = new HashMap<>();
-    private Scope parent;
+    /**
+     * Where a definition lives relative to the frame that looked it up:
+     * {@code depth} frames up, or in the root frame when {@code depth} is
+     * {@link #GLOBAL}, at {@code slot}.
+     */
+    public static final class Binding {
+        static final int GLOBAL = -1;
+
+        /** Resolved and found nowhere; looking again by name would not find it either. */
+        public static final Binding UNDEFINED = new Binding(GLOBAL, Integer.MAX_VALUE);
+
+        public final int depth;
+        public final int slot;
+
+        Binding(int depth, int slot) {
+            this.depth = depth;
+            this.slot = slot;
+        }
+
+        @Override
+        public String toString() {
+            return this == UNDEFINED ? "undefined" : depth == GLOBAL ? "global " + slot : depth + ":" + slot;
+        }
+    }
+
+    // Frames with more names than this also keep a hash index, so the root frame
+    // of a program with thousands of routines is not scanned name by name
+    private static final int SCAN = 8;
+
+    private final Scope parent;
+    private final Scope root;
+    private Symbol[] names = new Symbol[4];
+    private Object[] values = new Object[4];
+    private int size;
+    private int[] index; // slot + 1 by symbol id, open addressing
 
     public Scope(Scope parent) {
         this.parent = parent;
+        this.root = parent == null ? this : parent.root;
     }
 
     public Scope getParent() {
         return parent;
     }
 
-    // Always define names in lower-case.
-    public void define(String name, Object value) {
-        symbols.put(name.toLowerCase(), value);
+    /** Defines name in this frame, or replaces its value if it is already here; returns its slot. */
+    public int define(Symbol name, Object value) {
+        int slot = slotOf(name);
+        if (slot < 0) {
+            slot = add(name);
+        }
+        values[slot] = value;
+        return slot;
+    }
+
+    /** Where name is defined as seen from this frame, or null if it is not defined anywhere. */
+    public Binding lookup(Symbol name) {
+        int depth = 0;
+        for (Scope scope = this; scope != null; scope = scope.parent, depth++) {
+            int slot = scope.slotOf(name);
+            if (slot >= 0) {
+                return new Binding(scope.parent == null ? Binding.GLOBAL : depth, slot);
+            }
+        }
+        return null;
     }
 
-    public Object resolve(String name) {
-        name = name.toLowerCase();
-        if (symbols.containsKey(name.toLowerCase())) {
-            return symbols.get(name.toLowerCase());
-        } else if (parent != null) {
-            return parent.resolve(name.toLowerCase());
-        } else {
-            throw new RuntimeException("Undefined symbol: " + name);
+    /** The value at a binding made from a frame of the same shape, or null if it is not defined (yet). */
+    public Object get(Binding binding) {
+        Scope scope = root;
+        if (binding.depth != Binding.GLOBAL) {
+            scope = this;
+            for (int i = 0; i < binding.depth; i++) {
+                scope = scope.parent;
+            }
+        }
+        return binding.slot < scope.size ? scope.values[binding.slot] : null;
+    }
+
+    public void set(Binding binding, Object value) {
+        Scope scope = root;
+        if (binding.depth != Binding.GLOBAL) {
+            scope = this;
+            for (int i = 0; i < binding.depth; i++) {
+                scope = scope.parent;
+            }
+        }
+        scope.values[binding.slot] = value;
+    }
+
+    // The value of the nearest definition of name, or null if there is none
+    public Object find(Symbol name) {
+        for (Scope scope = this; scope != null; scope = scope.parent) {
+            int slot = scope.slotOf(name);
+            if (slot >= 0) {
+                return scope.values[slot];
+            }
         }
+        return null;
     }
 
-    public void assign(String name, Object value) {
-        name = name.toLowerCase();
-        if (symbols.containsKey(name)) {
-            symbols.put(name, value);
-        } else if (parent != null) {
-            parent.assign(name, value);
-        } else {
+    public Object resolve(Symbol name) {
+        for (Scope scope = this; scope != null; scope = scope.parent) {
+            int slot = scope.slotOf(name);
+            if (slot >= 0) {
+                return scope.values[slot];
+            }
+        }
+        throw new RuntimeException("Undefined symbol: " + name);
+    }
+
+    public void assign(Symbol name, Object value) {
+        Binding binding = lookup(name);
+        if (binding == null) {
             throw new RuntimeException("Undefined symbol: " + name);
         }
+        set(binding, value);
+    }
+
+    public boolean contains(Symbol name) {
+        return slotOf(name) >= 0;
     }
-    
-    public boolean contains(String name) {
-        return symbols.containsKey(name.toLowerCase());
+
+    public Object get(Symbol name) {
+        int slot = slotOf(name);
+        return slot < 0 ? null : values[slot];
+    }
+
+    // Value at a slot of this frame, as returned by define
+    public Object get(int slot) {
+        return values[slot];
     }
-    
-    public Object get(String name) {
-        return symbols.get(name.toLowerCase());
+
+    // Slot of name in this frame only, or -1
+    private int slotOf(Symbol name) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (names[i] == name) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int i = name.id & mask; index[i] != 0; i = (i + 1) & mask) {
+            if (names[index[i] - 1] == name) {
+                return index[i] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int add(Symbol name) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int slot = size++;
+        names[slot] = name;
+        if (index != null && size * 2 > index.length) {
+            index = null; // rebuilt below at twice the size
+        }
+        if (index == null && size > SCAN) {
+            index = new int[Integer.highestOneBit(size) * 4];
+            for (int i = 0; i < size; i++) {
+                insert(i);
+            }
+        } else if (index != null) {
+            insert(slot);
+        }
+        return slot;
+    }
+
+    private void insert(int slot) {
+        int mask = index.length - 1;
+        int i = names[slot].id & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
     }
 }
@@ -0,0 +1,85 @@
+package antlr;
+
+import java.io.PrintStream;
+
+/**
+ * Diagnostics written to a PrintStream, either as text ("WARN  file: message")
+ * or as structured JSON lines for --trace-file:
+ * {"level":"TRACE","source":"tests/test1.pas","message":"..."}.
+ *
+ * Several compilations may share one stream (batch mode); each record is
+ * written with a single println, which PrintStream synchronizes.
+ */
+public final class StreamDiagnostics implements Diagnostics {
+    private final PrintStream out;
+    private final Level threshold;
+    private final boolean json;
+    private final String source;
+
+    /**
+     * @param source file the messages are about, or null
+     */
+    public StreamDiagnostics(PrintStream out, Level threshold, boolean json, String source) {
+        this.out = out;
+        this.threshold = threshold;
+        this.json = json;
+        this.source = source;
+    }
+
+    /** The same stream and format, for messages about another file. */
+    public StreamDiagnostics forSource(String source) {
+        return new StreamDiagnostics(out, threshold, json, source);
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.compareTo(threshold) <= 0;
+    }
+
+    @Override
+    public void write(Level level, String message) {
+        if (json) {
+            StringBuilder sb = new StringBuilder("{\"level\":\"").append(level).append('"');
+            if (source != null) {
+                sb.append(",\"source\":");
+                quote(sb, source);
+            }
+            sb.append(",\"message\":");
+            quote(sb, message);
+            out.println(sb.append('}'));
+        } else {
+            out.println(String.format("%-5s %s%s", level, source != null ? source + ": " : "", message));
+        }
+    }
+
+    private static void quote(StringBuilder sb, String text) {
+        sb.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
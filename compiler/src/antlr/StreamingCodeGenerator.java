@@ -0,0 +1,784 @@
+package antlr;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import antlr.Value.Constant;
+import antlr.Value.Register;
+import antlr.Value.Slot;
+import antlr.Value.Type;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * Event-driven code generator: it lowers a program from a stream of rule
+ * enter/exit and token events and never looks at a parse tree. The events come
+ * from one of two places:
+ * - the parser itself (addParseListener with setBuildParseTree(false)), so IR is
+ *   emitted while the tokens are consumed and every rule context can be
+ *   collected as soon as the parser leaves it;
+ * - a replay of a compact {@link Ast}.
+ * Only the rules on the path from the root to the current token are open, each
+ * with a small frame holding the values of its children.
+ *
+ * Lowering mirrors DelphiVisitorImpl rule by rule (same value conventions, same
+ * evaluation order), so both produce the same module. The differences forced by
+ * a single pass:
+ * - program variables are declared when the main block starts; by then every
+ *   routine has been seen, so it is known which ones routines touch and must be
+ *   globals (the visitor finds this out with a pre-pass over the tree);
+ * - classes, constructors and method calls are not supported.
+ */
+public class StreamingCodeGenerator extends delphiBaseListener implements Ast.Listener {
+    // Per-rule state kept while the parser is inside the rule
+    private static class Frame {
+        final int rule;
+        final Token first;        // first token of the rule
+        final int start;          // token index of the first token
+        int stop;                 // token index of the last token, set on exit
+        final Frame parent;
+        Object last;              // value of the last child, like visitChildren
+        List<Object> values;      // values of all rule children, for rules that need them
+        Symbol name;              // the first identifier child
+        List<Symbol> identifiers; // names of an identifierList child
+        List<Object> args;        // value of a parameterList child
+        Object folded;            // simpleExpression/term: value of the operands so far
+        Token op;                 // simpleExpression/term: operator waiting for its right operand
+
+        // Routines
+        List<Symbol> parameters;
+        boolean hasBody;
+        Scope scope;              // the frame of its parameters and locals
+
+        // Statements
+        int labelId;
+        boolean sawElse;
+        Slot loopVar;
+        String[] labels;
+        Object endValue;
+        Procedure callee;
+        boolean quiet;
+        boolean writeln;
+
+        Frame(int rule, Token first, Frame parent) {
+            this.rule = rule;
+            this.first = first;
+            this.start = first.getTokenIndex();
+            this.parent = parent;
+        }
+    }
+
+    private final LLVMGenerator llvm;
+    private final Diagnostics diag;
+    private final delphiParser parser;
+    private final TokenStream tokens;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final Deque<Frame> routines = new ArrayDeque<>(); // whose bodies are open, innermost first
+    private final Deque<String> breakLabelStack = new ArrayDeque<>();
+    private final Deque<String> continueLabelStack = new ArrayDeque<>();
+    private Scope currentScope = new Scope(null);
+
+    // Identifiers as interned by the lexer, and the built-ins looked up among them
+    private final SymbolTable symbols;
+    private final Symbol writeln;
+    private final Symbol readln;
+
+    // Program variables wait here until the main block, unless a routine uses them
+    private final Set<Symbol> programVariables = new LinkedHashSet<>();
+    private final Set<Symbol> globals = new HashSet<>();
+    private int routineDepth = 0;
+
+    // > 0 while inside arguments that the visitor reads as text instead of lowering
+    private int quiet = 0;
+
+    // Set on the first syntax error or failure; every later event is ignored
+    private boolean broken = false;
+
+    // Listens to a running parser
+    public StreamingCodeGenerator(LLVMGenerator llvm, delphiParser parser, SymbolTable symbols, Diagnostics diag) {
+        this(llvm, parser, parser.getTokenStream(), symbols, diag);
+    }
+
+    // Replays an Ast over the tokens it was built from
+    public StreamingCodeGenerator(LLVMGenerator llvm, TokenStream tokens, SymbolTable symbols, Diagnostics diag) {
+        this(llvm, null, tokens, symbols, diag);
+    }
+
+    private StreamingCodeGenerator(LLVMGenerator llvm, delphiParser parser, TokenStream tokens, SymbolTable symbols,
+                                   Diagnostics diag) {
+        this.llvm = llvm;
+        this.diag = diag;
+        this.parser = parser;
+        this.tokens = tokens;
+        this.symbols = symbols;
+        this.writeln = symbols.intern("writeln");
+        this.readln = symbols.intern("readln");
+    }
+
+    public LLVMGenerator getGenerator() {
+        return llvm;
+    }
+
+    // True when code generation stopped because of a syntax error
+    public boolean isBroken() {
+        return broken;
+    }
+
+    @Override
+    public void enterEveryRule(ParserRuleContext ctx) {
+        enterRule(ctx.getRuleIndex(), ctx.start);
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (ctx.exception != null || parser.getNumberOfSyntaxErrors() > 0) {
+            broken = true;
+            return;
+        }
+        exitRule(ctx.getRuleIndex(), ctx.start.getTokenIndex(), ctx.stop.getTokenIndex());
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        terminal(node.getSymbol());
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        broken = true;
+    }
+
+    @Override
+    public void enterRule(int rule, int startToken) {
+        enterRule(rule, tokens.get(startToken));
+    }
+
+    private void enterRule(int rule, Token first) {
+        if (broken) {
+            return;
+        }
+        try {
+            Frame frame = new Frame(rule, first, frames.peek());
+            frames.push(frame);
+            enter(frame);
+        } catch (RuntimeException e) {
+            broken = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void exitRule(int rule, int startToken, int stopToken) {
+        if (broken) {
+            return;
+        }
+        try {
+            Frame frame = frames.pop();
+            frame.stop = stopToken;
+            Object value = exit(frame);
+            if (frame.parent != null) {
+                addChild(frame.parent, frame, value);
+            }
+        } catch (RuntimeException e) {
+            broken = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void terminal(int tokenIndex) {
+        terminal(tokens.get(tokenIndex));
+    }
+
+    private void terminal(Token token) {
+        if (broken) {
+            return;
+        }
+        try {
+            terminal(frames.peek(), token);
+        } catch (RuntimeException e) {
+            broken = true;
+            throw e;
+        }
+    }
+
+    private void addChild(Frame parent, Frame child, Object value) {
+        parent.last = value;
+        if (parent.values != null) {
+            parent.values.add(value);
+        }
+        if (parent.rule == delphiParser.RULE_simpleExpression || parent.rule == delphiParser.RULE_term) {
+            if (child.rule == delphiParser.RULE_additiveoperator || child.rule == delphiParser.RULE_multiplicativeoperator) {
+                parent.op = token(child, 1);
+            } else {
+                fold(parent, value); // An operand, whatever rule is left of it in a compact Ast
+            }
+        }
+        switch (child.rule) {
+            case delphiParser.RULE_identifier:
+                Symbol name = symbols.of(token(child, 1));
+                if (parent.name == null) {
+                    parent.name = name;
+                }
+                if (parent.rule == delphiParser.RULE_identifierList) {
+                    parent.identifiers.add(name);
+                }
+                break;
+            case delphiParser.RULE_identifierList:
+                parent.identifiers = child.identifiers;
+                break;
+            case delphiParser.RULE_parameterList:
+                parent.args = child.values;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void enter(Frame frame) {
+        switch (frame.rule) {
+            case delphiParser.RULE_program:
+                llvm.startProgram();
+                break;
+            case delphiParser.RULE_expression:
+            case delphiParser.RULE_forList:
+            case delphiParser.RULE_parameterList:
+            case delphiParser.RULE_actualParameter:
+                frame.values = new ArrayList<>(3);
+                break;
+            case delphiParser.RULE_procedureDeclaration:
+            case delphiParser.RULE_functionDeclaration:
+                if (frame.rule == delphiParser.RULE_procedureDeclaration && token(frame, 3).getType() == delphiParser.DOT) {
+                    throw unsupported("class method " + token(frame, 2).getText() + "." + token(frame, 4).getText());
+                }
+                frame.parameters = new ArrayList<>();
+                routineDepth++;
+                break;
+            case delphiParser.RULE_block:
+                if (isRoutine(frame.parent)) {
+                    beginRoutine(frame.parent);
+                }
+                break;
+            case delphiParser.RULE_compoundStatement:
+                currentScope = new Scope(currentScope);
+                if (frame.parent.rule == delphiParser.RULE_block
+                        && frame.parent.parent.rule == delphiParser.RULE_program) {
+                    declareMainVariables();
+                }
+                break;
+            case delphiParser.RULE_ifStatement:
+                frame.labelId = llvm.nextLabelId();
+                break;
+            case delphiParser.RULE_whileStatement:
+                frame.labels = new String[] {llvm.nextLabel("loop"), llvm.nextLabel("body"), llvm.nextLabel("end")};
+                llvm.br(frame.labels[0]);
+                llvm.label(frame.labels[0]);
+                break;
+            case delphiParser.RULE_identifierList:
+                frame.identifiers = new ArrayList<>();
+                break;
+            case delphiParser.RULE_procedureStatement:
+                enterProcedureStatement(frame);
+                break;
+            case delphiParser.RULE_classDeclaration:
+            case delphiParser.RULE_classType:
+            case delphiParser.RULE_constructorCall:
+            case delphiParser.RULE_methodImplementation:
+            case delphiParser.RULE_constructorImplementation:
+            case delphiParser.RULE_destructorImplementation:
+                throw unsupported("classes");
+            case delphiParser.RULE_arrayType:
+                throw unsupported("arrays");
+            case delphiParser.RULE_assignmentStatement:
+                if (token(frame, 2).getType() == delphiParser.DOT) {
+                    throw unsupported("field assignment to " + token(frame, 1).getText());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void terminal(Frame frame, Token token) {
+        switch (token.getType()) {
+            case delphiParser.IDENT:
+                Symbol name = symbols.of(token);
+                if (routineDepth > 0 && programVariables.contains(name) && globals.add(name)) {
+                    llvm.declareGlobal(name); // Shared with procedures/functions
+                }
+                break;
+            case delphiParser.THEN:
+                if (frame.rule == delphiParser.RULE_ifStatement) {
+                    Value cond = condition(frame.last); // %tX (i1)
+                    llvm.brCond(cond, "then" + frame.labelId, "else" + frame.labelId);
+                    llvm.label("then" + frame.labelId);
+                }
+                break;
+            case delphiParser.RPAREN:
+                if (frame.rule == delphiParser.RULE_factor) {
+                    return; // ( expression ) has the value of the expression
+                }
+                break;
+            case delphiParser.ELSE:
+                if (frame.rule == delphiParser.RULE_ifStatement) {
+                    llvm.br("endif" + frame.labelId);
+                    llvm.label("else" + frame.labelId);
+                    frame.sawElse = true;
+                }
+                break;
+            case delphiParser.DO:
+                if (frame.rule == delphiParser.RULE_whileStatement) {
+                    llvm.brCond(condition(frame.last), frame.labels[1], frame.labels[2]);
+                    llvm.label(frame.labels[1]);
+                    breakLabelStack.push(frame.labels[2]);
+                    continueLabelStack.push(frame.labels[0]);
+                } else if (frame.rule == delphiParser.RULE_forStatement) {
+                    beginForBody(frame);
+                }
+                break;
+            default:
+                break;
+        }
+        frame.last = null;
+    }
+
+    private Object exit(Frame frame) {
+        switch (frame.rule) {
+            case delphiParser.RULE_program:
+                llvm.endProgram();
+                return frame.last;
+            case delphiParser.RULE_identifier:
+                return null;
+            case delphiParser.RULE_identifierList:
+                return null;
+            case delphiParser.RULE_variableDeclaration:
+                declareVariables(frame.identifiers);
+                return frame.last;
+            case delphiParser.RULE_parameterGroup:
+                // procedureDeclaration > formalParameterList > formalParameterSection > parameterGroup
+                Frame routine = frame.parent.parent.parent;
+                if (isRoutine(routine)) {
+                    routine.parameters.addAll(frame.identifiers);
+                }
+                return frame.last;
+            case delphiParser.RULE_block:
+                if (isRoutine(frame.parent)) {
+                    endRoutine(frame.parent);
+                }
+                return frame.last;
+            case delphiParser.RULE_procedureDeclaration:
+            case delphiParser.RULE_functionDeclaration:
+                routineDepth--;
+                if (!frame.hasBody) {
+                    currentScope.define(frame.name, newProcedure(frame)); // A forward declaration
+                }
+                return null;
+            case delphiParser.RULE_compoundStatement:
+                currentScope = currentScope.getParent();
+                return null;
+            case delphiParser.RULE_variable:
+                if (quiet > 0) {
+                    return null;
+                }
+                if (frame.stop != frame.start) {
+                    throw new RuntimeException("Unsupported variable access: " + text(frame));
+                }
+                return variable(symbols.of(token(frame, 1))); // Loaded by whoever needs the value
+            case delphiParser.RULE_unsignedInteger:
+                return new Constant(Integer.parseInt(token(frame, 1).getText()));
+            case delphiParser.RULE_unsignedNumber:
+                Token number = token(frame, 1);
+                return number.getType() == delphiParser.NUM_REAL ? (Object) Double.parseDouble(number.getText())
+                    : new Constant(Integer.parseInt(number.getText()));
+            case delphiParser.RULE_string:
+                String literal = token(frame, 1).getText();
+                return literal.substring(1, literal.length() - 1);
+            case delphiParser.RULE_relationaloperator:
+                return token(frame, 1);
+            case delphiParser.RULE_simpleExpression:
+            case delphiParser.RULE_term:
+                return frame.folded;
+            case delphiParser.RULE_signedFactor:
+                if (quiet > 0 || token(frame, 1).getType() != delphiParser.MINUS) {
+                    return frame.last;
+                }
+                return negate(frame.last);
+            case delphiParser.RULE_expression:
+                return exitExpression(frame);
+            case delphiParser.RULE_functionDesignator:
+                return quiet > 0 ? null : callFunction(frame);
+            case delphiParser.RULE_actualParameter:
+                return exitActualParameter(frame);
+            case delphiParser.RULE_parameterList:
+                return null;
+            case delphiParser.RULE_procedureStatement:
+                exitProcedureStatement(frame);
+                return null;
+            case delphiParser.RULE_assignmentStatement:
+                assign(frame);
+                return null;
+            case delphiParser.RULE_forList:
+                return new Object[] {frame.values.get(0), frame.values.get(frame.values.size() - 1)};
+            case delphiParser.RULE_forStatement:
+                endFor(frame);
+                return null;
+            case delphiParser.RULE_whileStatement:
+                breakLabelStack.pop();
+                continueLabelStack.pop();
+                llvm.br(frame.labels[0]);
+                llvm.label(frame.labels[2]);
+                return null;
+            case delphiParser.RULE_ifStatement:
+                if (!frame.sawElse) {
+                    llvm.br("endif" + frame.labelId);
+                    llvm.label("else" + frame.labelId);
+                }
+                llvm.br("endif" + frame.labelId);
+                llvm.label("endif" + frame.labelId);
+                return null;
+            case delphiParser.RULE_breakStatement:
+                if (breakLabelStack.isEmpty()) {
+                    throw new RuntimeException("BREAK used outside of a loop");
+                }
+                llvm.br(breakLabelStack.peek());
+                return null;
+            case delphiParser.RULE_continueStatement:
+                if (continueLabelStack.isEmpty()) {
+                    throw new RuntimeException("CONTINUE used outside of a loop");
+                }
+                llvm.br(continueLabelStack.peek());
+                return null;
+            default:
+                return frame.last;
+        }
+    }
+
+    private void declareVariables(List<Symbol> names) {
+        for (Symbol var : names) {
+            currentScope.define(var, 0);
+            if (llvm.inMainProgram()) {
+                programVariables.add(var); // Global or main-local, decided when the main block starts
+            } else {
+                llvm.declareVariable(var);
+            }
+        }
+    }
+
+    private void declareMainVariables() {
+        for (Symbol var : programVariables) {
+            if (!globals.contains(var)) {
+                llvm.declareVariable(var);
+            }
+        }
+    }
+
+    private boolean isRoutine(Frame frame) {
+        return frame != null && (frame.rule == delphiParser.RULE_procedureDeclaration
+            || frame.rule == delphiParser.RULE_functionDeclaration);
+    }
+
+    private boolean isFunction(Frame routine) {
+        return routine.rule == delphiParser.RULE_functionDeclaration;
+    }
+
+    // Named like DelphiVisitorImpl.functionName: a routine keeps the name its forward declaration got
+    private Procedure newProcedure(Frame routine) {
+        boolean isFunction = isFunction(routine);
+        Procedure procedure = new Procedure(routine.name, routine.parameters,
+            Collections.nCopies(routine.parameters.size(), Type.I32), isFunction ? Type.I32 : Type.VOID, null, null);
+        Object forward = currentScope.get(routine.name);
+        procedure.setFunction(forward instanceof Procedure && !((Procedure) forward).isDefined()
+            ? ((Procedure) forward).getFunction() : llvm.moduleName(routine.name.name));
+        return procedure;
+    }
+
+    // Same prologue as DelphiVisitorImpl.emitRoutine; runs when the routine's block starts.
+    private void beginRoutine(Frame routine) {
+        routine.hasBody = true;
+        Symbol name = routine.name;
+        List<Symbol> parameters = routine.parameters;
+        boolean isFunction = isFunction(routine);
+        Procedure procedure = newProcedure(routine);
+        procedure.markDefined();
+        currentScope.define(name, procedure);
+
+        StringBuilder header = new StringBuilder();
+        header.append("define ").append(isFunction ? "i32" : "void").append(" @").append(procedure.getFunction()).append("(");
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) header.append(", ");
+            header.append("i32 %").append(parameters.get(i).name).append(".arg");
+        }
+        header.append(")");
+        llvm.beginFunction(header.toString());
+
+        currentScope = new Scope(currentScope);
+        routine.scope = currentScope;
+        routines.push(routine);
+        for (Symbol param : parameters) {
+            currentScope.define(param, 0);
+            llvm.store(new Register(param.name + ".arg", Type.I32), llvm.declareVariable(param));
+        }
+        if (isFunction) {
+            llvm.store(Constant.ZERO, llvm.declareVariable(name));
+        }
+    }
+
+    private void endRoutine(Frame routine) {
+        routines.pop();
+        currentScope = currentScope.getParent();
+        llvm.endFunction(isFunction(routine) ? llvm.load(llvm.slot(routine.name)) : null);
+    }
+
+    // Folds the next operand into a simpleExpression or term as soon as it is lowered, left to right like the visitor.
+    private void fold(Frame frame, Object operand) {
+        Token op = frame.op;
+        if (op == null) {
+            frame.folded = operand; // The first operand
+            return;
+        }
+        frame.op = null;
+        if (quiet > 0) {
+            frame.folded = null;
+            return;
+        }
+        Value left = asValue(frame.folded);
+        Value right = asValue(operand);
+        String opcode = frame.rule == delphiParser.RULE_term
+            ? DelphiVisitorImpl.multiplicativeOpcode(op) : DelphiVisitorImpl.additiveOpcode(op);
+        frame.folded = llvm.binary(opcode, left, right);
+    }
+
+    private Object negate(Object value) {
+        if (value instanceof Constant) {
+            return new Constant(-((Constant) value).value);
+        }
+        return llvm.binary("sub", Constant.ZERO, asValue(value));
+    }
+
+    private Object exitExpression(Frame frame) {
+        if (frame.values.size() < 3) {
+            return frame.last;
+        }
+        if (quiet > 0) {
+            return null;
+        }
+        Value left = asValue(frame.values.get(0));
+        Value right = asValue(frame.values.get(2));
+        String llvmOp = DelphiVisitorImpl.relationalPredicate((Token) frame.values.get(1));
+        return llvm.icmp(llvmOp, left, right);
+    }
+
+    private Register callFunction(Frame frame) {
+        Symbol funcName = frame.name;
+        Object resolved = currentScope.find(funcName);
+        if (!(resolved instanceof Procedure) || ((Procedure) resolved).getFunctionName() == null) {
+            throw new RuntimeException("Function '" + funcName + "' is not defined.");
+        }
+        List<Value> args = arguments(frame);
+        checkArity(funcName, (Procedure) resolved, args);
+        return llvm.call(Type.I32, ((Procedure) resolved).getFunction(), args);
+    }
+
+    private void enterProcedureStatement(Frame frame) {
+        if (token(frame, 2).getType() == delphiParser.DOT) {
+            throw unsupported("method call on " + token(frame, 1).getText());
+        }
+        Symbol procName = symbols.of(token(frame, 1));
+        if (procName == writeln) {
+            frame.writeln = true; // Each argument is printed as soon as it is lowered
+        } else if (procName == readln) {
+            throw unsupported("readln"); // There is no runtime input routine to call
+        } else {
+            Object resolved = currentScope.find(procName);
+            if (resolved instanceof Procedure) {
+                frame.callee = (Procedure) resolved;
+            } else {
+                diag.warn("Procedure Call Error: Procedure '{}' not found.", procName);
+                frame.quiet = true;
+            }
+        }
+        if (frame.quiet) {
+            quiet++;
+        }
+    }
+
+    private void exitProcedureStatement(Frame frame) {
+        if (frame.quiet) {
+            quiet--;
+        }
+        Symbol procName = frame.name;
+        if (frame.writeln) {
+            return; // Printed argument by argument
+        } else if (frame.callee != null) {
+            List<Value> args = arguments(frame);
+            checkArity(procName, frame.callee, args);
+            llvm.call(frame.callee.getFunctionName() != null ? Type.I32 : Type.VOID, frame.callee.getFunction(), args);
+        }
+    }
+
+    // actualParameter > parameterList > procedureStatement
+    private Object exitActualParameter(Frame frame) {
+        if (quiet > 0) {
+            return null;
+        }
+        Frame statement = frame.parent.parent;
+        Object expression = frame.values.get(0); // not a trailing :width
+        if (statement.rule != delphiParser.RULE_procedureStatement || !statement.writeln) {
+            return asValue(expression);
+        }
+        Token first = token(frame, 1);
+        if (frame.start == frame.stop && first.getType() == delphiParser.STRING_LITERAL) {
+            String raw = first.getText();
+            String unquoted = raw.substring(1, raw.length() - 1);
+            String strLabel = llvm.defineStringConstant(unquoted);
+            llvm.printString(strLabel, unquoted.length() + 1);
+        } else {
+            llvm.print(asValue(expression));
+        }
+        return null;
+    }
+
+    private void assign(Frame frame) {
+        Object exprResult = frame.last;
+        if (frame.name == null || exprResult == null) {
+            throw new RuntimeException("Right-hand side of assignment returned null for: " + text(frame));
+        }
+        llvm.store(asValue(exprResult), variable(frame.name));
+    }
+
+    /**
+     * The slot of a variable of the current routine or of the program. A
+     * variable of an enclosing routine lives in the frame of another function,
+     * which the visitor passes in (see Binder.Capture) but a single pass cannot:
+     * the routine's header is written before its body shows what it needs.
+     */
+    private Slot variable(Symbol name) {
+        Frame routine = routines.peek();
+        boolean outside = false;
+        for (Scope scope = currentScope; scope != null; scope = scope.getParent()) {
+            if (scope.contains(name)) {
+                Object value = scope.get(name);
+                if (value instanceof Procedure && (routine == null || name != routine.name)) {
+                    throw new RuntimeException("'" + name + "' is a routine, not a variable, in "
+                        + (routine != null ? routine.name : "the main program"));
+                }
+                if (outside && scope.getParent() != null && !(value instanceof Procedure)) {
+                    throw unsupported("'" + name + "' of an enclosing routine in " + routine.name);
+                }
+                break;
+            }
+            outside |= routine != null && scope == routine.scope;
+        }
+        return llvm.slot(name);
+    }
+
+    // FOR identifier := forList DO: both bounds are evaluated; set up the loop before the body.
+    private void beginForBody(Frame frame) {
+        Object[] bounds = (Object[]) frame.last;
+        Symbol loopVar = frame.name;
+        frame.endValue = bounds[1];
+
+        frame.loopVar = llvm.ensureVariable(loopVar);
+        llvm.store(asValue(bounds[0]), frame.loopVar);
+        currentScope.define(loopVar, bounds[0]);
+
+        frame.labels = new String[] {llvm.nextLabel("cond"), llvm.nextLabel("body"), llvm.nextLabel("incr"), llvm.nextLabel("end")};
+        breakLabelStack.push(frame.labels[3]);
+        continueLabelStack.push(frame.labels[2]);
+
+        llvm.br(frame.labels[0]);
+        llvm.label(frame.labels[0]);
+        Register loaded = llvm.load(frame.loopVar);
+        Register cond = llvm.icmp("sle", loaded, asValue(frame.endValue));
+        llvm.brCond(cond, frame.labels[1], frame.labels[3]);
+        llvm.label(frame.labels[1]);
+        currentScope = new Scope(currentScope);
+    }
+
+    private void endFor(Frame frame) {
+        currentScope = currentScope.getParent();
+        llvm.br(frame.labels[2]);
+        llvm.label(frame.labels[2]);
+        Register reloaded = llvm.load(frame.loopVar);
+        Register incremented = llvm.add(reloaded, Constant.ONE);
+        llvm.store(incremented, frame.loopVar);
+        llvm.br(frame.labels[0]);
+        llvm.label(frame.labels[3]);
+        breakLabelStack.pop();
+        continueLabelStack.pop();
+    }
+
+    private List<Value> arguments(Frame frame) {
+        List<Value> args = new ArrayList<>();
+        if (frame.args != null) {
+            for (Object arg : frame.args) {
+                args.add((Value) arg);
+            }
+        }
+        return args;
+    }
+
+    private void checkArity(Symbol name, Procedure proc, List<Value> args) {
+        if (args.size() != proc.getParameters().size()) {
+            throw new RuntimeException("'" + name + "' expects " + proc.getParameters().size()
+                + " arguments but got " + args.size());
+        }
+        for (int i = 0; i < args.size(); i++) {
+            args.set(i, llvm.widen(args.get(i), proc.getParameterTypes().get(i)));
+        }
+    }
+
+    // Same conversions as DelphiVisitorImpl.asValue and condition
+    private Value asValue(Object result) {
+        if (result instanceof Slot) {
+            return llvm.load((Slot) result);
+        }
+        if (result instanceof Value) {
+            return (Value) result;
+        }
+        throw new RuntimeException("Not an integer value: " + result);
+    }
+
+    private Value condition(Object result) {
+        Value value = asValue(result);
+        return value.type == Type.I1 ? value : llvm.icmp("ne", value, Constant.ZERO);
+    }
+
+    // Source text of a rule without whitespace, like ParseTree.getText(), for error messages
+    private String text(Frame frame) {
+        if (frame.stop < frame.start) {
+            return "";
+        }
+        try {
+            return tokens.getText(Interval.of(frame.start, frame.stop));
+        } catch (UnsupportedOperationException e) {
+            return frame.first.getText() + "..."; // An UnbufferedTokenStream has let go of the rest
+        }
+    }
+
+    /**
+     * The k-th token of a rule, counting from 1 like LT(k). The first token is
+     * kept in the frame; the ones after it can only be looked at on entry, which
+     * is all an UnbufferedTokenStream allows.
+     */
+    private Token token(Frame frame, int k) {
+        if (k == 1) {
+            return frame.first;
+        }
+        return parser != null ? tokens.LT(k) : tokens.get(Math.min(frame.start + k - 1, tokens.size() - 1));
+    }
+
+    private RuntimeException unsupported(String what) {
+        return new RuntimeException("Streaming code generation does not support " + what);
+    }
+}
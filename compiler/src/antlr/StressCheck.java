@@ -0,0 +1,142 @@
+package antlr;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency stress check for the compiler. Compiles every .pas file once on a
+ * single thread, then compiles the same corpus many times from a pool of threads
+ * and verifies that each output is byte-identical to the single-threaded one.
+ * Rounds rotate between the tree visitor, the single-pass StreamingCodeGenerator
+ * (over buffered and unbuffered streams), code generation from the compact Ast
+ * and the tree visitor over FastLexer matching reserved words in any case, as
+ * --fast-lexer does, so the five are also checked against each other. A mode that rejects a
+ * program outright (classes are tree-only) is counted as skipped for it.
+ *
+ * Usage: java -cp "bin;antlr-4.9.3-complete.jar" antlr.StressCheck [threads] [dir-or-files...]
+ * Defaults to 32 threads over the tests folder.
+ */
+public class StressCheck {
+    public static void main(String[] args) throws Exception {
+        int threads = 32;
+        int first = 0;
+        if (args.length > 0 && args[0].matches("\\d+")) {
+            threads = Integer.parseInt(args[0]);
+            first = 1;
+        }
+
+        List<File> files = new ArrayList<>();
+        if (args.length <= first) {
+            addSources(new File("tests"), files);
+        }
+        for (int i = first; i < args.length; i++) {
+            addSources(new File(args[i]), files);
+        }
+        if (files.isEmpty()) {
+            System.err.println("No .pas files found.");
+            System.exit(2);
+        }
+
+        PrintStream report = System.err;
+
+        List<String> sources = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (File file : files) {
+            String source = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            sources.add(source);
+            expected.add(DelphiCompiler.compileToIR(source));
+        }
+
+        int rounds = Math.max(MODES.length, threads / files.size() * MODES.length);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> results = new ArrayList<>();
+        List<Integer> which = new ArrayList<>();
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < files.size(); i++) {
+                final int index = i;
+                which.add(index);
+                int mode = r % MODES.length;
+                results.add(pool.submit(() -> {
+                    String ir;
+                    try {
+                        ir = compile(sources.get(index), mode);
+                    } catch (RuntimeException e) {
+                        if (e.getMessage() != null && e.getMessage().startsWith(UNSUPPORTED)) {
+                            return null;
+                        }
+                        throw e;
+                    }
+                    return ir.equals(expected.get(index));
+                }));
+            }
+        }
+
+        int mismatches = 0;
+        int skipped = 0;
+        for (int i = 0; i < results.size(); i++) {
+            Boolean same = results.get(i).get();
+            if (same == null) {
+                skipped++;
+            } else if (!same) {
+                mismatches++;
+                report.println("MISMATCH: " + files.get(which.get(i)) + " (" + MODES[i / files.size() % MODES.length] + ")");
+            }
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+
+        report.println(results.size() + " compilations of " + files.size() + " files on " + threads
+            + " threads, " + mismatches + " mismatches" + (skipped > 0 ? ", " + skipped + " skipped" : ""));
+        System.exit(mismatches == 0 ? 0 : 1);
+    }
+
+    private static final String[] MODES = {"tree", "streaming", "ast", "unbuffered", "fast-lexer"};
+
+    // How StreamingCodeGenerator (and so the Ast mode) turns down a construct it cannot lower
+    private static final String UNSUPPORTED = "Streaming code generation does not support";
+
+    private static String compile(String source, int mode) {
+        switch (mode) {
+            case 1:
+                return DelphiCompiler.compileStreaming(CharStreams.fromString(source), null, false, LLVMGenerator::new).toIR();
+            case 2:
+                return DelphiCompiler.compileAst(CharStreams.fromString(source), null, false, new LLVMGenerator()).toIR();
+            case 3:
+                return DelphiCompiler.compileUnbuffered(new delphiLexer(new UnbufferedCharStream(new StringReader(source))),
+                    null, false, new LLVMGenerator(), PhaseTimer.NONE, Diagnostics.QUIET).toIR();
+            case 4:
+                return DelphiCompiler.compile(new FastLexer(source), null, false, new LLVMGenerator(), PhaseTimer.NONE,
+                    Diagnostics.QUIET).toIR();
+            default:
+                return DelphiCompiler.compileToIR(source);
+        }
+    }
+
+    private static void addSources(File path, List<File> files) {
+        if (path.isDirectory()) {
+            File[] children = path.listFiles();
+            if (children == null) {
+                return;
+            }
+            Arrays.sort(children);
+            for (File child : children) {
+                addSources(child, files);
+            }
+        } else if (path.getName().endsWith(".pas")) {
+            files.add(path);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package antlr;
+
+/**
+ * The canonical, lower-cased form of an identifier, handed out by a
+ * {@link SymbolTable}. There is exactly one Symbol per name and table, so
+ * symbols are compared by reference, and {@link #hashCode} is the sequence
+ * number the table gave out: a map keyed on symbols never hashes or compares
+ * the characters of a name.
+ */
+public final class Symbol {
+    public final String name;
+    public final int id;
+    final int hash;           // hash of the folded characters, used by the table
+    final SymbolTable table;
+
+    Symbol(String name, int id, int hash, SymbolTable table) {
+        this.name = name;
+        this.id = id;
+        this.hash = hash;
+        this.table = table;
+    }
+
+    // equals is Object's: one instance per name
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,132 @@
+package antlr;
+
+import org.antlr.v4.runtime.Token;
+
+/**
+ * Interns identifiers: every spelling of a name, whatever its case, maps to
+ * the same {@link Symbol}. The lexer folds and interns each identifier once,
+ * when it makes the token (see {@link SymbolTokenFactory}); from then on
+ * Scope, ClassLayout and the LLVMGenerator key their maps on symbols, so a
+ * lookup is an int hash and a reference comparison instead of a
+ * toLowerCase() and a String hash per scope level.
+ *
+ * One table per compilation, shared by its lexer and code generator. It is
+ * not thread-safe.
+ */
+public final class SymbolTable {
+    private Symbol[] table = new Symbol[64];
+    private int size;
+
+    /** The symbol of an identifier token: the one interned by the lexer, or looked up from its text. */
+    public Symbol of(Token token) {
+        if (token instanceof SymbolTokenFactory.IdentifierToken) {
+            Symbol symbol = ((SymbolTokenFactory.IdentifierToken) token).symbol;
+            if (symbol.table == this) {
+                return symbol;
+            }
+        }
+        return intern(token.getText());
+    }
+
+    public Symbol intern(CharSequence text) {
+        int length = text.length();
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + fold(text.charAt(i));
+        }
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            Symbol symbol = table[slot];
+            if (symbol == null) {
+                char[] name = new char[length];
+                for (int i = 0; i < length; i++) {
+                    name[i] = fold(text.charAt(i));
+                }
+                return add(slot, new String(name), hash);
+            }
+            if (symbol.hash == hash && symbol.name.length() == length && matches(symbol.name, text)) {
+                return symbol;
+            }
+        }
+    }
+
+    // The same for chars[start, start + length), without making a String unless the name is new
+    public Symbol intern(char[] chars, int start, int length) {
+        int hash = 0;
+        for (int i = start; i < start + length; i++) {
+            hash = 31 * hash + fold(chars[i]);
+        }
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            Symbol symbol = table[slot];
+            if (symbol == null) {
+                char[] name = new char[length];
+                for (int i = 0; i < length; i++) {
+                    name[i] = fold(chars[start + i]);
+                }
+                return add(slot, new String(name), hash);
+            }
+            if (symbol.hash == hash && symbol.name.length() == length && matches(symbol.name, chars, start)) {
+                return symbol;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private Symbol add(int slot, String name, int hash) {
+        Symbol symbol = new Symbol(name, size++, hash, this);
+        table[slot] = symbol;
+        if (size * 2 > table.length) {
+            grow();
+        }
+        return symbol;
+    }
+
+    private void grow() {
+        Symbol[] old = table;
+        table = new Symbol[old.length * 2];
+        int mask = table.length - 1;
+        for (Symbol symbol : old) {
+            if (symbol != null) {
+                int slot = spread(symbol.hash) & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = symbol;
+            }
+        }
+    }
+
+    private static boolean matches(String name, CharSequence text) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != fold(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String name, char[] chars, int start) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != fold(chars[start + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Identifiers are ASCII; anything else is lower-cased like String.toLowerCase would
+    private static char fold(char c) {
+        if (c < 128) {
+            return c >= 'A' && c <= 'Z' ? (char) (c | 0x20) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,86 @@
+package antlr;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+
+/**
+ * Token factory that interns every IDENT as it is lexed: the token it makes is
+ * an {@link IdentifierToken} carrying its {@link Symbol}, so the identifier is
+ * case-folded once and the code generators never touch its text again. All
+ * other tokens are plain CommonTokens, as CommonTokenFactory would make them.
+ * Works with delphiLexer and FastLexer; FastLexer interns straight from its
+ * char array (see {@link #identifier}).
+ */
+public final class SymbolTokenFactory implements TokenFactory<CommonToken> {
+    /** An identifier token and its interned symbol. */
+    public static final class IdentifierToken extends CommonToken {
+        private static final long serialVersionUID = 1L;
+
+        public final Symbol symbol;
+
+        IdentifierToken(Pair<TokenSource, CharStream> source, int start, int stop, Symbol symbol) {
+            super(source, delphiLexer.IDENT, DEFAULT_CHANNEL, start, stop);
+            this.symbol = symbol;
+        }
+    }
+
+    private final SymbolTable symbols;
+    private final boolean copyText;
+
+    /**
+     * @param copyText set the text of every token when it is made, for char
+     *                 streams that do not keep their characters (see CommonTokenFactory)
+     */
+    public SymbolTokenFactory(SymbolTable symbols, boolean copyText) {
+        this.symbols = symbols;
+        this.copyText = copyText;
+    }
+
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    @Override
+    public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
+                              int stop, int line, int charPositionInLine) {
+        CommonToken token;
+        if (type == delphiLexer.IDENT && channel == CommonToken.DEFAULT_CHANNEL) {
+            String spelling = text != null ? text : source.b.getText(Interval.of(start, stop));
+            token = new IdentifierToken(source, start, stop, symbols.intern(spelling));
+            if (text != null || copyText) {
+                token.setText(spelling);
+            }
+        } else {
+            token = new CommonToken(source, type, channel, start, stop);
+            if (text != null) {
+                token.setText(text);
+            } else if (copyText && source.b != null) {
+                token.setText(source.b.getText(Interval.of(start, stop)));
+            }
+        }
+        token.setLine(line);
+        token.setCharPositionInLine(charPositionInLine);
+        return token;
+    }
+
+    @Override
+    public CommonToken create(int type, String text) {
+        return new CommonToken(type, text);
+    }
+
+    // An IDENT spelled chars[start..stop], interned without making a String for names already seen
+    CommonToken identifier(Pair<TokenSource, CharStream> source, char[] chars, int start, int stop, int line,
+                           int charPositionInLine) {
+        CommonToken token = new IdentifierToken(source, start, stop, symbols.intern(chars, start, stop - start + 1));
+        if (copyText) {
+            token.setText(new String(chars, start, stop - start + 1));
+        }
+        token.setLine(line);
+        token.setCharPositionInLine(charPositionInLine);
+        return token;
+    }
+}
@@ -0,0 +1,186 @@
+package antlr;
+
+/**
+ * An operand of the generated IR. The expression visitors return these and the
+ * LLVMGenerator emit methods take them, so an operand never has to be guessed
+ * from its text: a {@link Slot} is memory that has to be loaded before it can be
+ * used, a {@link Register} or {@link Constant} can be used as it is.
+ *
+ * Every value knows its LLVM type; for a slot that is the type of what is
+ * stored in it (a StackSlot of type i32 is an i32* alloca).
+ */
+public abstract class Value {
+    /**
+     * An LLVM type. The scalar types are constants; a reference to an instance of
+     * a class has a pointer type of its own, made once per class by
+     * {@link ClassLayout}, and so does each array type ({@link ArrayLayout}), so
+     * types are compared by identity.
+     */
+    public static final class Type {
+        public static final Type I1 = new Type("i1");
+        public static final Type I32 = new Type("i32");
+        public static final Type VOID = new Type("void");
+
+        private final String llvmName;
+
+        Type(String llvmName) {
+            this.llvmName = llvmName;
+        }
+
+        public boolean isPointer() {
+            return llvmName.endsWith("*");
+        }
+
+        public boolean isArray() {
+            return llvmName.startsWith("[");
+        }
+
+        // What a global of this type is initialized to
+        String zero() {
+            return isPointer() ? "null" : isArray() ? "zeroinitializer" : "0";
+        }
+
+        @Override
+        public String toString() {
+            return llvmName;
+        }
+    }
+
+    public final Type type;
+
+    private Value(Type type) {
+        this.type = type;
+    }
+
+    /** Appends the operand as it is written in an instruction, without its type. */
+    public abstract StringBuilder appendTo(StringBuilder sb);
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    /** An integer literal. */
+    public static final class Constant extends Value {
+        public static final Constant ZERO = new Constant(0);
+        public static final Constant ONE = new Constant(1);
+
+        public final int value;
+
+        public Constant(int value) {
+            super(Type.I32);
+            this.value = value;
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return sb.append(value);
+        }
+    }
+
+    /**
+     * An SSA register: a numbered temporary (%t7) made by the generator, or a
+     * named one such as the incoming argument %x.arg.
+     */
+    public static final class Register extends Value {
+        private final int id;
+        private final String name;
+
+        Register(int id, Type type) {
+            super(type);
+            this.id = id;
+            this.name = null;
+        }
+
+        public Register(String name, Type type) {
+            super(type);
+            this.id = -1;
+            this.name = name;
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return name != null ? sb.append('%').append(name) : sb.append("%t").append(id);
+        }
+    }
+
+    /** Memory holding a variable; loads and stores go through it. */
+    public abstract static class Slot extends Value {
+        public final String name;
+
+        private Slot(String name, Type type) {
+            super(type);
+            this.name = name;
+        }
+    }
+
+    /** An alloca in the current function's entry block. */
+    public static final class StackSlot extends Slot {
+        StackSlot(String name, Type type) {
+            super(name, type);
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return sb.append('%').append(name);
+        }
+    }
+
+    /**
+     * A field of an instance or an element of an array: the address a
+     * getelementptr computed into a register, good for the loads and stores
+     * of one use.
+     */
+    public static final class AddressSlot extends Slot {
+        AddressSlot(int id, Type type) {
+            super("t" + id, type);
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return sb.append('%').append(name);
+        }
+    }
+
+    /**
+     * A variable of an enclosing routine, reached through the address the
+     * routine was passed (see {@link Binder.Capture}).
+     */
+    public static final class OuterSlot extends Slot {
+        OuterSlot(String name, Type type) {
+            super(name, type);
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return sb.append('%').append(name);
+        }
+    }
+
+    /** The address of a variable, passed to a nested routine that uses it. */
+    public static final class Address extends Value {
+        private final Slot slot;
+
+        Address(Slot slot) {
+            super(new Type(slot.type + "*"));
+            this.slot = slot;
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return slot.appendTo(sb);
+        }
+    }
+
+    /** A module-level variable, shared by main and the routines. */
+    public static final class Global extends Slot {
+        Global(String name, Type type) {
+            super(name, type);
+        }
+
+        @Override
+        public StringBuilder appendTo(StringBuilder sb) {
+            return sb.append('@').append(name);
+        }
+    }
+}
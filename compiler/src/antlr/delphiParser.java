@@ -338,6 +338,7 @@ public class delphiParser extends Parser {
 	}
 
 	public static class IdentifierContext extends ParserRuleContext {
+		public Scope.Binding binding;
 		public TerminalNode IDENT() { return getToken(delphiParser.IDENT, 0); }
 		public IdentifierContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1568,14 +1569,19 @@ public class delphiParser extends Parser {
 
 	public static class ClassDeclarationContext extends ParserRuleContext {
 		public TerminalNode CLASS() { return getToken(delphiParser.CLASS, 0); }
-		public IdentifierContext identifier() {
-			return getRuleContext(IdentifierContext.class,0);
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
 		}
 		public ClassBodyContext classBody() {
 			return getRuleContext(ClassBodyContext.class,0);
 		}
 		public TerminalNode END() { return getToken(delphiParser.END, 0); }
 		public TerminalNode SEMI() { return getToken(delphiParser.SEMI, 0); }
+		public TerminalNode LPAREN() { return getToken(delphiParser.LPAREN, 0); }
+		public TerminalNode RPAREN() { return getToken(delphiParser.RPAREN, 0); }
 		public ClassDeclarationContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1598,6 +1604,7 @@ public class delphiParser extends Parser {
 	public final ClassDeclarationContext classDeclaration() throws RecognitionException {
 		ClassDeclarationContext _localctx = new ClassDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 42, RULE_classDeclaration);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
@@ -1605,11 +1612,25 @@ public class delphiParser extends Parser {
 			match(CLASS);
 			setState(355);
 			identifier();
-			setState(356);
+			setState(360);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(356);
+				match(LPAREN);
+				setState(357);
+				identifier();
+				setState(358);
+				match(RPAREN);
+				}
+			}
+
+			setState(362);
 			classBody();
-			setState(357);
+			setState(363);
 			match(END);
-			setState(358);
+			setState(364);
 			match(SEMI);
 			}
 		}
@@ -1631,6 +1652,11 @@ public class delphiParser extends Parser {
 		}
 		public TerminalNode END() { return getToken(delphiParser.END, 0); }
 		public TerminalNode SEMI() { return getToken(delphiParser.SEMI, 0); }
+		public TerminalNode LPAREN() { return getToken(delphiParser.LPAREN, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode RPAREN() { return getToken(delphiParser.RPAREN, 0); }
 		public ClassTypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1653,16 +1679,31 @@ public class delphiParser extends Parser {
 	public final ClassTypeContext classType() throws RecognitionException {
 		ClassTypeContext _localctx = new ClassTypeContext(_ctx, getState());
 		enterRule(_localctx, 44, RULE_classType);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(366);
 			match(CLASS);
-			setState(361);
+			setState(371);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==LPAREN) {
+				{
+				setState(367);
+				match(LPAREN);
+				setState(368);
+				identifier();
+				setState(369);
+				match(RPAREN);
+				}
+			}
+
+			setState(373);
 			classBody();
-			setState(362);
+			setState(374);
 			match(END);
-			setState(363);
+			setState(375);
 			match(SEMI);
 			}
 		}
@@ -1722,35 +1763,35 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(370);
+			setState(382);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CONSTRUCTOR) | (1L << DESTRUCTOR) | (1L << PUBLIC) | (1L << PRIVATE) | (1L << FUNCTION) | (1L << PROCEDURE))) != 0) || _la==IDENT) {
 				{
-				setState(368);
+				setState(380);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,13,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 				case 1:
 					{
-					setState(365);
+					setState(377);
 					visibilitySection();
 					}
 					break;
 				case 2:
 					{
-					setState(366);
+					setState(378);
 					classMember();
 					}
 					break;
 				case 3:
 					{
-					setState(367);
+					setState(379);
 					methodDecl();
 					}
 					break;
 				}
 				}
-				setState(372);
+				setState(384);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1808,27 +1849,27 @@ public class delphiParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(373);
+			setState(385);
 			visibility();
-			setState(374);
+			setState(386);
 			match(COLON);
-			setState(380);
+			setState(392);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(375);
+					setState(387);
 					classMember();
-					setState(376);
+					setState(388);
 					match(SEMI);
 					}
 					} 
 				}
-				setState(382);
+				setState(394);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
 			}
 			}
 		}
@@ -1897,108 +1938,118 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 50, RULE_classMember);
 		int _la;
 		try {
-			setState(415);
+			setState(430);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(384);
+				setState(396);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PUBLIC || _la==PRIVATE) {
 					{
-					setState(383);
+					setState(395);
 					visibility();
 					}
 				}
 
-				setState(386);
+				setState(398);
 				variableDeclaration();
-				setState(387);
+				setState(399);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(390);
+				setState(402);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PUBLIC || _la==PRIVATE) {
 					{
-					setState(389);
+					setState(401);
 					visibility();
 					}
 				}
 
-				setState(392);
+				setState(404);
 				procedureDeclaration();
+				setState(406);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+				case 1:
+					{
+					setState(405);
+					match(SEMI);
+					}
+					break;
+				}
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(394);
+				setState(409);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==PUBLIC || _la==PRIVATE) {
 					{
-					setState(393);
+					setState(408);
 					visibility();
 					}
 				}
 
-				setState(396);
+				setState(411);
 				methodImplementation();
-				setState(397);
+				setState(412);
 				match(SEMI);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(399);
+				setState(414);
 				constructorDecl();
-				setState(400);
+				setState(415);
 				match(SEMI);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(402);
+				setState(417);
 				destructorDecl();
-				setState(403);
+				setState(418);
 				match(SEMI);
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(405);
+				setState(420);
 				methodDecl();
-				setState(406);
+				setState(421);
 				match(SEMI);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(408);
+				setState(423);
 				match(PROCEDURE);
-				setState(409);
+				setState(424);
 				identifier();
-				setState(410);
+				setState(425);
 				match(SEMI);
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(412);
+				setState(427);
 				functionDeclaration();
-				setState(413);
+				setState(428);
 				match(SEMI);
 				}
 				break;
@@ -2068,73 +2119,73 @@ public class delphiParser extends Parser {
 		MethodDeclContext _localctx = new MethodDeclContext(_ctx, getState());
 		enterRule(_localctx, 52, RULE_methodDecl);
 		try {
-			setState(429);
+			setState(444);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,23,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(417);
+				setState(432);
 				constructorDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(418);
+				setState(433);
 				destructorDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(419);
+				setState(434);
 				functionDeclaration();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(420);
+				setState(435);
 				procedureDeclaration();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(421);
+				setState(436);
 				procedureStatement();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(422);
+				setState(437);
 				match(PROCEDURE);
-				setState(423);
+				setState(438);
 				identifier();
-				setState(424);
+				setState(439);
 				match(SEMI);
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(426);
+				setState(441);
 				methodImplementation();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(427);
+				setState(442);
 				constructorImplementation();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(428);
+				setState(443);
 				destructorImplementation();
 				}
 				break;
@@ -2193,35 +2244,35 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(431);
+			setState(446);
 			match(CONSTRUCTOR);
-			setState(432);
+			setState(447);
 			identifier();
-			setState(435);
+			setState(450);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DOT) {
 				{
-				setState(433);
+				setState(448);
 				match(DOT);
-				setState(434);
+				setState(449);
 				identifier();
 				}
 			}
 
-			setState(438);
+			setState(453);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LPAREN) {
 				{
-				setState(437);
+				setState(452);
 				formalParameterList();
 				}
 			}
 
-			setState(440);
+			setState(455);
 			match(SEMI);
-			setState(441);
+			setState(456);
 			block();
 			}
 		}
@@ -2275,25 +2326,25 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(443);
+			setState(458);
 			match(DESTRUCTOR);
-			setState(444);
+			setState(459);
 			identifier();
-			setState(447);
+			setState(462);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DOT) {
 				{
-				setState(445);
+				setState(460);
 				match(DOT);
-				setState(446);
+				setState(461);
 				identifier();
 				}
 			}
 
-			setState(449);
+			setState(464);
 			match(SEMI);
-			setState(450);
+			setState(465);
 			block();
 			}
 		}
@@ -2343,42 +2394,42 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 58, RULE_constructorDecl);
 		int _la;
 		try {
-			setState(465);
+			setState(480);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,25,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(452);
+				setState(467);
 				match(CONSTRUCTOR);
-				setState(453);
+				setState(468);
 				identifier();
-				setState(454);
+				setState(469);
 				match(LPAREN);
-				setState(456);
+				setState(471);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(455);
+					setState(470);
 					formalParameterList();
 					}
 				}
 
-				setState(458);
+				setState(473);
 				match(RPAREN);
-				setState(459);
+				setState(474);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(461);
+				setState(476);
 				match(CONSTRUCTOR);
-				setState(462);
+				setState(477);
 				identifier();
-				setState(463);
+				setState(478);
 				match(SEMI);
 				}
 				break;
@@ -2426,32 +2477,32 @@ public class delphiParser extends Parser {
 		DestructorDeclContext _localctx = new DestructorDeclContext(_ctx, getState());
 		enterRule(_localctx, 60, RULE_destructorDecl);
 		try {
-			setState(477);
+			setState(492);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(467);
+				setState(482);
 				match(DESTRUCTOR);
-				setState(468);
+				setState(483);
 				identifier();
-				setState(469);
+				setState(484);
 				match(LPAREN);
-				setState(470);
+				setState(485);
 				match(RPAREN);
-				setState(471);
+				setState(486);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(473);
+				setState(488);
 				match(DESTRUCTOR);
-				setState(474);
+				setState(489);
 				identifier();
-				setState(475);
+				setState(490);
 				match(SEMI);
 				}
 				break;
@@ -2501,11 +2552,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(479);
+			setState(494);
 			identifier();
-			setState(480);
+			setState(495);
 			match(COLON);
-			setState(481);
+			setState(496);
 			typeIdentifier();
 			}
 		}
@@ -2549,7 +2600,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(483);
+			setState(498);
 			_la = _input.LA(1);
 			if ( !(_la==PUBLIC || _la==PRIVATE) ) {
 			_errHandler.recoverInline(this);
@@ -2610,30 +2661,30 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(485);
+			setState(500);
 			match(VAR);
-			setState(489); 
+			setState(504); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(486);
+				setState(501);
 				variableDeclaration();
-				setState(487);
+				setState(502);
 				match(SEMI);
 				}
 				}
-				setState(491); 
+				setState(506); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==IDENT );
-			setState(494);
+			setState(509);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(493);
+				setState(508);
 				match(SEMI);
 				}
 			}
@@ -2684,11 +2735,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(496);
+			setState(511);
 			identifierList();
-			setState(497);
+			setState(512);
 			match(COLON);
-			setState(498);
+			setState(513);
 			type_();
 			}
 		}
@@ -2740,25 +2791,25 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(500);
+			setState(515);
 			identifier();
-			setState(501);
+			setState(516);
 			match(DOT);
-			setState(502);
+			setState(517);
 			match(CREATE);
-			setState(503);
+			setState(518);
 			match(LPAREN);
-			setState(505);
+			setState(520);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CHR) | (1L << NIL) | (1L << NOT) | (1L << PLUS) | (1L << MINUS) | (1L << LPAREN))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (LBRACK - 65)) | (1L << (LBRACK2 - 65)) | (1L << (AT - 65)) | (1L << (TRUE - 65)) | (1L << (FALSE - 65)) | (1L << (IDENT - 65)) | (1L << (STRING_LITERAL - 65)) | (1L << (NUM_INT - 65)) | (1L << (NUM_REAL - 65)))) != 0)) {
 				{
-				setState(504);
+				setState(519);
 				parameterList();
 				}
 			}
 
-			setState(507);
+			setState(522);
 			match(RPAREN);
 			}
 		}
@@ -2816,80 +2867,80 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 72, RULE_methodImplementation);
 		int _la;
 		try {
-			setState(535);
+			setState(550);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case PROCEDURE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(509);
+				setState(524);
 				match(PROCEDURE);
-				setState(510);
+				setState(525);
 				identifier();
-				setState(516);
+				setState(531);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(511);
+					setState(526);
 					match(LPAREN);
-					setState(513);
+					setState(528);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==LPAREN) {
 						{
-						setState(512);
+						setState(527);
 						formalParameterList();
 						}
 					}
 
-					setState(515);
+					setState(530);
 					match(RPAREN);
 					}
 				}
 
-				setState(518);
+				setState(533);
 				match(SEMI);
-				setState(519);
+				setState(534);
 				block();
 				}
 				break;
 			case FUNCTION:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(521);
+				setState(536);
 				match(FUNCTION);
-				setState(522);
+				setState(537);
 				identifier();
-				setState(528);
+				setState(543);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(523);
+					setState(538);
 					match(LPAREN);
-					setState(525);
+					setState(540);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==LPAREN) {
 						{
-						setState(524);
+						setState(539);
 						formalParameterList();
 						}
 					}
 
-					setState(527);
+					setState(542);
 					match(RPAREN);
 					}
 				}
 
-				setState(530);
+				setState(545);
 				match(COLON);
-				setState(531);
+				setState(546);
 				typeIdentifier();
-				setState(532);
+				setState(547);
 				match(SEMI);
-				setState(533);
+				setState(548);
 				block();
 				}
 				break;
@@ -2941,7 +2992,7 @@ public class delphiParser extends Parser {
 		Type_Context _localctx = new Type_Context(_ctx, getState());
 		enterRule(_localctx, 74, RULE_type_);
 		try {
-			setState(540);
+			setState(555);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
@@ -2959,7 +3010,7 @@ public class delphiParser extends Parser {
 			case NUM_REAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(537);
+				setState(552);
 				simpleType();
 				}
 				break;
@@ -2970,14 +3021,14 @@ public class delphiParser extends Parser {
 			case SET:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(538);
+				setState(553);
 				structuredType();
 				}
 				break;
 			case POINTER:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(539);
+				setState(554);
 				pointerType();
 				}
 				break;
@@ -3032,34 +3083,34 @@ public class delphiParser extends Parser {
 		SimpleTypeContext _localctx = new SimpleTypeContext(_ctx, getState());
 		enterRule(_localctx, 76, RULE_simpleType);
 		try {
-			setState(546);
+			setState(561);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(542);
+				setState(557);
 				scalarType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(543);
+				setState(558);
 				subrangeType();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(544);
+				setState(559);
 				typeIdentifier();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(545);
+				setState(560);
 				stringtype();
 				}
 				break;
@@ -3107,11 +3158,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(548);
+			setState(563);
 			match(LPAREN);
-			setState(549);
+			setState(564);
 			identifierList();
-			setState(550);
+			setState(565);
 			match(RPAREN);
 			}
 		}
@@ -3159,11 +3210,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(552);
+			setState(567);
 			constant();
-			setState(553);
+			setState(568);
 			match(DOTDOT);
-			setState(554);
+			setState(569);
 			constant();
 			}
 		}
@@ -3211,13 +3262,13 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 82, RULE_typeIdentifier);
 		int _la;
 		try {
-			setState(558);
+			setState(573);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(556);
+				setState(571);
 				identifier();
 				}
 				break;
@@ -3228,7 +3279,7 @@ public class delphiParser extends Parser {
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(557);
+				setState(572);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << BOOLEAN) | (1L << CHAR) | (1L << INTEGER) | (1L << REAL))) != 0) || _la==STRING) ) {
 				_errHandler.recoverInline(this);
@@ -3283,15 +3334,15 @@ public class delphiParser extends Parser {
 		StructuredTypeContext _localctx = new StructuredTypeContext(_ctx, getState());
 		enterRule(_localctx, 84, RULE_structuredType);
 		try {
-			setState(563);
+			setState(578);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case PACKED:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(560);
+				setState(575);
 				match(PACKED);
-				setState(561);
+				setState(576);
 				unpackedStructuredType();
 				}
 				break;
@@ -3301,7 +3352,7 @@ public class delphiParser extends Parser {
 			case SET:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(562);
+				setState(577);
 				unpackedStructuredType();
 				}
 				break;
@@ -3356,34 +3407,34 @@ public class delphiParser extends Parser {
 		UnpackedStructuredTypeContext _localctx = new UnpackedStructuredTypeContext(_ctx, getState());
 		enterRule(_localctx, 86, RULE_unpackedStructuredType);
 		try {
-			setState(569);
+			setState(584);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case ARRAY:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(565);
+				setState(580);
 				arrayType();
 				}
 				break;
 			case RECORD:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(566);
+				setState(581);
 				recordType();
 				}
 				break;
 			case SET:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(567);
+				setState(582);
 				setType();
 				}
 				break;
 			case FILE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(568);
+				setState(583);
 				fileType();
 				}
 				break;
@@ -3437,30 +3488,30 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(571);
+			setState(586);
 			match(STRING);
-			setState(572);
+			setState(587);
 			match(LBRACK);
-			setState(575);
+			setState(590);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENT:
 				{
-				setState(573);
+				setState(588);
 				identifier();
 				}
 				break;
 			case NUM_INT:
 			case NUM_REAL:
 				{
-				setState(574);
+				setState(589);
 				unsignedNumber();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(577);
+			setState(592);
 			match(RBRACK);
 			}
 		}
@@ -3511,40 +3562,40 @@ public class delphiParser extends Parser {
 		ArrayTypeContext _localctx = new ArrayTypeContext(_ctx, getState());
 		enterRule(_localctx, 90, RULE_arrayType);
 		try {
-			setState(593);
+			setState(608);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(579);
+				setState(594);
 				match(ARRAY);
-				setState(580);
+				setState(595);
 				match(LBRACK);
-				setState(581);
+				setState(596);
 				typeList();
-				setState(582);
+				setState(597);
 				match(RBRACK);
-				setState(583);
+				setState(598);
 				match(OF);
-				setState(584);
+				setState(599);
 				componentType();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(586);
+				setState(601);
 				match(ARRAY);
-				setState(587);
+				setState(602);
 				match(LBRACK2);
-				setState(588);
+				setState(603);
 				typeList();
-				setState(589);
+				setState(604);
 				match(RBRACK2);
-				setState(590);
+				setState(605);
 				match(OF);
-				setState(591);
+				setState(606);
 				componentType();
 				}
 				break;
@@ -3598,21 +3649,21 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(595);
+			setState(610);
 			indexType();
-			setState(600);
+			setState(615);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(596);
+				setState(611);
 				match(COMMA);
-				setState(597);
+				setState(612);
 				indexType();
 				}
 				}
-				setState(602);
+				setState(617);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3658,7 +3709,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(603);
+			setState(618);
 			simpleType();
 			}
 		}
@@ -3702,7 +3753,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(605);
+			setState(620);
 			type_();
 			}
 		}
@@ -3749,19 +3800,19 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(607);
+			setState(622);
 			match(RECORD);
-			setState(609);
+			setState(624);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==CASE || _la==IDENT) {
 				{
-				setState(608);
+				setState(623);
 				fieldList();
 				}
 			}
 
-			setState(611);
+			setState(626);
 			match(END);
 			}
 		}
@@ -3808,22 +3859,22 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 100, RULE_fieldList);
 		int _la;
 		try {
-			setState(619);
+			setState(634);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(613);
+				setState(628);
 				fixedPart();
-				setState(616);
+				setState(631);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==SEMI) {
 					{
-					setState(614);
+					setState(629);
 					match(SEMI);
-					setState(615);
+					setState(630);
 					variantPart();
 					}
 				}
@@ -3833,7 +3884,7 @@ public class delphiParser extends Parser {
 			case CASE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(618);
+				setState(633);
 				variantPart();
 				}
 				break;
@@ -3889,25 +3940,25 @@ public class delphiParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(621);
+			setState(636);
 			recordSection();
-			setState(626);
+			setState(641);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(622);
+					setState(637);
 					match(SEMI);
-					setState(623);
+					setState(638);
 					recordSection();
 					}
 					} 
 				}
-				setState(628);
+				setState(643);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,46,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
 			}
 			}
 		}
@@ -3955,11 +4006,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(629);
+			setState(644);
 			identifierList();
-			setState(630);
+			setState(645);
 			match(COLON);
-			setState(631);
+			setState(646);
 			type_();
 			}
 		}
@@ -4016,27 +4067,27 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(633);
+			setState(648);
 			match(CASE);
-			setState(634);
+			setState(649);
 			tag();
-			setState(635);
+			setState(650);
 			match(OF);
-			setState(636);
+			setState(651);
 			variant();
-			setState(641);
+			setState(656);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==SEMI) {
 				{
 				{
-				setState(637);
+				setState(652);
 				match(SEMI);
-				setState(638);
+				setState(653);
 				variant();
 				}
 				}
-				setState(643);
+				setState(658);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4084,24 +4135,24 @@ public class delphiParser extends Parser {
 		TagContext _localctx = new TagContext(_ctx, getState());
 		enterRule(_localctx, 108, RULE_tag);
 		try {
-			setState(649);
+			setState(664);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,48,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(644);
+				setState(659);
 				identifier();
-				setState(645);
+				setState(660);
 				match(COLON);
-				setState(646);
+				setState(661);
 				typeIdentifier();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(648);
+				setState(663);
 				typeIdentifier();
 				}
 				break;
@@ -4153,15 +4204,15 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(651);
+			setState(666);
 			constList();
-			setState(652);
+			setState(667);
 			match(COLON);
-			setState(653);
+			setState(668);
 			match(LPAREN);
-			setState(654);
+			setState(669);
 			fieldList();
-			setState(655);
+			setState(670);
 			match(RPAREN);
 			}
 		}
@@ -4207,11 +4258,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(657);
+			setState(672);
 			match(SET);
-			setState(658);
+			setState(673);
 			match(OF);
-			setState(659);
+			setState(674);
 			baseType();
 			}
 		}
@@ -4255,7 +4306,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(661);
+			setState(676);
 			simpleType();
 			}
 		}
@@ -4299,24 +4350,24 @@ public class delphiParser extends Parser {
 		FileTypeContext _localctx = new FileTypeContext(_ctx, getState());
 		enterRule(_localctx, 116, RULE_fileType);
 		try {
-			setState(667);
+			setState(682);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,52,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(663);
+				setState(678);
 				match(FILE);
-				setState(664);
+				setState(679);
 				match(OF);
-				setState(665);
+				setState(680);
 				type_();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(666);
+				setState(681);
 				match(FILE);
 				}
 				break;
@@ -4363,9 +4414,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(669);
+			setState(684);
 			match(POINTER);
-			setState(670);
+			setState(685);
 			typeIdentifier();
 			}
 		}
@@ -4410,9 +4461,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(672);
+			setState(687);
 			procedureOrFunctionDeclaration();
-			setState(673);
+			setState(688);
 			match(SEMI);
 			}
 		}
@@ -4457,20 +4508,20 @@ public class delphiParser extends Parser {
 		ProcedureOrFunctionDeclarationContext _localctx = new ProcedureOrFunctionDeclarationContext(_ctx, getState());
 		enterRule(_localctx, 122, RULE_procedureOrFunctionDeclaration);
 		try {
-			setState(677);
+			setState(692);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case PROCEDURE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(675);
+				setState(690);
 				procedureDeclaration();
 				}
 				break;
 			case FUNCTION:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(676);
+				setState(691);
 				functionDeclaration();
 				}
 				break;
@@ -4497,10 +4548,7 @@ public class delphiParser extends Parser {
 		public IdentifierContext identifier(int i) {
 			return getRuleContext(IdentifierContext.class,i);
 		}
-		public List<TerminalNode> SEMI() { return getTokens(delphiParser.SEMI); }
-		public TerminalNode SEMI(int i) {
-			return getToken(delphiParser.SEMI, i);
-		}
+		public TerminalNode SEMI() { return getToken(delphiParser.SEMI, 0); }
 		public TerminalNode LPAREN() { return getToken(delphiParser.LPAREN, 0); }
 		public TerminalNode RPAREN() { return getToken(delphiParser.RPAREN, 0); }
 		public BlockContext block() {
@@ -4534,117 +4582,97 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 124, RULE_procedureDeclaration);
 		int _la;
 		try {
-			setState(713);
+			setState(722);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,60,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(679);
+				setState(694);
 				match(PROCEDURE);
-				setState(680);
+				setState(695);
 				identifier();
-				setState(686);
+				setState(701);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(681);
+					setState(696);
 					match(LPAREN);
-					setState(683);
+					setState(698);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==LPAREN) {
 						{
-						setState(682);
+						setState(697);
 						formalParameterList();
 						}
 					}
 
-					setState(685);
+					setState(700);
 					match(RPAREN);
 					}
 				}
 
-				setState(688);
+				setState(703);
 				match(SEMI);
-				setState(690);
+				setState(705);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,56,_ctx) ) {
 				case 1:
 					{
-					setState(689);
+					setState(704);
 					block();
 					}
 					break;
 				}
-				setState(693);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,54,_ctx) ) {
-				case 1:
-					{
-					setState(692);
-					match(SEMI);
-					}
-					break;
-				}
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(695);
+				setState(707);
 				match(PROCEDURE);
-				setState(696);
+				setState(708);
 				identifier();
-				setState(697);
+				setState(709);
 				match(DOT);
-				setState(698);
+				setState(710);
 				identifier();
-				setState(704);
+				setState(716);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(699);
+					setState(711);
 					match(LPAREN);
-					setState(701);
+					setState(713);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==LPAREN) {
 						{
-						setState(700);
+						setState(712);
 						formalParameterList();
 						}
 					}
 
-					setState(703);
+					setState(715);
 					match(RPAREN);
 					}
 				}
 
-				setState(706);
+				setState(718);
 				match(SEMI);
-				setState(708);
+				setState(720);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,57,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,59,_ctx) ) {
 				case 1:
 					{
-					setState(707);
+					setState(719);
 					block();
 					}
 					break;
 				}
-				setState(711);
-				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,58,_ctx) ) {
-				case 1:
-					{
-					setState(710);
-					match(SEMI);
-					}
-					break;
-				}
 				}
 				break;
 			}
@@ -4699,27 +4727,27 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(715);
+			setState(724);
 			match(LPAREN);
-			setState(716);
+			setState(725);
 			formalParameterSection();
-			setState(721);
+			setState(730);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==SEMI) {
 				{
 				{
-				setState(717);
+				setState(726);
 				match(SEMI);
-				setState(718);
+				setState(727);
 				formalParameterSection();
 				}
 				}
-				setState(723);
+				setState(732);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(724);
+			setState(733);
 			match(RPAREN);
 			}
 		}
@@ -4764,40 +4792,40 @@ public class delphiParser extends Parser {
 		FormalParameterSectionContext _localctx = new FormalParameterSectionContext(_ctx, getState());
 		enterRule(_localctx, 128, RULE_formalParameterSection);
 		try {
-			setState(733);
+			setState(742);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IDENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(726);
+				setState(735);
 				parameterGroup();
 				}
 				break;
 			case VAR:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(727);
+				setState(736);
 				match(VAR);
-				setState(728);
+				setState(737);
 				parameterGroup();
 				}
 				break;
 			case FUNCTION:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(729);
+				setState(738);
 				match(FUNCTION);
-				setState(730);
+				setState(739);
 				parameterGroup();
 				}
 				break;
 			case PROCEDURE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(731);
+				setState(740);
 				match(PROCEDURE);
-				setState(732);
+				setState(741);
 				parameterGroup();
 				}
 				break;
@@ -4849,11 +4877,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(735);
+			setState(744);
 			identifierList();
-			setState(736);
+			setState(745);
 			match(COLON);
-			setState(737);
+			setState(746);
 			typeIdentifier();
 			}
 		}
@@ -4905,21 +4933,21 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(739);
+			setState(748);
 			identifier();
-			setState(744);
+			setState(753);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(740);
+				setState(749);
 				match(COMMA);
-				setState(741);
+				setState(750);
 				identifier();
 				}
 				}
-				setState(746);
+				setState(755);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -4973,21 +5001,21 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(747);
+			setState(756);
 			constant();
-			setState(752);
+			setState(761);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(748);
+				setState(757);
 				match(COMMA);
-				setState(749);
+				setState(758);
 				constant();
 				}
 				}
-				setState(754);
+				setState(763);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5046,32 +5074,32 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(755);
+			setState(764);
 			match(FUNCTION);
-			setState(756);
+			setState(765);
 			identifier();
-			setState(758);
+			setState(767);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==LPAREN) {
 				{
-				setState(757);
+				setState(766);
 				formalParameterList();
 				}
 			}
 
-			setState(760);
+			setState(769);
 			match(COLON);
-			setState(761);
+			setState(770);
 			resultType();
-			setState(762);
+			setState(771);
 			match(SEMI);
-			setState(764);
+			setState(773);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
 			case 1:
 				{
-				setState(763);
+				setState(772);
 				block();
 				}
 				break;
@@ -5118,7 +5146,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(766);
+			setState(775);
 			typeIdentifier();
 			}
 		}
@@ -5164,17 +5192,17 @@ public class delphiParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 140, RULE_statement);
 		try {
-			setState(773);
+			setState(782);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NUM_INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(768);
+				setState(777);
 				label();
-				setState(769);
+				setState(778);
 				match(COLON);
-				setState(770);
+				setState(779);
 				unlabelledStatement();
 				}
 				break;
@@ -5196,7 +5224,7 @@ public class delphiParser extends Parser {
 			case IDENT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(772);
+				setState(781);
 				unlabelledStatement();
 				}
 				break;
@@ -5245,7 +5273,7 @@ public class delphiParser extends Parser {
 		UnlabelledStatementContext _localctx = new UnlabelledStatementContext(_ctx, getState());
 		enterRule(_localctx, 142, RULE_unlabelledStatement);
 		try {
-			setState(777);
+			setState(786);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BREAK:
@@ -5259,7 +5287,7 @@ public class delphiParser extends Parser {
 			case IDENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(775);
+				setState(784);
 				simpleStatement();
 				}
 				break;
@@ -5272,7 +5300,7 @@ public class delphiParser extends Parser {
 			case WITH:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(776);
+				setState(785);
 				structuredStatement();
 				}
 				break;
@@ -5333,48 +5361,48 @@ public class delphiParser extends Parser {
 		SimpleStatementContext _localctx = new SimpleStatementContext(_ctx, getState());
 		enterRule(_localctx, 144, RULE_simpleStatement);
 		try {
-			setState(785);
+			setState(794);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(779);
+				setState(788);
 				assignmentStatement();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(780);
+				setState(789);
 				procedureStatement();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(781);
+				setState(790);
 				breakStatement();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(782);
+				setState(791);
 				continueStatement();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(783);
+				setState(792);
 				gotoStatement();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(784);
+				setState(793);
 				emptyStatement_();
 				}
 				break;
@@ -5432,54 +5460,54 @@ public class delphiParser extends Parser {
 		AssignmentStatementContext _localctx = new AssignmentStatementContext(_ctx, getState());
 		enterRule(_localctx, 146, RULE_assignmentStatement);
 		try {
-			setState(805);
+			setState(814);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,69,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,70,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(787);
+				setState(796);
 				identifier();
-				setState(788);
+				setState(797);
 				match(DOT);
-				setState(789);
+				setState(798);
 				identifier();
-				setState(790);
+				setState(799);
 				match(ASSIGN);
-				setState(791);
+				setState(800);
 				expression();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(793);
+				setState(802);
 				identifier();
-				setState(794);
+				setState(803);
 				match(ASSIGN);
-				setState(795);
+				setState(804);
 				constructorCall();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(797);
+				setState(806);
 				identifier();
-				setState(798);
+				setState(807);
 				match(ASSIGN);
-				setState(799);
+				setState(808);
 				expression();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(801);
+				setState(810);
 				variable();
-				setState(802);
+				setState(811);
 				match(ASSIGN);
-				setState(803);
+				setState(812);
 				expression();
 				}
 				break;
@@ -5564,97 +5592,97 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(810);
+			setState(819);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case AT:
 				{
-				setState(807);
+				setState(816);
 				match(AT);
-				setState(808);
+				setState(817);
 				identifier();
 				}
 				break;
 			case IDENT:
 				{
-				setState(809);
+				setState(818);
 				identifier();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(839);
+			setState(848);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (LBRACK - 65)) | (1L << (LBRACK2 - 65)) | (1L << (POINTER - 65)) | (1L << (DOT - 65)))) != 0)) {
 				{
-				setState(837);
+				setState(846);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case LBRACK:
 					{
-					setState(812);
+					setState(821);
 					match(LBRACK);
-					setState(813);
+					setState(822);
 					expression();
-					setState(818);
+					setState(827);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==COMMA) {
 						{
 						{
-						setState(814);
+						setState(823);
 						match(COMMA);
-						setState(815);
+						setState(824);
 						expression();
 						}
 						}
-						setState(820);
+						setState(829);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(821);
+					setState(830);
 					match(RBRACK);
 					}
 					break;
 				case LBRACK2:
 					{
-					setState(823);
+					setState(832);
 					match(LBRACK2);
-					setState(824);
+					setState(833);
 					expression();
-					setState(829);
+					setState(838);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==COMMA) {
 						{
 						{
-						setState(825);
+						setState(834);
 						match(COMMA);
-						setState(826);
+						setState(835);
 						expression();
 						}
 						}
-						setState(831);
+						setState(840);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
-					setState(832);
+					setState(841);
 					match(RBRACK2);
 					}
 					break;
 				case DOT:
 					{
-					setState(834);
+					setState(843);
 					match(DOT);
-					setState(835);
+					setState(844);
 					identifier();
 					}
 					break;
 				case POINTER:
 					{
-					setState(836);
+					setState(845);
 					match(POINTER);
 					}
 					break;
@@ -5662,7 +5690,7 @@ public class delphiParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(841);
+				setState(850);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -5680,15 +5708,15 @@ public class delphiParser extends Parser {
 	}
 
 	public static class ExpressionContext extends ParserRuleContext {
-		public SimpleExpressionContext simpleExpression() {
-			return getRuleContext(SimpleExpressionContext.class,0);
+		public List<SimpleExpressionContext> simpleExpression() {
+			return getRuleContexts(SimpleExpressionContext.class);
+		}
+		public SimpleExpressionContext simpleExpression(int i) {
+			return getRuleContext(SimpleExpressionContext.class,i);
 		}
 		public RelationaloperatorContext relationaloperator() {
 			return getRuleContext(RelationaloperatorContext.class,0);
 		}
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
-		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -5715,17 +5743,17 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(842);
+			setState(851);
 			simpleExpression();
-			setState(846);
+			setState(855);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IN) | (1L << EQUAL) | (1L << NOT_EQUAL) | (1L << LT) | (1L << LE) | (1L << GE) | (1L << GT))) != 0)) {
 				{
-				setState(843);
+				setState(852);
 				relationaloperator();
-				setState(844);
-				expression();
+				setState(853);
+				simpleExpression();
 				}
 			}
 
@@ -5776,7 +5804,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(848);
+			setState(857);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << IN) | (1L << EQUAL) | (1L << NOT_EQUAL) | (1L << LT) | (1L << LE) | (1L << GE) | (1L << GT))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -5800,14 +5828,17 @@ public class delphiParser extends Parser {
 	}
 
 	public static class SimpleExpressionContext extends ParserRuleContext {
-		public TermContext term() {
-			return getRuleContext(TermContext.class,0);
+		public List<TermContext> term() {
+			return getRuleContexts(TermContext.class);
 		}
-		public AdditiveoperatorContext additiveoperator() {
-			return getRuleContext(AdditiveoperatorContext.class,0);
+		public TermContext term(int i) {
+			return getRuleContext(TermContext.class,i);
 		}
-		public SimpleExpressionContext simpleExpression() {
-			return getRuleContext(SimpleExpressionContext.class,0);
+		public List<AdditiveoperatorContext> additiveoperator() {
+			return getRuleContexts(AdditiveoperatorContext.class);
+		}
+		public AdditiveoperatorContext additiveoperator(int i) {
+			return getRuleContext(AdditiveoperatorContext.class,i);
 		}
 		public FunctionDesignatorContext functionDesignator() {
 			return getRuleContext(FunctionDesignatorContext.class,0);
@@ -5836,32 +5867,36 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 154, RULE_simpleExpression);
 		int _la;
 		try {
-			setState(857);
+			setState(869);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,77,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(850);
+				setState(859);
 				term();
-				setState(854);
+				setState(865);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << PLUS) | (1L << MINUS))) != 0)) {
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << PLUS) | (1L << MINUS))) != 0)) {
 					{
-					setState(851);
+					{
+					setState(860);
 					additiveoperator();
-					setState(852);
-					simpleExpression();
+					setState(861);
+					term();
+					}
 					}
+					setState(867);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
 				}
-
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(856);
+				setState(868);
 				functionDesignator();
 				}
 				break;
@@ -5908,7 +5943,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(859);
+			setState(871);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << OR) | (1L << PLUS) | (1L << MINUS))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -5932,14 +5967,17 @@ public class delphiParser extends Parser {
 	}
 
 	public static class TermContext extends ParserRuleContext {
-		public SignedFactorContext signedFactor() {
-			return getRuleContext(SignedFactorContext.class,0);
+		public List<SignedFactorContext> signedFactor() {
+			return getRuleContexts(SignedFactorContext.class);
+		}
+		public SignedFactorContext signedFactor(int i) {
+			return getRuleContext(SignedFactorContext.class,i);
 		}
-		public MultiplicativeoperatorContext multiplicativeoperator() {
-			return getRuleContext(MultiplicativeoperatorContext.class,0);
+		public List<MultiplicativeoperatorContext> multiplicativeoperator() {
+			return getRuleContexts(MultiplicativeoperatorContext.class);
 		}
-		public TermContext term() {
-			return getRuleContext(TermContext.class,0);
+		public MultiplicativeoperatorContext multiplicativeoperator(int i) {
+			return getRuleContext(MultiplicativeoperatorContext.class,i);
 		}
 		public TermContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -5967,20 +6005,24 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(861);
+			setState(873);
 			signedFactor();
-			setState(865);
+			setState(879);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << DIV) | (1L << MOD) | (1L << STAR) | (1L << SLASH))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << DIV) | (1L << MOD) | (1L << STAR) | (1L << SLASH))) != 0)) {
+				{
 				{
-				setState(862);
+				setState(874);
 				multiplicativeoperator();
-				setState(863);
-				term();
+				setState(875);
+				signedFactor();
 				}
+				}
+				setState(881);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
 			}
-
 			}
 		}
 		catch (RecognitionException re) {
@@ -6026,7 +6068,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(867);
+			setState(882);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << AND) | (1L << DIV) | (1L << MOD) | (1L << STAR) | (1L << SLASH))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -6081,12 +6123,12 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(870);
+			setState(885);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==PLUS || _la==MINUS) {
 				{
-				setState(869);
+				setState(884);
 				_la = _input.LA(1);
 				if ( !(_la==PLUS || _la==MINUS) ) {
 				_errHandler.recoverInline(this);
@@ -6099,7 +6141,7 @@ public class delphiParser extends Parser {
 				}
 			}
 
-			setState(872);
+			setState(887);
 			factor();
 			}
 		}
@@ -6162,61 +6204,61 @@ public class delphiParser extends Parser {
 		FactorContext _localctx = new FactorContext(_ctx, getState());
 		enterRule(_localctx, 164, RULE_factor);
 		try {
-			setState(885);
+			setState(900);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(874);
+				setState(889);
 				variable();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(875);
+				setState(890);
 				match(LPAREN);
-				setState(876);
+				setState(891);
 				expression();
-				setState(877);
+				setState(892);
 				match(RPAREN);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(879);
+				setState(894);
 				functionDesignator();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(880);
+				setState(895);
 				unsignedConstant();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(881);
+				setState(896);
 				set_();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(882);
+				setState(897);
 				match(NOT);
-				setState(883);
+				setState(898);
 				factor();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(884);
+				setState(899);
 				bool_();
 				}
 				break;
@@ -6267,35 +6309,35 @@ public class delphiParser extends Parser {
 		UnsignedConstantContext _localctx = new UnsignedConstantContext(_ctx, getState());
 		enterRule(_localctx, 166, RULE_unsignedConstant);
 		try {
-			setState(891);
+			setState(906);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NUM_INT:
 			case NUM_REAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(887);
+				setState(902);
 				unsignedNumber();
 				}
 				break;
 			case CHR:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(888);
+				setState(903);
 				constantChr();
 				}
 				break;
 			case STRING_LITERAL:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(889);
+				setState(904);
 				string();
 				}
 				break;
 			case NIL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(890);
+				setState(905);
 				match(NIL);
 				}
 				break;
@@ -6348,13 +6390,13 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(893);
+			setState(908);
 			identifier();
-			setState(894);
+			setState(909);
 			match(LPAREN);
-			setState(895);
+			setState(910);
 			parameterList();
-			setState(896);
+			setState(911);
 			match(RPAREN);
 			}
 		}
@@ -6406,21 +6448,21 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(898);
+			setState(913);
 			actualParameter();
-			setState(903);
+			setState(918);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(899);
+				setState(914);
 				match(COMMA);
-				setState(900);
+				setState(915);
 				actualParameter();
 				}
 				}
-				setState(905);
+				setState(920);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -6468,28 +6510,28 @@ public class delphiParser extends Parser {
 		Set_Context _localctx = new Set_Context(_ctx, getState());
 		enterRule(_localctx, 172, RULE_set_);
 		try {
-			setState(914);
+			setState(929);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case LBRACK:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(906);
+				setState(921);
 				match(LBRACK);
-				setState(907);
+				setState(922);
 				elementList();
-				setState(908);
+				setState(923);
 				match(RBRACK);
 				}
 				break;
 			case LBRACK2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(910);
+				setState(925);
 				match(LBRACK2);
-				setState(911);
+				setState(926);
 				elementList();
-				setState(912);
+				setState(927);
 				match(RBRACK2);
 				}
 				break;
@@ -6543,7 +6585,7 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 174, RULE_elementList);
 		int _la;
 		try {
-			setState(925);
+			setState(940);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case CHR:
@@ -6563,21 +6605,21 @@ public class delphiParser extends Parser {
 			case NUM_REAL:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(916);
+				setState(931);
 				element();
-				setState(921);
+				setState(936);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(917);
+					setState(932);
 					match(COMMA);
-					setState(918);
+					setState(933);
 					element();
 					}
 					}
-					setState(923);
+					setState(938);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -6638,16 +6680,16 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(927);
+			setState(942);
 			expression();
-			setState(930);
+			setState(945);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==DOTDOT) {
 				{
-				setState(928);
+				setState(943);
 				match(DOTDOT);
-				setState(929);
+				setState(944);
 				expression();
 				}
 			}
@@ -6704,99 +6746,99 @@ public class delphiParser extends Parser {
 		enterRule(_localctx, 178, RULE_procedureStatement);
 		int _la;
 		try {
-			setState(965);
+			setState(980);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,92,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(932);
+				setState(947);
 				identifier();
-				setState(937);
+				setState(952);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(933);
+					setState(948);
 					match(LPAREN);
-					setState(934);
+					setState(949);
 					parameterList();
-					setState(935);
+					setState(950);
 					match(RPAREN);
 					}
 				}
 
-				setState(939);
+				setState(954);
 				match(SEMI);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(941);
+				setState(956);
 				identifier();
-				setState(942);
+				setState(957);
 				match(DOT);
-				setState(943);
+				setState(958);
 				match(CREATE);
-				setState(949);
+				setState(964);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(944);
+					setState(959);
 					match(LPAREN);
-					setState(946);
+					setState(961);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CHR) | (1L << NIL) | (1L << NOT) | (1L << PLUS) | (1L << MINUS) | (1L << LPAREN))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (LBRACK - 65)) | (1L << (LBRACK2 - 65)) | (1L << (AT - 65)) | (1L << (TRUE - 65)) | (1L << (FALSE - 65)) | (1L << (IDENT - 65)) | (1L << (STRING_LITERAL - 65)) | (1L << (NUM_INT - 65)) | (1L << (NUM_REAL - 65)))) != 0)) {
 						{
-						setState(945);
+						setState(960);
 						parameterList();
 						}
 					}
 
-					setState(948);
+					setState(963);
 					match(RPAREN);
 					}
 				}
 
-				setState(951);
+				setState(966);
 				match(SEMI);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(953);
+				setState(968);
 				identifier();
-				setState(954);
+				setState(969);
 				match(DOT);
-				setState(955);
+				setState(970);
 				identifier();
-				setState(961);
+				setState(976);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==LPAREN) {
 					{
-					setState(956);
+					setState(971);
 					match(LPAREN);
-					setState(958);
+					setState(973);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << CHR) | (1L << NIL) | (1L << NOT) | (1L << PLUS) | (1L << MINUS) | (1L << LPAREN))) != 0) || ((((_la - 65)) & ~0x3f) == 0 && ((1L << (_la - 65)) & ((1L << (LBRACK - 65)) | (1L << (LBRACK2 - 65)) | (1L << (AT - 65)) | (1L << (TRUE - 65)) | (1L << (FALSE - 65)) | (1L << (IDENT - 65)) | (1L << (STRING_LITERAL - 65)) | (1L << (NUM_INT - 65)) | (1L << (NUM_REAL - 65)))) != 0)) {
 						{
-						setState(957);
+						setState(972);
 						parameterList();
 						}
 					}
 
-					setState(960);
+					setState(975);
 					match(RPAREN);
 					}
 				}
 
-				setState(963);
+				setState(978);
 				match(SEMI);
 				}
 				break;
@@ -6849,19 +6891,19 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(967);
+			setState(982);
 			expression();
-			setState(971);
+			setState(986);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COLON) {
 				{
 				{
-				setState(968);
+				setState(983);
 				parameterwidth();
 				}
 				}
-				setState(973);
+				setState(988);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -6908,9 +6950,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(974);
+			setState(989);
 			match(COLON);
-			setState(975);
+			setState(990);
 			expression();
 			}
 		}
@@ -6955,9 +6997,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(977);
+			setState(992);
 			match(GOTO);
-			setState(978);
+			setState(993);
 			label();
 			}
 		}
@@ -7086,13 +7128,13 @@ public class delphiParser extends Parser {
 		StructuredStatementContext _localctx = new StructuredStatementContext(_ctx, getState());
 		enterRule(_localctx, 190, RULE_structuredStatement);
 		try {
-			setState(988);
+			setState(1003);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(984);
+				setState(999);
 				compoundStatement();
 				}
 				break;
@@ -7100,7 +7142,7 @@ public class delphiParser extends Parser {
 			case IF:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(985);
+				setState(1000);
 				conditionalStatement();
 				}
 				break;
@@ -7109,14 +7151,14 @@ public class delphiParser extends Parser {
 			case WHILE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(986);
+				setState(1001);
 				repetetiveStatement();
 				}
 				break;
 			case WITH:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(987);
+				setState(1002);
 				withStatement();
 				}
 				break;
@@ -7166,11 +7208,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(990);
+			setState(1005);
 			match(BEGIN);
-			setState(991);
+			setState(1006);
 			statements();
-			setState(992);
+			setState(1007);
 			match(END);
 			}
 		}
@@ -7223,32 +7265,32 @@ public class delphiParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(994);
+			setState(1009);
 			statement();
-			setState(999);
+			setState(1014);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(995);
+					setState(1010);
 					match(SEMI);
-					setState(996);
+					setState(1011);
 					statement();
 					}
 					} 
 				}
-				setState(1001);
+				setState(1016);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,95,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
 			}
-			setState(1003);
+			setState(1018);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(1002);
+				setState(1017);
 				match(SEMI);
 				}
 			}
@@ -7296,20 +7338,20 @@ public class delphiParser extends Parser {
 		ConditionalStatementContext _localctx = new ConditionalStatementContext(_ctx, getState());
 		enterRule(_localctx, 196, RULE_conditionalStatement);
 		try {
-			setState(1007);
+			setState(1022);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case IF:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1005);
+				setState(1020);
 				ifStatement();
 				}
 				break;
 			case CASE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1006);
+				setState(1021);
 				caseStatement();
 				}
 				break;
@@ -7366,22 +7408,22 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1009);
+			setState(1024);
 			match(IF);
-			setState(1010);
+			setState(1025);
 			expression();
-			setState(1011);
+			setState(1026);
 			match(THEN);
-			setState(1012);
+			setState(1027);
 			statement();
-			setState(1015);
+			setState(1030);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
 			case 1:
 				{
-				setState(1013);
+				setState(1028);
 				match(ELSE);
-				setState(1014);
+				setState(1029);
 				statement();
 				}
 				break;
@@ -7447,47 +7489,47 @@ public class delphiParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1017);
+			setState(1032);
 			match(CASE);
-			setState(1018);
+			setState(1033);
 			expression();
-			setState(1019);
+			setState(1034);
 			match(OF);
-			setState(1020);
+			setState(1035);
 			caseListElement();
-			setState(1025);
+			setState(1040);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,99,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,100,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(1021);
+					setState(1036);
 					match(SEMI);
-					setState(1022);
+					setState(1037);
 					caseListElement();
 					}
 					} 
 				}
-				setState(1027);
+				setState(1042);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,99,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,100,_ctx);
 			}
-			setState(1031);
+			setState(1046);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==SEMI) {
 				{
-				setState(1028);
+				setState(1043);
 				match(SEMI);
-				setState(1029);
+				setState(1044);
 				match(ELSE);
-				setState(1030);
+				setState(1045);
 				statements();
 				}
 			}
 
-			setState(1033);
+			setState(1048);
 			match(END);
 			}
 		}
@@ -7535,11 +7577,11 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1035);
+			setState(1050);
 			constList();
-			setState(1036);
+			setState(1051);
 			match(COLON);
-			setState(1037);
+			setState(1052);
 			statement();
 			}
 		}
@@ -7587,27 +7629,27 @@ public class delphiParser extends Parser {
 		RepetetiveStatementContext _localctx = new RepetetiveStatementContext(_ctx, getState());
 		enterRule(_localctx, 204, RULE_repetetiveStatement);
 		try {
-			setState(1042);
+			setState(1057);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case WHILE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(1039);
+				setState(1054);
 				whileStatement();
 				}
 				break;
 			case REPEAT:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(1040);
+				setState(1055);
 				repeatStatement();
 				}
 				break;
 			case FOR:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(1041);
+				setState(1056);
 				forStatement();
 				}
 				break;
@@ -7660,13 +7702,13 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1044);
+			setState(1059);
 			match(WHILE);
-			setState(1045);
+			setState(1060);
 			expression();
-			setState(1046);
+			setState(1061);
 			match(DO);
-			setState(1047);
+			setState(1062);
 			statement();
 			}
 		}
@@ -7715,13 +7757,13 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1049);
+			setState(1064);
 			match(REPEAT);
-			setState(1050);
+			setState(1065);
 			statements();
-			setState(1051);
+			setState(1066);
 			match(UNTIL);
-			setState(1052);
+			setState(1067);
 			expression();
 			}
 		}
@@ -7774,17 +7816,17 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1054);
+			setState(1069);
 			match(FOR);
-			setState(1055);
+			setState(1070);
 			identifier();
-			setState(1056);
+			setState(1071);
 			match(ASSIGN);
-			setState(1057);
+			setState(1072);
 			forList();
-			setState(1058);
+			setState(1073);
 			match(DO);
-			setState(1059);
+			setState(1074);
 			statement();
 			}
 		}
@@ -7827,9 +7869,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1061);
+			setState(1076);
 			match(BREAK);
-			setState(1062);
+			setState(1077);
 			match(SEMI);
 			}
 		}
@@ -7872,9 +7914,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1064);
+			setState(1079);
 			match(CONTINUE);
-			setState(1065);
+			setState(1080);
 			match(SEMI);
 			}
 		}
@@ -7924,9 +7966,9 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1067);
+			setState(1082);
 			initialValue();
-			setState(1068);
+			setState(1083);
 			_la = _input.LA(1);
 			if ( !(_la==DOWNTO || _la==TO) ) {
 			_errHandler.recoverInline(this);
@@ -7936,7 +7978,7 @@ public class delphiParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(1069);
+			setState(1084);
 			finalValue();
 			}
 		}
@@ -7980,7 +8022,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1071);
+			setState(1086);
 			expression();
 			}
 		}
@@ -8024,7 +8066,7 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1073);
+			setState(1088);
 			expression();
 			}
 		}
@@ -8073,13 +8115,13 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1075);
+			setState(1090);
 			match(WITH);
-			setState(1076);
+			setState(1091);
 			recordVariableList();
-			setState(1077);
+			setState(1092);
 			match(DO);
-			setState(1078);
+			setState(1093);
 			statement();
 			}
 		}
@@ -8131,21 +8173,21 @@ public class delphiParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(1080);
+			setState(1095);
 			variable();
-			setState(1085);
+			setState(1100);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(1081);
+				setState(1096);
 				match(COMMA);
-				setState(1082);
+				setState(1097);
 				variable();
 				}
 				}
-				setState(1087);
+				setState(1102);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -8163,7 +8205,7 @@ public class delphiParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3Z\u0443\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3Z\u0452\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -8185,382 +8227,388 @@ public class delphiParser extends Parser {
 		"\16\3\17\3\17\3\20\3\20\3\21\3\21\3\22\3\22\3\23\3\23\3\23\3\23\6\23\u014e"+
 		"\n\23\r\23\16\23\u014f\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u0158\n\24\3"+
 		"\25\3\25\5\25\u015c\n\25\3\25\3\25\3\25\3\26\3\26\5\26\u0163\n\26\3\27"+
-		"\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\7\31"+
-		"\u0173\n\31\f\31\16\31\u0176\13\31\3\32\3\32\3\32\3\32\3\32\7\32\u017d"+
-		"\n\32\f\32\16\32\u0180\13\32\3\33\5\33\u0183\n\33\3\33\3\33\3\33\3\33"+
-		"\5\33\u0189\n\33\3\33\3\33\5\33\u018d\n\33\3\33\3\33\3\33\3\33\3\33\3"+
-		"\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5"+
-		"\33\u01a2\n\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
-		"\3\34\5\34\u01b0\n\34\3\35\3\35\3\35\3\35\5\35\u01b6\n\35\3\35\5\35\u01b9"+
-		"\n\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\5\36\u01c2\n\36\3\36\3\36\3\36"+
-		"\3\37\3\37\3\37\3\37\5\37\u01cb\n\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37"+
-		"\5\37\u01d4\n\37\3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \5 \u01e0\n \3!\3!\3!\3"+
-		"!\3\"\3\"\3#\3#\3#\3#\6#\u01ec\n#\r#\16#\u01ed\3#\5#\u01f1\n#\3$\3$\3"+
-		"$\3$\3%\3%\3%\3%\3%\5%\u01fc\n%\3%\3%\3&\3&\3&\3&\5&\u0204\n&\3&\5&\u0207"+
-		"\n&\3&\3&\3&\3&\3&\3&\3&\5&\u0210\n&\3&\5&\u0213\n&\3&\3&\3&\3&\3&\5&"+
-		"\u021a\n&\3\'\3\'\3\'\5\'\u021f\n\'\3(\3(\3(\3(\5(\u0225\n(\3)\3)\3)\3"+
-		")\3*\3*\3*\3*\3+\3+\5+\u0231\n+\3,\3,\3,\5,\u0236\n,\3-\3-\3-\3-\5-\u023c"+
-		"\n-\3.\3.\3.\3.\5.\u0242\n.\3.\3.\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/"+
-		"\3/\3/\5/\u0254\n/\3\60\3\60\3\60\7\60\u0259\n\60\f\60\16\60\u025c\13"+
-		"\60\3\61\3\61\3\62\3\62\3\63\3\63\5\63\u0264\n\63\3\63\3\63\3\64\3\64"+
-		"\3\64\5\64\u026b\n\64\3\64\5\64\u026e\n\64\3\65\3\65\3\65\7\65\u0273\n"+
-		"\65\f\65\16\65\u0276\13\65\3\66\3\66\3\66\3\66\3\67\3\67\3\67\3\67\3\67"+
-		"\3\67\7\67\u0282\n\67\f\67\16\67\u0285\13\67\38\38\38\38\38\58\u028c\n"+
-		"8\39\39\39\39\39\39\3:\3:\3:\3:\3;\3;\3<\3<\3<\3<\5<\u029e\n<\3=\3=\3"+
-		"=\3>\3>\3>\3?\3?\5?\u02a8\n?\3@\3@\3@\3@\5@\u02ae\n@\3@\5@\u02b1\n@\3"+
-		"@\3@\5@\u02b5\n@\3@\5@\u02b8\n@\3@\3@\3@\3@\3@\3@\5@\u02c0\n@\3@\5@\u02c3"+
-		"\n@\3@\3@\5@\u02c7\n@\3@\5@\u02ca\n@\5@\u02cc\n@\3A\3A\3A\3A\7A\u02d2"+
-		"\nA\fA\16A\u02d5\13A\3A\3A\3B\3B\3B\3B\3B\3B\3B\5B\u02e0\nB\3C\3C\3C\3"+
-		"C\3D\3D\3D\7D\u02e9\nD\fD\16D\u02ec\13D\3E\3E\3E\7E\u02f1\nE\fE\16E\u02f4"+
-		"\13E\3F\3F\3F\5F\u02f9\nF\3F\3F\3F\3F\5F\u02ff\nF\3G\3G\3H\3H\3H\3H\3"+
-		"H\5H\u0308\nH\3I\3I\5I\u030c\nI\3J\3J\3J\3J\3J\3J\5J\u0314\nJ\3K\3K\3"+
-		"K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\5K\u0328\nK\3L\3L\3L\5"+
-		"L\u032d\nL\3L\3L\3L\3L\7L\u0333\nL\fL\16L\u0336\13L\3L\3L\3L\3L\3L\3L"+
-		"\7L\u033e\nL\fL\16L\u0341\13L\3L\3L\3L\3L\3L\7L\u0348\nL\fL\16L\u034b"+
-		"\13L\3M\3M\3M\3M\5M\u0351\nM\3N\3N\3O\3O\3O\3O\5O\u0359\nO\3O\5O\u035c"+
-		"\nO\3P\3P\3Q\3Q\3Q\3Q\5Q\u0364\nQ\3R\3R\3S\5S\u0369\nS\3S\3S\3T\3T\3T"+
-		"\3T\3T\3T\3T\3T\3T\3T\3T\5T\u0378\nT\3U\3U\3U\3U\5U\u037e\nU\3V\3V\3V"+
-		"\3V\3V\3W\3W\3W\7W\u0388\nW\fW\16W\u038b\13W\3X\3X\3X\3X\3X\3X\3X\3X\5"+
-		"X\u0395\nX\3Y\3Y\3Y\7Y\u039a\nY\fY\16Y\u039d\13Y\3Y\5Y\u03a0\nY\3Z\3Z"+
-		"\3Z\5Z\u03a5\nZ\3[\3[\3[\3[\3[\5[\u03ac\n[\3[\3[\3[\3[\3[\3[\3[\5[\u03b5"+
-		"\n[\3[\5[\u03b8\n[\3[\3[\3[\3[\3[\3[\3[\5[\u03c1\n[\3[\5[\u03c4\n[\3["+
-		"\3[\5[\u03c8\n[\3\\\3\\\7\\\u03cc\n\\\f\\\16\\\u03cf\13\\\3]\3]\3]\3^"+
-		"\3^\3^\3_\3_\3`\3`\3a\3a\3a\3a\5a\u03df\na\3b\3b\3b\3b\3c\3c\3c\7c\u03e8"+
-		"\nc\fc\16c\u03eb\13c\3c\5c\u03ee\nc\3d\3d\5d\u03f2\nd\3e\3e\3e\3e\3e\3"+
-		"e\5e\u03fa\ne\3f\3f\3f\3f\3f\3f\7f\u0402\nf\ff\16f\u0405\13f\3f\3f\3f"+
-		"\5f\u040a\nf\3f\3f\3g\3g\3g\3g\3h\3h\3h\5h\u0415\nh\3i\3i\3i\3i\3i\3j"+
-		"\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3k\3l\3l\3l\3m\3m\3m\3n\3n\3n\3n\3o\3o"+
-		"\3p\3p\3q\3q\3q\3q\3q\3r\3r\3r\7r\u043e\nr\fr\16r\u0441\13r\3r\2\2s\2"+
-		"\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJL"+
-		"NPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a\u008c\u008e"+
-		"\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6"+
-		"\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba\u00bc\u00be"+
-		"\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc\u00ce\u00d0\u00d2\u00d4\u00d6"+
-		"\u00d8\u00da\u00dc\u00de\u00e0\u00e2\2\n\3\2\63\64\3\2RS\3\2\7\b\7\2\16"+
-		"\16\20\20\36\36((PP\4\2\35\35;@\4\2$$\63\64\6\2\13\13\23\23  \65\66\4"+
-		"\2\25\25--\2\u046c\2\u00e4\3\2\2\2\4\u00fa\3\2\2\2\6\u00fc\3\2\2\2\b\u0108"+
-		"\3\2\2\2\n\u010d\3\2\2\2\f\u0111\3\2\2\2\16\u011c\3\2\2\2\20\u011e\3\2"+
-		"\2\2\22\u0126\3\2\2\2\24\u012a\3\2\2\2\26\u0139\3\2\2\2\30\u013d\3\2\2"+
-		"\2\32\u013f\3\2\2\2\34\u0141\3\2\2\2\36\u0143\3\2\2\2 \u0145\3\2\2\2\""+
-		"\u0147\3\2\2\2$\u0149\3\2\2\2&\u0151\3\2\2\2(\u0159\3\2\2\2*\u0160\3\2"+
-		"\2\2,\u0164\3\2\2\2.\u016a\3\2\2\2\60\u0174\3\2\2\2\62\u0177\3\2\2\2\64"+
-		"\u01a1\3\2\2\2\66\u01af\3\2\2\28\u01b1\3\2\2\2:\u01bd\3\2\2\2<\u01d3\3"+
-		"\2\2\2>\u01df\3\2\2\2@\u01e1\3\2\2\2B\u01e5\3\2\2\2D\u01e7\3\2\2\2F\u01f2"+
-		"\3\2\2\2H\u01f6\3\2\2\2J\u0219\3\2\2\2L\u021e\3\2\2\2N\u0224\3\2\2\2P"+
-		"\u0226\3\2\2\2R\u022a\3\2\2\2T\u0230\3\2\2\2V\u0235\3\2\2\2X\u023b\3\2"+
-		"\2\2Z\u023d\3\2\2\2\\\u0253\3\2\2\2^\u0255\3\2\2\2`\u025d\3\2\2\2b\u025f"+
-		"\3\2\2\2d\u0261\3\2\2\2f\u026d\3\2\2\2h\u026f\3\2\2\2j\u0277\3\2\2\2l"+
-		"\u027b\3\2\2\2n\u028b\3\2\2\2p\u028d\3\2\2\2r\u0293\3\2\2\2t\u0297\3\2"+
-		"\2\2v\u029d\3\2\2\2x\u029f\3\2\2\2z\u02a2\3\2\2\2|\u02a7\3\2\2\2~\u02cb"+
-		"\3\2\2\2\u0080\u02cd\3\2\2\2\u0082\u02df\3\2\2\2\u0084\u02e1\3\2\2\2\u0086"+
-		"\u02e5\3\2\2\2\u0088\u02ed\3\2\2\2\u008a\u02f5\3\2\2\2\u008c\u0300\3\2"+
-		"\2\2\u008e\u0307\3\2\2\2\u0090\u030b\3\2\2\2\u0092\u0313\3\2\2\2\u0094"+
-		"\u0327\3\2\2\2\u0096\u032c\3\2\2\2\u0098\u034c\3\2\2\2\u009a\u0352\3\2"+
-		"\2\2\u009c\u035b\3\2\2\2\u009e\u035d\3\2\2\2\u00a0\u035f\3\2\2\2\u00a2"+
-		"\u0365\3\2\2\2\u00a4\u0368\3\2\2\2\u00a6\u0377\3\2\2\2\u00a8\u037d\3\2"+
-		"\2\2\u00aa\u037f\3\2\2\2\u00ac\u0384\3\2\2\2\u00ae\u0394\3\2\2\2\u00b0"+
-		"\u039f\3\2\2\2\u00b2\u03a1\3\2\2\2\u00b4\u03c7\3\2\2\2\u00b6\u03c9\3\2"+
-		"\2\2\u00b8\u03d0\3\2\2\2\u00ba\u03d3\3\2\2\2\u00bc\u03d6\3\2\2\2\u00be"+
-		"\u03d8\3\2\2\2\u00c0\u03de\3\2\2\2\u00c2\u03e0\3\2\2\2\u00c4\u03e4\3\2"+
-		"\2\2\u00c6\u03f1\3\2\2\2\u00c8\u03f3\3\2\2\2\u00ca\u03fb\3\2\2\2\u00cc"+
-		"\u040d\3\2\2\2\u00ce\u0414\3\2\2\2\u00d0\u0416\3\2\2\2\u00d2\u041b\3\2"+
-		"\2\2\u00d4\u0420\3\2\2\2\u00d6\u0427\3\2\2\2\u00d8\u042a\3\2\2\2\u00da"+
-		"\u042d\3\2\2\2\u00dc\u0431\3\2\2\2\u00de\u0433\3\2\2\2\u00e0\u0435\3\2"+
-		"\2\2\u00e2\u043a\3\2\2\2\u00e4\u00e6\5\4\3\2\u00e5\u00e7\7N\2\2\u00e6"+
-		"\u00e5\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e9\5\b"+
-		"\5\2\u00e9\u00ea\7I\2\2\u00ea\u00eb\7\2\2\3\u00eb\3\3\2\2\2\u00ec\u00ed"+
-		"\7\'\2\2\u00ed\u00f2\5\6\4\2\u00ee\u00ef\7A\2\2\u00ef\u00f0\5\u0086D\2"+
-		"\u00f0\u00f1\7B\2\2\u00f1\u00f3\3\2\2\2\u00f2\u00ee\3\2\2\2\u00f2\u00f3"+
-		"\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\u00f5\79\2\2\u00f5\u00fb\3\2\2\2\u00f6"+
-		"\u00f7\7M\2\2\u00f7\u00f8\5\6\4\2\u00f8\u00f9\79\2\2\u00f9\u00fb\3\2\2"+
-		"\2\u00fa\u00ec\3\2\2\2\u00fa\u00f6\3\2\2\2\u00fb\5\3\2\2\2\u00fc\u00fd"+
-		"\7W\2\2\u00fd\7\3\2\2\2\u00fe\u0107\5\f\7\2\u00ff\u0107\5\20\t\2\u0100"+
-		"\u0107\5$\23\2\u0101\u0107\5D#\2\u0102\u0107\5z>\2\u0103\u0107\5,\27\2"+
-		"\u0104\u0107\5\n\6\2\u0105\u0107\7Q\2\2\u0106\u00fe\3\2\2\2\u0106\u00ff"+
-		"\3\2\2\2\u0106\u0100\3\2\2\2\u0106\u0101\3\2\2\2\u0106\u0102\3\2\2\2\u0106"+
-		"\u0103\3\2\2\2\u0106\u0104\3\2\2\2\u0106\u0105\3\2\2\2\u0107\u010a\3\2"+
-		"\2\2\u0108\u0106\3\2\2\2\u0108\u0109\3\2\2\2\u0109\u010b\3\2\2\2\u010a"+
-		"\u0108\3\2\2\2\u010b\u010c\5\u00c2b\2\u010c\t\3\2\2\2\u010d\u010e\7O\2"+
-		"\2\u010e\u010f\5\u0086D\2\u010f\u0110\79\2\2\u0110\13\3\2\2\2\u0111\u0112"+
-		"\7\37\2\2\u0112\u0117\5\16\b\2\u0113\u0114\78\2\2\u0114\u0116\5\16\b\2"+
-		"\u0115\u0113\3\2\2\2\u0116\u0119\3\2\2\2\u0117\u0115\3\2\2\2\u0117\u0118"+
-		"\3\2\2\2\u0118\u011a\3\2\2\2\u0119\u0117\3\2\2\2\u011a\u011b\79\2\2\u011b"+
-		"\r\3\2\2\2\u011c\u011d\5\32\16\2\u011d\17\3\2\2\2\u011e\u0122\7\22\2\2"+
-		"\u011f\u0120\5\22\n\2\u0120\u0121\79\2\2\u0121\u0123\3\2\2\2\u0122\u011f"+
-		"\3\2\2\2\u0123\u0124\3\2\2\2\u0124\u0122\3\2\2\2\u0124\u0125\3\2\2\2\u0125"+
-		"\21\3\2\2\2\u0126\u0127\5\6\4\2\u0127\u0128\7;\2\2\u0128\u0129\5\26\f"+
-		"\2\u0129\23\3\2\2\2\u012a\u012b\7\21\2\2\u012b\u012c\7A\2\2\u012c\u012d"+
-		"\5\32\16\2\u012d\u012e\7B\2\2\u012e\25\3\2\2\2\u012f\u013a\5\30\r\2\u0130"+
-		"\u0131\5\36\20\2\u0131\u0132\5\30\r\2\u0132\u013a\3\2\2\2\u0133\u013a"+
-		"\5\6\4\2\u0134\u0135\5\36\20\2\u0135\u0136\5\6\4\2\u0136\u013a\3\2\2\2"+
-		"\u0137\u013a\5\"\22\2\u0138\u013a\5\24\13\2\u0139\u012f\3\2\2\2\u0139"+
-		"\u0130\3\2\2\2\u0139\u0133\3\2\2\2\u0139\u0134\3\2\2\2\u0139\u0137\3\2"+
-		"\2\2\u0139\u0138\3\2\2\2\u013a\27\3\2\2\2\u013b\u013e\5\32\16\2\u013c"+
-		"\u013e\5\34\17\2\u013d\u013b\3\2\2\2\u013d\u013c\3\2\2\2\u013e\31\3\2"+
-		"\2\2\u013f\u0140\7Y\2\2\u0140\33\3\2\2\2\u0141\u0142\7Z\2\2\u0142\35\3"+
-		"\2\2\2\u0143\u0144\t\2\2\2\u0144\37\3\2\2\2\u0145\u0146\t\3\2\2\u0146"+
-		"!\3\2\2\2\u0147\u0148\7X\2\2\u0148#\3\2\2\2\u0149\u014d\7.\2\2\u014a\u014b"+
-		"\5&\24\2\u014b\u014c\79\2\2\u014c\u014e\3\2\2\2\u014d\u014a\3\2\2\2\u014e"+
-		"\u014f\3\2\2\2\u014f\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150%\3\2\2\2"+
-		"\u0151\u0152\5\6\4\2\u0152\u0157\7;\2\2\u0153\u0158\5L\'\2\u0154\u0158"+
-		"\5(\25\2\u0155\u0158\5*\26\2\u0156\u0158\5.\30\2\u0157\u0153\3\2\2\2\u0157"+
-		"\u0154\3\2\2\2\u0157\u0155\3\2\2\2\u0157\u0156\3\2\2\2\u0158\'\3\2\2\2"+
-		"\u0159\u015b\7\32\2\2\u015a\u015c\5\u0080A\2\u015b\u015a\3\2\2\2\u015b"+
-		"\u015c\3\2\2\2\u015c\u015d\3\2\2\2\u015d\u015e\7:\2\2\u015e\u015f\5\u008c"+
-		"G\2\u015f)\3\2\2\2\u0160\u0162\7&\2\2\u0161\u0163\5\u0080A\2\u0162\u0161"+
-		"\3\2\2\2\u0162\u0163\3\2\2\2\u0163+\3\2\2\2\u0164\u0165\7\3\2\2\u0165"+
-		"\u0166\5\6\4\2\u0166\u0167\5\60\31\2\u0167\u0168\7\27\2\2\u0168\u0169"+
-		"\79\2\2\u0169-\3\2\2\2\u016a\u016b\7\3\2\2\u016b\u016c\5\60\31\2\u016c"+
-		"\u016d\7\27\2\2\u016d\u016e\79\2\2\u016e/\3\2\2\2\u016f\u0173\5\62\32"+
-		"\2\u0170\u0173\5\64\33\2\u0171\u0173\5\66\34\2\u0172\u016f\3\2\2\2\u0172"+
-		"\u0170\3\2\2\2\u0172\u0171\3\2\2\2\u0173\u0176\3\2\2\2\u0174\u0172\3\2"+
-		"\2\2\u0174\u0175\3\2\2\2\u0175\61\3\2\2\2\u0176\u0174\3\2\2\2\u0177\u0178"+
-		"\5B\"\2\u0178\u017e\7:\2\2\u0179\u017a\5\64\33\2\u017a\u017b\79\2\2\u017b"+
-		"\u017d\3\2\2\2\u017c\u0179\3\2\2\2\u017d\u0180\3\2\2\2\u017e\u017c\3\2"+
-		"\2\2\u017e\u017f\3\2\2\2\u017f\63\3\2\2\2\u0180\u017e\3\2\2\2\u0181\u0183"+
-		"\5B\"\2\u0182\u0181\3\2\2\2\u0182\u0183\3\2\2\2\u0183\u0184\3\2\2\2\u0184"+
-		"\u0185\5F$\2\u0185\u0186\79\2\2\u0186\u01a2\3\2\2\2\u0187\u0189\5B\"\2"+
-		"\u0188\u0187\3\2\2\2\u0188\u0189\3\2\2\2\u0189\u018a\3\2\2\2\u018a\u01a2"+
-		"\5~@\2\u018b\u018d\5B\"\2\u018c\u018b\3\2\2\2\u018c\u018d\3\2\2\2\u018d"+
-		"\u018e\3\2\2\2\u018e\u018f\5J&\2\u018f\u0190\79\2\2\u0190\u01a2\3\2\2"+
-		"\2\u0191\u0192\5<\37\2\u0192\u0193\79\2\2\u0193\u01a2\3\2\2\2\u0194\u0195"+
-		"\5> \2\u0195\u0196\79\2\2\u0196\u01a2\3\2\2\2\u0197\u0198\5\66\34\2\u0198"+
-		"\u0199\79\2\2\u0199\u01a2\3\2\2\2\u019a\u019b\7&\2\2\u019b\u019c\5\6\4"+
-		"\2\u019c\u019d\79\2\2\u019d\u01a2\3\2\2\2\u019e\u019f\5\u008aF\2\u019f"+
-		"\u01a0\79\2\2\u01a0\u01a2\3\2\2\2\u01a1\u0182\3\2\2\2\u01a1\u0188\3\2"+
-		"\2\2\u01a1\u018c\3\2\2\2\u01a1\u0191\3\2\2\2\u01a1\u0194\3\2\2\2\u01a1"+
-		"\u0197\3\2\2\2\u01a1\u019a\3\2\2\2\u01a1\u019e\3\2\2\2\u01a2\65\3\2\2"+
-		"\2\u01a3\u01b0\5<\37\2\u01a4\u01b0\5> \2\u01a5\u01b0\5\u008aF\2\u01a6"+
-		"\u01b0\5~@\2\u01a7\u01b0\5\u00b4[\2\u01a8\u01a9\7&\2\2\u01a9\u01aa\5\6"+
-		"\4\2\u01aa\u01ab\79\2\2\u01ab\u01b0\3\2\2\2\u01ac\u01b0\5J&\2\u01ad\u01b0"+
-		"\58\35\2\u01ae\u01b0\5:\36\2\u01af\u01a3\3\2\2\2\u01af\u01a4\3\2\2\2\u01af"+
-		"\u01a5\3\2\2\2\u01af\u01a6\3\2\2\2\u01af\u01a7\3\2\2\2\u01af\u01a8\3\2"+
-		"\2\2\u01af\u01ac\3\2\2\2\u01af\u01ad\3\2\2\2\u01af\u01ae\3\2\2\2\u01b0"+
-		"\67\3\2\2\2\u01b1\u01b2\7\4\2\2\u01b2\u01b5\5\6\4\2\u01b3\u01b4\7I\2\2"+
-		"\u01b4\u01b6\5\6\4\2\u01b5\u01b3\3\2\2\2\u01b5\u01b6\3\2\2\2\u01b6\u01b8"+
-		"\3\2\2\2\u01b7\u01b9\5\u0080A\2\u01b8\u01b7\3\2\2\2\u01b8\u01b9\3\2\2"+
-		"\2\u01b9\u01ba\3\2\2\2\u01ba\u01bb\79\2\2\u01bb\u01bc\5\b\5\2\u01bc9\3"+
-		"\2\2\2\u01bd\u01be\7\5\2\2\u01be\u01c1\5\6\4\2\u01bf\u01c0\7I\2\2\u01c0"+
-		"\u01c2\5\6\4\2\u01c1\u01bf\3\2\2\2\u01c1\u01c2\3\2\2\2\u01c2\u01c3\3\2"+
-		"\2\2\u01c3\u01c4\79\2\2\u01c4\u01c5\5\b\5\2\u01c5;\3\2\2\2\u01c6\u01c7"+
-		"\7\4\2\2\u01c7\u01c8\5\6\4\2\u01c8\u01ca\7A\2\2\u01c9\u01cb\5\u0080A\2"+
-		"\u01ca\u01c9\3\2\2\2\u01ca\u01cb\3\2\2\2\u01cb\u01cc\3\2\2\2\u01cc\u01cd"+
-		"\7B\2\2\u01cd\u01ce\79\2\2\u01ce\u01d4\3\2\2\2\u01cf\u01d0\7\4\2\2\u01d0"+
-		"\u01d1\5\6\4\2\u01d1\u01d2\79\2\2\u01d2\u01d4\3\2\2\2\u01d3\u01c6\3\2"+
-		"\2\2\u01d3\u01cf\3\2\2\2\u01d4=\3\2\2\2\u01d5\u01d6\7\5\2\2\u01d6\u01d7"+
-		"\5\6\4\2\u01d7\u01d8\7A\2\2\u01d8\u01d9\7B\2\2\u01d9\u01da\79\2\2\u01da"+
-		"\u01e0\3\2\2\2\u01db\u01dc\7\5\2\2\u01dc\u01dd\5\6\4\2\u01dd\u01de\79"+
-		"\2\2\u01de\u01e0\3\2\2\2\u01df\u01d5\3\2\2\2\u01df\u01db\3\2\2\2\u01e0"+
-		"?\3\2\2\2\u01e1\u01e2\5\6\4\2\u01e2\u01e3\7:\2\2\u01e3\u01e4\5T+\2\u01e4"+
-		"A\3\2\2\2\u01e5\u01e6\t\4\2\2\u01e6C\3\2\2\2\u01e7\u01eb\7\60\2\2\u01e8"+
-		"\u01e9\5F$\2\u01e9\u01ea\79\2\2\u01ea\u01ec\3\2\2\2\u01eb\u01e8\3\2\2"+
-		"\2\u01ec\u01ed\3\2\2\2\u01ed\u01eb\3\2\2\2\u01ed\u01ee\3\2\2\2\u01ee\u01f0"+
-		"\3\2\2\2\u01ef\u01f1\79\2\2\u01f0\u01ef\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1"+
-		"E\3\2\2\2\u01f2\u01f3\5\u0086D\2\u01f3\u01f4\7:\2\2\u01f4\u01f5\5L\'\2"+
-		"\u01f5G\3\2\2\2\u01f6\u01f7\5\6\4\2\u01f7\u01f8\7I\2\2\u01f8\u01f9\7\6"+
-		"\2\2\u01f9\u01fb\7A\2\2\u01fa\u01fc\5\u00acW\2\u01fb\u01fa\3\2\2\2\u01fb"+
-		"\u01fc\3\2\2\2\u01fc\u01fd\3\2\2\2\u01fd\u01fe\7B\2\2\u01feI\3\2\2\2\u01ff"+
-		"\u0200\7&\2\2\u0200\u0206\5\6\4\2\u0201\u0203\7A\2\2\u0202\u0204\5\u0080"+
-		"A\2\u0203\u0202\3\2\2\2\u0203\u0204\3\2\2\2\u0204\u0205\3\2\2\2\u0205"+
-		"\u0207\7B\2\2\u0206\u0201\3\2\2\2\u0206\u0207\3\2\2\2\u0207\u0208\3\2"+
-		"\2\2\u0208\u0209\79\2\2\u0209\u020a\5\b\5\2\u020a\u021a\3\2\2\2\u020b"+
-		"\u020c\7\32\2\2\u020c\u0212\5\6\4\2\u020d\u020f\7A\2\2\u020e\u0210\5\u0080"+
-		"A\2\u020f\u020e\3\2\2\2\u020f\u0210\3\2\2\2\u0210\u0211\3\2\2\2\u0211"+
-		"\u0213\7B\2\2\u0212\u020d\3\2\2\2\u0212\u0213\3\2\2\2\u0213\u0214\3\2"+
-		"\2\2\u0214\u0215\7:\2\2\u0215\u0216\5T+\2\u0216\u0217\79\2\2\u0217\u0218"+
-		"\5\b\5\2\u0218\u021a\3\2\2\2\u0219\u01ff\3\2\2\2\u0219\u020b\3\2\2\2\u021a"+
-		"K\3\2\2\2\u021b\u021f\5N(\2\u021c\u021f\5V,\2\u021d\u021f\5x=\2\u021e"+
-		"\u021b\3\2\2\2\u021e\u021c\3\2\2\2\u021e\u021d\3\2\2\2\u021fM\3\2\2\2"+
-		"\u0220\u0225\5P)\2\u0221\u0225\5R*\2\u0222\u0225\5T+\2\u0223\u0225\5Z"+
-		".\2\u0224\u0220\3\2\2\2\u0224\u0221\3\2\2\2\u0224\u0222\3\2\2\2\u0224"+
-		"\u0223\3\2\2\2\u0225O\3\2\2\2\u0226\u0227\7A\2\2\u0227\u0228\5\u0086D"+
-		"\2\u0228\u0229\7B\2\2\u0229Q\3\2\2\2\u022a\u022b\5\26\f\2\u022b\u022c"+
-		"\7J\2\2\u022c\u022d\5\26\f\2\u022dS\3\2\2\2\u022e\u0231\5\6\4\2\u022f"+
-		"\u0231\t\5\2\2\u0230\u022e\3\2\2\2\u0230\u022f\3\2\2\2\u0231U\3\2\2\2"+
-		"\u0232\u0233\7%\2\2\u0233\u0236\5X-\2\u0234\u0236\5X-\2\u0235\u0232\3"+
-		"\2\2\2\u0235\u0234\3\2\2\2\u0236W\3\2\2\2\u0237\u023c\5\\/\2\u0238\u023c"+
-		"\5d\63\2\u0239\u023c\5r:\2\u023a\u023c\5v<\2\u023b\u0237\3\2\2\2\u023b"+
-		"\u0238\3\2\2\2\u023b\u0239\3\2\2\2\u023b\u023a\3\2\2\2\u023cY\3\2\2\2"+
-		"\u023d\u023e\7P\2\2\u023e\u0241\7C\2\2\u023f\u0242\5\6\4\2\u0240\u0242"+
-		"\5\30\r\2\u0241\u023f\3\2\2\2\u0241\u0240\3\2\2\2\u0242\u0243\3\2\2\2"+
-		"\u0243\u0244\7E\2\2\u0244[\3\2\2\2\u0245\u0246\7\f\2\2\u0246\u0247\7C"+
-		"\2\2\u0247\u0248\5^\60\2\u0248\u0249\7E\2\2\u0249\u024a\7#\2\2\u024a\u024b"+
-		"\5b\62\2\u024b\u0254\3\2\2\2\u024c\u024d\7\f\2\2\u024d\u024e\7D\2\2\u024e"+
-		"\u024f\5^\60\2\u024f\u0250\7F\2\2\u0250\u0251\7#\2\2\u0251\u0252\5b\62"+
-		"\2\u0252\u0254\3\2\2\2\u0253\u0245\3\2\2\2\u0253\u024c\3\2\2\2\u0254]"+
-		"\3\2\2\2\u0255\u025a\5`\61\2\u0256\u0257\78\2\2\u0257\u0259\5`\61\2\u0258"+
-		"\u0256\3\2\2\2\u0259\u025c\3\2\2\2\u025a\u0258\3\2\2\2\u025a\u025b\3\2"+
-		"\2\2\u025b_\3\2\2\2\u025c\u025a\3\2\2\2\u025d\u025e\5N(\2\u025ea\3\2\2"+
-		"\2\u025f\u0260\5L\'\2\u0260c\3\2\2\2\u0261\u0263\7)\2\2\u0262\u0264\5"+
-		"f\64\2\u0263\u0262\3\2\2\2\u0263\u0264\3\2\2\2\u0264\u0265\3\2\2\2\u0265"+
-		"\u0266\7\27\2\2\u0266e\3\2\2\2\u0267\u026a\5h\65\2\u0268\u0269\79\2\2"+
-		"\u0269\u026b\5l\67\2\u026a\u0268\3\2\2\2\u026a\u026b\3\2\2\2\u026b\u026e"+
-		"\3\2\2\2\u026c\u026e\5l\67\2\u026d\u0267\3\2\2\2\u026d\u026c\3\2\2\2\u026e"+
-		"g\3\2\2\2\u026f\u0274\5j\66\2\u0270\u0271\79\2\2\u0271\u0273\5j\66\2\u0272"+
-		"\u0270\3\2\2\2\u0273\u0276\3\2\2\2\u0274\u0272\3\2\2\2\u0274\u0275\3\2"+
-		"\2\2\u0275i\3\2\2\2\u0276\u0274\3\2\2\2\u0277\u0278\5\u0086D\2\u0278\u0279"+
-		"\7:\2\2\u0279\u027a\5L\'\2\u027ak\3\2\2\2\u027b\u027c\7\17\2\2\u027c\u027d"+
-		"\5n8\2\u027d\u027e\7#\2\2\u027e\u0283\5p9\2\u027f\u0280\79\2\2\u0280\u0282"+
-		"\5p9\2\u0281\u027f\3\2\2\2\u0282\u0285\3\2\2\2\u0283\u0281\3\2\2\2\u0283"+
-		"\u0284\3\2\2\2\u0284m\3\2\2\2\u0285\u0283\3\2\2\2\u0286\u0287\5\6\4\2"+
-		"\u0287\u0288\7:\2\2\u0288\u0289\5T+\2\u0289\u028c\3\2\2\2\u028a\u028c"+
-		"\5T+\2\u028b\u0286\3\2\2\2\u028b\u028a\3\2\2\2\u028co\3\2\2\2\u028d\u028e"+
-		"\5\u0088E\2\u028e\u028f\7:\2\2\u028f\u0290\7A\2\2\u0290\u0291\5f\64\2"+
-		"\u0291\u0292\7B\2\2\u0292q\3\2\2\2\u0293\u0294\7+\2\2\u0294\u0295\7#\2"+
-		"\2\u0295\u0296\5t;\2\u0296s\3\2\2\2\u0297\u0298\5N(\2\u0298u\3\2\2\2\u0299"+
-		"\u029a\7\30\2\2\u029a\u029b\7#\2\2\u029b\u029e\5L\'\2\u029c\u029e\7\30"+
-		"\2\2\u029d\u0299\3\2\2\2\u029d\u029c\3\2\2\2\u029ew\3\2\2\2\u029f\u02a0"+
-		"\7G\2\2\u02a0\u02a1\5T+\2\u02a1y\3\2\2\2\u02a2\u02a3\5|?\2\u02a3\u02a4"+
-		"\79\2\2\u02a4{\3\2\2\2\u02a5\u02a8\5~@\2\u02a6\u02a8\5\u008aF\2\u02a7"+
-		"\u02a5\3\2\2\2\u02a7\u02a6\3\2\2\2\u02a8}\3\2\2\2\u02a9\u02aa\7&\2\2\u02aa"+
-		"\u02b0\5\6\4\2\u02ab\u02ad\7A\2\2\u02ac\u02ae\5\u0080A\2\u02ad\u02ac\3"+
-		"\2\2\2\u02ad\u02ae\3\2\2\2\u02ae\u02af\3\2\2\2\u02af\u02b1\7B\2\2\u02b0"+
-		"\u02ab\3\2\2\2\u02b0\u02b1\3\2\2\2\u02b1\u02b2\3\2\2\2\u02b2\u02b4\79"+
-		"\2\2\u02b3\u02b5\5\b\5\2\u02b4\u02b3\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5"+
-		"\u02b7\3\2\2\2\u02b6\u02b8\79\2\2\u02b7\u02b6\3\2\2\2\u02b7\u02b8\3\2"+
-		"\2\2\u02b8\u02cc\3\2\2\2\u02b9\u02ba\7&\2\2\u02ba\u02bb\5\6\4\2\u02bb"+
-		"\u02bc\7I\2\2\u02bc\u02c2\5\6\4\2\u02bd\u02bf\7A\2\2\u02be\u02c0\5\u0080"+
-		"A\2\u02bf\u02be\3\2\2\2\u02bf\u02c0\3\2\2\2\u02c0\u02c1\3\2\2\2\u02c1"+
-		"\u02c3\7B\2\2\u02c2\u02bd\3\2\2\2\u02c2\u02c3\3\2\2\2\u02c3\u02c4\3\2"+
-		"\2\2\u02c4\u02c6\79\2\2\u02c5\u02c7\5\b\5\2\u02c6\u02c5\3\2\2\2\u02c6"+
-		"\u02c7\3\2\2\2\u02c7\u02c9\3\2\2\2\u02c8\u02ca\79\2\2\u02c9\u02c8\3\2"+
-		"\2\2\u02c9\u02ca\3\2\2\2\u02ca\u02cc\3\2\2\2\u02cb\u02a9\3\2\2\2\u02cb"+
-		"\u02b9\3\2\2\2\u02cc\177\3\2\2\2\u02cd\u02ce\7A\2\2\u02ce\u02d3\5\u0082"+
-		"B\2\u02cf\u02d0\79\2\2\u02d0\u02d2\5\u0082B\2\u02d1\u02cf\3\2\2\2\u02d2"+
-		"\u02d5\3\2\2\2\u02d3\u02d1\3\2\2\2\u02d3\u02d4\3\2\2\2\u02d4\u02d6\3\2"+
-		"\2\2\u02d5\u02d3\3\2\2\2\u02d6\u02d7\7B\2\2\u02d7\u0081\3\2\2\2\u02d8"+
-		"\u02e0\5\u0084C\2\u02d9\u02da\7\60\2\2\u02da\u02e0\5\u0084C\2\u02db\u02dc"+
-		"\7\32\2\2\u02dc\u02e0\5\u0084C\2\u02dd\u02de\7&\2\2\u02de\u02e0\5\u0084"+
-		"C\2\u02df\u02d8\3\2\2\2\u02df\u02d9\3\2\2\2\u02df\u02db\3\2\2\2\u02df"+
-		"\u02dd\3\2\2\2\u02e0\u0083\3\2\2\2\u02e1\u02e2\5\u0086D\2\u02e2\u02e3"+
-		"\7:\2\2\u02e3\u02e4\5T+\2\u02e4\u0085\3\2\2\2\u02e5\u02ea\5\6\4\2\u02e6"+
-		"\u02e7\78\2\2\u02e7\u02e9\5\6\4\2\u02e8\u02e6\3\2\2\2\u02e9\u02ec\3\2"+
-		"\2\2\u02ea\u02e8\3\2\2\2\u02ea\u02eb\3\2\2\2\u02eb\u0087\3\2\2\2\u02ec"+
-		"\u02ea\3\2\2\2\u02ed\u02f2\5\26\f\2\u02ee\u02ef\78\2\2\u02ef\u02f1\5\26"+
-		"\f\2\u02f0\u02ee\3\2\2\2\u02f1\u02f4\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f2"+
-		"\u02f3\3\2\2\2\u02f3\u0089\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f5\u02f6\7\32"+
-		"\2\2\u02f6\u02f8\5\6\4\2\u02f7\u02f9\5\u0080A\2\u02f8\u02f7\3\2\2\2\u02f8"+
-		"\u02f9\3\2\2\2\u02f9\u02fa\3\2\2\2\u02fa\u02fb\7:\2\2\u02fb\u02fc\5\u008c"+
-		"G\2\u02fc\u02fe\79\2\2\u02fd\u02ff\5\b\5\2\u02fe\u02fd\3\2\2\2\u02fe\u02ff"+
-		"\3\2\2\2\u02ff\u008b\3\2\2\2\u0300\u0301\5T+\2\u0301\u008d\3\2\2\2\u0302"+
-		"\u0303\5\16\b\2\u0303\u0304\7:\2\2\u0304\u0305\5\u0090I\2\u0305\u0308"+
-		"\3\2\2\2\u0306\u0308\5\u0090I\2\u0307\u0302\3\2\2\2\u0307\u0306\3\2\2"+
-		"\2\u0308\u008f\3\2\2\2\u0309\u030c\5\u0092J\2\u030a\u030c\5\u00c0a\2\u030b"+
-		"\u0309\3\2\2\2\u030b\u030a\3\2\2\2\u030c\u0091\3\2\2\2\u030d\u0314\5\u0094"+
-		"K\2\u030e\u0314\5\u00b4[\2\u030f\u0314\5\u00d6l\2\u0310\u0314\5\u00d8"+
-		"m\2\u0311\u0314\5\u00ba^\2\u0312\u0314\5\u00bc_\2\u0313\u030d\3\2\2\2"+
-		"\u0313\u030e\3\2\2\2\u0313\u030f\3\2\2\2\u0313\u0310\3\2\2\2\u0313\u0311"+
-		"\3\2\2\2\u0313\u0312\3\2\2\2\u0314\u0093\3\2\2\2\u0315\u0316\5\6\4\2\u0316"+
-		"\u0317\7I\2\2\u0317\u0318\5\6\4\2\u0318\u0319\7\67\2\2\u0319\u031a\5\u0098"+
-		"M\2\u031a\u0328\3\2\2\2\u031b\u031c\5\6\4\2\u031c\u031d\7\67\2\2\u031d"+
-		"\u031e\5H%\2\u031e\u0328\3\2\2\2\u031f\u0320\5\6\4\2\u0320\u0321\7\67"+
-		"\2\2\u0321\u0322\5\u0098M\2\u0322\u0328\3\2\2\2\u0323\u0324\5\u0096L\2"+
-		"\u0324\u0325\7\67\2\2\u0325\u0326\5\u0098M\2\u0326\u0328\3\2\2\2\u0327"+
-		"\u0315\3\2\2\2\u0327\u031b\3\2\2\2\u0327\u031f\3\2\2\2\u0327\u0323\3\2"+
-		"\2\2\u0328\u0095\3\2\2\2\u0329\u032a\7H\2\2\u032a\u032d\5\6\4\2\u032b"+
-		"\u032d\5\6\4\2\u032c\u0329\3\2\2\2\u032c\u032b\3\2\2\2\u032d\u0349\3\2"+
-		"\2\2\u032e\u032f\7C\2\2\u032f\u0334\5\u0098M\2\u0330\u0331\78\2\2\u0331"+
-		"\u0333\5\u0098M\2\u0332\u0330\3\2\2\2\u0333\u0336\3\2\2\2\u0334\u0332"+
-		"\3\2\2\2\u0334\u0335\3\2\2\2\u0335\u0337\3\2\2\2\u0336\u0334\3\2\2\2\u0337"+
-		"\u0338\7E\2\2\u0338\u0348\3\2\2\2\u0339\u033a\7D\2\2\u033a\u033f\5\u0098"+
-		"M\2\u033b\u033c\78\2\2\u033c\u033e\5\u0098M\2\u033d\u033b\3\2\2\2\u033e"+
-		"\u0341\3\2\2\2\u033f\u033d\3\2\2\2\u033f\u0340\3\2\2\2\u0340\u0342\3\2"+
-		"\2\2\u0341\u033f\3\2\2\2\u0342\u0343\7F\2\2\u0343\u0348\3\2\2\2\u0344"+
-		"\u0345\7I\2\2\u0345\u0348\5\6\4\2\u0346\u0348\7G\2\2\u0347\u032e\3\2\2"+
-		"\2\u0347\u0339\3\2\2\2\u0347\u0344\3\2\2\2\u0347\u0346\3\2\2\2\u0348\u034b"+
-		"\3\2\2\2\u0349\u0347\3\2\2\2\u0349\u034a\3\2\2\2\u034a\u0097\3\2\2\2\u034b"+
-		"\u0349\3\2\2\2\u034c\u0350\5\u009cO\2\u034d\u034e\5\u009aN\2\u034e\u034f"+
-		"\5\u0098M\2\u034f\u0351\3\2\2\2\u0350\u034d\3\2\2\2\u0350\u0351\3\2\2"+
-		"\2\u0351\u0099\3\2\2\2\u0352\u0353\t\6\2\2\u0353\u009b\3\2\2\2\u0354\u0358"+
-		"\5\u00a0Q\2\u0355\u0356\5\u009eP\2\u0356\u0357\5\u009cO\2\u0357\u0359"+
-		"\3\2\2\2\u0358\u0355\3\2\2\2\u0358\u0359\3\2\2\2\u0359\u035c\3\2\2\2\u035a"+
-		"\u035c\5\u00aaV\2\u035b\u0354\3\2\2\2\u035b\u035a\3\2\2\2\u035c\u009d"+
-		"\3\2\2\2\u035d\u035e\t\7\2\2\u035e\u009f\3\2\2\2\u035f\u0363\5\u00a4S"+
-		"\2\u0360\u0361\5\u00a2R\2\u0361\u0362\5\u00a0Q\2\u0362\u0364\3\2\2\2\u0363"+
-		"\u0360\3\2\2\2\u0363\u0364\3\2\2\2\u0364\u00a1\3\2\2\2\u0365\u0366\t\b"+
-		"\2\2\u0366\u00a3\3\2\2\2\u0367\u0369\t\2\2\2\u0368\u0367\3\2\2\2\u0368"+
-		"\u0369\3\2\2\2\u0369\u036a\3\2\2\2\u036a\u036b\5\u00a6T\2\u036b\u00a5"+
-		"\3\2\2\2\u036c\u0378\5\u0096L\2\u036d\u036e\7A\2\2\u036e\u036f\5\u0098"+
-		"M\2\u036f\u0370\7B\2\2\u0370\u0378\3\2\2\2\u0371\u0378\5\u00aaV\2\u0372"+
-		"\u0378\5\u00a8U\2\u0373\u0378\5\u00aeX\2\u0374\u0375\7\"\2\2\u0375\u0378"+
-		"\5\u00a6T\2\u0376\u0378\5 \21\2\u0377\u036c\3\2\2\2\u0377\u036d\3\2\2"+
-		"\2\u0377\u0371\3\2\2\2\u0377\u0372\3\2\2\2\u0377\u0373\3\2\2\2\u0377\u0374"+
-		"\3\2\2\2\u0377\u0376\3\2\2\2\u0378\u00a7\3\2\2\2\u0379\u037e\5\30\r\2"+
-		"\u037a\u037e\5\24\13\2\u037b\u037e\5\"\22\2\u037c\u037e\7!\2\2\u037d\u0379"+
-		"\3\2\2\2\u037d\u037a\3\2\2\2\u037d\u037b\3\2\2\2\u037d\u037c\3\2\2\2\u037e"+
-		"\u00a9\3\2\2\2\u037f\u0380\5\6\4\2\u0380\u0381\7A\2\2\u0381\u0382\5\u00ac"+
-		"W\2\u0382\u0383\7B\2\2\u0383\u00ab\3\2\2\2\u0384\u0389\5\u00b6\\\2\u0385"+
-		"\u0386\78\2\2\u0386\u0388\5\u00b6\\\2\u0387\u0385\3\2\2\2\u0388\u038b"+
-		"\3\2\2\2\u0389\u0387\3\2\2\2\u0389\u038a\3\2\2\2\u038a\u00ad\3\2\2\2\u038b"+
-		"\u0389\3\2\2\2\u038c\u038d\7C\2\2\u038d\u038e\5\u00b0Y\2\u038e\u038f\7"+
-		"E\2\2\u038f\u0395\3\2\2\2\u0390\u0391\7D\2\2\u0391\u0392\5\u00b0Y\2\u0392"+
-		"\u0393\7F\2\2\u0393\u0395\3\2\2\2\u0394\u038c\3\2\2\2\u0394\u0390\3\2"+
-		"\2\2\u0395\u00af\3\2\2\2\u0396\u039b\5\u00b2Z\2\u0397\u0398\78\2\2\u0398"+
-		"\u039a\5\u00b2Z\2\u0399\u0397\3\2\2\2\u039a\u039d\3\2\2\2\u039b\u0399"+
-		"\3\2\2\2\u039b\u039c\3\2\2\2\u039c\u03a0\3\2\2\2\u039d\u039b\3\2\2\2\u039e"+
-		"\u03a0\3\2\2\2\u039f\u0396\3\2\2\2\u039f\u039e\3\2\2\2\u03a0\u00b1\3\2"+
-		"\2\2\u03a1\u03a4\5\u0098M\2\u03a2\u03a3\7J\2\2\u03a3\u03a5\5\u0098M\2"+
-		"\u03a4\u03a2\3\2\2\2\u03a4\u03a5\3\2\2\2\u03a5\u00b3\3\2\2\2\u03a6\u03ab"+
-		"\5\6\4\2\u03a7\u03a8\7A\2\2\u03a8\u03a9\5\u00acW\2\u03a9\u03aa\7B\2\2"+
-		"\u03aa\u03ac\3\2\2\2\u03ab\u03a7\3\2\2\2\u03ab\u03ac\3\2\2\2\u03ac\u03ad"+
-		"\3\2\2\2\u03ad\u03ae\79\2\2\u03ae\u03c8\3\2\2\2\u03af\u03b0\5\6\4\2\u03b0"+
-		"\u03b1\7I\2\2\u03b1\u03b7\7\6\2\2\u03b2\u03b4\7A\2\2\u03b3\u03b5\5\u00ac"+
-		"W\2\u03b4\u03b3\3\2\2\2\u03b4\u03b5\3\2\2\2\u03b5\u03b6\3\2\2\2\u03b6"+
-		"\u03b8\7B\2\2\u03b7\u03b2\3\2\2\2\u03b7\u03b8\3\2\2\2\u03b8\u03b9\3\2"+
-		"\2\2\u03b9\u03ba\79\2\2\u03ba\u03c8\3\2\2\2\u03bb\u03bc\5\6\4\2\u03bc"+
-		"\u03bd\7I\2\2\u03bd\u03c3\5\6\4\2\u03be\u03c0\7A\2\2\u03bf\u03c1\5\u00ac"+
-		"W\2\u03c0\u03bf\3\2\2\2\u03c0\u03c1\3\2\2\2\u03c1\u03c2\3\2\2\2\u03c2"+
-		"\u03c4\7B\2\2\u03c3\u03be\3\2\2\2\u03c3\u03c4\3\2\2\2\u03c4\u03c5\3\2"+
-		"\2\2\u03c5\u03c6\79\2\2\u03c6\u03c8\3\2\2\2\u03c7\u03a6\3\2\2\2\u03c7"+
-		"\u03af\3\2\2\2\u03c7\u03bb\3\2\2\2\u03c8\u00b5\3\2\2\2\u03c9\u03cd\5\u0098"+
-		"M\2\u03ca\u03cc\5\u00b8]\2\u03cb\u03ca\3\2\2\2\u03cc\u03cf\3\2\2\2\u03cd"+
-		"\u03cb\3\2\2\2\u03cd\u03ce\3\2\2\2\u03ce\u00b7\3\2\2\2\u03cf\u03cd\3\2"+
-		"\2\2\u03d0\u03d1\7:\2\2\u03d1\u03d2\5\u0098M\2\u03d2\u00b9\3\2\2\2\u03d3"+
-		"\u03d4\7\33\2\2\u03d4\u03d5\5\16\b\2\u03d5\u00bb\3\2\2\2\u03d6\u03d7\3"+
-		"\2\2\2\u03d7\u00bd\3\2\2\2\u03d8\u03d9\3\2\2\2\u03d9\u00bf\3\2\2\2\u03da"+
-		"\u03df\5\u00c2b\2\u03db\u03df\5\u00c6d\2\u03dc\u03df\5\u00ceh\2\u03dd"+
-		"\u03df\5\u00e0q\2\u03de\u03da\3\2\2\2\u03de\u03db\3\2\2\2\u03de\u03dc"+
-		"\3\2\2\2\u03de\u03dd\3\2\2\2\u03df\u00c1\3\2\2\2\u03e0\u03e1\7\r\2\2\u03e1"+
-		"\u03e2\5\u00c4c\2\u03e2\u03e3\7\27\2\2\u03e3\u00c3\3\2\2\2\u03e4\u03e9"+
-		"\5\u008eH\2\u03e5\u03e6\79\2\2\u03e6\u03e8\5\u008eH\2\u03e7\u03e5\3\2"+
-		"\2\2\u03e8\u03eb\3\2\2\2\u03e9\u03e7\3\2\2\2\u03e9\u03ea\3\2\2\2\u03ea"+
-		"\u03ed\3\2\2\2\u03eb\u03e9\3\2\2\2\u03ec\u03ee\79\2\2\u03ed\u03ec\3\2"+
-		"\2\2\u03ed\u03ee\3\2\2\2\u03ee\u00c5\3\2\2\2\u03ef\u03f2\5\u00c8e\2\u03f0"+
-		"\u03f2\5\u00caf\2\u03f1\u03ef\3\2\2\2\u03f1\u03f0\3\2\2\2\u03f2\u00c7"+
-		"\3\2\2\2\u03f3\u03f4\7\34\2\2\u03f4\u03f5\5\u0098M\2\u03f5\u03f6\7,\2"+
-		"\2\u03f6\u03f9\5\u008eH\2\u03f7\u03f8\7\26\2\2\u03f8\u03fa\5\u008eH\2"+
-		"\u03f9\u03f7\3\2\2\2\u03f9\u03fa\3\2\2\2\u03fa\u00c9\3\2\2\2\u03fb\u03fc"+
-		"\7\17\2\2\u03fc\u03fd\5\u0098M\2\u03fd\u03fe\7#\2\2\u03fe\u0403\5\u00cc"+
-		"g\2\u03ff\u0400\79\2\2\u0400\u0402\5\u00ccg\2\u0401\u03ff\3\2\2\2\u0402"+
-		"\u0405\3\2\2\2\u0403\u0401\3\2\2\2\u0403\u0404\3\2\2\2\u0404\u0409\3\2"+
-		"\2\2\u0405\u0403\3\2\2\2\u0406\u0407\79\2\2\u0407\u0408\7\26\2\2\u0408"+
-		"\u040a\5\u00c4c\2\u0409\u0406\3\2\2\2\u0409\u040a\3\2\2\2\u040a\u040b"+
-		"\3\2\2\2\u040b\u040c\7\27\2\2\u040c\u00cb\3\2\2\2\u040d\u040e\5\u0088"+
-		"E\2\u040e\u040f\7:\2\2\u040f\u0410\5\u008eH\2\u0410\u00cd\3\2\2\2\u0411"+
-		"\u0415\5\u00d0i\2\u0412\u0415\5\u00d2j\2\u0413\u0415\5\u00d4k\2\u0414"+
-		"\u0411\3\2\2\2\u0414\u0412\3\2\2\2\u0414\u0413\3\2\2\2\u0415\u00cf\3\2"+
-		"\2\2\u0416\u0417\7\61\2\2\u0417\u0418\5\u0098M\2\u0418\u0419\7\24\2\2"+
-		"\u0419\u041a\5\u008eH\2\u041a\u00d1\3\2\2\2\u041b\u041c\7*\2\2\u041c\u041d"+
-		"\5\u00c4c\2\u041d\u041e\7/\2\2\u041e\u041f\5\u0098M\2\u041f\u00d3\3\2"+
-		"\2\2\u0420\u0421\7\31\2\2\u0421\u0422\5\6\4\2\u0422\u0423\7\67\2\2\u0423"+
-		"\u0424\5\u00dan\2\u0424\u0425\7\24\2\2\u0425\u0426\5\u008eH\2\u0426\u00d5"+
-		"\3\2\2\2\u0427\u0428\7\t\2\2\u0428\u0429\79\2\2\u0429\u00d7\3\2\2\2\u042a"+
-		"\u042b\7\n\2\2\u042b\u042c\79\2\2\u042c\u00d9\3\2\2\2\u042d\u042e\5\u00dc"+
-		"o\2\u042e\u042f\t\t\2\2\u042f\u0430\5\u00dep\2\u0430\u00db\3\2\2\2\u0431"+
-		"\u0432\5\u0098M\2\u0432\u00dd\3\2\2\2\u0433\u0434\5\u0098M\2\u0434\u00df"+
-		"\3\2\2\2\u0435\u0436\7\62\2\2\u0436\u0437\5\u00e2r\2\u0437\u0438\7\24"+
-		"\2\2\u0438\u0439\5\u008eH\2\u0439\u00e1\3\2\2\2\u043a\u043f\5\u0096L\2"+
-		"\u043b\u043c\78\2\2\u043c\u043e\5\u0096L\2\u043d\u043b\3\2\2\2\u043e\u0441"+
-		"\3\2\2\2\u043f\u043d\3\2\2\2\u043f\u0440\3\2\2\2\u0440\u00e3\3\2\2\2\u0441"+
-		"\u043f\3\2\2\2i\u00e6\u00f2\u00fa\u0106\u0108\u0117\u0124\u0139\u013d"+
-		"\u014f\u0157\u015b\u0162\u0172\u0174\u017e\u0182\u0188\u018c\u01a1\u01af"+
-		"\u01b5\u01b8\u01c1\u01ca\u01d3\u01df\u01ed\u01f0\u01fb\u0203\u0206\u020f"+
-		"\u0212\u0219\u021e\u0224\u0230\u0235\u023b\u0241\u0253\u025a\u0263\u026a"+
-		"\u026d\u0274\u0283\u028b\u029d\u02a7\u02ad\u02b0\u02b4\u02b7\u02bf\u02c2"+
-		"\u02c6\u02c9\u02cb\u02d3\u02df\u02ea\u02f2\u02f8\u02fe\u0307\u030b\u0313"+
-		"\u0327\u032c\u0334\u033f\u0347\u0349\u0350\u0358\u035b\u0363\u0368\u0377"+
-		"\u037d\u0389\u0394\u039b\u039f\u03a4\u03ab\u03b4\u03b7\u03c0\u03c3\u03c7"+
-		"\u03cd\u03de\u03e9\u03ed\u03f1\u03f9\u0403\u0409\u0414\u043f";
+		"\3\27\3\27\3\27\3\27\3\27\5\27\u016b\n\27\3\27\3\27\3\27\3\27\3\30\3\30"+
+		"\3\30\3\30\3\30\5\30\u0176\n\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\7\31"+
+		"\u017f\n\31\f\31\16\31\u0182\13\31\3\32\3\32\3\32\3\32\3\32\7\32\u0189"+
+		"\n\32\f\32\16\32\u018c\13\32\3\33\5\33\u018f\n\33\3\33\3\33\3\33\3\33"+
+		"\5\33\u0195\n\33\3\33\3\33\5\33\u0199\n\33\3\33\5\33\u019c\n\33\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3"+
+		"\33\3\33\3\33\3\33\5\33\u01b1\n\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
+		"\3\34\3\34\3\34\3\34\3\34\5\34\u01bf\n\34\3\35\3\35\3\35\3\35\5\35\u01c5"+
+		"\n\35\3\35\5\35\u01c8\n\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\5\36\u01d1"+
+		"\n\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\5\37\u01da\n\37\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\5\37\u01e3\n\37\3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \5 "+
+		"\u01ef\n \3!\3!\3!\3!\3\"\3\"\3#\3#\3#\3#\6#\u01fb\n#\r#\16#\u01fc\3#"+
+		"\5#\u0200\n#\3$\3$\3$\3$\3%\3%\3%\3%\3%\5%\u020b\n%\3%\3%\3&\3&\3&\3&"+
+		"\5&\u0213\n&\3&\5&\u0216\n&\3&\3&\3&\3&\3&\3&\3&\5&\u021f\n&\3&\5&\u0222"+
+		"\n&\3&\3&\3&\3&\3&\5&\u0229\n&\3\'\3\'\3\'\5\'\u022e\n\'\3(\3(\3(\3(\5"+
+		"(\u0234\n(\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\5+\u0240\n+\3,\3,\3,\5,\u0245"+
+		"\n,\3-\3-\3-\3-\5-\u024b\n-\3.\3.\3.\3.\5.\u0251\n.\3.\3.\3/\3/\3/\3/"+
+		"\3/\3/\3/\3/\3/\3/\3/\3/\3/\3/\5/\u0263\n/\3\60\3\60\3\60\7\60\u0268\n"+
+		"\60\f\60\16\60\u026b\13\60\3\61\3\61\3\62\3\62\3\63\3\63\5\63\u0273\n"+
+		"\63\3\63\3\63\3\64\3\64\3\64\5\64\u027a\n\64\3\64\5\64\u027d\n\64\3\65"+
+		"\3\65\3\65\7\65\u0282\n\65\f\65\16\65\u0285\13\65\3\66\3\66\3\66\3\66"+
+		"\3\67\3\67\3\67\3\67\3\67\3\67\7\67\u0291\n\67\f\67\16\67\u0294\13\67"+
+		"\38\38\38\38\38\58\u029b\n8\39\39\39\39\39\39\3:\3:\3:\3:\3;\3;\3<\3<"+
+		"\3<\3<\5<\u02ad\n<\3=\3=\3=\3>\3>\3>\3?\3?\5?\u02b7\n?\3@\3@\3@\3@\5@"+
+		"\u02bd\n@\3@\5@\u02c0\n@\3@\3@\5@\u02c4\n@\3@\3@\3@\3@\3@\3@\5@\u02cc"+
+		"\n@\3@\5@\u02cf\n@\3@\3@\5@\u02d3\n@\5@\u02d5\n@\3A\3A\3A\3A\7A\u02db"+
+		"\nA\fA\16A\u02de\13A\3A\3A\3B\3B\3B\3B\3B\3B\3B\5B\u02e9\nB\3C\3C\3C\3"+
+		"C\3D\3D\3D\7D\u02f2\nD\fD\16D\u02f5\13D\3E\3E\3E\7E\u02fa\nE\fE\16E\u02fd"+
+		"\13E\3F\3F\3F\5F\u0302\nF\3F\3F\3F\3F\5F\u0308\nF\3G\3G\3H\3H\3H\3H\3"+
+		"H\5H\u0311\nH\3I\3I\5I\u0315\nI\3J\3J\3J\3J\3J\3J\5J\u031d\nJ\3K\3K\3"+
+		"K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\5K\u0331\nK\3L\3L\3L\5"+
+		"L\u0336\nL\3L\3L\3L\3L\7L\u033c\nL\fL\16L\u033f\13L\3L\3L\3L\3L\3L\3L"+
+		"\7L\u0347\nL\fL\16L\u034a\13L\3L\3L\3L\3L\3L\7L\u0351\nL\fL\16L\u0354"+
+		"\13L\3M\3M\3M\3M\5M\u035a\nM\3N\3N\3O\3O\3O\3O\7O\u0362\nO\fO\16O\u0365"+
+		"\13O\3O\5O\u0368\nO\3P\3P\3Q\3Q\3Q\3Q\7Q\u0370\nQ\fQ\16Q\u0373\13Q\3R"+
+		"\3R\3S\5S\u0378\nS\3S\3S\3T\3T\3T\3T\3T\3T\3T\3T\3T\3T\3T\5T\u0387\nT"+
+		"\3U\3U\3U\3U\5U\u038d\nU\3V\3V\3V\3V\3V\3W\3W\3W\7W\u0397\nW\fW\16W\u039a"+
+		"\13W\3X\3X\3X\3X\3X\3X\3X\3X\5X\u03a4\nX\3Y\3Y\3Y\7Y\u03a9\nY\fY\16Y\u03ac"+
+		"\13Y\3Y\5Y\u03af\nY\3Z\3Z\3Z\5Z\u03b4\nZ\3[\3[\3[\3[\3[\5[\u03bb\n[\3"+
+		"[\3[\3[\3[\3[\3[\3[\5[\u03c4\n[\3[\5[\u03c7\n[\3[\3[\3[\3[\3[\3[\3[\5"+
+		"[\u03d0\n[\3[\5[\u03d3\n[\3[\3[\5[\u03d7\n[\3\\\3\\\7\\\u03db\n\\\f\\"+
+		"\16\\\u03de\13\\\3]\3]\3]\3^\3^\3^\3_\3_\3`\3`\3a\3a\3a\3a\5a\u03ee\n"+
+		"a\3b\3b\3b\3b\3c\3c\3c\7c\u03f7\nc\fc\16c\u03fa\13c\3c\5c\u03fd\nc\3d"+
+		"\3d\5d\u0401\nd\3e\3e\3e\3e\3e\3e\5e\u0409\ne\3f\3f\3f\3f\3f\3f\7f\u0411"+
+		"\nf\ff\16f\u0414\13f\3f\3f\3f\5f\u0419\nf\3f\3f\3g\3g\3g\3g\3h\3h\3h\5"+
+		"h\u0424\nh\3i\3i\3i\3i\3i\3j\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3k\3l\3l\3"+
+		"l\3m\3m\3m\3n\3n\3n\3n\3o\3o\3p\3p\3q\3q\3q\3q\3q\3r\3r\3r\7r\u044d\n"+
+		"r\fr\16r\u0450\13r\3r\2\2s\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$"+
+		"&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084"+
+		"\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c"+
+		"\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4"+
+		"\u00b6\u00b8\u00ba\u00bc\u00be\u00c0\u00c2\u00c4\u00c6\u00c8\u00ca\u00cc"+
+		"\u00ce\u00d0\u00d2\u00d4\u00d6\u00d8\u00da\u00dc\u00de\u00e0\u00e2\2\n"+
+		"\3\2\63\64\3\2RS\3\2\7\b\7\2\16\16\20\20\36\36((PP\4\2\35\35;@\4\2$$\63"+
+		"\64\6\2\13\13\23\23  \65\66\4\2\25\25--\2\u047c\2\u00e4\3\2\2\2\4\u00fa"+
+		"\3\2\2\2\6\u00fc\3\2\2\2\b\u0108\3\2\2\2\n\u010d\3\2\2\2\f\u0111\3\2\2"+
+		"\2\16\u011c\3\2\2\2\20\u011e\3\2\2\2\22\u0126\3\2\2\2\24\u012a\3\2\2\2"+
+		"\26\u0139\3\2\2\2\30\u013d\3\2\2\2\32\u013f\3\2\2\2\34\u0141\3\2\2\2\36"+
+		"\u0143\3\2\2\2 \u0145\3\2\2\2\"\u0147\3\2\2\2$\u0149\3\2\2\2&\u0151\3"+
+		"\2\2\2(\u0159\3\2\2\2*\u0160\3\2\2\2,\u0164\3\2\2\2.\u0170\3\2\2\2\60"+
+		"\u0180\3\2\2\2\62\u0183\3\2\2\2\64\u01b0\3\2\2\2\66\u01be\3\2\2\28\u01c0"+
+		"\3\2\2\2:\u01cc\3\2\2\2<\u01e2\3\2\2\2>\u01ee\3\2\2\2@\u01f0\3\2\2\2B"+
+		"\u01f4\3\2\2\2D\u01f6\3\2\2\2F\u0201\3\2\2\2H\u0205\3\2\2\2J\u0228\3\2"+
+		"\2\2L\u022d\3\2\2\2N\u0233\3\2\2\2P\u0235\3\2\2\2R\u0239\3\2\2\2T\u023f"+
+		"\3\2\2\2V\u0244\3\2\2\2X\u024a\3\2\2\2Z\u024c\3\2\2\2\\\u0262\3\2\2\2"+
+		"^\u0264\3\2\2\2`\u026c\3\2\2\2b\u026e\3\2\2\2d\u0270\3\2\2\2f\u027c\3"+
+		"\2\2\2h\u027e\3\2\2\2j\u0286\3\2\2\2l\u028a\3\2\2\2n\u029a\3\2\2\2p\u029c"+
+		"\3\2\2\2r\u02a2\3\2\2\2t\u02a6\3\2\2\2v\u02ac\3\2\2\2x\u02ae\3\2\2\2z"+
+		"\u02b1\3\2\2\2|\u02b6\3\2\2\2~\u02d4\3\2\2\2\u0080\u02d6\3\2\2\2\u0082"+
+		"\u02e8\3\2\2\2\u0084\u02ea\3\2\2\2\u0086\u02ee\3\2\2\2\u0088\u02f6\3\2"+
+		"\2\2\u008a\u02fe\3\2\2\2\u008c\u0309\3\2\2\2\u008e\u0310\3\2\2\2\u0090"+
+		"\u0314\3\2\2\2\u0092\u031c\3\2\2\2\u0094\u0330\3\2\2\2\u0096\u0335\3\2"+
+		"\2\2\u0098\u0355\3\2\2\2\u009a\u035b\3\2\2\2\u009c\u0367\3\2\2\2\u009e"+
+		"\u0369\3\2\2\2\u00a0\u036b\3\2\2\2\u00a2\u0374\3\2\2\2\u00a4\u0377\3\2"+
+		"\2\2\u00a6\u0386\3\2\2\2\u00a8\u038c\3\2\2\2\u00aa\u038e\3\2\2\2\u00ac"+
+		"\u0393\3\2\2\2\u00ae\u03a3\3\2\2\2\u00b0\u03ae\3\2\2\2\u00b2\u03b0\3\2"+
+		"\2\2\u00b4\u03d6\3\2\2\2\u00b6\u03d8\3\2\2\2\u00b8\u03df\3\2\2\2\u00ba"+
+		"\u03e2\3\2\2\2\u00bc\u03e5\3\2\2\2\u00be\u03e7\3\2\2\2\u00c0\u03ed\3\2"+
+		"\2\2\u00c2\u03ef\3\2\2\2\u00c4\u03f3\3\2\2\2\u00c6\u0400\3\2\2\2\u00c8"+
+		"\u0402\3\2\2\2\u00ca\u040a\3\2\2\2\u00cc\u041c\3\2\2\2\u00ce\u0423\3\2"+
+		"\2\2\u00d0\u0425\3\2\2\2\u00d2\u042a\3\2\2\2\u00d4\u042f\3\2\2\2\u00d6"+
+		"\u0436\3\2\2\2\u00d8\u0439\3\2\2\2\u00da\u043c\3\2\2\2\u00dc\u0440\3\2"+
+		"\2\2\u00de\u0442\3\2\2\2\u00e0\u0444\3\2\2\2\u00e2\u0449\3\2\2\2\u00e4"+
+		"\u00e6\5\4\3\2\u00e5\u00e7\7N\2\2\u00e6\u00e5\3\2\2\2\u00e6\u00e7\3\2"+
+		"\2\2\u00e7\u00e8\3\2\2\2\u00e8\u00e9\5\b\5\2\u00e9\u00ea\7I\2\2\u00ea"+
+		"\u00eb\7\2\2\3\u00eb\3\3\2\2\2\u00ec\u00ed\7\'\2\2\u00ed\u00f2\5\6\4\2"+
+		"\u00ee\u00ef\7A\2\2\u00ef\u00f0\5\u0086D\2\u00f0\u00f1\7B\2\2\u00f1\u00f3"+
+		"\3\2\2\2\u00f2\u00ee\3\2\2\2\u00f2\u00f3\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4"+
+		"\u00f5\79\2\2\u00f5\u00fb\3\2\2\2\u00f6\u00f7\7M\2\2\u00f7\u00f8\5\6\4"+
+		"\2\u00f8\u00f9\79\2\2\u00f9\u00fb\3\2\2\2\u00fa\u00ec\3\2\2\2\u00fa\u00f6"+
+		"\3\2\2\2\u00fb\5\3\2\2\2\u00fc\u00fd\7W\2\2\u00fd\7\3\2\2\2\u00fe\u0107"+
+		"\5\f\7\2\u00ff\u0107\5\20\t\2\u0100\u0107\5$\23\2\u0101\u0107\5D#\2\u0102"+
+		"\u0107\5z>\2\u0103\u0107\5,\27\2\u0104\u0107\5\n\6\2\u0105\u0107\7Q\2"+
+		"\2\u0106\u00fe\3\2\2\2\u0106\u00ff\3\2\2\2\u0106\u0100\3\2\2\2\u0106\u0101"+
+		"\3\2\2\2\u0106\u0102\3\2\2\2\u0106\u0103\3\2\2\2\u0106\u0104\3\2\2\2\u0106"+
+		"\u0105\3\2\2\2\u0107\u010a\3\2\2\2\u0108\u0106\3\2\2\2\u0108\u0109\3\2"+
+		"\2\2\u0109\u010b\3\2\2\2\u010a\u0108\3\2\2\2\u010b\u010c\5\u00c2b\2\u010c"+
+		"\t\3\2\2\2\u010d\u010e\7O\2\2\u010e\u010f\5\u0086D\2\u010f\u0110\79\2"+
+		"\2\u0110\13\3\2\2\2\u0111\u0112\7\37\2\2\u0112\u0117\5\16\b\2\u0113\u0114"+
+		"\78\2\2\u0114\u0116\5\16\b\2\u0115\u0113\3\2\2\2\u0116\u0119\3\2\2\2\u0117"+
+		"\u0115\3\2\2\2\u0117\u0118\3\2\2\2\u0118\u011a\3\2\2\2\u0119\u0117\3\2"+
+		"\2\2\u011a\u011b\79\2\2\u011b\r\3\2\2\2\u011c\u011d\5\32\16\2\u011d\17"+
+		"\3\2\2\2\u011e\u0122\7\22\2\2\u011f\u0120\5\22\n\2\u0120\u0121\79\2\2"+
+		"\u0121\u0123\3\2\2\2\u0122\u011f\3\2\2\2\u0123\u0124\3\2\2\2\u0124\u0122"+
+		"\3\2\2\2\u0124\u0125\3\2\2\2\u0125\21\3\2\2\2\u0126\u0127\5\6\4\2\u0127"+
+		"\u0128\7;\2\2\u0128\u0129\5\26\f\2\u0129\23\3\2\2\2\u012a\u012b\7\21\2"+
+		"\2\u012b\u012c\7A\2\2\u012c\u012d\5\32\16\2\u012d\u012e\7B\2\2\u012e\25"+
+		"\3\2\2\2\u012f\u013a\5\30\r\2\u0130\u0131\5\36\20\2\u0131\u0132\5\30\r"+
+		"\2\u0132\u013a\3\2\2\2\u0133\u013a\5\6\4\2\u0134\u0135\5\36\20\2\u0135"+
+		"\u0136\5\6\4\2\u0136\u013a\3\2\2\2\u0137\u013a\5\"\22\2\u0138\u013a\5"+
+		"\24\13\2\u0139\u012f\3\2\2\2\u0139\u0130\3\2\2\2\u0139\u0133\3\2\2\2\u0139"+
+		"\u0134\3\2\2\2\u0139\u0137\3\2\2\2\u0139\u0138\3\2\2\2\u013a\27\3\2\2"+
+		"\2\u013b\u013e\5\32\16\2\u013c\u013e\5\34\17\2\u013d\u013b\3\2\2\2\u013d"+
+		"\u013c\3\2\2\2\u013e\31\3\2\2\2\u013f\u0140\7Y\2\2\u0140\33\3\2\2\2\u0141"+
+		"\u0142\7Z\2\2\u0142\35\3\2\2\2\u0143\u0144\t\2\2\2\u0144\37\3\2\2\2\u0145"+
+		"\u0146\t\3\2\2\u0146!\3\2\2\2\u0147\u0148\7X\2\2\u0148#\3\2\2\2\u0149"+
+		"\u014d\7.\2\2\u014a\u014b\5&\24\2\u014b\u014c\79\2\2\u014c\u014e\3\2\2"+
+		"\2\u014d\u014a\3\2\2\2\u014e\u014f\3\2\2\2\u014f\u014d\3\2\2\2\u014f\u0150"+
+		"\3\2\2\2\u0150%\3\2\2\2\u0151\u0152\5\6\4\2\u0152\u0157\7;\2\2\u0153\u0158"+
+		"\5L\'\2\u0154\u0158\5(\25\2\u0155\u0158\5*\26\2\u0156\u0158\5.\30\2\u0157"+
+		"\u0153\3\2\2\2\u0157\u0154\3\2\2\2\u0157\u0155\3\2\2\2\u0157\u0156\3\2"+
+		"\2\2\u0158\'\3\2\2\2\u0159\u015b\7\32\2\2\u015a\u015c\5\u0080A\2\u015b"+
+		"\u015a\3\2\2\2\u015b\u015c\3\2\2\2\u015c\u015d\3\2\2\2\u015d\u015e\7:"+
+		"\2\2\u015e\u015f\5\u008cG\2\u015f)\3\2\2\2\u0160\u0162\7&\2\2\u0161\u0163"+
+		"\5\u0080A\2\u0162\u0161\3\2\2\2\u0162\u0163\3\2\2\2\u0163+\3\2\2\2\u0164"+
+		"\u0165\7\3\2\2\u0165\u016a\5\6\4\2\u0166\u0167\7A\2\2\u0167\u0168\5\6"+
+		"\4\2\u0168\u0169\7B\2\2\u0169\u016b\3\2\2\2\u016a\u0166\3\2\2\2\u016a"+
+		"\u016b\3\2\2\2\u016b\u016c\3\2\2\2\u016c\u016d\5\60\31\2\u016d\u016e\7"+
+		"\27\2\2\u016e\u016f\79\2\2\u016f-\3\2\2\2\u0170\u0175\7\3\2\2\u0171\u0172"+
+		"\7A\2\2\u0172\u0173\5\6\4\2\u0173\u0174\7B\2\2\u0174\u0176\3\2\2\2\u0175"+
+		"\u0171\3\2\2\2\u0175\u0176\3\2\2\2\u0176\u0177\3\2\2\2\u0177\u0178\5\60"+
+		"\31\2\u0178\u0179\7\27\2\2\u0179\u017a\79\2\2\u017a/\3\2\2\2\u017b\u017f"+
+		"\5\62\32\2\u017c\u017f\5\64\33\2\u017d\u017f\5\66\34\2\u017e\u017b\3\2"+
+		"\2\2\u017e\u017c\3\2\2\2\u017e\u017d\3\2\2\2\u017f\u0182\3\2\2\2\u0180"+
+		"\u017e\3\2\2\2\u0180\u0181\3\2\2\2\u0181\61\3\2\2\2\u0182\u0180\3\2\2"+
+		"\2\u0183\u0184\5B\"\2\u0184\u018a\7:\2\2\u0185\u0186\5\64\33\2\u0186\u0187"+
+		"\79\2\2\u0187\u0189\3\2\2\2\u0188\u0185\3\2\2\2\u0189\u018c\3\2\2\2\u018a"+
+		"\u0188\3\2\2\2\u018a\u018b\3\2\2\2\u018b\63\3\2\2\2\u018c\u018a\3\2\2"+
+		"\2\u018d\u018f\5B\"\2\u018e\u018d\3\2\2\2\u018e\u018f\3\2\2\2\u018f\u0190"+
+		"\3\2\2\2\u0190\u0191\5F$\2\u0191\u0192\79\2\2\u0192\u01b1\3\2\2\2\u0193"+
+		"\u0195\5B\"\2\u0194\u0193\3\2\2\2\u0194\u0195\3\2\2\2\u0195\u0196\3\2"+
+		"\2\2\u0196\u0198\5~@\2\u0197\u0199\79\2\2\u0198\u0197\3\2\2\2\u0198\u0199"+
+		"\3\2\2\2\u0199\u01b1\3\2\2\2\u019a\u019c\5B\"\2\u019b\u019a\3\2\2\2\u019b"+
+		"\u019c\3\2\2\2\u019c\u019d\3\2\2\2\u019d\u019e\5J&\2\u019e\u019f\79\2"+
+		"\2\u019f\u01b1\3\2\2\2\u01a0\u01a1\5<\37\2\u01a1\u01a2\79\2\2\u01a2\u01b1"+
+		"\3\2\2\2\u01a3\u01a4\5> \2\u01a4\u01a5\79\2\2\u01a5\u01b1\3\2\2\2\u01a6"+
+		"\u01a7\5\66\34\2\u01a7\u01a8\79\2\2\u01a8\u01b1\3\2\2\2\u01a9\u01aa\7"+
+		"&\2\2\u01aa\u01ab\5\6\4\2\u01ab\u01ac\79\2\2\u01ac\u01b1\3\2\2\2\u01ad"+
+		"\u01ae\5\u008aF\2\u01ae\u01af\79\2\2\u01af\u01b1\3\2\2\2\u01b0\u018e\3"+
+		"\2\2\2\u01b0\u0194\3\2\2\2\u01b0\u019b\3\2\2\2\u01b0\u01a0\3\2\2\2\u01b0"+
+		"\u01a3\3\2\2\2\u01b0\u01a6\3\2\2\2\u01b0\u01a9\3\2\2\2\u01b0\u01ad\3\2"+
+		"\2\2\u01b1\65\3\2\2\2\u01b2\u01bf\5<\37\2\u01b3\u01bf\5> \2\u01b4\u01bf"+
+		"\5\u008aF\2\u01b5\u01bf\5~@\2\u01b6\u01bf\5\u00b4[\2\u01b7\u01b8\7&\2"+
+		"\2\u01b8\u01b9\5\6\4\2\u01b9\u01ba\79\2\2\u01ba\u01bf\3\2\2\2\u01bb\u01bf"+
+		"\5J&\2\u01bc\u01bf\58\35\2\u01bd\u01bf\5:\36\2\u01be\u01b2\3\2\2\2\u01be"+
+		"\u01b3\3\2\2\2\u01be\u01b4\3\2\2\2\u01be\u01b5\3\2\2\2\u01be\u01b6\3\2"+
+		"\2\2\u01be\u01b7\3\2\2\2\u01be\u01bb\3\2\2\2\u01be\u01bc\3\2\2\2\u01be"+
+		"\u01bd\3\2\2\2\u01bf\67\3\2\2\2\u01c0\u01c1\7\4\2\2\u01c1\u01c4\5\6\4"+
+		"\2\u01c2\u01c3\7I\2\2\u01c3\u01c5\5\6\4\2\u01c4\u01c2\3\2\2\2\u01c4\u01c5"+
+		"\3\2\2\2\u01c5\u01c7\3\2\2\2\u01c6\u01c8\5\u0080A\2\u01c7\u01c6\3\2\2"+
+		"\2\u01c7\u01c8\3\2\2\2\u01c8\u01c9\3\2\2\2\u01c9\u01ca\79\2\2\u01ca\u01cb"+
+		"\5\b\5\2\u01cb9\3\2\2\2\u01cc\u01cd\7\5\2\2\u01cd\u01d0\5\6\4\2\u01ce"+
+		"\u01cf\7I\2\2\u01cf\u01d1\5\6\4\2\u01d0\u01ce\3\2\2\2\u01d0\u01d1\3\2"+
+		"\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d3\79\2\2\u01d3\u01d4\5\b\5\2\u01d4"+
+		";\3\2\2\2\u01d5\u01d6\7\4\2\2\u01d6\u01d7\5\6\4\2\u01d7\u01d9\7A\2\2\u01d8"+
+		"\u01da\5\u0080A\2\u01d9\u01d8\3\2\2\2\u01d9\u01da\3\2\2\2\u01da\u01db"+
+		"\3\2\2\2\u01db\u01dc\7B\2\2\u01dc\u01dd\79\2\2\u01dd\u01e3\3\2\2\2\u01de"+
+		"\u01df\7\4\2\2\u01df\u01e0\5\6\4\2\u01e0\u01e1\79\2\2\u01e1\u01e3\3\2"+
+		"\2\2\u01e2\u01d5\3\2\2\2\u01e2\u01de\3\2\2\2\u01e3=\3\2\2\2\u01e4\u01e5"+
+		"\7\5\2\2\u01e5\u01e6\5\6\4\2\u01e6\u01e7\7A\2\2\u01e7\u01e8\7B\2\2\u01e8"+
+		"\u01e9\79\2\2\u01e9\u01ef\3\2\2\2\u01ea\u01eb\7\5\2\2\u01eb\u01ec\5\6"+
+		"\4\2\u01ec\u01ed\79\2\2\u01ed\u01ef\3\2\2\2\u01ee\u01e4\3\2\2\2\u01ee"+
+		"\u01ea\3\2\2\2\u01ef?\3\2\2\2\u01f0\u01f1\5\6\4\2\u01f1\u01f2\7:\2\2\u01f2"+
+		"\u01f3\5T+\2\u01f3A\3\2\2\2\u01f4\u01f5\t\4\2\2\u01f5C\3\2\2\2\u01f6\u01fa"+
+		"\7\60\2\2\u01f7\u01f8\5F$\2\u01f8\u01f9\79\2\2\u01f9\u01fb\3\2\2\2\u01fa"+
+		"\u01f7\3\2\2\2\u01fb\u01fc\3\2\2\2\u01fc\u01fa\3\2\2\2\u01fc\u01fd\3\2"+
+		"\2\2\u01fd\u01ff\3\2\2\2\u01fe\u0200\79\2\2\u01ff\u01fe\3\2\2\2\u01ff"+
+		"\u0200\3\2\2\2\u0200E\3\2\2\2\u0201\u0202\5\u0086D\2\u0202\u0203\7:\2"+
+		"\2\u0203\u0204\5L\'\2\u0204G\3\2\2\2\u0205\u0206\5\6\4\2\u0206\u0207\7"+
+		"I\2\2\u0207\u0208\7\6\2\2\u0208\u020a\7A\2\2\u0209\u020b\5\u00acW\2\u020a"+
+		"\u0209\3\2\2\2\u020a\u020b\3\2\2\2\u020b\u020c\3\2\2\2\u020c\u020d\7B"+
+		"\2\2\u020dI\3\2\2\2\u020e\u020f\7&\2\2\u020f\u0215\5\6\4\2\u0210\u0212"+
+		"\7A\2\2\u0211\u0213\5\u0080A\2\u0212\u0211\3\2\2\2\u0212\u0213\3\2\2\2"+
+		"\u0213\u0214\3\2\2\2\u0214\u0216\7B\2\2\u0215\u0210\3\2\2\2\u0215\u0216"+
+		"\3\2\2\2\u0216\u0217\3\2\2\2\u0217\u0218\79\2\2\u0218\u0219\5\b\5\2\u0219"+
+		"\u0229\3\2\2\2\u021a\u021b\7\32\2\2\u021b\u0221\5\6\4\2\u021c\u021e\7"+
+		"A\2\2\u021d\u021f\5\u0080A\2\u021e\u021d\3\2\2\2\u021e\u021f\3\2\2\2\u021f"+
+		"\u0220\3\2\2\2\u0220\u0222\7B\2\2\u0221\u021c\3\2\2\2\u0221\u0222\3\2"+
+		"\2\2\u0222\u0223\3\2\2\2\u0223\u0224\7:\2\2\u0224\u0225\5T+\2\u0225\u0226"+
+		"\79\2\2\u0226\u0227\5\b\5\2\u0227\u0229\3\2\2\2\u0228\u020e\3\2\2\2\u0228"+
+		"\u021a\3\2\2\2\u0229K\3\2\2\2\u022a\u022e\5N(\2\u022b\u022e\5V,\2\u022c"+
+		"\u022e\5x=\2\u022d\u022a\3\2\2\2\u022d\u022b\3\2\2\2\u022d\u022c\3\2\2"+
+		"\2\u022eM\3\2\2\2\u022f\u0234\5P)\2\u0230\u0234\5R*\2\u0231\u0234\5T+"+
+		"\2\u0232\u0234\5Z.\2\u0233\u022f\3\2\2\2\u0233\u0230\3\2\2\2\u0233\u0231"+
+		"\3\2\2\2\u0233\u0232\3\2\2\2\u0234O\3\2\2\2\u0235\u0236\7A\2\2\u0236\u0237"+
+		"\5\u0086D\2\u0237\u0238\7B\2\2\u0238Q\3\2\2\2\u0239\u023a\5\26\f\2\u023a"+
+		"\u023b\7J\2\2\u023b\u023c\5\26\f\2\u023cS\3\2\2\2\u023d\u0240\5\6\4\2"+
+		"\u023e\u0240\t\5\2\2\u023f\u023d\3\2\2\2\u023f\u023e\3\2\2\2\u0240U\3"+
+		"\2\2\2\u0241\u0242\7%\2\2\u0242\u0245\5X-\2\u0243\u0245\5X-\2\u0244\u0241"+
+		"\3\2\2\2\u0244\u0243\3\2\2\2\u0245W\3\2\2\2\u0246\u024b\5\\/\2\u0247\u024b"+
+		"\5d\63\2\u0248\u024b\5r:\2\u0249\u024b\5v<\2\u024a\u0246\3\2\2\2\u024a"+
+		"\u0247\3\2\2\2\u024a\u0248\3\2\2\2\u024a\u0249\3\2\2\2\u024bY\3\2\2\2"+
+		"\u024c\u024d\7P\2\2\u024d\u0250\7C\2\2\u024e\u0251\5\6\4\2\u024f\u0251"+
+		"\5\30\r\2\u0250\u024e\3\2\2\2\u0250\u024f\3\2\2\2\u0251\u0252\3\2\2\2"+
+		"\u0252\u0253\7E\2\2\u0253[\3\2\2\2\u0254\u0255\7\f\2\2\u0255\u0256\7C"+
+		"\2\2\u0256\u0257\5^\60\2\u0257\u0258\7E\2\2\u0258\u0259\7#\2\2\u0259\u025a"+
+		"\5b\62\2\u025a\u0263\3\2\2\2\u025b\u025c\7\f\2\2\u025c\u025d\7D\2\2\u025d"+
+		"\u025e\5^\60\2\u025e\u025f\7F\2\2\u025f\u0260\7#\2\2\u0260\u0261\5b\62"+
+		"\2\u0261\u0263\3\2\2\2\u0262\u0254\3\2\2\2\u0262\u025b\3\2\2\2\u0263]"+
+		"\3\2\2\2\u0264\u0269\5`\61\2\u0265\u0266\78\2\2\u0266\u0268\5`\61\2\u0267"+
+		"\u0265\3\2\2\2\u0268\u026b\3\2\2\2\u0269\u0267\3\2\2\2\u0269\u026a\3\2"+
+		"\2\2\u026a_\3\2\2\2\u026b\u0269\3\2\2\2\u026c\u026d\5N(\2\u026da\3\2\2"+
+		"\2\u026e\u026f\5L\'\2\u026fc\3\2\2\2\u0270\u0272\7)\2\2\u0271\u0273\5"+
+		"f\64\2\u0272\u0271\3\2\2\2\u0272\u0273\3\2\2\2\u0273\u0274\3\2\2\2\u0274"+
+		"\u0275\7\27\2\2\u0275e\3\2\2\2\u0276\u0279\5h\65\2\u0277\u0278\79\2\2"+
+		"\u0278\u027a\5l\67\2\u0279\u0277\3\2\2\2\u0279\u027a\3\2\2\2\u027a\u027d"+
+		"\3\2\2\2\u027b\u027d\5l\67\2\u027c\u0276\3\2\2\2\u027c\u027b\3\2\2\2\u027d"+
+		"g\3\2\2\2\u027e\u0283\5j\66\2\u027f\u0280\79\2\2\u0280\u0282\5j\66\2\u0281"+
+		"\u027f\3\2\2\2\u0282\u0285\3\2\2\2\u0283\u0281\3\2\2\2\u0283\u0284\3\2"+
+		"\2\2\u0284i\3\2\2\2\u0285\u0283\3\2\2\2\u0286\u0287\5\u0086D\2\u0287\u0288"+
+		"\7:\2\2\u0288\u0289\5L\'\2\u0289k\3\2\2\2\u028a\u028b\7\17\2\2\u028b\u028c"+
+		"\5n8\2\u028c\u028d\7#\2\2\u028d\u0292\5p9\2\u028e\u028f\79\2\2\u028f\u0291"+
+		"\5p9\2\u0290\u028e\3\2\2\2\u0291\u0294\3\2\2\2\u0292\u0290\3\2\2\2\u0292"+
+		"\u0293\3\2\2\2\u0293m\3\2\2\2\u0294\u0292\3\2\2\2\u0295\u0296\5\6\4\2"+
+		"\u0296\u0297\7:\2\2\u0297\u0298\5T+\2\u0298\u029b\3\2\2\2\u0299\u029b"+
+		"\5T+\2\u029a\u0295\3\2\2\2\u029a\u0299\3\2\2\2\u029bo\3\2\2\2\u029c\u029d"+
+		"\5\u0088E\2\u029d\u029e\7:\2\2\u029e\u029f\7A\2\2\u029f\u02a0\5f\64\2"+
+		"\u02a0\u02a1\7B\2\2\u02a1q\3\2\2\2\u02a2\u02a3\7+\2\2\u02a3\u02a4\7#\2"+
+		"\2\u02a4\u02a5\5t;\2\u02a5s\3\2\2\2\u02a6\u02a7\5N(\2\u02a7u\3\2\2\2\u02a8"+
+		"\u02a9\7\30\2\2\u02a9\u02aa\7#\2\2\u02aa\u02ad\5L\'\2\u02ab\u02ad\7\30"+
+		"\2\2\u02ac\u02a8\3\2\2\2\u02ac\u02ab\3\2\2\2\u02adw\3\2\2\2\u02ae\u02af"+
+		"\7G\2\2\u02af\u02b0\5T+\2\u02b0y\3\2\2\2\u02b1\u02b2\5|?\2\u02b2\u02b3"+
+		"\79\2\2\u02b3{\3\2\2\2\u02b4\u02b7\5~@\2\u02b5\u02b7\5\u008aF\2\u02b6"+
+		"\u02b4\3\2\2\2\u02b6\u02b5\3\2\2\2\u02b7}\3\2\2\2\u02b8\u02b9\7&\2\2\u02b9"+
+		"\u02bf\5\6\4\2\u02ba\u02bc\7A\2\2\u02bb\u02bd\5\u0080A\2\u02bc\u02bb\3"+
+		"\2\2\2\u02bc\u02bd\3\2\2\2\u02bd\u02be\3\2\2\2\u02be\u02c0\7B\2\2\u02bf"+
+		"\u02ba\3\2\2\2\u02bf\u02c0\3\2\2\2\u02c0\u02c1\3\2\2\2\u02c1\u02c3\79"+
+		"\2\2\u02c2\u02c4\5\b\5\2\u02c3\u02c2\3\2\2\2\u02c3\u02c4\3\2\2\2\u02c4"+
+		"\u02d5\3\2\2\2\u02c5\u02c6\7&\2\2\u02c6\u02c7\5\6\4\2\u02c7\u02c8\7I\2"+
+		"\2\u02c8\u02ce\5\6\4\2\u02c9\u02cb\7A\2\2\u02ca\u02cc\5\u0080A\2\u02cb"+
+		"\u02ca\3\2\2\2\u02cb\u02cc\3\2\2\2\u02cc\u02cd\3\2\2\2\u02cd\u02cf\7B"+
+		"\2\2\u02ce\u02c9\3\2\2\2\u02ce\u02cf\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0"+
+		"\u02d2\79\2\2\u02d1\u02d3\5\b\5\2\u02d2\u02d1\3\2\2\2\u02d2\u02d3\3\2"+
+		"\2\2\u02d3\u02d5\3\2\2\2\u02d4\u02b8\3\2\2\2\u02d4\u02c5\3\2\2\2\u02d5"+
+		"\177\3\2\2\2\u02d6\u02d7\7A\2\2\u02d7\u02dc\5\u0082B\2\u02d8\u02d9\79"+
+		"\2\2\u02d9\u02db\5\u0082B\2\u02da\u02d8\3\2\2\2\u02db\u02de\3\2\2\2\u02dc"+
+		"\u02da\3\2\2\2\u02dc\u02dd\3\2\2\2\u02dd\u02df\3\2\2\2\u02de\u02dc\3\2"+
+		"\2\2\u02df\u02e0\7B\2\2\u02e0\u0081\3\2\2\2\u02e1\u02e9\5\u0084C\2\u02e2"+
+		"\u02e3\7\60\2\2\u02e3\u02e9\5\u0084C\2\u02e4\u02e5\7\32\2\2\u02e5\u02e9"+
+		"\5\u0084C\2\u02e6\u02e7\7&\2\2\u02e7\u02e9\5\u0084C\2\u02e8\u02e1\3\2"+
+		"\2\2\u02e8\u02e2\3\2\2\2\u02e8\u02e4\3\2\2\2\u02e8\u02e6\3\2\2\2\u02e9"+
+		"\u0083\3\2\2\2\u02ea\u02eb\5\u0086D\2\u02eb\u02ec\7:\2\2\u02ec\u02ed\5"+
+		"T+\2\u02ed\u0085\3\2\2\2\u02ee\u02f3\5\6\4\2\u02ef\u02f0\78\2\2\u02f0"+
+		"\u02f2\5\6\4\2\u02f1\u02ef\3\2\2\2\u02f2\u02f5\3\2\2\2\u02f3\u02f1\3\2"+
+		"\2\2\u02f3\u02f4\3\2\2\2\u02f4\u0087\3\2\2\2\u02f5\u02f3\3\2\2\2\u02f6"+
+		"\u02fb\5\26\f\2\u02f7\u02f8\78\2\2\u02f8\u02fa\5\26\f\2\u02f9\u02f7\3"+
+		"\2\2\2\u02fa\u02fd\3\2\2\2\u02fb\u02f9\3\2\2\2\u02fb\u02fc\3\2\2\2\u02fc"+
+		"\u0089\3\2\2\2\u02fd\u02fb\3\2\2\2\u02fe\u02ff\7\32\2\2\u02ff\u0301\5"+
+		"\6\4\2\u0300\u0302\5\u0080A\2\u0301\u0300\3\2\2\2\u0301\u0302\3\2\2\2"+
+		"\u0302\u0303\3\2\2\2\u0303\u0304\7:\2\2\u0304\u0305\5\u008cG\2\u0305\u0307"+
+		"\79\2\2\u0306\u0308\5\b\5\2\u0307\u0306\3\2\2\2\u0307\u0308\3\2\2\2\u0308"+
+		"\u008b\3\2\2\2\u0309\u030a\5T+\2\u030a\u008d\3\2\2\2\u030b\u030c\5\16"+
+		"\b\2\u030c\u030d\7:\2\2\u030d\u030e\5\u0090I\2\u030e\u0311\3\2\2\2\u030f"+
+		"\u0311\5\u0090I\2\u0310\u030b\3\2\2\2\u0310\u030f\3\2\2\2\u0311\u008f"+
+		"\3\2\2\2\u0312\u0315\5\u0092J\2\u0313\u0315\5\u00c0a\2\u0314\u0312\3\2"+
+		"\2\2\u0314\u0313\3\2\2\2\u0315\u0091\3\2\2\2\u0316\u031d\5\u0094K\2\u0317"+
+		"\u031d\5\u00b4[\2\u0318\u031d\5\u00d6l\2\u0319\u031d\5\u00d8m\2\u031a"+
+		"\u031d\5\u00ba^\2\u031b\u031d\5\u00bc_\2\u031c\u0316\3\2\2\2\u031c\u0317"+
+		"\3\2\2\2\u031c\u0318\3\2\2\2\u031c\u0319\3\2\2\2\u031c\u031a\3\2\2\2\u031c"+
+		"\u031b\3\2\2\2\u031d\u0093\3\2\2\2\u031e\u031f\5\6\4\2\u031f\u0320\7I"+
+		"\2\2\u0320\u0321\5\6\4\2\u0321\u0322\7\67\2\2\u0322\u0323\5\u0098M\2\u0323"+
+		"\u0331\3\2\2\2\u0324\u0325\5\6\4\2\u0325\u0326\7\67\2\2\u0326\u0327\5"+
+		"H%\2\u0327\u0331\3\2\2\2\u0328\u0329\5\6\4\2\u0329\u032a\7\67\2\2\u032a"+
+		"\u032b\5\u0098M\2\u032b\u0331\3\2\2\2\u032c\u032d\5\u0096L\2\u032d\u032e"+
+		"\7\67\2\2\u032e\u032f\5\u0098M\2\u032f\u0331\3\2\2\2\u0330\u031e\3\2\2"+
+		"\2\u0330\u0324\3\2\2\2\u0330\u0328\3\2\2\2\u0330\u032c\3\2\2\2\u0331\u0095"+
+		"\3\2\2\2\u0332\u0333\7H\2\2\u0333\u0336\5\6\4\2\u0334\u0336\5\6\4\2\u0335"+
+		"\u0332\3\2\2\2\u0335\u0334\3\2\2\2\u0336\u0352\3\2\2\2\u0337\u0338\7C"+
+		"\2\2\u0338\u033d\5\u0098M\2\u0339\u033a\78\2\2\u033a\u033c\5\u0098M\2"+
+		"\u033b\u0339\3\2\2\2\u033c\u033f\3\2\2\2\u033d\u033b\3\2\2\2\u033d\u033e"+
+		"\3\2\2\2\u033e\u0340\3\2\2\2\u033f\u033d\3\2\2\2\u0340\u0341\7E\2\2\u0341"+
+		"\u0351\3\2\2\2\u0342\u0343\7D\2\2\u0343\u0348\5\u0098M\2\u0344\u0345\7"+
+		"8\2\2\u0345\u0347\5\u0098M\2\u0346\u0344\3\2\2\2\u0347\u034a\3\2\2\2\u0348"+
+		"\u0346\3\2\2\2\u0348\u0349\3\2\2\2\u0349\u034b\3\2\2\2\u034a\u0348\3\2"+
+		"\2\2\u034b\u034c\7F\2\2\u034c\u0351\3\2\2\2\u034d\u034e\7I\2\2\u034e\u0351"+
+		"\5\6\4\2\u034f\u0351\7G\2\2\u0350\u0337\3\2\2\2\u0350\u0342\3\2\2\2\u0350"+
+		"\u034d\3\2\2\2\u0350\u034f\3\2\2\2\u0351\u0354\3\2\2\2\u0352\u0350\3\2"+
+		"\2\2\u0352\u0353\3\2\2\2\u0353\u0097\3\2\2\2\u0354\u0352\3\2\2\2\u0355"+
+		"\u0359\5\u009cO\2\u0356\u0357\5\u009aN\2\u0357\u0358\5\u009cO\2\u0358"+
+		"\u035a\3\2\2\2\u0359\u0356\3\2\2\2\u0359\u035a\3\2\2\2\u035a\u0099\3\2"+
+		"\2\2\u035b\u035c\t\6\2\2\u035c\u009b\3\2\2\2\u035d\u0363\5\u00a0Q\2\u035e"+
+		"\u035f\5\u009eP\2\u035f\u0360\5\u00a0Q\2\u0360\u0362\3\2\2\2\u0361\u035e"+
+		"\3\2\2\2\u0362\u0365\3\2\2\2\u0363\u0361\3\2\2\2\u0363\u0364\3\2\2\2\u0364"+
+		"\u0368\3\2\2\2\u0365\u0363\3\2\2\2\u0366\u0368\5\u00aaV\2\u0367\u035d"+
+		"\3\2\2\2\u0367\u0366\3\2\2\2\u0368\u009d\3\2\2\2\u0369\u036a\t\7\2\2\u036a"+
+		"\u009f\3\2\2\2\u036b\u0371\5\u00a4S\2\u036c\u036d\5\u00a2R\2\u036d\u036e"+
+		"\5\u00a4S\2\u036e\u0370\3\2\2\2\u036f\u036c\3\2\2\2\u0370\u0373\3\2\2"+
+		"\2\u0371\u036f\3\2\2\2\u0371\u0372\3\2\2\2\u0372\u00a1\3\2\2\2\u0373\u0371"+
+		"\3\2\2\2\u0374\u0375\t\b\2\2\u0375\u00a3\3\2\2\2\u0376\u0378\t\2\2\2\u0377"+
+		"\u0376\3\2\2\2\u0377\u0378\3\2\2\2\u0378\u0379\3\2\2\2\u0379\u037a\5\u00a6"+
+		"T\2\u037a\u00a5\3\2\2\2\u037b\u0387\5\u0096L\2\u037c\u037d\7A\2\2\u037d"+
+		"\u037e\5\u0098M\2\u037e\u037f\7B\2\2\u037f\u0387\3\2\2\2\u0380\u0387\5"+
+		"\u00aaV\2\u0381\u0387\5\u00a8U\2\u0382\u0387\5\u00aeX\2\u0383\u0384\7"+
+		"\"\2\2\u0384\u0387\5\u00a6T\2\u0385\u0387\5 \21\2\u0386\u037b\3\2\2\2"+
+		"\u0386\u037c\3\2\2\2\u0386\u0380\3\2\2\2\u0386\u0381\3\2\2\2\u0386\u0382"+
+		"\3\2\2\2\u0386\u0383\3\2\2\2\u0386\u0385\3\2\2\2\u0387\u00a7\3\2\2\2\u0388"+
+		"\u038d\5\30\r\2\u0389\u038d\5\24\13\2\u038a\u038d\5\"\22\2\u038b\u038d"+
+		"\7!\2\2\u038c\u0388\3\2\2\2\u038c\u0389\3\2\2\2\u038c\u038a\3\2\2\2\u038c"+
+		"\u038b\3\2\2\2\u038d\u00a9\3\2\2\2\u038e\u038f\5\6\4\2\u038f\u0390\7A"+
+		"\2\2\u0390\u0391\5\u00acW\2\u0391\u0392\7B\2\2\u0392\u00ab\3\2\2\2\u0393"+
+		"\u0398\5\u00b6\\\2\u0394\u0395\78\2\2\u0395\u0397\5\u00b6\\\2\u0396\u0394"+
+		"\3\2\2\2\u0397\u039a\3\2\2\2\u0398\u0396\3\2\2\2\u0398\u0399\3\2\2\2\u0399"+
+		"\u00ad\3\2\2\2\u039a\u0398\3\2\2\2\u039b\u039c\7C\2\2\u039c\u039d\5\u00b0"+
+		"Y\2\u039d\u039e\7E\2\2\u039e\u03a4\3\2\2\2\u039f\u03a0\7D\2\2\u03a0\u03a1"+
+		"\5\u00b0Y\2\u03a1\u03a2\7F\2\2\u03a2\u03a4\3\2\2\2\u03a3\u039b\3\2\2\2"+
+		"\u03a3\u039f\3\2\2\2\u03a4\u00af\3\2\2\2\u03a5\u03aa\5\u00b2Z\2\u03a6"+
+		"\u03a7\78\2\2\u03a7\u03a9\5\u00b2Z\2\u03a8\u03a6\3\2\2\2\u03a9\u03ac\3"+
+		"\2\2\2\u03aa\u03a8\3\2\2\2\u03aa\u03ab\3\2\2\2\u03ab\u03af\3\2\2\2\u03ac"+
+		"\u03aa\3\2\2\2\u03ad\u03af\3\2\2\2\u03ae\u03a5\3\2\2\2\u03ae\u03ad\3\2"+
+		"\2\2\u03af\u00b1\3\2\2\2\u03b0\u03b3\5\u0098M\2\u03b1\u03b2\7J\2\2\u03b2"+
+		"\u03b4\5\u0098M\2\u03b3\u03b1\3\2\2\2\u03b3\u03b4\3\2\2\2\u03b4\u00b3"+
+		"\3\2\2\2\u03b5\u03ba\5\6\4\2\u03b6\u03b7\7A\2\2\u03b7\u03b8\5\u00acW\2"+
+		"\u03b8\u03b9\7B\2\2\u03b9\u03bb\3\2\2\2\u03ba\u03b6\3\2\2\2\u03ba\u03bb"+
+		"\3\2\2\2\u03bb\u03bc\3\2\2\2\u03bc\u03bd\79\2\2\u03bd\u03d7\3\2\2\2\u03be"+
+		"\u03bf\5\6\4\2\u03bf\u03c0\7I\2\2\u03c0\u03c6\7\6\2\2\u03c1\u03c3\7A\2"+
+		"\2\u03c2\u03c4\5\u00acW\2\u03c3\u03c2\3\2\2\2\u03c3\u03c4\3\2\2\2\u03c4"+
+		"\u03c5\3\2\2\2\u03c5\u03c7\7B\2\2\u03c6\u03c1\3\2\2\2\u03c6\u03c7\3\2"+
+		"\2\2\u03c7\u03c8\3\2\2\2\u03c8\u03c9\79\2\2\u03c9\u03d7\3\2\2\2\u03ca"+
+		"\u03cb\5\6\4\2\u03cb\u03cc\7I\2\2\u03cc\u03d2\5\6\4\2\u03cd\u03cf\7A\2"+
+		"\2\u03ce\u03d0\5\u00acW\2\u03cf\u03ce\3\2\2\2\u03cf\u03d0\3\2\2\2\u03d0"+
+		"\u03d1\3\2\2\2\u03d1\u03d3\7B\2\2\u03d2\u03cd\3\2\2\2\u03d2\u03d3\3\2"+
+		"\2\2\u03d3\u03d4\3\2\2\2\u03d4\u03d5\79\2\2\u03d5\u03d7\3\2\2\2\u03d6"+
+		"\u03b5\3\2\2\2\u03d6\u03be\3\2\2\2\u03d6\u03ca\3\2\2\2\u03d7\u00b5\3\2"+
+		"\2\2\u03d8\u03dc\5\u0098M\2\u03d9\u03db\5\u00b8]\2\u03da\u03d9\3\2\2\2"+
+		"\u03db\u03de\3\2\2\2\u03dc\u03da\3\2\2\2\u03dc\u03dd\3\2\2\2\u03dd\u00b7"+
+		"\3\2\2\2\u03de\u03dc\3\2\2\2\u03df\u03e0\7:\2\2\u03e0\u03e1\5\u0098M\2"+
+		"\u03e1\u00b9\3\2\2\2\u03e2\u03e3\7\33\2\2\u03e3\u03e4\5\16\b\2\u03e4\u00bb"+
+		"\3\2\2\2\u03e5\u03e6\3\2\2\2\u03e6\u00bd\3\2\2\2\u03e7\u03e8\3\2\2\2\u03e8"+
+		"\u00bf\3\2\2\2\u03e9\u03ee\5\u00c2b\2\u03ea\u03ee\5\u00c6d\2\u03eb\u03ee"+
+		"\5\u00ceh\2\u03ec\u03ee\5\u00e0q\2\u03ed\u03e9\3\2\2\2\u03ed\u03ea\3\2"+
+		"\2\2\u03ed\u03eb\3\2\2\2\u03ed\u03ec\3\2\2\2\u03ee\u00c1\3\2\2\2\u03ef"+
+		"\u03f0\7\r\2\2\u03f0\u03f1\5\u00c4c\2\u03f1\u03f2\7\27\2\2\u03f2\u00c3"+
+		"\3\2\2\2\u03f3\u03f8\5\u008eH\2\u03f4\u03f5\79\2\2\u03f5\u03f7\5\u008e"+
+		"H\2\u03f6\u03f4\3\2\2\2\u03f7\u03fa\3\2\2\2\u03f8\u03f6\3\2\2\2\u03f8"+
+		"\u03f9\3\2\2\2\u03f9\u03fc\3\2\2\2\u03fa\u03f8\3\2\2\2\u03fb\u03fd\79"+
+		"\2\2\u03fc\u03fb\3\2\2\2\u03fc\u03fd\3\2\2\2\u03fd\u00c5\3\2\2\2\u03fe"+
+		"\u0401\5\u00c8e\2\u03ff\u0401\5\u00caf\2\u0400\u03fe\3\2\2\2\u0400\u03ff"+
+		"\3\2\2\2\u0401\u00c7\3\2\2\2\u0402\u0403\7\34\2\2\u0403\u0404\5\u0098"+
+		"M\2\u0404\u0405\7,\2\2\u0405\u0408\5\u008eH\2\u0406\u0407\7\26\2\2\u0407"+
+		"\u0409\5\u008eH\2\u0408\u0406\3\2\2\2\u0408\u0409\3\2\2\2\u0409\u00c9"+
+		"\3\2\2\2\u040a\u040b\7\17\2\2\u040b\u040c\5\u0098M\2\u040c\u040d\7#\2"+
+		"\2\u040d\u0412\5\u00ccg\2\u040e\u040f\79\2\2\u040f\u0411\5\u00ccg\2\u0410"+
+		"\u040e\3\2\2\2\u0411\u0414\3\2\2\2\u0412\u0410\3\2\2\2\u0412\u0413\3\2"+
+		"\2\2\u0413\u0418\3\2\2\2\u0414\u0412\3\2\2\2\u0415\u0416\79\2\2\u0416"+
+		"\u0417\7\26\2\2\u0417\u0419\5\u00c4c\2\u0418\u0415\3\2\2\2\u0418\u0419"+
+		"\3\2\2\2\u0419\u041a\3\2\2\2\u041a\u041b\7\27\2\2\u041b\u00cb\3\2\2\2"+
+		"\u041c\u041d\5\u0088E\2\u041d\u041e\7:\2\2\u041e\u041f\5\u008eH\2\u041f"+
+		"\u00cd\3\2\2\2\u0420\u0424\5\u00d0i\2\u0421\u0424\5\u00d2j\2\u0422\u0424"+
+		"\5\u00d4k\2\u0423\u0420\3\2\2\2\u0423\u0421\3\2\2\2\u0423\u0422\3\2\2"+
+		"\2\u0424\u00cf\3\2\2\2\u0425\u0426\7\61\2\2\u0426\u0427\5\u0098M\2\u0427"+
+		"\u0428\7\24\2\2\u0428\u0429\5\u008eH\2\u0429\u00d1\3\2\2\2\u042a\u042b"+
+		"\7*\2\2\u042b\u042c\5\u00c4c\2\u042c\u042d\7/\2\2\u042d\u042e\5\u0098"+
+		"M\2\u042e\u00d3\3\2\2\2\u042f\u0430\7\31\2\2\u0430\u0431\5\6\4\2\u0431"+
+		"\u0432\7\67\2\2\u0432\u0433\5\u00dan\2\u0433\u0434\7\24\2\2\u0434\u0435"+
+		"\5\u008eH\2\u0435\u00d5\3\2\2\2\u0436\u0437\7\t\2\2\u0437\u0438\79\2\2"+
+		"\u0438\u00d7\3\2\2\2\u0439\u043a\7\n\2\2\u043a\u043b\79\2\2\u043b\u00d9"+
+		"\3\2\2\2\u043c\u043d\5\u00dco\2\u043d\u043e\t\t\2\2\u043e\u043f\5\u00de"+
+		"p\2\u043f\u00db\3\2\2\2\u0440\u0441\5\u0098M\2\u0441\u00dd\3\2\2\2\u0442"+
+		"\u0443\5\u0098M\2\u0443\u00df\3\2\2\2\u0444\u0445\7\62\2\2\u0445\u0446"+
+		"\5\u00e2r\2\u0446\u0447\7\24\2\2\u0447\u0448\5\u008eH\2\u0448\u00e1\3"+
+		"\2\2\2\u0449\u044e\5\u0096L\2\u044a\u044b\78\2\2\u044b\u044d\5\u0096L"+
+		"\2\u044c\u044a\3\2\2\2\u044d\u0450\3\2\2\2\u044e\u044c\3\2\2\2\u044e\u044f"+
+		"\3\2\2\2\u044f\u00e3\3\2\2\2\u0450\u044e\3\2\2\2j\u00e6\u00f2\u00fa\u0106"+
+		"\u0108\u0117\u0124\u0139\u013d\u014f\u0157\u015b\u0162\u016a\u0175\u017e"+
+		"\u0180\u018a\u018e\u0194\u0198\u019b\u01b0\u01be\u01c4\u01c7\u01d0\u01d9"+
+		"\u01e2\u01ee\u01fc\u01ff\u020a\u0212\u0215\u021e\u0221\u0228\u022d\u0233"+
+		"\u023f\u0244\u024a\u0250\u0262\u0269\u0272\u0279\u027c\u0283\u0292\u029a"+
+		"\u02ac\u02b6\u02bc\u02bf\u02c3\u02cb\u02ce\u02d2\u02d4\u02dc\u02e8\u02f3"+
+		"\u02fb\u0301\u0307\u0310\u0314\u031c\u0330\u0335\u033d\u0348\u0350\u0352"+
+		"\u0359\u0363\u0367\u0371\u0377\u0386\u038c\u0398\u03a3\u03aa\u03ae\u03b3"+
+		"\u03ba\u03c3\u03c6\u03cf\u03d2\u03d6\u03dc\u03ed\u03f8\u03fc\u0400\u0408"+
+		"\u0412\u0418\u0423\u044e";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
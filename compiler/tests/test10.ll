@@ -0,0 +1,161 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define void @tcounter.add(%class.tcounter* %self, i32 %n.arg) {
+entry:
+%n = alloca i32
+store i32 %n.arg, i32* %n
+%t1 = getelementptr inbounds %class.tcounter, %class.tcounter* %self, i32 0, i32 1
+%t2 = load i32, i32* %t1
+%t3 = load i32, i32* %n
+%t4 = add i32 %t2, %t3
+%t5 = getelementptr inbounds %class.tcounter, %class.tcounter* %self, i32 0, i32 1
+store i32 %t4, i32* %t5
+ret void
+}
+
+define i32 @tcounter.total(%class.tcounter* %self) {
+entry:
+%total = alloca i32
+store i32 0, i32* %total
+%t6 = getelementptr inbounds %class.tcounter, %class.tcounter* %self, i32 0, i32 1
+%t7 = load i32, i32* %t6
+store i32 %t7, i32* %total
+%t8 = load i32, i32* %total
+ret i32 %t8
+}
+
+define void @tcounter.destroy(%class.tcounter* %self) {
+entry:
+ret void
+}
+
+define void @tlogger.destroy(%class.tlogger* %self) {
+entry:
+%t9 = getelementptr inbounds %class.tlogger, %class.tlogger* %self, i32 0, i32 1
+%t10 = load i32, i32* %t9
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t10)
+ret void
+}
+
+define i32 @sumto(i32 %n.arg) {
+entry:
+%n = alloca i32
+%sumto = alloca i32
+%c = alloca %class.tcounter*
+%k = alloca i32
+%t11 = alloca %class.tcounter
+store i32 %n.arg, i32* %n
+store i32 0, i32* %sumto
+store %class.tcounter zeroinitializer, %class.tcounter* %t11
+%t12 = getelementptr inbounds %class.tcounter, %class.tcounter* %t11, i32 0, i32 0
+store i8** getelementptr inbounds ([3 x i8*], [3 x i8*]* @vtable.tcounter, i32 0, i32 0), i8*** %t12
+store %class.tcounter* %t11, %class.tcounter** %c
+store i32 1, i32* %k
+br label %cond13
+cond13:
+%t17 = load i32, i32* %k
+%t18 = load i32, i32* %n
+%t19 = icmp sle i32 %t17, %t18
+br i1 %t19, label %body14, label %end16
+body14:
+%t20 = load %class.tcounter*, %class.tcounter** %c
+%t21 = load i32, i32* %k
+call void @tcounter.add(%class.tcounter* %t20, i32 %t21)
+br label %incr15
+incr15:
+%t22 = load i32, i32* %k
+%t23 = add i32 %t22, 1
+store i32 %t23, i32* %k
+br label %cond13
+end16:
+%t24 = load %class.tcounter*, %class.tcounter** %c
+%t25 = call i32 @tcounter.total(%class.tcounter* %t24)
+store i32 %t25, i32* %sumto
+%t26 = load %class.tcounter*, %class.tcounter** %c
+%t27 = load i32, i32* %sumto
+ret i32 %t27
+}
+
+define void @log(i32 %n.arg) {
+entry:
+%n = alloca i32
+%l = alloca %class.tlogger*
+%t28 = alloca %class.tlogger
+store i32 %n.arg, i32* %n
+store %class.tlogger zeroinitializer, %class.tlogger* %t28
+%t29 = getelementptr inbounds %class.tlogger, %class.tlogger* %t28, i32 0, i32 0
+store i8** getelementptr inbounds ([1 x i8*], [1 x i8*]* @vtable.tlogger, i32 0, i32 0), i8*** %t29
+store %class.tlogger* %t28, %class.tlogger** %l
+%t30 = load i32, i32* %n
+%t31 = load %class.tlogger*, %class.tlogger** %l
+%t32 = getelementptr inbounds %class.tlogger, %class.tlogger* %t31, i32 0, i32 1
+store i32 %t30, i32* %t32
+%t33 = load %class.tlogger*, %class.tlogger** %l
+call void @tlogger.destroy(%class.tlogger* %t33)
+ret void
+}
+
+define void @remember(i32 %n.arg) {
+entry:
+%n = alloca i32
+%c = alloca %class.tcounter*
+store i32 %n.arg, i32* %n
+%t34 = call i8* @calloc(i64 1, i64 ptrtoint (%class.tcounter* getelementptr (%class.tcounter, %class.tcounter* null, i32 1) to i64))
+%t35 = bitcast i8* %t34 to %class.tcounter*
+%t36 = getelementptr inbounds %class.tcounter, %class.tcounter* %t35, i32 0, i32 0
+store i8** getelementptr inbounds ([3 x i8*], [3 x i8*]* @vtable.tcounter, i32 0, i32 0), i8*** %t36
+store %class.tcounter* %t35, %class.tcounter** %c
+%t37 = load %class.tcounter*, %class.tcounter** %c
+%t38 = load i32, i32* %n
+call void @tcounter.add(%class.tcounter* %t37, i32 %t38)
+%t39 = load %class.tcounter*, %class.tcounter** %c
+store %class.tcounter* %t39, %class.tcounter** @keep
+ret void
+}
+
+define i32 @main() {
+entry:
+%i = alloca i32
+%sum = alloca i32
+store i32 0, i32* %sum
+store i32 1, i32* %i
+br label %cond40
+cond40:
+%t44 = load i32, i32* %i
+%t45 = icmp sle i32 %t44, 3
+br i1 %t45, label %body41, label %end43
+body41:
+%t46 = load i32, i32* %i
+%t47 = call i32 @sumto(i32 %t46)
+%t48 = load i32, i32* %sum
+%t49 = add i32 %t48, %t47
+store i32 %t49, i32* %sum
+%t50 = load i32, i32* %i
+call void @log(i32 %t50)
+br label %incr42
+incr42:
+%t51 = load i32, i32* %i
+%t52 = add i32 %t51, 1
+store i32 %t52, i32* %i
+br label %cond40
+end43:
+%t53 = load i32, i32* %sum
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t53)
+call void @remember(i32 5)
+%t54 = load %class.tcounter*, %class.tcounter** @keep
+%t55 = call i32 @tcounter.total(%class.tcounter* %t54)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t55)
+%t56 = load %class.tcounter*, %class.tcounter** @keep
+call void @tcounter.destroy(%class.tcounter* %t56)
+%t57 = bitcast %class.tcounter* %t56 to i8*
+call void @free(i8* %t57)
+ret i32 0
+}
+
+%class.tcounter = type { i8**, i32 }
+%class.tlogger = type { i8**, i32 }
+@vtable.tcounter = internal constant [3 x i8*] [i8* bitcast (void (%class.tcounter*, i32)* @tcounter.add to i8*), i8* bitcast (i32 (%class.tcounter*)* @tcounter.total to i8*), i8* bitcast (void (%class.tcounter*)* @tcounter.destroy to i8*)]
+@vtable.tlogger = internal constant [1 x i8*] [i8* bitcast (void (%class.tlogger*)* @tlogger.destroy to i8*)]
+@keep = internal global %class.tcounter* null
+declare i8* @calloc(i64, i64)
+declare void @free(i8*)
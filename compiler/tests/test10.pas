@@ -0,0 +1,72 @@
+PROGRAM Test10;
+
+TYPE
+  TCounter = CLASS
+    count: INTEGER;
+    PROCEDURE Add((n: INTEGER));
+    BEGIN
+      count := count + n;
+    END;
+    FUNCTION Total: INTEGER;
+    BEGIN
+      Total := count;
+    END;
+    DESTRUCTOR Destroy;
+    BEGIN
+    END;
+  END;;
+
+  TLogger = CLASS
+    lines: INTEGER;
+    DESTRUCTOR Destroy;
+    BEGIN
+      writeln(lines);;
+    END;
+  END;;
+
+VAR
+  keep: TCounter;
+  i, sum: INTEGER;
+
+FUNCTION SumTo(n: INTEGER): INTEGER;
+VAR
+  c: TCounter;
+  k: INTEGER;
+BEGIN
+  c := TCounter.CREATE();
+  FOR k := 1 TO n DO
+    c.Add(k);;
+  SumTo := c.Total;
+  c.Free;;
+END;
+
+PROCEDURE Log((n: INTEGER));
+VAR
+  l: TLogger;
+BEGIN
+  l := TLogger.CREATE();
+  l.lines := n;
+  l.Destroy;;
+END;
+
+PROCEDURE Remember((n: INTEGER));
+VAR
+  c: TCounter;
+BEGIN
+  c := TCounter.CREATE();
+  c.Add(n);;
+  keep := c;
+END;
+
+BEGIN
+  sum := 0;
+  FOR i := 1 TO 3 DO
+  BEGIN
+    sum := sum + SumTo(i);
+    Log(i);;
+  END;
+  writeln(sum);;
+  Remember(5);;
+  writeln(keep.Total);;
+  keep.Free;;
+END.
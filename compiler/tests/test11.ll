@@ -0,0 +1,239 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define void @tstack.push(%class.tstack* %self, i32 %x.arg) {
+entry:
+%x = alloca i32
+store i32 %x.arg, i32* %x
+%t1 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+%t2 = load i32, i32* %t1
+%t3 = add i32 %t2, 1
+%t4 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+store i32 %t3, i32* %t4
+%t5 = load i32, i32* %x
+%t6 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 1
+%t7 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+%t8 = load i32, i32* %t7
+%t9 = sub i32 %t8, 1
+%t11 = icmp ult i32 %t9, 4
+br i1 %t11, label %inrange10, label %range.fail10
+inrange10:
+%t12 = getelementptr inbounds [4 x i32], [4 x i32]* %t6, i32 0, i32 %t9
+store i32 %t5, i32* %t12
+ret void
+range.fail10:
+call void @range.error(i32 12)
+unreachable
+}
+
+define i32 @tstack.pop(%class.tstack* %self) {
+entry:
+%pop = alloca i32
+store i32 0, i32* %pop
+%t13 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 1
+%t14 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+%t15 = load i32, i32* %t14
+%t16 = sub i32 %t15, 1
+%t18 = icmp ult i32 %t16, 4
+br i1 %t18, label %inrange17, label %range.fail17
+inrange17:
+%t19 = getelementptr inbounds [4 x i32], [4 x i32]* %t13, i32 0, i32 %t16
+%t20 = load i32, i32* %t19
+store i32 %t20, i32* %pop
+%t21 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+%t22 = load i32, i32* %t21
+%t23 = sub i32 %t22, 1
+%t24 = getelementptr inbounds %class.tstack, %class.tstack* %self, i32 0, i32 2
+store i32 %t23, i32* %t24
+%t25 = load i32, i32* %pop
+ret i32 %t25
+range.fail17:
+call void @range.error(i32 16)
+unreachable
+}
+
+define i32 @sumfirst(i32 %n.arg) {
+entry:
+%n = alloca i32
+%sumfirst = alloca i32
+%k = alloca i32
+%sum = alloca i32
+store i32 %n.arg, i32* %n
+store i32 0, i32* %sumfirst
+store i32 0, i32* %sum
+store i32 1, i32* %k
+br label %cond26
+cond26:
+%t30 = load i32, i32* %k
+%t31 = load i32, i32* %n
+%t32 = icmp sle i32 %t30, %t31
+br i1 %t32, label %body27, label %end29
+body27:
+%t33 = load i32, i32* %k
+%t34 = sub i32 %t33, 1
+%t36 = icmp ult i32 %t34, 10
+br i1 %t36, label %inrange35, label %range.fail35
+inrange35:
+%t37 = getelementptr inbounds [10 x i32], [10 x i32]* @squares, i32 0, i32 %t34
+%t38 = load i32, i32* %sum
+%t39 = load i32, i32* %t37
+%t40 = add i32 %t38, %t39
+store i32 %t40, i32* %sum
+br label %incr28
+incr28:
+%t41 = load i32, i32* %k
+%t42 = add i32 %t41, 1
+store i32 %t42, i32* %k
+br label %cond26
+end29:
+%t43 = load i32, i32* %sum
+store i32 %t43, i32* %sumfirst
+%t44 = load i32, i32* %sumfirst
+ret i32 %t44
+range.fail35:
+call void @range.error(i32 34)
+unreachable
+}
+
+define i32 @main() {
+entry:
+%fib = alloca [12 x i32]
+%grid = alloca [3 x [3 x i32]]
+%s = alloca %class.tstack*
+%i = alloca i32
+%j = alloca i32
+%t112 = alloca %class.tstack
+store i32 1, i32* %i
+br label %cond45
+cond45:
+%t49 = load i32, i32* %i
+%t50 = icmp sle i32 %t49, 10
+br i1 %t50, label %body46, label %end48
+body46:
+%t51 = load i32, i32* %i
+%t52 = load i32, i32* %i
+%t53 = mul i32 %t51, %t52
+%t54 = load i32, i32* %i
+%t55 = sub i32 %t54, 1
+%t56 = getelementptr inbounds [10 x i32], [10 x i32]* @squares, i32 0, i32 %t55
+store i32 %t53, i32* %t56
+br label %incr47
+incr47:
+%t57 = load i32, i32* %i
+%t58 = add i32 %t57, 1
+store i32 %t58, i32* %i
+br label %cond45
+end48:
+%t59 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 0
+store i32 0, i32* %t59
+%t60 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 1
+store i32 1, i32* %t60
+store i32 2, i32* %i
+br label %cond61
+cond61:
+%t65 = load i32, i32* %i
+%t66 = icmp sle i32 %t65, 11
+br i1 %t66, label %body62, label %end64
+body62:
+%t67 = load i32, i32* %i
+%t68 = sub i32 %t67, 1
+%t69 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 %t68
+%t70 = load i32, i32* %i
+%t71 = sub i32 %t70, 2
+%t72 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 %t71
+%t73 = load i32, i32* %t69
+%t74 = load i32, i32* %t72
+%t75 = add i32 %t73, %t74
+%t76 = load i32, i32* %i
+%t77 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 %t76
+store i32 %t75, i32* %t77
+br label %incr63
+incr63:
+%t78 = load i32, i32* %i
+%t79 = add i32 %t78, 1
+store i32 %t79, i32* %i
+br label %cond61
+end64:
+store i32 1, i32* %i
+br label %cond80
+cond80:
+%t84 = load i32, i32* %i
+%t85 = icmp sle i32 %t84, 3
+br i1 %t85, label %body81, label %end83
+body81:
+%t86 = load i32, i32* %i
+%t87 = sub i32 %t86, 1
+%t88 = getelementptr inbounds [3 x [3 x i32]], [3 x [3 x i32]]* %grid, i32 0, i32 %t87
+store i32 1, i32* %j
+br label %cond89
+cond89:
+%t93 = load i32, i32* %j
+%t94 = icmp sle i32 %t93, 3
+br i1 %t94, label %body90, label %end92
+body90:
+%t95 = load i32, i32* %i
+%t96 = load i32, i32* %j
+%t97 = mul i32 %t95, %t96
+%t98 = load i32, i32* %j
+%t99 = sub i32 %t98, 1
+%t100 = getelementptr inbounds [3 x i32], [3 x i32]* %t88, i32 0, i32 %t99
+store i32 %t97, i32* %t100
+br label %incr91
+incr91:
+%t101 = load i32, i32* %j
+%t102 = add i32 %t101, 1
+store i32 %t102, i32* %j
+br label %cond89
+end92:
+br label %incr82
+incr82:
+%t103 = load i32, i32* %i
+%t104 = add i32 %t103, 1
+store i32 %t104, i32* %i
+br label %cond80
+end83:
+%t105 = getelementptr inbounds [10 x i32], [10 x i32]* @squares, i32 0, i32 9
+%t106 = load i32, i32* %t105
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t106)
+%t107 = getelementptr inbounds [12 x i32], [12 x i32]* %fib, i32 0, i32 11
+%t108 = load i32, i32* %t107
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t108)
+%t109 = getelementptr inbounds [3 x [3 x i32]], [3 x [3 x i32]]* %grid, i32 0, i32 1
+%t110 = getelementptr inbounds [3 x i32], [3 x i32]* %t109, i32 0, i32 2
+%t111 = load i32, i32* %t110
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t111)
+store %class.tstack zeroinitializer, %class.tstack* %t112
+%t113 = getelementptr inbounds %class.tstack, %class.tstack* %t112, i32 0, i32 0
+store i8** getelementptr inbounds ([2 x i8*], [2 x i8*]* @vtable.tstack, i32 0, i32 0), i8*** %t113
+store %class.tstack* %t112, %class.tstack** %s
+%t114 = load %class.tstack*, %class.tstack** %s
+call void @tstack.push(%class.tstack* %t114, i32 7)
+%t115 = load %class.tstack*, %class.tstack** %s
+call void @tstack.push(%class.tstack* %t115, i32 8)
+%t116 = load %class.tstack*, %class.tstack** %s
+%t117 = call i32 @tstack.pop(%class.tstack* %t116)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t117)
+%t118 = load %class.tstack*, %class.tstack** %s
+%t119 = call i32 @tstack.pop(%class.tstack* %t118)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t119)
+%t120 = load %class.tstack*, %class.tstack** %s
+%t121 = call i32 @sumfirst(i32 10)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t121)
+store i32 11, i32* @n
+%t122 = load i32, i32* @n
+%t123 = call i32 @sumfirst(i32 %t122)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t123)
+ret i32 0
+}
+
+%class.tstack = type { i8**, [4 x i32], i32 }
+@vtable.tstack = internal constant [2 x i8*] [i8* bitcast (void (%class.tstack*, i32)* @tstack.push to i8*), i8* bitcast (i32 (%class.tstack*)* @tstack.pop to i8*)]
+@n = internal global i32 0
+@squares = internal global [10 x i32] zeroinitializer
+@range.error.str = constant [30 x i8] c"Range check error at line %d\0A\00"
+define internal void @range.error(i32 %line) cold noreturn {
+entry:
+call i32 (i8*, ...) @printf(i8* getelementptr ([30 x i8], [30 x i8]* @range.error.str, i32 0, i32 0), i32 %line)
+call void @exit(i32 201)
+unreachable
+}
+declare void @exit(i32) noreturn
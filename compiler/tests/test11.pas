@@ -0,0 +1,60 @@
+PROGRAM Test11;
+
+TYPE
+  TVec = ARRAY[1..10] OF INTEGER;
+
+  TStack = CLASS
+    items: ARRAY[1..4] OF INTEGER;
+    count: INTEGER;
+    PROCEDURE Push((x: INTEGER));
+    BEGIN
+      count := count + 1;
+      items[count] := x;
+    END;
+    FUNCTION Pop: INTEGER;
+    BEGIN
+      Pop := items[count];
+      count := count - 1;
+    END;
+  END;;
+
+VAR
+  squares: TVec;
+  fib: ARRAY[0..11] OF INTEGER;
+  grid: ARRAY[1..3] OF ARRAY[1..3] OF INTEGER;
+  s: TStack;
+  i, j, n: INTEGER;
+
+FUNCTION SumFirst(n: INTEGER): INTEGER;
+VAR
+  k, sum: INTEGER;
+BEGIN
+  sum := 0;
+  FOR k := 1 TO n DO
+    sum := sum + squares[k];
+  SumFirst := sum;
+END;
+
+BEGIN
+  FOR i := 1 TO 10 DO
+    squares[i] := i * i;
+  fib[0] := 0;
+  fib[1] := 1;
+  FOR i := 2 TO 11 DO
+    fib[i] := fib[i - 1] + fib[i - 2];
+  FOR i := 1 TO 3 DO
+    FOR j := 1 TO 3 DO
+      grid[i][j] := i * j;
+  writeln(squares[10]);;
+  writeln(fib[11]);;
+  writeln(grid[2][3]);;
+  s := TStack.CREATE();
+  s.Push(7);;
+  s.Push(8);;
+  writeln(s.Pop);;
+  writeln(s.Pop);;
+  s.Free;;
+  writeln(SumFirst(10));;
+  n := 11;
+  writeln(SumFirst(n));;
+END.
@@ -0,0 +1,255 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define i32 @main() {
+entry:
+%a = alloca [4 x [4 x i32]]
+%b = alloca [4 x [4 x i32]]
+%c = alloca [4 x [4 x i32]]
+%i = alloca i32
+%j = alloca i32
+%k = alloca i32
+%n = alloca i32
+%total = alloca i32
+store i32 1, i32* %i
+br label %cond1
+cond1:
+%t5 = load i32, i32* %i
+%t6 = icmp sle i32 %t5, 4
+br i1 %t6, label %body2, label %end4
+body2:
+%t7 = load i32, i32* %i
+%t8 = sub i32 %t7, 1
+%t9 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %a, i32 0, i32 %t8
+%t10 = load i32, i32* %i
+%t11 = sub i32 %t10, 1
+%t12 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %b, i32 0, i32 %t11
+%t13 = load i32, i32* %i
+%t14 = sub i32 %t13, 1
+%t15 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %c, i32 0, i32 %t14
+store i32 1, i32* %j
+br label %cond16
+cond16:
+%t20 = load i32, i32* %j
+%t21 = icmp sle i32 %t20, 4
+br i1 %t21, label %body17, label %end19
+body17:
+%t22 = load i32, i32* %i
+%t23 = load i32, i32* %j
+%t24 = add i32 %t22, %t23
+%t25 = load i32, i32* %j
+%t26 = sub i32 %t25, 1
+%t27 = getelementptr inbounds [4 x i32], [4 x i32]* %t9, i32 0, i32 %t26
+store i32 %t24, i32* %t27
+%t28 = load i32, i32* %i
+%t29 = load i32, i32* %j
+%t30 = sub i32 %t28, %t29
+%t31 = load i32, i32* %j
+%t32 = sub i32 %t31, 1
+%t33 = getelementptr inbounds [4 x i32], [4 x i32]* %t12, i32 0, i32 %t32
+store i32 %t30, i32* %t33
+%t34 = load i32, i32* %j
+%t35 = sub i32 %t34, 1
+%t36 = getelementptr inbounds [4 x i32], [4 x i32]* %t15, i32 0, i32 %t35
+store i32 0, i32* %t36
+br label %incr18
+incr18:
+%t37 = load i32, i32* %j
+%t38 = add i32 %t37, 1
+store i32 %t38, i32* %j
+br label %cond16
+end19:
+br label %incr3
+incr3:
+%t39 = load i32, i32* %i
+%t40 = add i32 %t39, 1
+store i32 %t40, i32* %i
+br label %cond1
+end4:
+store i32 1, i32* %i
+br label %cond41
+cond41:
+%t45 = load i32, i32* %i
+%t46 = icmp sle i32 %t45, 4
+br i1 %t46, label %body42, label %end44
+body42:
+store i32 1, i32* %k
+br label %cond47
+cond47:
+%t51 = load i32, i32* %k
+%t52 = icmp sle i32 %t51, 4
+br i1 %t52, label %body48, label %end50
+body48:
+%t53 = load i32, i32* %i
+%t54 = sub i32 %t53, 1
+%t55 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %c, i32 0, i32 %t54
+%t56 = load i32, i32* %i
+%t57 = sub i32 %t56, 1
+%t58 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %a, i32 0, i32 %t57
+%t59 = load i32, i32* %k
+%t60 = sub i32 %t59, 1
+%t61 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %b, i32 0, i32 %t60
+store i32 1, i32* %j
+br label %cond62
+cond62:
+%t66 = load i32, i32* %j
+%t67 = icmp sle i32 %t66, 4
+br i1 %t67, label %body63, label %end65
+body63:
+%t68 = load i32, i32* %j
+%t69 = sub i32 %t68, 1
+%t70 = getelementptr inbounds [4 x i32], [4 x i32]* %t55, i32 0, i32 %t69
+%t71 = load i32, i32* %k
+%t72 = sub i32 %t71, 1
+%t73 = getelementptr inbounds [4 x i32], [4 x i32]* %t58, i32 0, i32 %t72
+%t74 = load i32, i32* %j
+%t75 = sub i32 %t74, 1
+%t76 = getelementptr inbounds [4 x i32], [4 x i32]* %t61, i32 0, i32 %t75
+%t77 = load i32, i32* %t73
+%t78 = load i32, i32* %t76
+%t79 = mul i32 %t77, %t78
+%t80 = load i32, i32* %t70
+%t81 = add i32 %t80, %t79
+%t82 = load i32, i32* %j
+%t83 = sub i32 %t82, 1
+%t84 = getelementptr inbounds [4 x i32], [4 x i32]* %t55, i32 0, i32 %t83
+store i32 %t81, i32* %t84
+br label %incr64
+incr64:
+%t85 = load i32, i32* %j
+%t86 = add i32 %t85, 1
+store i32 %t86, i32* %j
+br label %cond62
+end65:
+br label %incr49
+incr49:
+%t87 = load i32, i32* %k
+%t88 = add i32 %t87, 1
+store i32 %t88, i32* %k
+br label %cond47
+end50:
+br label %incr43
+incr43:
+%t89 = load i32, i32* %i
+%t90 = add i32 %t89, 1
+store i32 %t90, i32* %i
+br label %cond41
+end44:
+store i32 4, i32* %n
+store i32 0, i32* %total
+%t91 = load i32, i32* %n
+%t92 = load i32, i32* %n
+store i32 1, i32* %i
+br label %cond93
+cond93:
+%t97 = load i32, i32* %i
+%t98 = icmp sle i32 %t97, %t92
+br i1 %t98, label %body94, label %end96
+body94:
+store i32 1, i32* %j
+br label %cond99
+cond99:
+%t103 = load i32, i32* %j
+%t104 = icmp sle i32 %t103, %t91
+br i1 %t104, label %body100, label %end102
+body100:
+%t105 = load i32, i32* %i
+%t106 = sub i32 %t105, 1
+%t108 = icmp ult i32 %t106, 4
+br i1 %t108, label %inrange107, label %range.fail107
+inrange107:
+%t109 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %c, i32 0, i32 %t106
+%t110 = load i32, i32* %j
+%t111 = sub i32 %t110, 1
+%t113 = icmp ult i32 %t111, 4
+br i1 %t113, label %inrange112, label %range.fail112
+inrange112:
+%t114 = getelementptr inbounds [4 x i32], [4 x i32]* %t109, i32 0, i32 %t111
+%t115 = load i32, i32* %total
+%t116 = load i32, i32* %t114
+%t117 = add i32 %t115, %t116
+store i32 %t117, i32* %total
+br label %incr101
+incr101:
+%t118 = load i32, i32* %j
+%t119 = add i32 %t118, 1
+store i32 %t119, i32* %j
+br label %cond99
+end102:
+br label %incr95
+incr95:
+%t120 = load i32, i32* %i
+%t121 = add i32 %t120, 1
+store i32 %t121, i32* %i
+br label %cond93
+end96:
+%t122 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %c, i32 0, i32 1
+%t123 = getelementptr inbounds [4 x i32], [4 x i32]* %t122, i32 0, i32 2
+%t124 = load i32, i32* %t123
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t124)
+%t125 = load i32, i32* %total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t125)
+store i32 2, i32* %i
+br label %cond126
+cond126:
+%t130 = load i32, i32* %i
+%t131 = icmp sle i32 %t130, 4
+br i1 %t131, label %body127, label %end129
+body127:
+store i32 1, i32* %j
+br label %cond132
+cond132:
+%t136 = load i32, i32* %j
+%t137 = icmp sle i32 %t136, 4
+br i1 %t137, label %body133, label %end135
+body133:
+%t138 = load i32, i32* %i
+%t139 = sub i32 %t138, 1
+%t140 = sub i32 %t139, 1
+%t141 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %a, i32 0, i32 %t140
+%t142 = load i32, i32* %j
+%t143 = sub i32 %t142, 1
+%t144 = getelementptr inbounds [4 x i32], [4 x i32]* %t141, i32 0, i32 %t143
+%t145 = load i32, i32* %t144
+%t146 = mul i32 %t145, 2
+%t147 = load i32, i32* %i
+%t148 = sub i32 %t147, 1
+%t149 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %a, i32 0, i32 %t148
+%t150 = load i32, i32* %j
+%t151 = sub i32 %t150, 1
+%t152 = getelementptr inbounds [4 x i32], [4 x i32]* %t149, i32 0, i32 %t151
+store i32 %t146, i32* %t152
+br label %incr134
+incr134:
+%t153 = load i32, i32* %j
+%t154 = add i32 %t153, 1
+store i32 %t154, i32* %j
+br label %cond132
+end135:
+br label %incr128
+incr128:
+%t155 = load i32, i32* %i
+%t156 = add i32 %t155, 1
+store i32 %t156, i32* %i
+br label %cond126
+end129:
+%t157 = getelementptr inbounds [4 x [4 x i32]], [4 x [4 x i32]]* %a, i32 0, i32 3
+%t158 = getelementptr inbounds [4 x i32], [4 x i32]* %t157, i32 0, i32 0
+%t159 = load i32, i32* %t158
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t159)
+ret i32 0
+range.fail107:
+call void @range.error(i32 26)
+unreachable
+range.fail112:
+call void @range.error(i32 26)
+unreachable
+}
+
+@range.error.str = constant [30 x i8] c"Range check error at line %d\0A\00"
+define internal void @range.error(i32 %line) cold noreturn {
+entry:
+call i32 (i8*, ...) @printf(i8* getelementptr ([30 x i8], [30 x i8]* @range.error.str, i32 0, i32 0), i32 %line)
+call void @exit(i32 201)
+unreachable
+}
+declare void @exit(i32) noreturn
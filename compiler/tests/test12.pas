@@ -0,0 +1,33 @@
+PROGRAM Test12;
+
+TYPE
+  TMatrix = ARRAY[1..4, 1..4] OF INTEGER;
+
+VAR
+  a, b, c: TMatrix;
+  i, j, k, n, total: INTEGER;
+
+BEGIN
+  FOR i := 1 TO 4 DO
+    FOR j := 1 TO 4 DO
+    BEGIN
+      a[i, j] := i + j;
+      b[i, j] := i - j;
+      c[i, j] := 0;
+    END;
+  FOR j := 1 TO 4 DO
+    FOR k := 1 TO 4 DO
+      FOR i := 1 TO 4 DO
+        c[i, j] := c[i, j] + a[i, k] * b[k, j];
+  n := 4;
+  total := 0;
+  FOR j := 1 TO n DO
+    FOR i := 1 TO n DO
+      total := total + c[i, j];
+  writeln(c[2, 3]);;
+  writeln(total);;
+  FOR i := 2 TO 4 DO
+    FOR j := 1 TO 4 DO
+      a[i, j] := a[i - 1, j] * 2;
+  writeln(a[4, 1]);;
+END.
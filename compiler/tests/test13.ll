@@ -0,0 +1,91 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define void @add(i32 %k.arg, i32* %x.ref, i32* %n.ref, i32* %calls.ref) {
+entry:
+%k = alloca i32
+store i32 %k.arg, i32* %k
+%t1 = load i32, i32* %k
+%t2 = load i32, i32* %n.ref
+%t3 = mul i32 %t1, %t2
+%t4 = load i32, i32* %x.ref
+%t5 = add i32 %t4, %t3
+store i32 %t5, i32* %x.ref
+%t6 = load i32, i32* %calls.ref
+%t7 = add i32 %t6, 1
+store i32 %t7, i32* %calls.ref
+ret void
+}
+
+define void @again(i32* %k.ref, i32* %x.ref, i32* %n.ref, i32* %calls.ref) {
+entry:
+%t8 = load i32, i32* %k.ref
+call void @add(i32 %t8, i32* %x.ref, i32* %n.ref, i32* %calls.ref)
+ret void
+}
+
+define void @addtwice(i32 %k.arg, i32* %x.ref, i32* %n.ref, i32* %calls.ref) {
+entry:
+%k = alloca i32
+store i32 %k.arg, i32* %k
+%t9 = load i32, i32* %k
+call void @add(i32 %t9, i32* %x.ref, i32* %n.ref, i32* %calls.ref)
+call void @again(i32* %k, i32* %x.ref, i32* %n.ref, i32* %calls.ref)
+ret void
+}
+
+define i32 @countdown(i32 %k.arg, i32* %calls.ref, i32* %x.ref, i32* %n.ref) {
+entry:
+%k = alloca i32
+%countdown = alloca i32
+store i32 %k.arg, i32* %k
+store i32 0, i32* %countdown
+%t11 = load i32, i32* %k
+%t12 = icmp sle i32 %t11, 0
+br i1 %t12, label %then10, label %else10
+then10:
+%t13 = load i32, i32* %calls.ref
+store i32 %t13, i32* %countdown
+br label %endif10
+else10:
+call void @add(i32 1, i32* %x.ref, i32* %n.ref, i32* %calls.ref)
+%t14 = load i32, i32* %k
+%t15 = sub i32 %t14, 1
+%t16 = call i32 @countdown(i32 %t15, i32* %calls.ref, i32* %x.ref, i32* %n.ref)
+store i32 %t16, i32* %countdown
+br label %endif10
+endif10:
+%t17 = load i32, i32* %countdown
+ret i32 %t17
+}
+
+define i32 @outer(i32 %n.arg) {
+entry:
+%n = alloca i32
+%outer = alloca i32
+%x = alloca i32
+%calls = alloca i32
+store i32 %n.arg, i32* %n
+store i32 0, i32* %outer
+store i32 0, i32* %x
+store i32 0, i32* %calls
+call void @addtwice(i32 1, i32* %x, i32* %n, i32* %calls)
+call void @addtwice(i32 2, i32* %x, i32* %n, i32* %calls)
+%t18 = load i32, i32* %x
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t18)
+%t19 = call i32 @countdown(i32 3, i32* %calls, i32* %x, i32* %n)
+%t20 = load i32, i32* %x
+%t21 = add i32 %t19, %t20
+store i32 %t21, i32* %outer
+%t22 = load i32, i32* %outer
+ret i32 %t22
+}
+
+define i32 @main() {
+entry:
+%total = alloca i32
+%t23 = call i32 @outer(i32 10)
+store i32 %t23, i32* %total
+%t24 = load i32, i32* %total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t24)
+ret i32 0
+}
@@ -0,0 +1,51 @@
+PROGRAM Test13;
+
+VAR
+  total: INTEGER;
+
+FUNCTION Outer(n: INTEGER): INTEGER;
+VAR
+  x, calls: INTEGER;
+
+  PROCEDURE Add((k: INTEGER));
+  BEGIN
+    x := x + k * n;
+    calls := calls + 1;
+  END;
+
+  PROCEDURE AddTwice((k: INTEGER));
+
+    PROCEDURE Again;
+    BEGIN
+      Add(k);;
+    END;
+
+  BEGIN
+    Add(k);;
+    Again;;
+  END;
+
+  FUNCTION Countdown(k: INTEGER): INTEGER;
+  BEGIN
+    IF k <= 0 THEN
+      Countdown := calls
+    ELSE
+    BEGIN
+      Add(1);;
+      Countdown := Countdown(k - 1);
+    END;
+  END;
+
+BEGIN
+  x := 0;
+  calls := 0;
+  AddTwice(1);;
+  AddTwice(2);;
+  writeln(x);;
+  Outer := Countdown(3) + x;
+END;
+
+BEGIN
+  total := Outer(10);
+  writeln(total);;
+END.
@@ -0,0 +1,70 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define void @main.1() {
+entry:
+%t1 = load i32, i32* @total
+%t2 = load i32, i32* @exit.1
+%t3 = add i32 %t1, %t2
+store i32 %t3, i32* @total
+ret void
+}
+
+define i32 @printf.1(i32 %n.arg) {
+entry:
+%n = alloca i32
+%printf = alloca i32
+store i32 %n.arg, i32* %n
+store i32 0, i32* %printf
+%t4 = load i32, i32* %n
+%t5 = mul i32 %t4, 2
+store i32 %t5, i32* %printf
+%t6 = load i32, i32* %printf
+ret i32 %t6
+}
+
+define void @helper() {
+entry:
+%t7 = load i32, i32* @total
+%t8 = add i32 %t7, 10
+store i32 %t8, i32* @total
+ret void
+}
+
+define void @first() {
+entry:
+call void @helper()
+ret void
+}
+
+define void @helper.1() {
+entry:
+%t9 = load i32, i32* @total
+%t10 = add i32 %t9, 100
+store i32 %t10, i32* @total
+ret void
+}
+
+define void @second() {
+entry:
+call void @helper.1()
+call void @helper.1()
+ret void
+}
+
+define i32 @main() {
+entry:
+store i32 5, i32* @exit.1
+store i32 0, i32* @total
+call void @main.1()
+call void @first()
+call void @second()
+%t11 = load i32, i32* @total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t11)
+%t12 = load i32, i32* @exit.1
+%t13 = call i32 @printf.1(i32 %t12)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t13)
+ret i32 0
+}
+
+@exit.1 = internal global i32 0
+@total = internal global i32 0
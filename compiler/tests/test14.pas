@@ -0,0 +1,47 @@
+PROGRAM Test14;
+
+VAR
+  exit, total: INTEGER;
+
+PROCEDURE main;
+BEGIN
+  total := total + exit;
+END;
+
+FUNCTION printf(n: INTEGER): INTEGER;
+BEGIN
+  printf := n * 2;
+END;
+
+PROCEDURE First;
+
+  PROCEDURE Helper;
+  BEGIN
+    total := total + 10;
+  END;
+
+BEGIN
+  Helper;;
+END;
+
+PROCEDURE Second;
+
+  PROCEDURE Helper;
+  BEGIN
+    total := total + 100;
+  END;
+
+BEGIN
+  Helper;;
+  Helper;;
+END;
+
+BEGIN
+  exit := 5;
+  total := 0;
+  main;;
+  First;;
+  Second;;
+  writeln(total);;
+  writeln(printf(exit));;
+END.
@@ -0,0 +1,81 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define i32 @twice(i32 %n.arg) {
+entry:
+%n = alloca i32
+%twice = alloca i32
+store i32 %n.arg, i32* %n
+store i32 0, i32* %twice
+%t1 = load i32, i32* %n
+%t2 = load i32, i32* %n
+%t3 = add i32 %t1, %t2
+store i32 %t3, i32* %twice
+%t4 = load i32, i32* %twice
+ret i32 %t4
+}
+
+define i32 @main() {
+entry:
+%x = alloca i32
+%y = alloca i32
+%count = alloca i32
+%flag = alloca i32
+store i32 1, i32* %x
+store i32 5, i32* %y
+store i32 0, i32* %count
+%t6 = load i32, i32* %x
+%t7 = icmp eq i32 %t6, 1
+%t8 = load i32, i32* %y
+%t9 = zext i1 %t7 to i32
+%t10 = and i32 %t9, %t8
+%t11 = icmp ne i32 %t10, 0
+br i1 %t11, label %then5, label %else5
+then5:
+%t12 = load i32, i32* %count
+%t13 = add i32 %t12, 1
+store i32 %t13, i32* %count
+br label %endif5
+else5:
+br label %endif5
+endif5:
+%t15 = load i32, i32* %x
+%t16 = icmp eq i32 %t15, 2
+%t17 = load i32, i32* %y
+%t18 = icmp sgt i32 %t17, 4
+%t19 = or i1 %t16, %t18
+br i1 %t19, label %then14, label %else14
+then14:
+%t20 = load i32, i32* %count
+%t21 = add i32 %t20, 10
+store i32 %t21, i32* %count
+br label %endif14
+else14:
+br label %endif14
+endif14:
+%t22 = load i32, i32* %y
+%t23 = icmp sgt i32 %t22, 0
+%t24 = zext i1 %t23 to i32
+store i32 %t24, i32* %flag
+%t25 = load i32, i32* %y
+%t26 = icmp slt i32 %t25, 0
+%t27 = load i32, i32* %flag
+%t28 = zext i1 %t26 to i32
+%t29 = or i32 %t28, %t27
+store i32 %t29, i32* %x
+%t30 = load i32, i32* %count
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t30)
+%t31 = load i32, i32* %flag
+%t32 = load i32, i32* %x
+%t33 = add i32 %t31, %t32
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t33)
+%t34 = load i32, i32* %y
+%t35 = icmp eq i32 %t34, 5
+%t36 = zext i1 %t35 to i32
+%t37 = call i32 @twice(i32 %t36)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t37)
+%t38 = load i32, i32* %y
+%t39 = icmp sgt i32 %t38, 3
+%t40 = zext i1 %t39 to i32
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t40)
+ret i32 0
+}
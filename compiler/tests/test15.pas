@@ -0,0 +1,26 @@
+PROGRAM Test15;
+
+VAR
+  x, y, count: INTEGER;
+  flag: BOOLEAN;
+
+FUNCTION Twice(n: INTEGER): INTEGER;
+BEGIN
+  Twice := n + n;
+END;
+
+BEGIN
+  x := 1;
+  y := 5;
+  count := 0;
+  IF (x = 1) AND y THEN
+    count := count + 1;
+  IF (x = 2) OR (y > 4) THEN
+    count := count + 10;
+  flag := y > 0;
+  x := (y < 0) OR flag;
+  writeln(count);;
+  writeln(flag + x);;
+  writeln(Twice(y = 5));;
+  writeln(y > 3);;
+END.
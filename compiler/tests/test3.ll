@@ -10,27 +10,29 @@ cond1:
 %t6 = icmp sle i32 %t5, 10
 br i1 %t6, label %body2, label %end4
 body2:
-%t9 = load i32, i32* %i
-%t10 = icmp eq i32 %t9, 3
-br i1 %t10, label %then7, label %endif8
+%t8 = load i32, i32* %i
+%t9 = icmp eq i32 %t8, 3
+br i1 %t9, label %then7, label %else7
 then7:
 br label %incr3
-br label %endif8
-endif8:
-%t13 = load i32, i32* %i
-%t14 = icmp eq i32 %t13, 7
-br i1 %t14, label %then11, label %endif12
-then11:
+else7:
+br label %endif7
+endif7:
+%t11 = load i32, i32* %i
+%t12 = icmp eq i32 %t11, 7
+br i1 %t12, label %then10, label %else10
+then10:
 br label %end4
-br label %endif12
-endif12:
-%t15 = load i32, i32* %i
-call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t15)
+else10:
+br label %endif10
+endif10:
+%t13 = load i32, i32* %i
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t13)
 br label %incr3
 incr3:
-%t16 = load i32, i32* %i
-%t17 = add i32 %t16, 1
-store i32 %t17, i32* %i
+%t14 = load i32, i32* %i
+%t15 = add i32 %t14, 1
+store i32 %t15, i32* %i
 br label %cond1
 end4:
 ret i32 0
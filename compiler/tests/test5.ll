@@ -6,17 +6,17 @@ entry:
 %y = alloca i32
 store i32 3, i32* %x
 store i32 99, i32* %y
-%t4 = load i32, i32* %x
-%t5 = icmp slt i32 %t4, 5
-br i1 %t5, label %then1, label %else2
+%t2 = load i32, i32* %x
+%t3 = icmp slt i32 %t2, 5
+br i1 %t3, label %then1, label %else1
 then1:
-%t6 = load i32, i32* %x
-call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t6)
-br label %endif3
-else2:
-%t7 = load i32, i32* %y
-call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t7)
-br label %endif3
-endif3:
+%t4 = load i32, i32* %x
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t4)
+br label %endif1
+else1:
+%t5 = load i32, i32* %y
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t5)
+br label %endif1
+endif1:
 ret i32 0
 }
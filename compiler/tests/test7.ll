@@ -0,0 +1,54 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define i32 @fact(i32 %k.arg) {
+entry:
+%k = alloca i32
+%fact = alloca i32
+store i32 %k.arg, i32* %k
+store i32 0, i32* %fact
+%t2 = load i32, i32* %k
+%t3 = icmp sle i32 %t2, 1
+br i1 %t3, label %then1, label %else1
+then1:
+store i32 1, i32* %fact
+br label %endif1
+else1:
+%t4 = load i32, i32* %k
+%t5 = sub i32 %t4, 1
+%t6 = call i32 @fact(i32 %t5)
+%t7 = load i32, i32* %k
+%t8 = add i32 %t7, %t6
+store i32 %t8, i32* %fact
+br label %endif1
+endif1:
+%t9 = load i32, i32* %fact
+ret i32 %t9
+}
+
+define void @bump() {
+entry:
+%t10 = load i32, i32* @total
+%t11 = load i32, i32* @n
+%t12 = add i32 %t10, %t11
+store i32 %t12, i32* @total
+ret void
+}
+
+define i32 @main() {
+entry:
+store i32 5, i32* @n
+store i32 0, i32* @total
+call void @bump()
+call void @bump()
+%t13 = load i32, i32* @total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t13)
+%t14 = load i32, i32* @n
+%t15 = call i32 @fact(i32 %t14)
+store i32 %t15, i32* @total
+%t16 = load i32, i32* @total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t16)
+ret i32 0
+}
+
+@n = internal global i32 0
+@total = internal global i32 0
@@ -0,0 +1,27 @@
+PROGRAM Test7;
+
+VAR
+  n, total: INTEGER;
+
+FUNCTION fact(k: INTEGER): INTEGER;
+BEGIN
+  IF k <= 1 THEN
+    fact := 1
+  ELSE
+    fact := k + fact(k - 1);
+END;
+
+PROCEDURE bump;
+BEGIN
+  total := total + n;
+END;
+
+BEGIN
+  n := 5;
+  total := 0;
+  bump;;
+  bump;;
+  writeln(total);;
+  total := fact(n);
+  writeln(total);;
+END.
@@ -0,0 +1,111 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define void @tnode.create(%class.tnode* %self) {
+entry:
+%t1 = getelementptr inbounds %class.tnode, %class.tnode* %self, i32 0, i32 1
+store i32 7, i32* %t1
+ret void
+}
+
+define i32 @tnode.twice(%class.tnode* %self) {
+entry:
+%twice = alloca i32
+store i32 0, i32* %twice
+%t2 = getelementptr inbounds %class.tnode, %class.tnode* %self, i32 0, i32 1
+%t3 = load i32, i32* %t2
+%t4 = mul i32 %t3, 2
+store i32 %t4, i32* %twice
+%t5 = load i32, i32* %twice
+ret i32 %t5
+}
+
+define void @tnode.destroy(%class.tnode* %self) {
+entry:
+%t6 = getelementptr inbounds %class.tnode, %class.tnode* %self, i32 0, i32 1
+%t7 = load i32, i32* %t6
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t7)
+ret void
+}
+
+define void @tnode.link(%class.tnode* %self, %class.tnode* %n.arg) {
+entry:
+%n = alloca %class.tnode*
+store %class.tnode* %n.arg, %class.tnode** %n
+%t8 = load %class.tnode*, %class.tnode** %n
+%t9 = getelementptr inbounds %class.tnode, %class.tnode* %self, i32 0, i32 2
+store %class.tnode* %t8, %class.tnode** %t9
+%t10 = load %class.tnode*, %class.tnode** %n
+%t11 = getelementptr inbounds %class.tnode, %class.tnode* %t10, i32 0, i32 1
+%t12 = call i32 @tnode.twice(%class.tnode* %self)
+%t13 = load i32, i32* %t11
+%t14 = add i32 %t13, %t12
+%t15 = getelementptr inbounds %class.tnode, %class.tnode* %self, i32 0, i32 2
+%t16 = load %class.tnode*, %class.tnode** %t15
+%t17 = getelementptr inbounds %class.tnode, %class.tnode* %t16, i32 0, i32 1
+store i32 %t14, i32* %t17
+ret void
+}
+
+define i32 @sum(%class.tnode* %n.arg) {
+entry:
+%n = alloca %class.tnode*
+%sum = alloca i32
+store %class.tnode* %n.arg, %class.tnode** %n
+store i32 0, i32* %sum
+%t18 = load %class.tnode*, %class.tnode** %n
+%t19 = getelementptr inbounds %class.tnode, %class.tnode* %t18, i32 0, i32 1
+%t20 = load %class.tnode*, %class.tnode** %n
+%t21 = getelementptr inbounds %class.tnode, %class.tnode* %t20, i32 0, i32 2
+%t22 = load %class.tnode*, %class.tnode** %t21
+%t23 = getelementptr inbounds %class.tnode, %class.tnode* %t22, i32 0, i32 1
+%t24 = load i32, i32* %t19
+%t25 = load i32, i32* %t23
+%t26 = add i32 %t24, %t25
+store i32 %t26, i32* %sum
+%t27 = load i32, i32* %sum
+ret i32 %t27
+}
+
+define i32 @main() {
+entry:
+%a = alloca %class.tnode*
+%b = alloca %class.tnode*
+%total = alloca i32
+%t28 = call i8* @calloc(i64 1, i64 ptrtoint (%class.tnode* getelementptr (%class.tnode, %class.tnode* null, i32 1) to i64))
+%t29 = bitcast i8* %t28 to %class.tnode*
+%t30 = getelementptr inbounds %class.tnode, %class.tnode* %t29, i32 0, i32 0
+store i8** getelementptr inbounds ([4 x i8*], [4 x i8*]* @vtable.tnode, i32 0, i32 0), i8*** %t30
+call void @tnode.create(%class.tnode* %t29)
+store %class.tnode* %t29, %class.tnode** %a
+%t31 = call i8* @calloc(i64 1, i64 ptrtoint (%class.tnode* getelementptr (%class.tnode, %class.tnode* null, i32 1) to i64))
+%t32 = bitcast i8* %t31 to %class.tnode*
+%t33 = getelementptr inbounds %class.tnode, %class.tnode* %t32, i32 0, i32 0
+store i8** getelementptr inbounds ([4 x i8*], [4 x i8*]* @vtable.tnode, i32 0, i32 0), i8*** %t33
+call void @tnode.create(%class.tnode* %t32)
+store %class.tnode* %t32, %class.tnode** %b
+%t34 = load %class.tnode*, %class.tnode** %a
+%t35 = load %class.tnode*, %class.tnode** %b
+call void @tnode.link(%class.tnode* %t34, %class.tnode* %t35)
+%t36 = load %class.tnode*, %class.tnode** %a
+%t37 = call i32 @sum(%class.tnode* %t36)
+%t38 = load %class.tnode*, %class.tnode** %a
+%t39 = call i32 @tnode.twice(%class.tnode* %t38)
+%t40 = add i32 %t37, %t39
+store i32 %t40, i32* %total
+%t41 = load i32, i32* %total
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t41)
+%t42 = load %class.tnode*, %class.tnode** %b
+call void @tnode.destroy(%class.tnode* %t42)
+%t43 = bitcast %class.tnode* %t42 to i8*
+call void @free(i8* %t43)
+%t44 = load %class.tnode*, %class.tnode** %a
+call void @tnode.destroy(%class.tnode* %t44)
+%t45 = bitcast %class.tnode* %t44 to i8*
+call void @free(i8* %t45)
+ret i32 0
+}
+
+%class.tnode = type { i8**, i32, %class.tnode* }
+@vtable.tnode = internal constant [4 x i8*] [i8* bitcast (void (%class.tnode*)* @tnode.create to i8*), i8* bitcast (i32 (%class.tnode*)* @tnode.twice to i8*), i8* bitcast (void (%class.tnode*, %class.tnode*)* @tnode.link to i8*), i8* bitcast (void (%class.tnode*)* @tnode.destroy to i8*)]
+declare i8* @calloc(i64, i64)
+declare void @free(i8*)
@@ -0,0 +1,45 @@
+PROGRAM Test8;
+
+TYPE
+  TNode = CLASS
+    value: INTEGER;
+    next: TNode;
+    CONSTRUCTOR Create;
+    BEGIN
+      value := 7;
+    END;
+    FUNCTION Twice: INTEGER;
+    BEGIN
+      Twice := value * 2;
+    END;
+    PROCEDURE Link((n: TNode));
+    DESTRUCTOR Destroy;
+    BEGIN
+      writeln(value);;
+    END;
+  END;;
+
+VAR
+  a, b: TNode;
+  total: INTEGER;
+
+PROCEDURE TNode.Link((n: TNode));
+BEGIN
+  next := n;
+  self.next.value := n.value + Twice;
+END;
+
+FUNCTION sum(n: TNode): INTEGER;
+BEGIN
+  sum := n.value + n.next.value;
+END;
+
+BEGIN
+  a := TNode.CREATE();
+  b := TNode.CREATE();
+  a.Link(b);;
+  total := sum(a) + a.Twice;
+  writeln(total);;
+  b.Free;;
+  a.Destroy;;
+END.
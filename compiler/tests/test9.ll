@@ -0,0 +1,140 @@
+declare i32 @printf(i8*, ...)
+@print.str = constant [4 x i8] c"%d\0A\00"
+define i32 @tshape.area(%class.tshape* %self) {
+entry:
+%area = alloca i32
+store i32 0, i32* %area
+store i32 0, i32* %area
+%t1 = load i32, i32* %area
+ret i32 %t1
+}
+
+define i32 @tshape.sides(%class.tshape* %self) {
+entry:
+%sides = alloca i32
+store i32 0, i32* %sides
+store i32 4, i32* %sides
+%t2 = load i32, i32* %sides
+ret i32 %t2
+}
+
+define void @tshape.show(%class.tshape* %self) {
+entry:
+%t3 = getelementptr inbounds %class.tshape, %class.tshape* %self, i32 0, i32 0
+%t4 = load i8**, i8*** %t3
+%t5 = getelementptr inbounds i8*, i8** %t4, i32 0
+%t6 = load i8*, i8** %t5
+%t7 = bitcast i8* %t6 to i32 (%class.tshape*)*
+%t8 = call i32 %t7(%class.tshape* %self)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t8)
+ret void
+}
+
+define i32 @tsquare.area(%class.tsquare* %self) {
+entry:
+%area = alloca i32
+store i32 0, i32* %area
+%t9 = getelementptr inbounds %class.tsquare, %class.tsquare* %self, i32 0, i32 1
+%t10 = getelementptr inbounds %class.tsquare, %class.tsquare* %self, i32 0, i32 1
+%t11 = load i32, i32* %t9
+%t12 = load i32, i32* %t10
+%t13 = mul i32 %t11, %t12
+store i32 %t13, i32* %area
+%t14 = load i32, i32* %area
+ret i32 %t14
+}
+
+define i32 @trect.area(%class.trect* %self) {
+entry:
+%area = alloca i32
+store i32 0, i32* %area
+%t15 = getelementptr inbounds %class.trect, %class.trect* %self, i32 0, i32 1
+%t16 = getelementptr inbounds %class.trect, %class.trect* %self, i32 0, i32 2
+%t17 = load i32, i32* %t15
+%t18 = load i32, i32* %t16
+%t19 = mul i32 %t17, %t18
+store i32 %t19, i32* %area
+%t20 = load i32, i32* %area
+ret i32 %t20
+}
+
+define void @report(%class.tshape* %p.arg) {
+entry:
+%p = alloca %class.tshape*
+store %class.tshape* %p.arg, %class.tshape** %p
+%t21 = load %class.tshape*, %class.tshape** %p
+call void @tshape.show(%class.tshape* %t21)
+%t22 = load %class.tshape*, %class.tshape** %p
+%t23 = getelementptr inbounds %class.tshape, %class.tshape* %t22, i32 0, i32 0
+%t24 = load i8**, i8*** %t23
+%t25 = getelementptr inbounds i8*, i8** %t24, i32 0
+%t26 = load i8*, i8** %t25
+%t27 = bitcast i8* %t26 to i32 (%class.tshape*)*
+%t28 = call i32 %t27(%class.tshape* %t22)
+%t29 = load %class.tshape*, %class.tshape** %p
+%t30 = call i32 @tshape.sides(%class.tshape* %t29)
+%t31 = add i32 %t28, %t30
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t31)
+ret void
+}
+
+define i32 @main() {
+entry:
+%sq = alloca %class.tsquare*
+%r = alloca %class.trect*
+%s = alloca %class.tshape*
+%t32 = alloca %class.tsquare
+store %class.tsquare zeroinitializer, %class.tsquare* %t32
+%t33 = getelementptr inbounds %class.tsquare, %class.tsquare* %t32, i32 0, i32 0
+store i8** getelementptr inbounds ([3 x i8*], [3 x i8*]* @vtable.tsquare, i32 0, i32 0), i8*** %t33
+%t34 = bitcast %class.tsquare* %t32 to %class.tshape*
+store %class.tshape* %t34, %class.tshape** %s
+%t35 = load %class.tshape*, %class.tshape** %s
+%t36 = getelementptr inbounds %class.tshape, %class.tshape* %t35, i32 0, i32 1
+store i32 3, i32* %t36
+%t37 = load %class.tshape*, %class.tshape** %s
+call void @tshape.show(%class.tshape* %t37)
+%t38 = load %class.tshape*, %class.tshape** %s
+%t39 = bitcast %class.tshape* %t38 to %class.tsquare*
+%t40 = call i32 @tsquare.area(%class.tsquare* %t39)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t40)
+%t41 = call i8* @calloc(i64 1, i64 ptrtoint (%class.trect* getelementptr (%class.trect, %class.trect* null, i32 1) to i64))
+%t42 = bitcast i8* %t41 to %class.trect*
+%t43 = getelementptr inbounds %class.trect, %class.trect* %t42, i32 0, i32 0
+store i8** getelementptr inbounds ([3 x i8*], [3 x i8*]* @vtable.trect, i32 0, i32 0), i8*** %t43
+store %class.trect* %t42, %class.trect** %r
+%t44 = load %class.trect*, %class.trect** %r
+%t45 = getelementptr inbounds %class.trect, %class.trect* %t44, i32 0, i32 1
+store i32 2, i32* %t45
+%t46 = load %class.trect*, %class.trect** %r
+%t47 = getelementptr inbounds %class.trect, %class.trect* %t46, i32 0, i32 2
+store i32 5, i32* %t47
+%t48 = load %class.trect*, %class.trect** %r
+%t49 = bitcast %class.trect* %t48 to %class.tshape*
+call void @report(%class.tshape* %t49)
+%t50 = load %class.trect*, %class.trect** %r
+%t51 = bitcast %class.trect* %t50 to %class.tsquare*
+store %class.tsquare* %t51, %class.tsquare** %sq
+%t52 = load %class.tsquare*, %class.tsquare** %sq
+%t53 = getelementptr inbounds %class.tsquare, %class.tsquare* %t52, i32 0, i32 0
+%t54 = load i8**, i8*** %t53
+%t55 = getelementptr inbounds i8*, i8** %t54, i32 0
+%t56 = load i8*, i8** %t55
+%t57 = bitcast i8* %t56 to i32 (%class.tsquare*)*
+%t58 = call i32 %t57(%class.tsquare* %t52)
+call i32 (i8*, ...) @printf(i8* getelementptr ([4 x i8], [4 x i8]* @print.str, i32 0, i32 0), i32 %t58)
+%t59 = load %class.tshape*, %class.tshape** %s
+%t60 = load %class.trect*, %class.trect** %r
+%t61 = bitcast %class.trect* %t60 to i8*
+call void @free(i8* %t61)
+ret i32 0
+}
+
+%class.tshape = type { i8**, i32 }
+%class.tsquare = type { i8**, i32 }
+%class.trect = type { i8**, i32, i32 }
+@vtable.tshape = internal constant [3 x i8*] [i8* bitcast (i32 (%class.tshape*)* @tshape.area to i8*), i8* bitcast (i32 (%class.tshape*)* @tshape.sides to i8*), i8* bitcast (void (%class.tshape*)* @tshape.show to i8*)]
+@vtable.tsquare = internal constant [3 x i8*] [i8* bitcast (i32 (%class.tsquare*)* @tsquare.area to i8*), i8* bitcast (i32 (%class.tshape*)* @tshape.sides to i8*), i8* bitcast (void (%class.tshape*)* @tshape.show to i8*)]
+@vtable.trect = internal constant [3 x i8*] [i8* bitcast (i32 (%class.trect*)* @trect.area to i8*), i8* bitcast (i32 (%class.tshape*)* @tshape.sides to i8*), i8* bitcast (void (%class.tshape*)* @tshape.show to i8*)]
+declare i8* @calloc(i64, i64)
+declare void @free(i8*)
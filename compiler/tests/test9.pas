@@ -0,0 +1,59 @@
+PROGRAM Test9;
+
+TYPE
+  TShape = CLASS
+    side: INTEGER;
+    FUNCTION Area: INTEGER;
+    BEGIN
+      Area := 0;
+    END;
+    FUNCTION Sides: INTEGER;
+    BEGIN
+      Sides := 4;
+    END;
+    PROCEDURE Show;
+    BEGIN
+      writeln(Area);;
+    END;
+  END;;
+
+  TSquare = CLASS(TShape)
+    FUNCTION Area: INTEGER;
+    BEGIN
+      Area := side * side;
+    END;
+  END;;
+
+  TRect = CLASS(TSquare)
+    height: INTEGER;
+    FUNCTION Area: INTEGER;
+    BEGIN
+      Area := side * height;
+    END;
+  END;;
+
+VAR
+  sq: TSquare;
+  r: TRect;
+  s: TShape;
+
+PROCEDURE Report((p: TShape));
+BEGIN
+  p.Show;;
+  writeln(p.Area + p.Sides);;
+END;
+
+BEGIN
+  s := TSquare.CREATE();
+  s.side := 3;
+  s.Show;;
+  writeln(s.Area);;
+  r := TRect.CREATE();
+  r.side := 2;
+  r.height := 5;
+  Report(r);;
+  sq := r;
+  writeln(sq.Area);;
+  s.Free;;
+  r.Free;;
+END.